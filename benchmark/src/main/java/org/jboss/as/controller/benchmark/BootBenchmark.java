@@ -0,0 +1,74 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller.benchmark;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to boot a synthetic model, with and without the parallel subsystem boot performed by
+ * {@link org.jboss.as.controller.ParallelBootOperationStepHandler}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BootBenchmark {
+
+    @Param({ "1000", "10000", "100000" })
+    public int resources;
+
+    @Param({ "true", "false" })
+    public boolean parallel;
+
+    private SyntheticModel model;
+    private ExecutorService executor;
+    private SyntheticServer server;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.model = new SyntheticModel(this.resources);
+        this.executor = this.parallel ? Executors.newCachedThreadPool() : null;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (this.executor != null) {
+            this.executor.shutdownNow();
+        }
+    }
+
+    @TearDown(Level.Invocation)
+    public void shutdown() throws InterruptedException {
+        if (this.server != null) {
+            this.server.close();
+            this.server = null;
+        }
+    }
+
+    @Benchmark
+    public SyntheticServer boot() throws InterruptedException, TimeoutException {
+        this.server = new SyntheticServer(this.model, this.executor);
+        return this.server;
+    }
+}
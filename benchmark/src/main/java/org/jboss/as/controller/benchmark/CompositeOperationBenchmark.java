@@ -0,0 +1,59 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.dmr.ModelNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@code composite} operations containing a parameterized number of steps.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CompositeOperationBenchmark {
+
+    @Param({ "10" })
+    public int steps;
+
+    @Benchmark
+    public ModelNode compositeRead(ControllerState state) {
+        List<ModelNode> operations = new ArrayList<>(this.steps);
+        for (int i = 0; i < this.steps; ++i) {
+            operations.add(Util.getReadAttributeOperation(state.randomItemAddress(), SyntheticModel.SIZE.getName()));
+        }
+        return state.execute(Util.createCompositeOperation(operations));
+    }
+
+    @Benchmark
+    public ModelNode compositeWrite(ControllerState state) {
+        List<ModelNode> operations = new ArrayList<>(this.steps);
+        for (int i = 0; i < this.steps; ++i) {
+            PathAddress address = state.randomItemAddress();
+            operations.add(Util.getReadAttributeOperation(address, SyntheticModel.SIZE.getName()));
+            operations.add(Util.getWriteAttributeOperation(address, SyntheticModel.SIZE.getName(), ThreadLocalRandom.current().nextInt()));
+        }
+        return state.execute(Util.createCompositeOperation(operations));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller.benchmark;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.dmr.ModelNode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * Benchmark state holding a booted controller for a synthetic model of a parameterized size.
+ */
+@State(Scope.Benchmark)
+public class ControllerState {
+
+    @Param({ "1000", "10000", "100000" })
+    public int resources;
+
+    private ExecutorService executor;
+    private SyntheticModel model;
+    private SyntheticServer server;
+
+    @Setup(Level.Trial)
+    public void setup() throws InterruptedException, TimeoutException {
+        this.executor = Executors.newCachedThreadPool();
+        this.model = new SyntheticModel(this.resources);
+        this.server = new SyntheticServer(this.model, this.executor);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        try {
+            this.server.close();
+        } finally {
+            this.executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Returns the address of a randomly selected item resource.
+     * @return a resource address
+     */
+    public PathAddress randomItemAddress() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return SyntheticModel.itemAddress(random.nextInt(SyntheticModel.SUBSYSTEMS), random.nextInt(this.model.getItemsPerSubsystem()));
+    }
+
+    /**
+     * Executes the given operation, failing if the operation was not successful.
+     * @param operation a management operation
+     * @return the operation response
+     */
+    public ModelNode execute(ModelNode operation) {
+        return this.server.execute(operation);
+    }
+}
@@ -0,0 +1,47 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller.benchmark;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RECURSIVE;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.dmr.ModelNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the latency of recursive {@code read-resource} operations, whose cost scales with the size of the model.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class ReadResourceBenchmark {
+
+    @Benchmark
+    public ModelNode readRootRecursive(ControllerState state) {
+        return state.execute(recursive(PathAddress.EMPTY_ADDRESS));
+    }
+
+    @Benchmark
+    public ModelNode readSubsystemRecursive(ControllerState state) {
+        return state.execute(recursive(PathAddress.pathAddress(SyntheticModel.subsystemPath(0))));
+    }
+
+    private static ModelNode recursive(PathAddress address) {
+        ModelNode operation = Util.getReadResourceOperation(address);
+        operation.get(RECURSIVE).set(true);
+        return operation;
+    }
+}
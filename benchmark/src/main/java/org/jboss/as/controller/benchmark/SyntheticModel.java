@@ -0,0 +1,157 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller.benchmark;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXTENSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ModelOnlyAddStepHandler;
+import org.jboss.as.controller.ModelOnlyRemoveStepHandler;
+import org.jboss.as.controller.ModelOnlyWriteAttributeHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Describes a synthetic management model used by the benchmarks.
+ * <p>
+ * The model consists of a fixed number of subsystems, each contributed by its own extension, whose {@code item}
+ * children share the requested total number of resources evenly.
+ */
+public final class SyntheticModel {
+
+    static final String MODULE_PREFIX = "org.wildfly.benchmark.";
+    static final String SUBSYSTEM_PREFIX = "synthetic-";
+    static final String ITEM = "item";
+    static final int SUBSYSTEMS = 10;
+
+    static final AttributeDefinition DESCRIPTION = new SimpleAttributeDefinitionBuilder("description", ModelType.STRING, true)
+            .setAllowExpression(true)
+            .build();
+    static final AttributeDefinition VALUE = new SimpleAttributeDefinitionBuilder("value", ModelType.STRING, true)
+            .setAllowExpression(true)
+            .build();
+    static final AttributeDefinition SIZE = new SimpleAttributeDefinitionBuilder("size", ModelType.INT, true)
+            .setAllowExpression(true)
+            .build();
+    static final AttributeDefinition ENABLED = new SimpleAttributeDefinitionBuilder("enabled", ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .build();
+
+    private final int resources;
+
+    /**
+     * Creates a synthetic model containing approximately the given number of resources.
+     * @param resources the total number of {@code item} resources across all subsystems
+     */
+    public SyntheticModel(int resources) {
+        this.resources = resources;
+    }
+
+    int getItemsPerSubsystem() {
+        return Math.max(1, this.resources / SUBSYSTEMS);
+    }
+
+    static PathElement subsystemPath(int index) {
+        return PathElement.pathElement(SUBSYSTEM, SUBSYSTEM_PREFIX + index);
+    }
+
+    static PathAddress itemAddress(int subsystem, int item) {
+        return PathAddress.pathAddress(subsystemPath(subsystem), PathElement.pathElement(ITEM, String.valueOf(item)));
+    }
+
+    /**
+     * Returns the module names of the extensions providing the subsystems of this model.
+     * @return a list of module names
+     */
+    List<String> getExtensionModules() {
+        List<String> modules = new ArrayList<>(SUBSYSTEMS);
+        for (int i = 0; i < SUBSYSTEMS; ++i) {
+            modules.add(MODULE_PREFIX + SUBSYSTEM_PREFIX + i);
+        }
+        return modules;
+    }
+
+    /**
+     * Returns the boot operations that populate this model, in the order in which a configuration file would list them.
+     * @return a list of operations
+     */
+    public List<ModelNode> getBootOperations() {
+        int items = this.getItemsPerSubsystem();
+        List<ModelNode> operations = new ArrayList<>(SUBSYSTEMS * (items + 2));
+        for (String module : this.getExtensionModules()) {
+            operations.add(Util.createAddOperation(PathAddress.pathAddress(EXTENSION, module)));
+        }
+        for (int i = 0; i < SUBSYSTEMS; ++i) {
+            ModelNode subsystemAdd = Util.createAddOperation(PathAddress.pathAddress(subsystemPath(i)));
+            subsystemAdd.get(DESCRIPTION.getName()).set("Synthetic subsystem " + i);
+            operations.add(subsystemAdd);
+            for (int j = 0; j < items; ++j) {
+                ModelNode itemAdd = Util.createAddOperation(itemAddress(i, j));
+                itemAdd.get(VALUE.getName()).set("value-" + j);
+                itemAdd.get(SIZE.getName()).set(j);
+                itemAdd.get(ENABLED.getName()).set((j % 2) == 0);
+                operations.add(itemAdd);
+            }
+        }
+        return operations;
+    }
+
+    /**
+     * Registers the subsystem provided by the synthetic extension with the given module name.
+     * @param module the module name of the extension
+     * @param rootRegistration the root resource registration
+     */
+    static void registerSubsystem(String module, ManagementResourceRegistration rootRegistration) {
+        rootRegistration.registerSubModel(new SubsystemResourceDefinition(module.substring(MODULE_PREFIX.length())));
+    }
+
+    private static class SubsystemResourceDefinition extends SimpleResourceDefinition {
+
+        SubsystemResourceDefinition(String name) {
+            super(new Parameters(PathElement.pathElement(SUBSYSTEM, name), NonResolvingResourceDescriptionResolver.INSTANCE)
+                    .setAddHandler(ModelOnlyAddStepHandler.INSTANCE)
+                    .setRemoveHandler(ModelOnlyRemoveStepHandler.INSTANCE));
+        }
+
+        @Override
+        public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+            resourceRegistration.registerReadWriteAttribute(DESCRIPTION, null, ModelOnlyWriteAttributeHandler.INSTANCE);
+        }
+
+        @Override
+        public void registerChildren(ManagementResourceRegistration resourceRegistration) {
+            resourceRegistration.registerSubModel(new ItemResourceDefinition());
+        }
+    }
+
+    private static class ItemResourceDefinition extends SimpleResourceDefinition {
+
+        ItemResourceDefinition() {
+            super(new Parameters(PathElement.pathElement(ITEM), NonResolvingResourceDescriptionResolver.INSTANCE)
+                    .setAddHandler(ModelOnlyAddStepHandler.INSTANCE)
+                    .setRemoveHandler(ModelOnlyRemoveStepHandler.INSTANCE));
+        }
+
+        @Override
+        public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+            // Writes to this attribute exercise the reload-required code path
+            resourceRegistration.registerReadWriteAttribute(VALUE, null, ReloadRequiredWriteAttributeHandler.INSTANCE);
+            resourceRegistration.registerReadWriteAttribute(SIZE, null, ModelOnlyWriteAttributeHandler.INSTANCE);
+            resourceRegistration.registerReadWriteAttribute(ENABLED, null, ModelOnlyWriteAttributeHandler.INSTANCE);
+        }
+    }
+}
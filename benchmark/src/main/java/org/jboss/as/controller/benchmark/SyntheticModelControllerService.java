@@ -0,0 +1,128 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller.benchmark;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXTENSION;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.jboss.as.controller.AbstractControllerService;
+import org.jboss.as.controller.CapabilityRegistry;
+import org.jboss.as.controller.CompositeOperationHandler;
+import org.jboss.as.controller.ControlledProcessState;
+import org.jboss.as.controller.ExpressionResolver;
+import org.jboss.as.controller.ManagementModel;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.ProcessType;
+import org.jboss.as.controller.ResourceBuilder;
+import org.jboss.as.controller.RunningMode;
+import org.jboss.as.controller.RunningModeControl;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.access.management.DelegatingConfigurableAuthorizer;
+import org.jboss.as.controller.access.management.ManagementSecurityIdentitySupplier;
+import org.jboss.as.controller.audit.AuditLogger;
+import org.jboss.as.controller.descriptions.NonResolvingResourceDescriptionResolver;
+import org.jboss.as.controller.extension.SyntheticExtensionAddHandler;
+import org.jboss.as.controller.operations.global.GlobalNotifications;
+import org.jboss.as.controller.operations.global.GlobalOperationHandlers;
+import org.jboss.as.controller.persistence.ConfigurationPersistenceException;
+import org.jboss.as.controller.persistence.NullConfigurationPersister;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.version.Stability;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.StartContext;
+import org.jboss.msc.service.StartException;
+
+/**
+ * Controller service that boots a {@link SyntheticModel}.
+ * <p>
+ * Boot uses the same code path as a standalone server in normal running mode, i.e. extension adds and subsystem
+ * operations are executed by the parallel boot handlers whenever an executor is provided. Otherwise, the boot operations
+ * are executed serially.
+ */
+public class SyntheticModelControllerService extends AbstractControllerService {
+
+    private final SyntheticModel model;
+    private final CountDownLatch latch = new CountDownLatch(2);
+    private volatile boolean booted;
+
+    /**
+     * Creates a new controller service for the given model.
+     * @param model the synthetic model to boot
+     * @param executor provides the executor used for parallel boot, or {@code null} to boot serially
+     */
+    public SyntheticModelControllerService(SyntheticModel model, Supplier<ExecutorService> executor) {
+        super(executor, null, ProcessType.EMBEDDED_SERVER, Stability.DEFAULT, new RunningModeControl(RunningMode.NORMAL),
+                new NullConfigurationPersister(), new ControlledProcessState(true),
+                ResourceBuilder.Factory.create(PathElement.pathElement("root"), NonResolvingResourceDescriptionResolver.INSTANCE).build(),
+                null, ExpressionResolver.TEST_RESOLVER, AuditLogger.NO_OP_LOGGER, new DelegatingConfigurableAuthorizer(),
+                new ManagementSecurityIdentitySupplier(), new CapabilityRegistry(true), null);
+        this.model = model;
+    }
+
+    @Override
+    protected void initModel(ManagementModel managementModel, Resource modelControllerResource) {
+        ManagementResourceRegistration rootRegistration = managementModel.getRootResourceRegistration();
+        GlobalOperationHandlers.registerGlobalOperations(rootRegistration, this.processType);
+        GlobalNotifications.registerGlobalNotifications(rootRegistration, this.processType);
+        rootRegistration.registerOperationHandler(new SimpleOperationDefinitionBuilder(COMPOSITE, NonResolvingResourceDescriptionResolver.INSTANCE).build(), CompositeOperationHandler.INSTANCE);
+
+        rootRegistration.registerSubModel(new SimpleResourceDefinition(new SimpleResourceDefinition.Parameters(PathElement.pathElement(EXTENSION), NonResolvingResourceDescriptionResolver.INSTANCE)
+                .setAddHandler(new SyntheticExtensionAddHandler(this.processType, this.getMutableRootResourceRegistrationProvider(), SyntheticModel::registerSubsystem))));
+
+        if (this.getExecutorService() == null) {
+            // Without an executor, extensions are not initialized during boot, so register their subsystems up front
+            for (String module : this.model.getExtensionModules()) {
+                SyntheticModel.registerSubsystem(module, rootRegistration);
+            }
+        }
+    }
+
+    @Override
+    protected boolean boot(List<ModelNode> bootOperations, boolean rollbackOnRuntimeFailure) throws ConfigurationPersistenceException {
+        List<ModelNode> operations = new ArrayList<>(bootOperations);
+        operations.addAll(this.model.getBootOperations());
+        this.booted = super.boot(operations, rollbackOnRuntimeFailure);
+        return this.booted;
+    }
+
+    @Override
+    public void start(StartContext context) throws StartException {
+        super.start(context);
+        this.latch.countDown();
+    }
+
+    @Override
+    protected void bootThreadDone() {
+        super.bootThreadDone();
+        this.latch.countDown();
+    }
+
+    /**
+     * Waits for boot of the synthetic model to complete.
+     * @param timeout the maximum time to wait
+     * @param unit the unit of the timeout
+     * @throws InterruptedException if interrupted while waiting
+     * @throws TimeoutException if boot did not complete within the given time
+     * @throws IllegalStateException if boot failed
+     */
+    public void awaitBoot(long timeout, TimeUnit unit) throws InterruptedException, TimeoutException {
+        if (!this.latch.await(timeout, unit)) {
+            throw new TimeoutException();
+        }
+        if (!this.booted) {
+            throw new IllegalStateException("Boot of synthetic model failed");
+        }
+    }
+}
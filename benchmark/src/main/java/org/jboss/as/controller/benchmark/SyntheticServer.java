@@ -0,0 +1,67 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller.benchmark;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUCCESS;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.jboss.as.controller.ModelController;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceContainer;
+import org.jboss.msc.service.ServiceName;
+
+/**
+ * A running {@link ModelController} hosting a {@link SyntheticModel}.
+ */
+public class SyntheticServer implements AutoCloseable {
+
+    private static final long BOOT_TIMEOUT_SECONDS = 300;
+
+    private final ServiceContainer container;
+    private final ModelController controller;
+
+    /**
+     * Boots a controller for the given model.
+     * @param model the model to boot
+     * @param executor the executor used for parallel boot, or {@code null} to boot serially
+     * @throws InterruptedException if interrupted while waiting for boot to complete
+     * @throws TimeoutException if boot did not complete in a timely fashion
+     */
+    public SyntheticServer(SyntheticModel model, ExecutorService executor) throws InterruptedException, TimeoutException {
+        this.container = ServiceContainer.Factory.create("benchmark");
+        SyntheticModelControllerService service = new SyntheticModelControllerService(model, (executor != null) ? () -> executor : null);
+        this.container.subTarget().addService(ServiceName.of("benchmark", "controller")).setInstance(service).install();
+        try {
+            service.awaitBoot(BOOT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException | TimeoutException | RuntimeException e) {
+            this.close();
+            throw e;
+        }
+        this.controller = service.getValue();
+    }
+
+    /**
+     * Executes the given operation, failing if the operation was not successful.
+     * @param operation a management operation
+     * @return the operation response
+     */
+    public ModelNode execute(ModelNode operation) {
+        ModelNode response = this.controller.execute(operation, null, ModelController.OperationTransactionControl.COMMIT, null);
+        if (!SUCCESS.equals(response.get(OUTCOME).asString())) {
+            throw new IllegalStateException(response.toString());
+        }
+        return response;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        this.container.shutdown();
+        this.container.awaitTermination(BOOT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller.benchmark;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.dmr.ModelNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the throughput of {@code write-attribute} operations, which require exclusive access to the model.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class WriteAttributeBenchmark {
+
+    /**
+     * Writes an attribute whose handler puts the process into the reload-required state.
+     */
+    @Benchmark
+    public ModelNode writeReloadRequiredAttribute(ControllerState state) {
+        return state.execute(Util.getWriteAttributeOperation(state.randomItemAddress(), SyntheticModel.VALUE.getName(), "value-" + ThreadLocalRandom.current().nextInt()));
+    }
+
+    /**
+     * Writes an attribute whose handler only updates the model.
+     */
+    @Benchmark
+    public ModelNode writeModelOnlyAttribute(ControllerState state) {
+        return state.execute(Util.getWriteAttributeOperation(state.randomItemAddress(), SyntheticModel.SIZE.getName(), ThreadLocalRandom.current().nextInt()));
+    }
+}
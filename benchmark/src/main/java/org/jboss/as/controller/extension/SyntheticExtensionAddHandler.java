@@ -0,0 +1,40 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller.extension;
+
+import java.util.function.BiConsumer;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ProcessType;
+import org.jboss.as.controller.registry.ManagementResourceRegistration;
+
+/**
+ * {@link ExtensionAddHandler} for benchmark models whose extensions are not backed by a JBoss Modules module.
+ * <p>
+ * It lives in this package so it can replace the module based initialization that
+ * {@link ParallelExtensionAddHandler} triggers during parallel boot, allowing benchmarks to exercise
+ * the same boot code path as a real server. Outside of parallel boot, the handler only adds the extension resource.
+ */
+public class SyntheticExtensionAddHandler extends ExtensionAddHandler {
+
+    private final BiConsumer<String, ManagementResourceRegistration> initializer;
+
+    /**
+     * Creates a new handler.
+     * @param processType the type of the process being booted
+     * @param rootResourceRegistrationProvider provides access to the root {@code ManagementResourceRegistration}
+     * @param initializer registers the subsystems of the extension with the given module name against the given root registration
+     */
+    public SyntheticExtensionAddHandler(ProcessType processType, MutableRootResourceRegistrationProvider rootResourceRegistrationProvider,
+                                        BiConsumer<String, ManagementResourceRegistration> initializer) {
+        super(ExtensionRegistry.builder(processType).build(), true, ExtensionRegistryType.SERVER, rootResourceRegistrationProvider);
+        this.initializer = initializer;
+    }
+
+    @Override
+    void initializeExtension(String module, ManagementResourceRegistration rootRegistration, PathAddress address) {
+        this.initializer.accept(module, rootRegistration);
+    }
+}
@@ -189,9 +189,19 @@ public abstract class AbstractModelControllerClient implements ModelControllerCl
 
             @Override
             public void handleRequest(final DataInput input, final ActiveOperation.ResultHandler<OperationResponse> resultHandler, final ManagementRequestContext<OperationExecutionContext> context) throws IOException {
-                expectHeader(input, ModelControllerProtocol.PARAM_RESPONSE);
-                final ModelNode node = new ModelNode();
-                node.readExternal(input);
+                byte param = input.readByte();
+                final boolean compact = param == ModelControllerProtocol.PARAM_COMPACT_RESPONSE;
+                if (compact) {
+                    param = input.readByte();
+                }
+                expectHeader(param, ModelControllerProtocol.PARAM_RESPONSE);
+                final ModelNode node;
+                if (compact) {
+                    node = CompactModelNodeEncoding.read(input);
+                } else {
+                    node = new ModelNode();
+                    node.readExternal(input);
+                }
                 resultHandler.done(getOperationResponse(node, context.getOperationId()));
                 expectHeader(input, ManagementProtocol.RESPONSE_END);
             }
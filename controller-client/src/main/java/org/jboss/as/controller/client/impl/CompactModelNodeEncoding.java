@@ -0,0 +1,441 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.client.impl;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.jboss.as.controller.client.logging.ControllerClientLogger;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
+import org.jboss.dmr.ValueExpression;
+
+/**
+ * A compact binary encoding of a {@link ModelNode}, used for operation responses exchanged between peers that both
+ * support it. Compared to {@link ModelNode#writeExternal(DataOutput)}, object keys and property names are only written
+ * once and referenced by index afterwards, lengths are written as variable length integers, and large nodes are
+ * compressed.
+ * <p>
+ * Only peers that sent a request using at least {@link #MIN_PROTOCOL_VERSION} of the management protocol understand
+ * this encoding, so a response must only be encoded this way if the request header indicates so. Responses using this
+ * encoding are preceded by {@link ModelControllerProtocol#PARAM_COMPACT_RESPONSE}.
+ */
+public final class CompactModelNodeEncoding {
+
+    /** The minimum version of the management protocol supporting this encoding. */
+    public static final int MIN_PROTOCOL_VERSION = 3;
+
+    // The estimated encoded size above which a node is compressed
+    private static final int COMPRESSION_THRESHOLD = 8 * 1024;
+
+    private static final byte FORMAT_VERSION = 1;
+    private static final byte FLAG_DEFLATE = 0x01;
+
+    private static final byte TAG_UNDEFINED = 0;
+    private static final byte TAG_TRUE = 1;
+    private static final byte TAG_FALSE = 2;
+    private static final byte TAG_INT = 3;
+    private static final byte TAG_LONG = 4;
+    private static final byte TAG_DOUBLE = 5;
+    private static final byte TAG_BIG_INTEGER = 6;
+    private static final byte TAG_BIG_DECIMAL = 7;
+    private static final byte TAG_STRING = 8;
+    private static final byte TAG_BYTES = 9;
+    private static final byte TAG_EXPRESSION = 10;
+    private static final byte TAG_TYPE = 11;
+    private static final byte TAG_OBJECT = 12;
+    private static final byte TAG_LIST = 13;
+    private static final byte TAG_PROPERTY = 14;
+
+    private static final ModelType[] TYPES = ModelType.values();
+
+    private CompactModelNodeEncoding() {
+    }
+
+    /**
+     * Gets whether a peer using the given version of the management protocol supports this encoding.
+     *
+     * @param protocolVersion the version of the management protocol used by the peer
+     * @return {@code true} if the peer supports this encoding
+     */
+    public static boolean isSupported(int protocolVersion) {
+        return protocolVersion >= MIN_PROTOCOL_VERSION;
+    }
+
+    /**
+     * Writes the given node using the compact encoding.
+     *
+     * @param node the node. Cannot be {@code null}
+     * @param output the output
+     * @throws IOException if writing fails
+     */
+    public static void write(ModelNode node, DataOutput output) throws IOException {
+        output.writeByte(FORMAT_VERSION);
+        if (exceedsSize(node, COMPRESSION_THRESHOLD) < 0) {
+            output.writeByte(FLAG_DEFLATE);
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(COMPRESSION_THRESHOLD);
+            Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+            try (DataOutputStream deflated = new DataOutputStream(new DeflaterOutputStream(bytes, deflater))) {
+                new Writer(deflated).write(node);
+            } finally {
+                deflater.end();
+            }
+            writeLength(output, bytes.size());
+            bytes.writeTo(new DataOutputAdapter(output));
+        } else {
+            output.writeByte(0);
+            new Writer(output).write(node);
+        }
+    }
+
+    /**
+     * Reads a node written by {@link #write(ModelNode, DataOutput)}.
+     *
+     * @param input the input
+     * @return the node
+     * @throws IOException if reading fails or the input is not valid
+     */
+    public static ModelNode read(DataInput input) throws IOException {
+        byte version = input.readByte();
+        if (version != FORMAT_VERSION) {
+            throw ControllerClientLogger.ROOT_LOGGER.invalidCompactModelNodeEncoding(version);
+        }
+        byte flags = input.readByte();
+        ModelNode node = new ModelNode();
+        if ((flags & FLAG_DEFLATE) != 0) {
+            byte[] bytes = new byte[readLength(input)];
+            input.readFully(bytes);
+            try (DataInputStream inflated = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(bytes)))) {
+                new Reader(inflated).read(node);
+            }
+        } else {
+            new Reader(input).read(node);
+        }
+        return node;
+    }
+
+    /**
+     * Cheaply estimates the encoded size of the given node, giving up as soon as the estimate exceeds the given budget.
+     *
+     * @return the remaining budget, which is negative if the estimated size exceeds the budget
+     */
+    private static int exceedsSize(ModelNode node, int budget) {
+        int remaining = budget - 1;
+        switch (node.getType()) {
+            case OBJECT:
+                for (String key : node.keys()) {
+                    remaining = exceedsSize(node.get(key), remaining - key.length() - 1);
+                    if (remaining < 0) {
+                        break;
+                    }
+                }
+                break;
+            case LIST:
+                for (ModelNode element : node.asList()) {
+                    remaining = exceedsSize(element, remaining);
+                    if (remaining < 0) {
+                        break;
+                    }
+                }
+                break;
+            case PROPERTY:
+                Property property = node.asProperty();
+                remaining = exceedsSize(property.getValue(), remaining - property.getName().length() - 1);
+                break;
+            case STRING:
+                remaining -= node.asString().length() + 1;
+                break;
+            case EXPRESSION:
+                remaining -= node.asExpression().getExpressionString().length() + 1;
+                break;
+            case BYTES:
+                remaining -= node.asBytes().length + 1;
+                break;
+            default:
+                remaining -= 8;
+        }
+        return remaining;
+    }
+
+    private static void writeLength(DataOutput output, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            output.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        output.writeByte(value);
+    }
+
+    private static int readLength(DataInput input) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 32; shift += 7) {
+            byte b = input.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    break;
+                }
+                return value;
+            }
+        }
+        throw ControllerClientLogger.ROOT_LOGGER.invalidCompactModelNodeEncoding(value);
+    }
+
+    private static final class Writer {
+        private final DataOutput output;
+        // The index of each object key and property name already written
+        private final Map<String, Integer> names = new HashMap<>();
+
+        Writer(DataOutput output) {
+            this.output = output;
+        }
+
+        void write(ModelNode node) throws IOException {
+            switch (node.getType()) {
+                case UNDEFINED:
+                    output.writeByte(TAG_UNDEFINED);
+                    break;
+                case BOOLEAN:
+                    output.writeByte(node.asBoolean() ? TAG_TRUE : TAG_FALSE);
+                    break;
+                case INT:
+                    output.writeByte(TAG_INT);
+                    output.writeInt(node.asInt());
+                    break;
+                case LONG:
+                    output.writeByte(TAG_LONG);
+                    output.writeLong(node.asLong());
+                    break;
+                case DOUBLE:
+                    output.writeByte(TAG_DOUBLE);
+                    output.writeDouble(node.asDouble());
+                    break;
+                case BIG_INTEGER:
+                    output.writeByte(TAG_BIG_INTEGER);
+                    writeBytes(node.asBigInteger().toByteArray());
+                    break;
+                case BIG_DECIMAL: {
+                    BigDecimal value = node.asBigDecimal();
+                    output.writeByte(TAG_BIG_DECIMAL);
+                    output.writeInt(value.scale());
+                    writeBytes(value.unscaledValue().toByteArray());
+                    break;
+                }
+                case STRING:
+                    output.writeByte(TAG_STRING);
+                    writeString(node.asString());
+                    break;
+                case BYTES:
+                    output.writeByte(TAG_BYTES);
+                    writeBytes(node.asBytes());
+                    break;
+                case EXPRESSION:
+                    output.writeByte(TAG_EXPRESSION);
+                    writeString(node.asExpression().getExpressionString());
+                    break;
+                case TYPE:
+                    output.writeByte(TAG_TYPE);
+                    output.writeByte(node.asType().ordinal());
+                    break;
+                case OBJECT:
+                    output.writeByte(TAG_OBJECT);
+                    writeLength(output, node.keys().size());
+                    for (String key : node.keys()) {
+                        writeName(key);
+                        write(node.get(key));
+                    }
+                    break;
+                case LIST: {
+                    List<ModelNode> elements = node.asList();
+                    output.writeByte(TAG_LIST);
+                    writeLength(output, elements.size());
+                    for (ModelNode element : elements) {
+                        write(element);
+                    }
+                    break;
+                }
+                case PROPERTY: {
+                    Property property = node.asProperty();
+                    output.writeByte(TAG_PROPERTY);
+                    writeName(property.getName());
+                    write(property.getValue());
+                    break;
+                }
+                default:
+                    throw new IllegalStateException(node.getType().name());
+            }
+        }
+
+        private void writeName(String name) throws IOException {
+            Integer index = names.get(name);
+            if (index != null) {
+                // Odd values reference a name already written
+                writeLength(output, (index << 1) | 1);
+            } else {
+                names.put(name, names.size());
+                byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+                writeLength(output, bytes.length << 1);
+                output.write(bytes);
+            }
+        }
+
+        private void writeString(String value) throws IOException {
+            // Unlike DataOutput.writeUTF(), not limited to 64K
+            writeBytes(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        private void writeBytes(byte[] bytes) throws IOException {
+            writeLength(output, bytes.length);
+            output.write(bytes);
+        }
+    }
+
+    private static final class Reader {
+        private final DataInput input;
+        private final List<String> names = new ArrayList<>();
+
+        Reader(DataInput input) {
+            this.input = input;
+        }
+
+        void read(ModelNode node) throws IOException {
+            byte tag = input.readByte();
+            switch (tag) {
+                case TAG_UNDEFINED:
+                    break;
+                case TAG_TRUE:
+                    node.set(true);
+                    break;
+                case TAG_FALSE:
+                    node.set(false);
+                    break;
+                case TAG_INT:
+                    node.set(input.readInt());
+                    break;
+                case TAG_LONG:
+                    node.set(input.readLong());
+                    break;
+                case TAG_DOUBLE:
+                    node.set(input.readDouble());
+                    break;
+                case TAG_BIG_INTEGER:
+                    node.set(new BigInteger(readBytes()));
+                    break;
+                case TAG_BIG_DECIMAL: {
+                    int scale = input.readInt();
+                    node.set(new BigDecimal(new BigInteger(readBytes()), scale));
+                    break;
+                }
+                case TAG_STRING:
+                    node.set(readString());
+                    break;
+                case TAG_BYTES:
+                    node.set(readBytes());
+                    break;
+                case TAG_EXPRESSION:
+                    node.set(new ValueExpression(readString()));
+                    break;
+                case TAG_TYPE: {
+                    int ordinal = input.readUnsignedByte();
+                    if (ordinal >= TYPES.length) {
+                        throw ControllerClientLogger.ROOT_LOGGER.invalidCompactModelNodeEncoding(ordinal);
+                    }
+                    node.set(TYPES[ordinal]);
+                    break;
+                }
+                case TAG_OBJECT: {
+                    node.setEmptyObject();
+                    int size = readLength(input);
+                    for (int i = 0; i < size; i++) {
+                        // Read children in place rather than adding them, which would copy them
+                        read(node.get(readName()));
+                    }
+                    break;
+                }
+                case TAG_LIST: {
+                    node.setEmptyList();
+                    int size = readLength(input);
+                    for (int i = 0; i < size; i++) {
+                        read(node.add());
+                    }
+                    break;
+                }
+                case TAG_PROPERTY: {
+                    String name = readName();
+                    ModelNode value = new ModelNode();
+                    read(value);
+                    node.set(name, value);
+                    break;
+                }
+                default:
+                    throw ControllerClientLogger.ROOT_LOGGER.invalidCompactModelNodeEncoding(tag);
+            }
+        }
+
+        private String readName() throws IOException {
+            int value = readLength(input);
+            if ((value & 1) != 0) {
+                int index = value >>> 1;
+                if (index >= names.size()) {
+                    throw ControllerClientLogger.ROOT_LOGGER.invalidCompactModelNodeEncoding(value);
+                }
+                return names.get(index);
+            }
+            byte[] bytes = new byte[value >>> 1];
+            input.readFully(bytes);
+            String name = new String(bytes, StandardCharsets.UTF_8);
+            names.add(name);
+            return name;
+        }
+
+        private String readString() throws IOException {
+            return new String(readBytes(), StandardCharsets.UTF_8);
+        }
+
+        private byte[] readBytes() throws IOException {
+            byte[] bytes = new byte[readLength(input)];
+            input.readFully(bytes);
+            return bytes;
+        }
+    }
+
+    /**
+     * Exposes a {@link DataOutput} as an {@link OutputStream}.
+     */
+    private static final class DataOutputAdapter extends OutputStream {
+        private final DataOutput output;
+
+        DataOutputAdapter(DataOutput output) {
+            this.output = output;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            output.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            output.write(b, off, len);
+        }
+    }
+}
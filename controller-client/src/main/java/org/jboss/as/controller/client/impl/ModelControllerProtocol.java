@@ -37,6 +37,8 @@ public interface ModelControllerProtocol {
     //byte PARAM_PREPARED = 0x69;
     byte PARAM_COMMIT = 0x70;
     byte PARAM_ROLLBACK = 0x71;
+    // Precedes a response whose result uses the CompactModelNodeEncoding
+    byte PARAM_COMPACT_RESPONSE = 0x6A;
     // The tx response params
     byte PARAM_OPERATION_FAILED = 0x49;
     byte PARAM_OPERATION_COMPLETED = 0x4A;
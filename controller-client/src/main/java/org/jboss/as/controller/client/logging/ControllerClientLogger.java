@@ -356,6 +356,9 @@ public interface ControllerClientLogger extends BasicLogger {
     @Message(id = 37, value = "Failed to parse the configuration file: %s")
     RuntimeException failedToParseAuthenticationConfig(@Cause Throwable cause, URI location);
 
+    @Message(id = 38, value = "Invalid compact model encoding, unexpected value %d")
+    IOException invalidCompactModelNodeEncoding(int value);
+
     class LeakDescription extends Throwable {
         private static final long serialVersionUID = -7193498784746897578L;
 
@@ -0,0 +1,125 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.client.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.ValueExpression;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link CompactModelNodeEncoding}.
+ */
+public class CompactModelNodeEncodingUnitTestCase {
+
+    @Test
+    public void testAllTypes() throws IOException {
+        ModelNode node = new ModelNode();
+        node.get("undefined");
+        node.get("true").set(true);
+        node.get("false").set(false);
+        node.get("int").set(Integer.MIN_VALUE);
+        node.get("long").set(Long.MAX_VALUE);
+        node.get("double").set(1.5d);
+        node.get("big-integer").set(new BigInteger("-123456789012345678901234567890"));
+        node.get("big-decimal").set(new BigDecimal("12345678901234567890.0987654321"));
+        node.get("string").set("café ☃");
+        node.get("bytes").set(new byte[] { 0, 1, -1, 127 });
+        node.get("expression").set(new ValueExpression("${foo:bar}"));
+        node.get("type").set(ModelType.OBJECT);
+        node.get("empty-object").setEmptyObject();
+        node.get("empty-list").setEmptyList();
+        node.get("list").add("a").add(1).add();
+        node.get("list").add().get("string").set("nested");
+        node.get("property").set("string", new ModelNode(2));
+
+        assertEquals(node, roundTrip(node));
+        assertEquals(new ModelNode(), roundTrip(new ModelNode()));
+    }
+
+    @Test
+    public void testLargeNode() throws IOException {
+        ModelNode node = new ModelNode();
+        StringBuilder longString = new StringBuilder();
+        for (int i = 0; i < 70000; i++) {
+            longString.append((char) ('a' + i % 26));
+        }
+        node.get("long-string").set(longString.toString());
+        for (int i = 0; i < 1000; i++) {
+            ModelNode child = node.get("children", "child-" + i);
+            child.get("name").set("child-" + i);
+            child.get("value").set(i);
+        }
+
+        ModelNode result = roundTrip(node);
+        assertEquals(node, result);
+        assertEquals(node.keys(), result.keys());
+    }
+
+    @Test
+    public void testCompression() throws IOException {
+        ModelNode node = new ModelNode();
+        for (int i = 0; i < 1000; i++) {
+            node.get("result").add().get("outcome").set("success");
+        }
+        byte[] legacy = writeExternal(node);
+        byte[] compact = write(node);
+        assertTrue(compact.length < legacy.length / 10);
+        assertEquals(node, read(compact));
+    }
+
+    @Test
+    public void testSupportedVersions() {
+        assertFalse(CompactModelNodeEncoding.isSupported(1));
+        assertFalse(CompactModelNodeEncoding.isSupported(2));
+        assertTrue(CompactModelNodeEncoding.isSupported(3));
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidInput() throws IOException {
+        read(new byte[] { 1, 0, 99 });
+    }
+
+    private static ModelNode roundTrip(ModelNode node) throws IOException {
+        return read(write(node));
+    }
+
+    private static byte[] write(ModelNode node) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            CompactModelNodeEncoding.write(node, output);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] writeExternal(ModelNode node) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            node.writeExternal(output);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static ModelNode read(byte[] bytes) throws IOException {
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            ModelNode result = CompactModelNodeEncoding.read(input);
+            assertEquals(-1, input.read());
+            return result;
+        }
+    }
+}
@@ -178,6 +178,7 @@ public abstract class AbstractControllerService implements Service<ModelControll
     private final CapabilityRegistry capabilityRegistry;
     private final ConfigurationExtension configExtension;
     private volatile ModelControllerClientFactory clientFactory;
+    private final BootProfiler bootProfiler = new BootProfiler();
 
     /**
      * Construct a new instance.
@@ -317,7 +318,7 @@ public abstract class AbstractControllerService implements Service<ModelControll
                 configurationPersister, processType, stability, runningModeControl, prepareStep,
                 processState, executorService, expressionResolver, authorizer, securityIdentitySupplier, auditLogger, notificationSupport,
                 bootErrorCollector, createExtraValidationStepHandler(), capabilityRegistry, getPartialModelIndicator(),
-                instabilityListener != null ? instabilityListener.get() : null);
+                instabilityListener != null ? instabilityListener.get() : null, bootProfiler);
 
         // Initialize the model
         initModel(controller.getManagementModel(), controller.getModelControllerResource());
@@ -525,6 +526,11 @@ public abstract class AbstractControllerService implements Service<ModelControll
             @Override
             public void run() {
                 try {
+                    // Durability barrier for the configuration changes whose persistence was deferred
+                    if (configurationPersister != null) {
+                        configurationPersister.flush();
+                    }
+                    auditLogger.flush();
                     stopAsynchronous(context);
                 } finally {
                     try {
@@ -602,6 +608,15 @@ public abstract class AbstractControllerService implements Service<ModelControll
         return bootErrorCollector.getErrors();
     }
 
+    /**
+     * Gets the profiler recording the boot of this controller, if enabled.
+     *
+     * @return the boot profiler. Will not be {@code null}
+     */
+    protected final BootProfiler getBootProfiler() {
+        return bootProfiler;
+    }
+
     protected OperationStepHandler createExtraValidationStepHandler() {
         return null;
     }
@@ -211,7 +211,8 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
                 // concurrently add steps
                 steps.put(stage, new LinkedBlockingDeque<Step>());
             } else {
-                steps.put(stage, new ArrayDeque<Step>());
+                // Most operations add few steps to each stage, reads often none at all to most stages
+                steps.put(stage, new ArrayDeque<Step>(2));
             }
         }
         initiatingThread = Thread.currentThread();
@@ -1053,6 +1054,7 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
         }
         this.activeStep = step;
 
+        final BootProfiler.Measurement profile = controller.getBootProfiler().beginOperationStep();
         try {
             try {
                 ClassLoader oldTccl = WildFlySecurityManager.setCurrentContextClassLoaderPrivileged(step.handler.getClass());
@@ -1101,6 +1103,9 @@ abstract class AbstractOperationContext implements OperationContext, AutoCloseab
             }
         } finally {
             addBootFailureDescription();
+            if (profile != null) {
+                controller.getBootProfiler().operationStepExecuted(profile, step.operationId.name, step.address, currentStage);
+            }
         }
     }
 
@@ -0,0 +1,330 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.LifecycleEvent;
+import org.jboss.msc.service.LifecycleListener;
+import org.jboss.msc.service.ServiceController;
+import org.jboss.msc.service.ServiceName;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Records where the time is spent while the process boots, if enabled via the {@value #PROFILE_PROPERTY} system
+ * property. The wall-clock time is recorded for:
+ * <ul>
+ *     <li>each boot operation step, per execution stage, and in total for each subsystem;</li>
+ *     <li>each service installed by a boot operation, from its installation until it is up;</li>
+ *     <li>each deployment unit processor, per phase, in total for all deployments.</li>
+ * </ul>
+ * Each recorded time is additionally emitted as a JFR event, if a flight recording is enabled for the event.
+ * <p>
+ * Each {@link AbstractControllerService} has its own profiler, which records the boot of its controller.
+ */
+public final class BootProfiler {
+
+    /** Enables profiling the boot of the process. Disabled by default. */
+    public static final String PROFILE_PROPERTY = "org.jboss.as.boot.profile";
+
+    /** Key under which the profiler of the controller is attached to the boot operation contexts. */
+    public static final OperationContext.AttachmentKey<BootProfiler> ATTACHMENT_KEY = OperationContext.AttachmentKey.create(BootProfiler.class);
+
+    static final String BOOT_TIME = "boot-time";
+    static final String OPERATIONS = "operations";
+    static final String SUBSYSTEMS = "subsystems";
+    static final String SERVICES = "services";
+    static final String DEPLOYMENT_UNIT_PROCESSORS = "deployment-unit-processors";
+    static final String NAME = "name";
+    static final String STAGE = "stage";
+    static final String COUNT = "count";
+    static final String TIME = "time";
+
+    private final Map<Key, Timing> operations = new ConcurrentHashMap<>();
+    private final Map<Key, Timing> subsystems = new ConcurrentHashMap<>();
+    private final Map<Key, Timing> services = new ConcurrentHashMap<>();
+    private final Map<Key, Timing> processors = new ConcurrentHashMap<>();
+
+    private volatile boolean active;
+    // protected by this
+    private long startTime;
+    // protected by this
+    private long bootTime = -1;
+
+    /**
+     * Starts recording, discarding what was recorded before, if profiling is enabled.
+     */
+    public synchronized void start() {
+        if (Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(PROFILE_PROPERTY, "false"))) {
+            operations.clear();
+            subsystems.clear();
+            services.clear();
+            processors.clear();
+            startTime = System.nanoTime();
+            bootTime = -1;
+            active = true;
+        }
+    }
+
+    /**
+     * Stops recording once the process booted.
+     */
+    public synchronized void stop() {
+        if (active) {
+            active = false;
+            bootTime = System.nanoTime() - startTime;
+        }
+    }
+
+    /**
+     * Gets whether the boot is being profiled.
+     *
+     * @return {@code true} if the boot is being profiled
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    /**
+     * Starts measuring the execution of a boot operation step.
+     *
+     * @return the measurement, or {@code null} if the boot is not being profiled
+     */
+    Measurement beginOperationStep() {
+        return active ? new Measurement(new OperationStepEvent()) : null;
+    }
+
+    void operationStepExecuted(Measurement measurement, String operationName, PathAddress address, OperationContext.Stage stage) {
+        final long time = measurement.end();
+        final String stageName = stage.name();
+        record(operations, address.toCLIStyleString() + ":" + operationName, stageName, time);
+        final String subsystem = address.size() > 0 && SUBSYSTEM.equals(address.getElement(0).getKey()) ? address.getElement(0).getValue() : null;
+        if (subsystem != null) {
+            record(subsystems, subsystem, stageName, time);
+        }
+
+        final OperationStepEvent event = (OperationStepEvent) measurement.event;
+        if (event.shouldCommit()) {
+            event.operation = operationName;
+            event.address = address.toCLIStyleString();
+            event.subsystem = subsystem;
+            event.stage = stageName;
+            event.commit();
+        }
+    }
+
+    /**
+     * Creates a listener recording the time until a service installed by a boot operation is up.
+     *
+     * @return the listener
+     */
+    LifecycleListener serviceListener() {
+        final Measurement measurement = new Measurement(new ServiceStartEvent());
+        return new LifecycleListener() {
+            @Override
+            public void handleEvent(ServiceController<?> controller, LifecycleEvent event) {
+                controller.removeListener(this);
+                final Set<ServiceName> names = controller.provides();
+                if (event == LifecycleEvent.UP && active && !names.isEmpty()) {
+                    // Report a service providing several values under the same name each time
+                    serviceStarted(measurement, Collections.min(names).getCanonicalName());
+                }
+            }
+        };
+    }
+
+    private void serviceStarted(Measurement measurement, String serviceName) {
+        record(services, serviceName, null, measurement.end());
+
+        final ServiceStartEvent event = (ServiceStartEvent) measurement.event;
+        if (event.shouldCommit()) {
+            event.service = serviceName;
+            event.commit();
+        }
+    }
+
+    /**
+     * Starts measuring the processing of a deployment by a deployment unit processor.
+     *
+     * @return the measurement, or {@code null} if the boot is not being profiled
+     */
+    public Measurement beginDeploymentUnitProcessor() {
+        return active ? new Measurement(new DeploymentUnitProcessorEvent()) : null;
+    }
+
+    /**
+     * Records the time a deployment unit processor took to process a deployment. Only recorded while the boot is
+     * being profiled.
+     *
+     * @param measurement the measurement returned by {@link #beginDeploymentUnitProcessor()}
+     * @param processor the class name of the processor
+     * @param phase the deployment phase
+     * @param deployment the name of the deployment unit
+     */
+    public void deploymentUnitProcessorExecuted(Measurement measurement, String processor, String phase, String deployment) {
+        final long time = measurement.end();
+        if (!active) {
+            return;
+        }
+        record(processors, processor, phase, time);
+
+        final DeploymentUnitProcessorEvent event = (DeploymentUnitProcessorEvent) measurement.event;
+        if (event.shouldCommit()) {
+            event.processor = processor;
+            event.phase = phase;
+            event.deployment = deployment;
+            event.commit();
+        }
+    }
+
+    /**
+     * Gets the times recorded during the last profiled boot, the longest first.
+     *
+     * @param limit the maximum number of entries reported per category, or not limited if not positive
+     * @return the report
+     */
+    public ModelNode getReport(int limit) {
+        final ModelNode report = new ModelNode();
+        synchronized (this) {
+            if (bootTime >= 0) {
+                report.get(BOOT_TIME).set(TimeUnit.NANOSECONDS.toMillis(bootTime));
+            }
+        }
+        report.get(OPERATIONS).set(report(operations, limit));
+        report.get(SUBSYSTEMS).set(report(subsystems, limit));
+        report.get(SERVICES).set(report(services, limit));
+        report.get(DEPLOYMENT_UNIT_PROCESSORS).set(report(processors, limit));
+        return report;
+    }
+
+    private static void record(Map<Key, Timing> timings, String name, String stage, long time) {
+        timings.computeIfAbsent(new Key(name, stage), key -> new Timing()).add(time);
+    }
+
+    private static ModelNode report(Map<Key, Timing> timings, int limit) {
+        final List<Map.Entry<Key, Timing>> entries = new ArrayList<>(timings.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<Key, Timing> entry) -> entry.getValue().total.sum()).reversed());
+        final ModelNode result = new ModelNode().setEmptyList();
+        for (Map.Entry<Key, Timing> entry : limit > 0 && entries.size() > limit ? entries.subList(0, limit) : entries) {
+            final ModelNode node = result.add();
+            node.get(NAME).set(entry.getKey().name);
+            if (entry.getKey().stage != null) {
+                node.get(STAGE).set(entry.getKey().stage);
+            }
+            node.get(COUNT).set(entry.getValue().count.sum());
+            node.get(TIME).set(TimeUnit.NANOSECONDS.toMicros(entry.getValue().total.sum()));
+        }
+        return result;
+    }
+
+    /**
+     * The measurement of a unit of work done while booting, whose duration is also that of its JFR event.
+     */
+    public static final class Measurement {
+        private final Event event;
+        private final long start;
+
+        private Measurement(Event event) {
+            this.event = event;
+            event.begin();
+            this.start = System.nanoTime();
+        }
+
+        private long end() {
+            event.end();
+            return System.nanoTime() - start;
+        }
+    }
+
+    private static final class Key {
+        private final String name;
+        private final String stage;
+
+        Key(String name, String stage) {
+            this.name = name;
+            this.stage = stage;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof Key)) {
+                return false;
+            }
+            final Key key = (Key) object;
+            return name.equals(key.name) && Objects.equals(stage, key.stage);
+        }
+
+        @Override
+        public int hashCode() {
+            return name.hashCode() * 31 + Objects.hashCode(stage);
+        }
+    }
+
+    private static final class Timing {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder total = new LongAdder();
+
+        void add(long time) {
+            count.increment();
+            total.add(time);
+        }
+    }
+
+    @Name("org.wildfly.boot.OperationStep")
+    @Label("Boot Operation Step")
+    @Category({"WildFly", "Boot"})
+    @Description("Execution of a boot operation step")
+    static final class OperationStepEvent extends Event {
+        @Label("Operation")
+        String operation;
+        @Label("Address")
+        String address;
+        @Label("Subsystem")
+        String subsystem;
+        @Label("Stage")
+        String stage;
+    }
+
+    @Name("org.wildfly.boot.ServiceStart")
+    @Label("Boot Service Start")
+    @Category({"WildFly", "Boot"})
+    @Description("Time from the installation of a service by a boot operation until it is up")
+    static final class ServiceStartEvent extends Event {
+        @Label("Service")
+        String service;
+    }
+
+    @Name("org.wildfly.boot.DeploymentUnitProcessor")
+    @Label("Boot Deployment Unit Processor")
+    @Category({"WildFly", "Boot"})
+    @Description("Processing of a deployment unit by a deployment unit processor during boot")
+    static final class DeploymentUnitProcessorEvent extends Event {
+        @Label("Processor")
+        String processor;
+        @Label("Phase")
+        String phase;
+        @Label("Deployment")
+        String deployment;
+    }
+}
@@ -20,8 +20,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
 
 import org.jboss.as.controller.capability.Capability;
 import org.jboss.as.controller.capability.RuntimeCapability;
@@ -42,30 +41,30 @@ import org.jboss.msc.service.ServiceName;
 
 /**
  * Registry of {@link org.jboss.as.controller.capability.Capability capabilities} available in the system.
+ * <p>
+ * The content of the registry is held in immutable {@link Snapshot snapshots}, so reads do not require any lock.
+ * Writes are serialized, and are applied to a private working copy of the latest snapshot, which only copies the
+ * top level maps of the snapshot, and copies individual registrations only once they are modified. The working copy
+ * is published as the latest snapshot once it is read, so a sequence of writes without intervening reads only
+ * copies the snapshot once. Publishing the changes of a shadow copy to its parent registry, or rolling them back,
+ * merely exchanges snapshots.
  *
  * @author Brian Stansberry (c) 2014 Red Hat Inc.
  * @author Tomaz Cerar (c) 2015 Red Hat Inc.
  */
 public final class CapabilityRegistry implements ImmutableCapabilityRegistry, PossibleCapabilityRegistry, RuntimeCapabilityRegistry {
 
-    private final Map<CapabilityId, RuntimeCapabilityRegistration> capabilities = new HashMap<>();
-    private final Map<CapabilityId, RuntimeCapabilityRegistration> pendingRemoveCapabilities = new HashMap<>();
-    private final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> requirements = new HashMap<>();
-    private final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> pendingRemoveRequirements = new HashMap<>();
-    private final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> runtimeOnlyRequirements = new HashMap<>();
     private final boolean forServer;
-    private final Set<CapabilityScope> knownContexts;
     private final ResolutionContextImpl resolutionContext = new ResolutionContextImpl();
-    private final Map<CapabilityId, CapabilityRegistration<?>> possibleCapabilities = new ConcurrentHashMap<>();
-    private final Set<CapabilityId> reloadCapabilities = new HashSet<>();
-    private final Set<CapabilityId> restartCapabilities = new HashSet<>();
 
-    private final ReentrantReadWriteLock reentrantReadWriteLock = new ReentrantReadWriteLock();
-    private final ReentrantReadWriteLock.ReadLock readLock = reentrantReadWriteLock.readLock();
-    private final ReentrantReadWriteLock.WriteLock writeLock = reentrantReadWriteLock.writeLock();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    // The latest snapshot, or null if it is being modified via the working copy
+    private volatile Snapshot snapshot;
+    // The copy of the latest snapshot modified by writers, if it has not been read yet
+    private Snapshot working;
     //holds reference to parent published registry
     private final CapabilityRegistry publishedFullRegistry;
-    private boolean modified = false;
+    private volatile boolean modified = false;
 
     public CapabilityRegistry(boolean forServer) {
         this(forServer, null);
@@ -73,7 +72,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
     private CapabilityRegistry(boolean forServer, CapabilityRegistry parent) {//for published view
         this.forServer = forServer;
-        this.knownContexts = forServer ? null : new HashSet<>();
+        this.snapshot = new Snapshot(forServer);
         this.publishedFullRegistry = parent;
     }
 
@@ -85,40 +84,53 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
      */
     CapabilityRegistry createShadowCopy() {
         CapabilityRegistry result = new CapabilityRegistry(forServer, this);
-        readLock.lock();
+        writeLock.lock();
         try {
-            try {
-                result.writeLock.lock();
-                copy(this, result);
-            } finally {
-                result.writeLock.unlock();
-            }
+            result.snapshot = readableSnapshot().withoutPendingRemovals();
+            result.resolutionContext.copy(resolutionContext);
         } finally {
-            readLock.unlock();
+            writeLock.unlock();
         }
         return result;
     }
 
-    private static void copyCapabilities(final Map<CapabilityId, RuntimeCapabilityRegistration> source,
-                                         final Map<CapabilityId, RuntimeCapabilityRegistration> dest) {
-        for (Map.Entry<CapabilityId, RuntimeCapabilityRegistration> entry : source.entrySet()) {
-            dest.put(entry.getKey(), new RuntimeCapabilityRegistration(entry.getValue()));
+    /**
+     * Gets the latest snapshot for reading, publishing the working copy if it was modified since the last read.
+     *
+     * @return the latest snapshot, which must not be modified
+     */
+    private Snapshot readableSnapshot() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            writeLock.lock();
+            try {
+                current = snapshot;
+                if (current == null) {
+                    current = working;
+                    working = null;
+                    snapshot = current;
+                }
+            } finally {
+                writeLock.unlock();
+            }
         }
+        return current;
     }
 
-    private static void copyRequirements(Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> source,
-                                         Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> dest) {
-        for (Map.Entry<CapabilityId, Map<String, RuntimeRequirementRegistration>> entry : source.entrySet()) {
-            Map<String, RuntimeRequirementRegistration> mapCopy = new HashMap<>();
-            for (Map.Entry<String, RuntimeRequirementRegistration> innerEntry : entry.getValue().entrySet()) {
-                mapCopy.put(innerEntry.getKey(), new RuntimeRequirementRegistration(innerEntry.getValue()));
-            }
-            dest.put(entry.getKey(), mapCopy);
+    /**
+     * Gets the working copy of the latest snapshot for modification. This must be called with the write lock held.
+     *
+     * @return the working copy
+     */
+    private Snapshot writableSnapshot() {
+        assert writeLock.isHeldByCurrentThread();
+        if (working == null) {
+            working = new Snapshot(snapshot);
+            snapshot = null;
         }
-
+        return working;
     }
 
-
     /**
      * Registers a capability with the system. Any
      * {@link org.jboss.as.controller.capability.Capability#getRequirements() requirements}
@@ -130,32 +142,35 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     public void registerCapability(RuntimeCapabilityRegistration capabilityRegistration) {
         writeLock.lock();
         try {
+            Snapshot state = writableSnapshot();
             CapabilityId capabilityId = capabilityRegistration.getCapabilityId();
             RegistrationPoint rp = capabilityRegistration.getOldestRegistrationPoint();
-            RuntimeCapabilityRegistration currentRegistration = capabilities.get(capabilityId);
+            RuntimeCapabilityRegistration currentRegistration = state.capabilities.get(capabilityId);
             if (currentRegistration != null) {
+                RuntimeCapabilityRegistration updatedRegistration = new RuntimeCapabilityRegistration(currentRegistration);
                 // The actual capability must be the same, the capability must allow multiple registrations
                 // and we must not already have a registration from this same resource
                 if (!Objects.equals(capabilityRegistration.getCapability(), currentRegistration.getCapability())
                         || !currentRegistration.getCapability().isAllowMultipleRegistrations()
-                        || !currentRegistration.addRegistrationPoint(rp)) {
+                        || !updatedRegistration.addRegistrationPoint(rp)) {
                     throw ControllerLogger.MGMT_OP_LOGGER.capabilityAlreadyRegisteredInContext(capabilityId.getName(),
                                 rp, capabilityId.getScope().getName(), currentRegistration.getRegistrationPoints());
                 }
                 // else it was ok, and we just recorded the additional registration point
+                state.capabilities.put(capabilityId, updatedRegistration);
             } else {
-                capabilities.put(capabilityId, capabilityRegistration);
+                state.capabilities.put(capabilityId, capabilityRegistration);
             }
 
             // Add any hard requirements
             for (String req : capabilityRegistration.getCapability().getRequirements()) {
-                registerRequirement(new RuntimeRequirementRegistration(req, capabilityId.getName(),
+                registerRequirement(state, new RuntimeRequirementRegistration(req, capabilityId.getName(),
                         capabilityId.getScope(), rp));
             }
 
             if (!forServer) {
                 CapabilityScope capContext = capabilityId.getScope();
-                knownContexts.add(capContext);
+                state.knownContexts.add(capContext);
             }
             modified = true;
         } finally {
@@ -178,7 +193,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     public void registerAdditionalCapabilityRequirement(RuntimeRequirementRegistration requirement) {
         writeLock.lock();
         try {
-            registerRequirement(requirement);
+            registerRequirement(writableSnapshot(), requirement);
         } finally {
             writeLock.unlock();
         }
@@ -186,29 +201,31 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
     /**
      * This must be called with the write lock held.
+     * @param state the working copy
      * @param requirement the requirement
      */
-    private void registerRequirement(RuntimeRequirementRegistration requirement) {
+    private void registerRequirement(Snapshot state, RuntimeRequirementRegistration requirement) {
         assert writeLock.isHeldByCurrentThread();
         CapabilityId dependentId = requirement.getDependentId();
-        if (!capabilities.containsKey(dependentId)) {
+        if (!state.capabilities.containsKey(dependentId)) {
             throw ControllerLogger.MGMT_OP_LOGGER.unknownCapabilityInContext(dependentId.getName(),
                     dependentId.getScope().getName());
         }
         Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> requirementMap =
-                requirement.isRuntimeOnly() ? runtimeOnlyRequirements : requirements;
+                requirement.isRuntimeOnly() ? state.runtimeOnlyRequirements : state.requirements;
 
-        Map<String, RuntimeRequirementRegistration> dependents = requirementMap.get(dependentId);
-        if (dependents == null) {
-            dependents = new HashMap<>();
-            requirementMap.put(dependentId, dependents);
-        }
+        // The dependents may be shared with other snapshots, so never modify them in place
+        Map<String, RuntimeRequirementRegistration> current = requirementMap.get(dependentId);
+        Map<String, RuntimeRequirementRegistration> dependents = (current == null) ? new HashMap<>() : new HashMap<>(current);
         RuntimeRequirementRegistration existing = dependents.get(requirement.getRequiredName());
         if (existing == null) {
             dependents.put(requirement.getRequiredName(), requirement);
         } else {
-            existing.addRegistrationPoint(requirement.getOldestRegistrationPoint());
+            RuntimeRequirementRegistration updated = new RuntimeRequirementRegistration(existing);
+            updated.addRegistrationPoint(requirement.getOldestRegistrationPoint());
+            dependents.put(requirement.getRequiredName(), updated);
         }
+        requirementMap.put(dependentId, dependents);
         modified = true;
     }
 
@@ -224,8 +241,9 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         // so clean it from both maps
         writeLock.lock();
         try {
-            removeRequirement(requirementRegistration, false);
-            removeRequirement(requirementRegistration, true);
+            Snapshot state = writableSnapshot();
+            removeRequirement(state, requirementRegistration, false);
+            removeRequirement(state, requirementRegistration, true);
         } finally {
             writeLock.unlock();
         }
@@ -245,51 +263,56 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                                                           PathAddress registrationPoint) {
         writeLock.lock();
         try {
+            Snapshot state = writableSnapshot();
             CapabilityId capabilityId = new CapabilityId(capabilityName, scope);
             RuntimeCapabilityRegistration removed = null;
-            RuntimeCapabilityRegistration candidate = capabilities.get(capabilityId);
-            if (candidate != null) {
+            RuntimeCapabilityRegistration current = state.capabilities.get(capabilityId);
+            if (current != null) {
+                RuntimeCapabilityRegistration candidate = new RuntimeCapabilityRegistration(current);
                 RegistrationPoint rp = new RegistrationPoint(registrationPoint, null);
                 if (candidate.removeRegistrationPoint(rp)) {
 
                     Map<String, RuntimeRequirementRegistration> removedRequirements = null;
                     if (candidate.getRegistrationPointCount() == 0) {
-                        removed = capabilities.remove(capabilityId);
-                        removedRequirements = requirements.remove(capabilityId);
-                        runtimeOnlyRequirements.remove(capabilityId);
+                        state.capabilities.remove(capabilityId);
+                        removed = candidate;
+                        removedRequirements = state.requirements.remove(capabilityId);
+                        state.runtimeOnlyRequirements.remove(capabilityId);
                     } else {
+                        state.capabilities.put(capabilityId, candidate);
                         // There are still registration points for this capability.
                         // So just remove the requirements for this registration point
-                        Map<String, RuntimeRequirementRegistration> candidateRequirements = requirements.get(capabilityId);
+                        Map<String, RuntimeRequirementRegistration> candidateRequirements = state.requirements.get(capabilityId);
                         if (candidateRequirements != null) {
                             removedRequirements = new HashMap<>(candidateRequirements.size());
-                            // Iterate over array to avoid ConcurrentModificationException
+                            // Iterate over array, as the requirements are replaced while removing them
                             for (String req : candidateRequirements.keySet().toArray(new String[candidateRequirements.size()])) {
-                                RuntimeRequirementRegistration removedReqReg = removeRequirement(new RuntimeRequirementRegistration(req, capabilityName, scope, rp), false);
+                                RuntimeRequirementRegistration removedReqReg = removeRequirement(state, new RuntimeRequirementRegistration(req, capabilityName, scope, rp), false);
                                 if (removedReqReg != null) {
                                     removedRequirements.put(req, removedReqReg);
                                 }
                             }
                         }
-                        candidateRequirements = runtimeOnlyRequirements.get(capabilityId);
+                        candidateRequirements = state.runtimeOnlyRequirements.get(capabilityId);
                         if (candidateRequirements != null) {
-                            // Iterate over array to avoid ConcurrentModificationException
+                            // Iterate over array, as the requirements are replaced while removing them
                             for (String req : candidateRequirements.keySet().toArray(new String[candidateRequirements.size()])) {
-                                removeRequirement(new RuntimeRequirementRegistration(req, capabilityName, scope, rp), true);
+                                removeRequirement(state, new RuntimeRequirementRegistration(req, capabilityName, scope, rp), true);
                             }
                         }
                     }
 
                     // Remember this removed cap for use by getRuntimeStatus until we are published or rolled back
-                    RuntimeCapabilityRegistration removeReg = pendingRemoveCapabilities.get(capabilityId);
+                    RuntimeCapabilityRegistration removeReg = state.pendingRemoveCapabilities.get(capabilityId);
                     if (removeReg == null) {
                         removeReg = new RuntimeCapabilityRegistration(candidate.getCapability(), candidate.getCapabilityScope(), rp);
-                        pendingRemoveCapabilities.put(capabilityId, removeReg);
                     } else {
+                        removeReg = new RuntimeCapabilityRegistration(removeReg);
                         removeReg.addRegistrationPoint(rp);
                     }
+                    state.pendingRemoveCapabilities.put(capabilityId, removeReg);
                     if (removedRequirements != null) {
-                        pendingRemoveRequirements.put(capabilityId, removedRequirements);
+                        state.pendingRemoveRequirements.put(capabilityId, removedRequirements);
                     }
 
                 }
@@ -304,20 +327,28 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         }
     }
 
-    private RuntimeRequirementRegistration removeRequirement(RuntimeRequirementRegistration requirementRegistration, boolean optional) {
+    private RuntimeRequirementRegistration removeRequirement(Snapshot state, RuntimeRequirementRegistration requirementRegistration, boolean optional) {
         assert writeLock.isHeldByCurrentThread();
-        Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> requirementMap = optional ? runtimeOnlyRequirements : requirements;
-        Map<String, RuntimeRequirementRegistration> dependents = requirementMap.get(requirementRegistration.getDependentId());
+        Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> requirementMap = optional ? state.runtimeOnlyRequirements : state.requirements;
+        Map<String, RuntimeRequirementRegistration> current = requirementMap.get(requirementRegistration.getDependentId());
         RuntimeRequirementRegistration result = null;
-        if (dependents != null) {
-            RuntimeRequirementRegistration rrr = dependents.get(requirementRegistration.getRequiredName());
+        if (current != null) {
+            RuntimeRequirementRegistration rrr = current.get(requirementRegistration.getRequiredName());
             if (rrr != null) {
-                rrr.removeRegistrationPoint(requirementRegistration.getOldestRegistrationPoint());
-                if (rrr.getRegistrationPointCount() == 0) {
-                    result = dependents.remove(requirementRegistration.getRequiredName());
+                // The dependents may be shared with other snapshots, so never modify them in place
+                Map<String, RuntimeRequirementRegistration> dependents = new HashMap<>(current);
+                RuntimeRequirementRegistration updated = new RuntimeRequirementRegistration(rrr);
+                updated.removeRegistrationPoint(requirementRegistration.getOldestRegistrationPoint());
+                if (updated.getRegistrationPointCount() == 0) {
+                    dependents.remove(requirementRegistration.getRequiredName());
+                    result = updated;
+                } else {
+                    dependents.put(requirementRegistration.getRequiredName(), updated);
                 }
                 if (dependents.size() == 0) {
                     requirementMap.remove(requirementRegistration.getDependentId());
+                } else {
+                    requirementMap.put(requirementRegistration.getDependentId(), dependents);
                 }
                 modified = true;
             }
@@ -327,32 +358,28 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
     @Override
     public Map<CapabilityId, RuntimeStatus> getRuntimeStatus(PathAddress address, ImmutableManagementResourceRegistration resourceRegistration) {
-        readLock.lock();
-        try {
-            Map<CapabilityId, RuntimeStatus> result;
-            Set<CapabilityId> ids = getCapabilitiesForAddress(address, resourceRegistration);
-            int size = ids.size();
-            if (size == 0) {
-                result = Collections.emptyMap();
+        Snapshot state = readableSnapshot();
+        Map<CapabilityId, RuntimeStatus> result;
+        Set<CapabilityId> ids = getCapabilitiesForAddress(state, address, resourceRegistration);
+        int size = ids.size();
+        if (size == 0) {
+            result = Collections.emptyMap();
+        } else {
+            Set<CapabilityId> visited = new HashSet<>();
+            if (size == 1) {
+                CapabilityId id = ids.iterator().next();
+                result = Collections.singletonMap(id, getCapabilityStatus(state, id, visited));
             } else {
-                Set<CapabilityId> visited = new HashSet<>();
-                if (size == 1) {
-                    CapabilityId id = ids.iterator().next();
-                    result = Collections.singletonMap(id, getCapabilityStatus(id, visited));
-                } else {
-                    result = new HashMap<>(size);
-                    for (CapabilityId id : ids) {
-                        result.put(id, getCapabilityStatus(id, visited));
-                    }
+                result = new HashMap<>(size);
+                for (CapabilityId id : ids) {
+                    result.put(id, getCapabilityStatus(state, id, visited));
                 }
             }
-            return result;
-        } finally {
-            readLock.unlock();
         }
+        return result;
     }
 
-    private RuntimeStatus getCapabilityStatus(CapabilityId id, Set<CapabilityId> visited) {
+    private static RuntimeStatus getCapabilityStatus(Snapshot state, CapabilityId id, Set<CapabilityId> visited) {
         // This is meant for checking runtime stuff, which should only be for servers or
         // HC runtime stuff, both of which use CapabilityScope.GLOBAL or HostCapabilityScope. So this assert
         // is to check that assumption is valid, as further thought is needed if not (e.g. see WFCORE-1710).
@@ -360,20 +387,20 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         // internals, but oh well.
         assert id.getScope().equals(CapabilityScope.GLOBAL) || id.getScope().getName().equals(HOST);
 
-        boolean hasRestart = !restartCapabilities.isEmpty();
-        if (hasRestart && restartCapabilities.contains(id)) {
+        boolean hasRestart = !state.restartCapabilities.isEmpty();
+        if (hasRestart && state.restartCapabilities.contains(id)) {
             return RuntimeStatus.RESTART_REQUIRED;
         }
         if (!hasRestart) {
-            if (reloadCapabilities.contains(id)) {
+            if (state.reloadCapabilities.contains(id)) {
                 return RuntimeStatus.RELOAD_REQUIRED;
             }
         } // else defer reload-required check until after we search requirements for restart-required
 
         visited.add(id);
 
-        Map<String, RuntimeRequirementRegistration> dependents = requirements.get(id);
-        RuntimeStatus result = getDependentCapabilityStatus(dependents, id, visited);
+        Map<String, RuntimeRequirementRegistration> dependents = state.requirements.get(id);
+        RuntimeStatus result = getDependentCapabilityStatus(state, dependents, id, visited);
         // TODO we could also check runtimeOnlyRequirements but it's not clear that's meaningful
         // If the non-normal runtime-only req has had its cap removed, a RUNTIME step for the dependent
         // will not see it any more and won't try and integrate. If the req is reload-required but
@@ -382,21 +409,21 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
         if (result != RuntimeStatus.RESTART_REQUIRED) {
             // Check pending remove requirements
-            dependents = pendingRemoveRequirements.get(id);
-            RuntimeStatus pending = getDependentCapabilityStatus(dependents, id, visited);
+            dependents = state.pendingRemoveRequirements.get(id);
+            RuntimeStatus pending = getDependentCapabilityStatus(state, dependents, id, visited);
             if (pending != RuntimeStatus.NORMAL) {
                 result = pending;
             }
         }
 
         // We've checked dependents; if we didn't already check this cap for reload-required
-        if (result == RuntimeStatus.NORMAL && hasRestart && reloadCapabilities.contains(id)) {
+        if (result == RuntimeStatus.NORMAL && hasRestart && state.reloadCapabilities.contains(id)) {
             result = RuntimeStatus.RELOAD_REQUIRED;
         }
         return result;
     }
 
-    private RuntimeStatus getDependentCapabilityStatus(Map<String, RuntimeRequirementRegistration> dependents, CapabilityId requiror, Set<CapabilityId> visited) {
+    private static RuntimeStatus getDependentCapabilityStatus(Snapshot state, Map<String, RuntimeRequirementRegistration> dependents, CapabilityId requiror, Set<CapabilityId> visited) {
         RuntimeStatus result = RuntimeStatus.NORMAL;
         if (dependents != null) {
             for (String dependent : dependents.keySet()) {
@@ -407,7 +434,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
                 for (CapabilityScope scope : toCheck) {
                     CapabilityId dependentId = new CapabilityId(dependent, scope);
                     if (!visited.contains(dependentId)) {
-                        RuntimeStatus status = getCapabilityStatus(dependentId, visited);
+                        RuntimeStatus status = getCapabilityStatus(state, dependentId, visited);
                         if (status == RuntimeStatus.RESTART_REQUIRED) {
                             return status; // no need to check anything else
                         } else if (status == RuntimeStatus.RELOAD_REQUIRED) {
@@ -424,7 +451,8 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     public void capabilityReloadRequired(PathAddress address, ImmutableManagementResourceRegistration resourceRegistration) {
         writeLock.lock();
         try {
-            reloadCapabilities.addAll(getCapabilitiesForAddress(address, resourceRegistration));
+            Snapshot state = writableSnapshot();
+            state.reloadCapabilities.addAll(getCapabilitiesForAddress(state, address, resourceRegistration));
         } finally {
             writeLock.unlock();
         }
@@ -434,13 +462,14 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     public void capabilityRestartRequired(PathAddress address, ImmutableManagementResourceRegistration resourceRegistration) {
         writeLock.lock();
         try {
-            restartCapabilities.addAll(getCapabilitiesForAddress(address, resourceRegistration));
+            Snapshot state = writableSnapshot();
+            state.restartCapabilities.addAll(getCapabilitiesForAddress(state, address, resourceRegistration));
         } finally {
             writeLock.unlock();
         }
     }
 
-    private Set<CapabilityId> getCapabilitiesForAddress(PathAddress address, ImmutableManagementResourceRegistration resourceRegistration) {
+    private static Set<CapabilityId> getCapabilitiesForAddress(Snapshot state, PathAddress address, ImmutableManagementResourceRegistration resourceRegistration) {
         Set<CapabilityId> result = null;
         PathAddress curAddress = address;
         ImmutableManagementResourceRegistration curReg = resourceRegistration;
@@ -472,7 +501,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
             // TODO this is inefficient. But it's only called for post-boot write ops
             // when the process is already reload-required
-            for (Map<CapabilityId, RuntimeCapabilityRegistration> map : Arrays.asList(capabilities, pendingRemoveCapabilities)) {
+            for (Map<CapabilityId, RuntimeCapabilityRegistration> map : Arrays.asList(state.capabilities, state.pendingRemoveCapabilities)) {
 
                 for (Map.Entry<CapabilityId, RuntimeCapabilityRegistration> entry : map.entrySet()) {
                     boolean checkIncorporating = false;
@@ -535,6 +564,7 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     }
 
 
+
     /**
      * Registers a capability with the system. Any
      * {@link org.jboss.as.controller.capability.Capability#getRequirements() requirements}
@@ -549,18 +579,22 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         CapabilityRegistration<?> capabilityRegistration = new CapabilityRegistration<>(capability, CapabilityScope.GLOBAL, point);
         writeLock.lock();
         try {
-            possibleCapabilities.computeIfPresent(capabilityId, (capabilityId1, currentRegistration) -> {
+            Snapshot state = writableSnapshot();
+            CapabilityRegistration<?> currentRegistration = state.possibleCapabilities.get(capabilityId);
+            if (currentRegistration != null) {
+                CapabilityRegistration<?> updatedRegistration = new CapabilityRegistration<>(currentRegistration);
                 RegistrationPoint rp = capabilityRegistration.getOldestRegistrationPoint();
                 // The actual capability must be the same, and we must not already have a registration
                 // from this resource
                 if (!Objects.equals(capabilityRegistration.getCapability(), currentRegistration.getCapability())
-                        || !currentRegistration.addRegistrationPoint(rp)) {
+                        || !updatedRegistration.addRegistrationPoint(rp)) {
                     throw ControllerLogger.MGMT_OP_LOGGER.capabilityAlreadyRegisteredInContext(capabilityId.getName(),
                             capabilityId.getScope().getName());
                 }
-                return currentRegistration;
-            });
-            possibleCapabilities.putIfAbsent(capabilityId, capabilityRegistration);
+                state.possibleCapabilities.put(capabilityId, updatedRegistration);
+            } else {
+                state.possibleCapabilities.put(capabilityId, capabilityRegistration);
+            }
             modified = true;
         } finally {
             writeLock.unlock();
@@ -582,15 +616,18 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         CapabilityRegistration<?> removed = null;
         writeLock.lock();
         try {
-            CapabilityRegistration<?> candidate = possibleCapabilities.get(capabilityId);
-            if (candidate != null) {
+            Snapshot state = writableSnapshot();
+            CapabilityRegistration<?> current = state.possibleCapabilities.get(capabilityId);
+            if (current != null) {
+                CapabilityRegistration<?> candidate = new CapabilityRegistration<>(current);
                 RegistrationPoint rp = new RegistrationPoint(registrationPoint, null);
                 if (candidate.removeRegistrationPoint(rp)) {
                     if (candidate.getRegistrationPointCount() == 0) {
-                        removed = possibleCapabilities.remove(capabilityId);
+                        state.possibleCapabilities.remove(capabilityId);
                     } else {
-                        removed = candidate;
+                        state.possibleCapabilities.put(capabilityId, candidate);
                     }
+                    removed = candidate;
                 }
             }
 
@@ -608,111 +645,78 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
     @Override
     public boolean hasCapability(String capabilityName, CapabilityScope scope) {
-        readLock.lock();
-        try {
-            return findSatisfactoryCapability(capabilityName, scope, !forServer) != null;
-        } finally {
-            readLock.unlock();
-        }
+        return findSatisfactoryCapability(readableSnapshot(), capabilityName, scope, !forServer) != null;
     }
 
     @Override
     public <T> T getCapabilityRuntimeAPI(String capabilityName, CapabilityScope scope, Class<T> apiType) {
         // Here we can't know the dependent name. So this can only be called when resolution is complete.
         assert resolutionContext.resolutionComplete;
-        readLock.lock();
-        try {
-            RuntimeCapabilityRegistration reg = getCapabilityRegistration(capabilityName, scope);
-            Object api = reg.getCapability().getRuntimeAPI();
-            if (api == null) {
-                throw ControllerLogger.MGMT_OP_LOGGER.capabilityDoesNotExposeRuntimeAPI(capabilityName);
-            }
-            return apiType.cast(api);
-        } finally {
-            readLock.unlock();
+        RuntimeCapabilityRegistration reg = getCapabilityRegistration(readableSnapshot(), capabilityName, scope);
+        Object api = reg.getCapability().getRuntimeAPI();
+        if (api == null) {
+            throw ControllerLogger.MGMT_OP_LOGGER.capabilityDoesNotExposeRuntimeAPI(capabilityName);
         }
+        return apiType.cast(api);
     }
 
     @Override
     public Set<CapabilityRegistration<?>> getCapabilities() {
-        readLock.lock();
-        try {
-            return Collections.unmodifiableSet(new TreeSet<>(capabilities.values()));
-        } finally {
-            readLock.unlock();
-        }
+        return Collections.unmodifiableSet(new TreeSet<>(readableSnapshot().capabilities.values()));
     }
 
     @Override
     public Set<CapabilityRegistration<?>> getPossibleCapabilities() {
-        readLock.lock();
-        try {
-            return Collections.unmodifiableSet(new TreeSet<>(possibleCapabilities.values()));
-        } finally {
-            readLock.unlock();
-        }
+        return Collections.unmodifiableSet(new TreeSet<>(readableSnapshot().possibleCapabilities.values()));
     }
 
     @Override
     public ServiceName getCapabilityServiceName(String capabilityName, CapabilityScope scope, Class<?> serviceType) {
         // Here we can't know the dependent name. So this can only be called when resolution is complete.
         assert resolutionContext.resolutionComplete;
-        readLock.lock();
-        try {
-            RuntimeCapabilityRegistration reg = getCapabilityRegistration(capabilityName, scope);
-            RuntimeCapability<?> cap = reg.getCapability();
-            return cap.getCapabilityServiceName(serviceType);
-        } finally {
-            readLock.unlock();
-        }
+        RuntimeCapabilityRegistration reg = getCapabilityRegistration(readableSnapshot(), capabilityName, scope);
+        RuntimeCapability<?> cap = reg.getCapability();
+        return cap.getCapabilityServiceName(serviceType);
     }
 
     @Override
     public Set<PathAddress> getPossibleProviderPoints(CapabilityId capabilityId) {
+        return getPossibleProviderPoints(readableSnapshot(), capabilityId);
+    }
+
+    private static Set<PathAddress> getPossibleProviderPoints(Snapshot state, CapabilityId capabilityId) {
         Set<PathAddress> result = new LinkedHashSet<>();
-        readLock.lock();
-        try {
-            final CapabilityId capId = capabilityId.getScope() == CapabilityScope.GLOBAL ? capabilityId : new CapabilityId(capabilityId.getName(), CapabilityScope.GLOBAL); //possible registry is only in global scope
-            CapabilityRegistration<?> reg =  possibleCapabilities.get(capId);
-            if (reg != null) {
-                List<PathAddress> list = new ArrayList<>();
-                for (RegistrationPoint registrationPoint : reg.getRegistrationPoints()) {
-                    PathAddress address = registrationPoint.getAddress();
-                    list.add(address);
-                }
-                result.addAll(list);
-            } else {
-                List<PathAddress> list = new ArrayList<>();
-                for (CapabilityRegistration<?> registration : possibleCapabilities.values()) {
-                    if (registration.getCapability().isDynamicallyNamed()
-                        && registration.getCapabilityScope().equals(capId.getScope())
-                        && capId.getName().startsWith(registration.getCapabilityName())) {
-                        Set<RegistrationPoint> registrationPoints = registration.getRegistrationPoints();
-                        for (RegistrationPoint registrationPoint : registrationPoints) {
-                            PathAddress address = registrationPoint.getAddress();
-                            list.add(address);
-                        }
+        final CapabilityId capId = capabilityId.getScope() == CapabilityScope.GLOBAL ? capabilityId : new CapabilityId(capabilityId.getName(), CapabilityScope.GLOBAL); //possible registry is only in global scope
+        CapabilityRegistration<?> reg =  state.possibleCapabilities.get(capId);
+        if (reg != null) {
+            List<PathAddress> list = new ArrayList<>();
+            for (RegistrationPoint registrationPoint : reg.getRegistrationPoints()) {
+                PathAddress address = registrationPoint.getAddress();
+                list.add(address);
+            }
+            result.addAll(list);
+        } else {
+            List<PathAddress> list = new ArrayList<>();
+            for (CapabilityRegistration<?> registration : state.possibleCapabilities.values()) {
+                if (registration.getCapability().isDynamicallyNamed()
+                    && registration.getCapabilityScope().equals(capId.getScope())
+                    && capId.getName().startsWith(registration.getCapabilityName())) {
+                    Set<RegistrationPoint> registrationPoints = registration.getRegistrationPoints();
+                    for (RegistrationPoint registrationPoint : registrationPoints) {
+                        PathAddress address = registrationPoint.getAddress();
+                        list.add(address);
                     }
                 }
-                result.addAll(list);
             }
-
-        } finally {
-            readLock.unlock();
+            result.addAll(list);
         }
         return result;
     }
 
     @Override
     public CapabilityRegistration<?> getCapability(CapabilityId capabilityId){
-        readLock.lock();
-        try {
-            CapabilityRegistration<?> reg = capabilities.get(capabilityId);
-            return reg != null ? new CapabilityRegistration<>(reg) : null;
-        } finally {
-            readLock.unlock();
-        }
-
+        CapabilityRegistration<?> reg = readableSnapshot().capabilities.get(capabilityId);
+        return reg != null ? new CapabilityRegistration<>(reg) : null;
     }
 
     //end ImmutableCapabilityRegistry methods
@@ -730,10 +734,13 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
             }
             publishedFullRegistry.writeLock.lock();
             try {
-                publishedFullRegistry.clear(true);
-                copy(this, publishedFullRegistry);
-                pendingRemoveCapabilities.clear();
-                pendingRemoveRequirements.clear();
+                // Removed capabilities are only of interest until we are published
+                Snapshot published = readableSnapshot().withoutPendingRemovals();
+                snapshot = published;
+                publishedFullRegistry.snapshot = published;
+                publishedFullRegistry.working = null;
+                publishedFullRegistry.resolutionContext.copy(resolutionContext);
+                publishedFullRegistry.modified = true;
                 modified = false;
             } finally {
                 publishedFullRegistry.writeLock.unlock();
@@ -752,13 +759,14 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         }
         writeLock.lock();
         try {
-            publishedFullRegistry.readLock.lock();
+            publishedFullRegistry.writeLock.lock();
             try {
-                clear(true);
-                copy(publishedFullRegistry, this);
+                snapshot = publishedFullRegistry.readableSnapshot().withoutPendingRemovals();
+                working = null;
+                resolutionContext.copy(publishedFullRegistry.resolutionContext);
                 modified = false;
             } finally {
-                publishedFullRegistry.readLock.unlock();
+                publishedFullRegistry.writeLock.unlock();
             }
         } finally {
             writeLock.unlock();
@@ -766,50 +774,23 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
     }
 
     boolean isModified() {
-        readLock.lock();
-        try {
-            return modified;
-        } finally {
-            readLock.unlock();
-        }
-    }
-
-    private void copy(CapabilityRegistry source, CapabilityRegistry target) {
-        assert target.writeLock.isHeldByCurrentThread();
-        copyCapabilities(source.capabilities, target.capabilities);
-        for (Map.Entry<CapabilityId, CapabilityRegistration<?>> entry : source.possibleCapabilities.entrySet()) {
-            target.possibleCapabilities.put(entry.getKey(), new CapabilityRegistration<>(entry.getValue()));
-        }
-        copyRequirements(source.requirements, target.requirements);
-        copyRequirements(source.runtimeOnlyRequirements, target.runtimeOnlyRequirements);
-        target.reloadCapabilities.addAll(source.reloadCapabilities);
-        target.restartCapabilities.addAll(source.restartCapabilities);
-        if (!forServer) {
-            target.knownContexts.addAll(source.knownContexts);
-        }
-        target.resolutionContext.copy(source.resolutionContext);
+        return modified;
     }
 
     /**
      * Clears capability registry
      */
     void clear() {
-        clear(false);
-    }
-
-    private void clear(boolean restartRequired) {
         writeLock.lock();
         try {
-            capabilities.clear();
-            pendingRemoveCapabilities.clear();
-            possibleCapabilities.clear();
-            requirements.clear();
-            pendingRemoveRequirements.clear();
-            runtimeOnlyRequirements.clear();
-            reloadCapabilities.clear();
-            if (restartRequired) {
-                restartCapabilities.clear();
-            }
+            Snapshot state = writableSnapshot();
+            state.capabilities.clear();
+            state.pendingRemoveCapabilities.clear();
+            state.possibleCapabilities.clear();
+            state.requirements.clear();
+            state.pendingRemoveRequirements.clear();
+            state.runtimeOnlyRequirements.clear();
+            state.reloadCapabilities.clear();
             modified = true;
         } finally {
             writeLock.unlock();
@@ -818,77 +799,73 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
 
 
     CapabilityValidation resolveCapabilities(Resource rootResource, boolean hostXmlOnly) {
-        readLock.lock();
-        try {
-            resolutionContext.setRootResource(rootResource);
-            assert resolutionContext.rootResource != null;
-            Map<CapabilityId, Set<RuntimeRequirementRegistration>> missing = new HashMap<>();
-
-            // Vars for tracking inconsistent contexts
-            boolean isInconsistent = false;
-            Map<CapabilityScope, Set<RuntimeRequirementRegistration>> requiresConsistency = null;
-            Map<CapabilityScope, Set<CapabilityScope>> consistentSets = null;
-
-            for (Map.Entry<CapabilityId, Map<String, RuntimeRequirementRegistration>> entry : requirements.entrySet()) {
-                CapabilityId dependentId = entry.getKey();
-                String dependentName = dependentId.getName();
-                CapabilityScope dependentContext = dependentId.getScope();
-                Set<CapabilityScope> consistentSet = consistentSets == null ? null : consistentSets.get(dependentContext);
-                for (RuntimeRequirementRegistration req : entry.getValue().values()) {
-                    SatisfactoryCapability satisfactory = findSatisfactoryCapability(req.getRequiredName(), dependentContext, !forServer);
-                    if (satisfactory == null) {
-                        // Missing
-                        if (hostXmlOnly && dependentName.startsWith("org.wildfly.domain.server-config.")
-                                && (req.getRequiredName().startsWith("org.wildfly.domain.server-group.")
-                                || req.getRequiredName().startsWith("org.wildfly.domain.socket-binding-group."))) {
-                            // HACK. We can't resolve these now as we have no domain model at this part of boot
-                            // We can resolve them when the domain model ops run, so wait to validate then
-                            ControllerLogger.MGMT_OP_LOGGER.tracef("Ignoring that dependent %s cannot resolve required capability %s as the 'hostXmlOnly' param is set", dependentId, req.getRequiredName());
-                            continue;
-                        }
-                        CapabilityId basicId = new CapabilityId(req.getRequiredName(), dependentContext);
-                        Set<RuntimeRequirementRegistration> set = missing.get(basicId);
-                        if (set == null) {
-                            set = new HashSet<>();
-                            missing.put(basicId, set);
-                        }
-                        set.add(req);
-                    } else if (satisfactory.multipleCapabilities != null) {
-                        // This requirement is one that needs tracking to ensure that all similar ones for this
-                        // dependent context can be resolved against at least one context
-                        if (requiresConsistency == null) {
-                            requiresConsistency = new HashMap<>();
-                            consistentSets = new HashMap<>();
-                        }
+        Snapshot state = readableSnapshot();
+        resolutionContext.setRootResource(rootResource);
+        assert resolutionContext.rootResource != null;
+        Map<CapabilityId, Set<RuntimeRequirementRegistration>> missing = new HashMap<>();
+
+        // Vars for tracking inconsistent contexts
+        boolean isInconsistent = false;
+        Map<CapabilityScope, Set<RuntimeRequirementRegistration>> requiresConsistency = null;
+        Map<CapabilityScope, Set<CapabilityScope>> consistentSets = null;
+
+        for (Map.Entry<CapabilityId, Map<String, RuntimeRequirementRegistration>> entry : state.requirements.entrySet()) {
+            CapabilityId dependentId = entry.getKey();
+            String dependentName = dependentId.getName();
+            CapabilityScope dependentContext = dependentId.getScope();
+            Set<CapabilityScope> consistentSet = consistentSets == null ? null : consistentSets.get(dependentContext);
+            for (RuntimeRequirementRegistration req : entry.getValue().values()) {
+                SatisfactoryCapability satisfactory = findSatisfactoryCapability(state, req.getRequiredName(), dependentContext, !forServer);
+                if (satisfactory == null) {
+                    // Missing
+                    if (hostXmlOnly && dependentName.startsWith("org.wildfly.domain.server-config.")
+                            && (req.getRequiredName().startsWith("org.wildfly.domain.server-group.")
+                            || req.getRequiredName().startsWith("org.wildfly.domain.socket-binding-group."))) {
+                        // HACK. We can't resolve these now as we have no domain model at this part of boot
+                        // We can resolve them when the domain model ops run, so wait to validate then
+                        ControllerLogger.MGMT_OP_LOGGER.tracef("Ignoring that dependent %s cannot resolve required capability %s as the 'hostXmlOnly' param is set", dependentId, req.getRequiredName());
+                        continue;
+                    }
+                    CapabilityId basicId = new CapabilityId(req.getRequiredName(), dependentContext);
+                    Set<RuntimeRequirementRegistration> set = missing.get(basicId);
+                    if (set == null) {
+                        set = new HashSet<>();
+                        missing.put(basicId, set);
+                    }
+                    set.add(req);
+                } else if (satisfactory.multipleCapabilities != null) {
+                    // This requirement is one that needs tracking to ensure that all similar ones for this
+                    // dependent context can be resolved against at least one context
+                    if (requiresConsistency == null) {
+                        requiresConsistency = new HashMap<>();
+                        consistentSets = new HashMap<>();
+                    }
 
-                        CapabilityScope reqDependent = req.getDependentContext();
-                        recordConsistentSets(requiresConsistency, consistentSets, reqDependent, consistentSet, req, satisfactory, reqDependent);
-                        isInconsistent = isInconsistent || (consistentSet != null && consistentSet.isEmpty());
+                    CapabilityScope reqDependent = req.getDependentContext();
+                    recordConsistentSets(requiresConsistency, consistentSets, reqDependent, consistentSet, req, satisfactory, reqDependent);
+                    isInconsistent = isInconsistent || (consistentSet != null && consistentSet.isEmpty());
 
-                        // Record for any contexts that include this one
-                        for (CapabilityScope including : dependentContext.getIncludingScopes(resolutionContext)) {
-                            consistentSet = consistentSets.get(including);
-                            recordConsistentSets(requiresConsistency, consistentSets, including, consistentSet, req, satisfactory, reqDependent);
-                            isInconsistent = isInconsistent || (consistentSet != null && consistentSet.isEmpty());
-                        }
-                    } // else simple capability match
-                }
+                    // Record for any contexts that include this one
+                    for (CapabilityScope including : dependentContext.getIncludingScopes(resolutionContext)) {
+                        consistentSet = consistentSets.get(including);
+                        recordConsistentSets(requiresConsistency, consistentSets, including, consistentSet, req, satisfactory, reqDependent);
+                        isInconsistent = isInconsistent || (consistentSet != null && consistentSet.isEmpty());
+                    }
+                } // else simple capability match
             }
+        }
 
-            // We've finished resolution
-            resolutionContext.resolutionComplete = true;
-
-            if (isInconsistent) {
-                // This is the exception case. Figure out the details of the problems
-                return new CapabilityValidation(missing, findInconsistent(requiresConsistency, consistentSets), resolutionContext);
-            } else if (!missing.isEmpty()) {
-                return new CapabilityValidation(missing, null, resolutionContext);
-            }
+        // We've finished resolution
+        resolutionContext.resolutionComplete = true;
 
-            return CapabilityValidation.OK;
-        } finally {
-            readLock.unlock();
+        if (isInconsistent) {
+            // This is the exception case. Figure out the details of the problems
+            return new CapabilityValidation(missing, findInconsistent(requiresConsistency, consistentSets), resolutionContext);
+        } else if (!missing.isEmpty()) {
+            return new CapabilityValidation(missing, null, resolutionContext);
         }
+
+        return CapabilityValidation.OK;
     }
 
     private void recordConsistentSets(Map<CapabilityScope, Set<RuntimeRequirementRegistration>> requiresConsistency, Map<CapabilityScope, Set<CapabilityScope>> consistentSets, CapabilityScope dependentContext, Set<CapabilityScope> consistentSet, RuntimeRequirementRegistration req, SatisfactoryCapability satisfactory, CapabilityScope reqDependent) {
@@ -921,50 +898,78 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         return result;
     }
 
-    private RuntimeCapabilityRegistration getCapabilityRegistration(String capabilityName, CapabilityScope capabilityScope) {
-        SatisfactoryCapability satisfactoryCapability = findSatisfactoryCapability(capabilityName, capabilityScope, false);
+    /**
+     * Gets the addresses of the resources providing the capabilities required by each resource. Requirements of
+     * capabilities that are not registered are ignored.
+     *
+     * @return the addresses of the resources providing required capabilities, keyed by the address of the requiring resource
+     */
+    Map<PathAddress, Set<PathAddress>> getRequiredCapabilityProviders() {
+        Snapshot state = readableSnapshot();
+        Map<PathAddress, Set<PathAddress>> result = new HashMap<>();
+        for (Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> requirements : List.of(state.requirements, state.runtimeOnlyRequirements)) {
+            for (Map<String, RuntimeRequirementRegistration> dependentRequirements : requirements.values()) {
+                for (RuntimeRequirementRegistration requirement : dependentRequirements.values()) {
+                    SatisfactoryCapability satisfactory = findSatisfactoryCapability(state, requirement.getRequiredName(), requirement.getDependentContext(), false);
+                    RuntimeCapabilityRegistration required = (satisfactory != null) ? state.capabilities.get(satisfactory.singleCapability) : null;
+                    if (required != null) {
+                        for (RegistrationPoint dependent : requirement.getRegistrationPoints()) {
+                            Set<PathAddress> providers = result.computeIfAbsent(dependent.getAddress(), key -> new HashSet<>());
+                            for (RegistrationPoint provider : required.getRegistrationPoints()) {
+                                providers.add(provider.getAddress());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private RuntimeCapabilityRegistration getCapabilityRegistration(Snapshot state, String capabilityName, CapabilityScope capabilityScope) {
+        SatisfactoryCapability satisfactoryCapability = findSatisfactoryCapability(state, capabilityName, capabilityScope, false);
         if (satisfactoryCapability == null) {
             if (forServer) {
                 throw ControllerLogger.MGMT_OP_LOGGER.unknownCapability(capabilityName);
             }
-            if (getRegistrationPoints(capabilityName).isEmpty()) {
+            if (getRegistrationPoints(state, capabilityName).isEmpty()) {
                 throw ControllerLogger.MGMT_OP_LOGGER.unknownCapability(capabilityName);
             } else {
-                throw ControllerLogger.MGMT_OP_LOGGER.noSatisfactoryCapability(capabilityName, capabilityScope.getName(), getRegistrationPoints(capabilityName), capabilityScope.getName());
+                throw ControllerLogger.MGMT_OP_LOGGER.noSatisfactoryCapability(capabilityName, capabilityScope.getName(), getRegistrationPoints(state, capabilityName), capabilityScope.getName());
             }
         }
-        return capabilities.get(satisfactoryCapability.singleCapability);
+        return state.capabilities.get(satisfactoryCapability.singleCapability);
     }
 
-    private Set<RegistrationPoint> getRegistrationPoints(String capabilityName) {
+    private static Set<RegistrationPoint> getRegistrationPoints(Snapshot state, String capabilityName) {
         Set<RegistrationPoint> registrationPoints = new HashSet<>();
-        for (CapabilityId key: capabilities.keySet()) {
+        for (CapabilityId key: state.capabilities.keySet()) {
             if (key.getName().equals(capabilityName)) {
-                registrationPoints = capabilities.get(key).getRegistrationPoints();
+                registrationPoints = state.capabilities.get(key).getRegistrationPoints();
             }
         }
         return registrationPoints;
     }
 
-    private SatisfactoryCapability findSatisfactoryCapability(String capabilityName, CapabilityScope dependentContext,
+    private SatisfactoryCapability findSatisfactoryCapability(Snapshot state, String capabilityName, CapabilityScope dependentContext,
                                                               boolean requireConsistency) {
 
         // Check for a simple match
         CapabilityId requestedId = new CapabilityId(capabilityName, dependentContext);
-        if (capabilities.containsKey(requestedId)) {
+        if (state.capabilities.containsKey(requestedId)) {
             return new SatisfactoryCapability(requestedId);
         }
 
         if (!forServer) {
             // Try other contexts that satisfy the requested one
             Set<CapabilityScope> multiple = null;
-            for (CapabilityScope satisfies : knownContexts) {
+            for (CapabilityScope satisfies : state.knownContexts) {
                 if (satisfies.equals(dependentContext)) {
                     // We already know this one doesn't exist
                     continue;
                 }
                 CapabilityId satisfiesId = new CapabilityId(capabilityName, satisfies);
-                if (capabilities.containsKey(satisfiesId) && satisfies.canSatisfyRequirement(capabilityName, dependentContext, resolutionContext)) {
+                if (state.capabilities.containsKey(satisfiesId) && satisfies.canSatisfyRequirement(capabilityName, dependentContext, resolutionContext)) {
                     if (!requireConsistency || !satisfies.requiresConsistencyCheck()) {
                         return new SatisfactoryCapability(satisfiesId);
                     } else {
@@ -997,16 +1002,17 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         //For possible capabilities it is always global.
         CapabilityId id = new CapabilityId(referencedCapability,
                 CapabilityScope.GLOBAL);
-        Set<PathAddress> possibleProviders = new HashSet<>(getPossibleProviderPoints(id));
+        Snapshot state = readableSnapshot();
+        Set<PathAddress> possibleProviders = new HashSet<>(getPossibleProviderPoints(state, id));
         // Any dynamic capability registered to the root address matches (e.g. hardcoded path capabilities)
         possibleProviders.add(PathAddress.EMPTY_ADDRESS);
 
         Set<String> capabilityNames = new HashSet<>();
-        for (CapabilityRegistration<?> registration : getCapabilities()) {
+        for (CapabilityRegistration<?> registration : state.capabilities.values()) {
             // Capability with matching name and that can be reached from the provided scope
             if (!registration.getCapabilityName().equals(referencedCapability)
                     && registration.getCapabilityName().startsWith(referencedCapability)
-                    && hasCapability(registration.getCapabilityName(), dependentScope)) {
+                    && findSatisfactoryCapability(state, registration.getCapabilityName(), dependentScope, !forServer) != null) {
                 // Keep only capabilities that match at least one of the registration point
                 for (RegistrationPoint regPoint : registration.getRegistrationPoints()) {
                     boolean found = false;
@@ -1034,6 +1040,73 @@ public final class CapabilityRegistry implements ImmutableCapabilityRegistry, Po
         return capabilityNames;
     }
 
+    /**
+     * The content of the registry. A snapshot is modified only while it is the working copy of its registry, so once it
+     * has been read it is never modified again. As snapshots share registrations and requirement maps with the snapshot
+     * they were copied from, these are replaced rather than modified in place.
+     */
+    private static final class Snapshot {
+        private final Map<CapabilityId, RuntimeCapabilityRegistration> capabilities;
+        private final Map<CapabilityId, RuntimeCapabilityRegistration> pendingRemoveCapabilities;
+        private final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> requirements;
+        private final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> pendingRemoveRequirements;
+        private final Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> runtimeOnlyRequirements;
+        private final Set<CapabilityScope> knownContexts;
+        private final Map<CapabilityId, CapabilityRegistration<?>> possibleCapabilities;
+        private final Set<CapabilityId> reloadCapabilities;
+        private final Set<CapabilityId> restartCapabilities;
+
+        Snapshot(boolean forServer) {
+            this.capabilities = new HashMap<>();
+            this.pendingRemoveCapabilities = new HashMap<>();
+            this.requirements = new HashMap<>();
+            this.pendingRemoveRequirements = new HashMap<>();
+            this.runtimeOnlyRequirements = new HashMap<>();
+            this.knownContexts = forServer ? null : new HashSet<>();
+            this.possibleCapabilities = new HashMap<>();
+            this.reloadCapabilities = new HashSet<>();
+            this.restartCapabilities = new HashSet<>();
+        }
+
+        Snapshot(Snapshot source) {
+            this.capabilities = new HashMap<>(source.capabilities);
+            this.pendingRemoveCapabilities = new HashMap<>(source.pendingRemoveCapabilities);
+            this.requirements = new HashMap<>(source.requirements);
+            this.pendingRemoveRequirements = new HashMap<>(source.pendingRemoveRequirements);
+            this.runtimeOnlyRequirements = new HashMap<>(source.runtimeOnlyRequirements);
+            this.knownContexts = (source.knownContexts != null) ? new HashSet<>(source.knownContexts) : null;
+            this.possibleCapabilities = new HashMap<>(source.possibleCapabilities);
+            this.reloadCapabilities = new HashSet<>(source.reloadCapabilities);
+            this.restartCapabilities = new HashSet<>(source.restartCapabilities);
+        }
+
+        private Snapshot(Snapshot source, Map<CapabilityId, RuntimeCapabilityRegistration> pendingRemoveCapabilities,
+                         Map<CapabilityId, Map<String, RuntimeRequirementRegistration>> pendingRemoveRequirements) {
+            this.capabilities = source.capabilities;
+            this.pendingRemoveCapabilities = pendingRemoveCapabilities;
+            this.requirements = source.requirements;
+            this.pendingRemoveRequirements = pendingRemoveRequirements;
+            this.runtimeOnlyRequirements = source.runtimeOnlyRequirements;
+            this.knownContexts = source.knownContexts;
+            this.possibleCapabilities = source.possibleCapabilities;
+            this.reloadCapabilities = source.reloadCapabilities;
+            this.restartCapabilities = source.restartCapabilities;
+        }
+
+        /**
+         * Returns a snapshot sharing the content of this snapshot, except for its pending removals. As the content is
+         * shared, this must only be called for a snapshot that is no longer modified.
+         *
+         * @return a snapshot without pending removals
+         */
+        Snapshot withoutPendingRemovals() {
+            if (pendingRemoveCapabilities.isEmpty() && pendingRemoveRequirements.isEmpty()) {
+                return this;
+            }
+            return new Snapshot(this, new HashMap<>(), new HashMap<>());
+        }
+    }
+
     private static class ResolutionContextImpl extends CapabilityResolutionContext {
         private boolean resolutionComplete;
         private Resource rootResource;
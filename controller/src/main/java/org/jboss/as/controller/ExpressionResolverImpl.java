@@ -4,12 +4,18 @@
  */
 package org.jboss.as.controller;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
-import org.jboss.dmr.Property;
 import org.jboss.dmr.ValueExpression;
 
 /**
@@ -23,6 +29,14 @@ public class ExpressionResolverImpl implements ExpressionResolver {
     private static final int GOT_DOLLAR = 1;
     private static final int GOT_OPEN_BRACE = 2;
 
+    // Bounds the number of distinct expression strings whose parsed form is retained
+    static final int MAX_COMPILED_EXPRESSIONS = 4096;
+    // Once full, the expression strings not resolved since the previous eviction are evicted in bulk
+    private static final Map<String, CompiledExpression> COMPILED_EXPRESSIONS = new ConcurrentHashMap<>();
+    private static final AtomicBoolean EVICTING = new AtomicBoolean();
+    private static final LongAdder COMPILED_EXPRESSION_HITS = new LongAdder();
+    private static final LongAdder COMPILED_EXPRESSION_MISSES = new LongAdder();
+
     private final boolean lenient;
 
     /**
@@ -51,15 +65,42 @@ public class ExpressionResolverImpl implements ExpressionResolver {
 
     @Override
     public ModelNode resolveExpressions(ModelNode node, OperationContext context) throws OperationFailedException {
-        return resolveExpressionsRecursively(node, context);
+        ModelNode resolved = resolveExpressionsRecursively(node, context);
+        if (resolved == node) {
+            // Nothing was resolved, but callers are entitled to a copy of any complex node
+            ModelType type = node.getType();
+            if (type == ModelType.OBJECT || type == ModelType.LIST || type == ModelType.PROPERTY) {
+                return node.clone();
+            }
+        }
+        return resolved;
+    }
+
+    /**
+     * Gets the number of expression strings whose parsed form was found in the shared cache.
+     *
+     * @return the number of cache hits
+     */
+    public static long getExpressionCacheHitCount() {
+        return COMPILED_EXPRESSION_HITS.sum();
+    }
+
+    /**
+     * Gets the number of expression strings that had to be parsed because they were not in the shared cache.
+     *
+     * @return the number of cache misses
+     */
+    public static long getExpressionCacheMissCount() {
+        return COMPILED_EXPRESSION_MISSES.sum();
     }
 
     /**
      * Examine the given model node, resolving any expressions found within, including within child nodes.
+     * Nodes that contain no expressions are returned as is, rather than copied.
      *
      * @param node the node
      * @param context the {@link OperationContext}
-     * @return a node with all expressions resolved
+     * @return a node with all expressions resolved, or {@code node} itself if it contained no expressions
      * @throws OperationFailedException if an expression cannot be resolved
      */
     private ModelNode resolveExpressionsRecursively(final ModelNode node, final OperationContext context) throws OperationFailedException {
@@ -72,21 +113,51 @@ public class ExpressionResolverImpl implements ExpressionResolver {
         if (type == ModelType.EXPRESSION) {
             resolved = resolveExpressionStringRecursively(node.asExpression().getExpressionString(), lenient, true, context);
         } else if (type == ModelType.OBJECT) {
-            resolved = node.clone();
-            for (Property prop : resolved.asPropertyList()) {
-                resolved.get(prop.getName()).set(resolveExpressionsRecursively(prop.getValue(), context));
+            resolved = null;
+            for (String key : node.keys()) {
+                ModelNode value = node.get(key);
+                ModelNode resolvedValue = resolveExpressionsRecursively(value, context);
+                if (resolved == null && resolvedValue != value) {
+                    // First expression found; copy the preceding values, none of which contained one
+                    resolved = new ModelNode().setEmptyObject();
+                    for (String previous : node.keys()) {
+                        if (previous.equals(key)) {
+                            break;
+                        }
+                        resolved.get(previous).set(node.get(previous));
+                    }
+                }
+                if (resolved != null) {
+                    resolved.get(key).set(resolvedValue);
+                }
+            }
+            if (resolved == null) {
+                resolved = node;
             }
         } else if (type == ModelType.LIST) {
-            resolved = node.clone();
-            ModelNode list = new ModelNode();
-            list.setEmptyList();
-            for (ModelNode current : resolved.asList()) {
-                list.add(resolveExpressionsRecursively(current, context));
+            List<ModelNode> values = node.asList();
+            resolved = null;
+            for (int i = 0; i < values.size(); i++) {
+                ModelNode value = values.get(i);
+                ModelNode resolvedValue = resolveExpressionsRecursively(value, context);
+                if (resolved == null && resolvedValue != value) {
+                    // First expression found; copy the preceding elements, none of which contained one
+                    resolved = new ModelNode().setEmptyList();
+                    for (int j = 0; j < i; j++) {
+                        resolved.add(values.get(j));
+                    }
+                }
+                if (resolved != null) {
+                    resolved.add(resolvedValue);
+                }
+            }
+            if (resolved == null) {
+                resolved = node;
             }
-            resolved = list;
         } else if (type == ModelType.PROPERTY) {
-            resolved = node.clone();
-            resolved.set(resolved.asProperty().getName(), resolveExpressionsRecursively(resolved.asProperty().getValue(), context));
+            ModelNode value = node.asProperty().getValue();
+            ModelNode resolvedValue = resolveExpressionsRecursively(value, context);
+            resolved = resolvedValue == value ? node : new ModelNode().set(node.asProperty().getName(), resolvedValue);
         } else {
             resolved = node;
         }
@@ -130,7 +201,9 @@ public class ExpressionResolverImpl implements ExpressionResolver {
      */
     private ModelNode resolveExpressionStringRecursively(final String expressionString, final boolean ignoreDMRResolutionFailure,
                                                          final boolean initial, final OperationContext context) throws OperationFailedException {
-        ParseAndResolveResult resolved = parseAndResolve(expressionString, ignoreDMRResolutionFailure, context);
+        // Only the original expression strings are worth caching, not the intermediate results of resolving them
+        ParseAndResolveResult resolved = initial ? resolveCompiled(expressionString, ignoreDMRResolutionFailure, context)
+                : parseAndResolve(expressionString, ignoreDMRResolutionFailure, context);
         if (resolved.recursive) {
             // Some part of expressionString resolved into a different expression.
             // So, start over, ignoring failures. Ignore failures because we don't require
@@ -155,6 +228,87 @@ public class ExpressionResolverImpl implements ExpressionResolver {
         }
     }
 
+    /**
+     * Resolves the given string using its cached {@link CompiledExpression parsed form}, producing the same result as
+     * {@link #parseAndResolve(String, boolean, OperationContext)}. Strings that cannot be represented by a
+     * {@code CompiledExpression} are handed to {@code parseAndResolve}.
+     */
+    private ParseAndResolveResult resolveCompiled(final String initialValue, boolean lenient, OperationContext context) throws OperationFailedException {
+        CompiledExpression compiled = getCompiledExpression(initialValue);
+        if (compiled == null) {
+            return parseAndResolve(initialValue, lenient, context);
+        }
+        if (compiled.expressions.length == 0) {
+            return new ParseAndResolveResult(initialValue, false, false);
+        }
+        final StringBuilder builder = new StringBuilder(compiled.literals[0]);
+        for (int i = 0; i < compiled.expressions.length; i++) {
+            String toResolve = compiled.expressions[i];
+            String resolved = resolveExpressionString(toResolve, context);
+            // We only successfully resolved if toResolve != resolved
+            if (toResolve.equals(resolved)) {
+                if (lenient) {
+                    // just respond with the initial value
+                    return new ParseAndResolveResult(initialValue, false, false);
+                }
+                throw ControllerLogger.ROOT_LOGGER.cannotResolveExpression(initialValue);
+            }
+            if (EXPRESSION_PATTERN.matcher(resolved).matches()) {
+                // The resolved value is itself an expression, so there will need to be another pass
+                // over the original string with just this expression replaced
+                int start = compiled.startIndexes[i];
+                String result = initialValue.substring(0, start) + resolved + initialValue.substring(start + toResolve.length());
+                return new ParseAndResolveResult(result, true, true);
+            }
+            builder.append(resolved).append(compiled.literals[i + 1]);
+        }
+        return new ParseAndResolveResult(builder.toString(), true, false);
+    }
+
+    private static CompiledExpression getCompiledExpression(String value) {
+        CompiledExpression compiled = COMPILED_EXPRESSIONS.get(value);
+        if (compiled != null) {
+            COMPILED_EXPRESSION_HITS.increment();
+            if (!compiled.used) {
+                compiled.used = true;
+            }
+        } else {
+            COMPILED_EXPRESSION_MISSES.increment();
+            compiled = CompiledExpression.compile(value);
+            COMPILED_EXPRESSIONS.put(value, compiled);
+            if (COMPILED_EXPRESSIONS.size() > MAX_COMPILED_EXPRESSIONS) {
+                evictCompiledExpressions();
+            }
+        }
+        return compiled.isComplex() ? null : compiled;
+    }
+
+    /**
+     * Evicts the expression strings that were not resolved since the previous eviction, or all of them if every one
+     * was. Rather than tracking the order in which expression strings are resolved, which would serialize resolutions
+     * across the process, eviction is coarse: concurrent resolutions only set a flag, and a single thread evicts at once.
+     */
+    private static void evictCompiledExpressions() {
+        if (EVICTING.compareAndSet(false, true)) {
+            try {
+                Iterator<CompiledExpression> values = COMPILED_EXPRESSIONS.values().iterator();
+                while (values.hasNext()) {
+                    CompiledExpression compiled = values.next();
+                    if (compiled.used) {
+                        compiled.used = false;
+                    } else {
+                        values.remove();
+                    }
+                }
+                if (COMPILED_EXPRESSIONS.size() > MAX_COMPILED_EXPRESSIONS) {
+                    COMPILED_EXPRESSIONS.clear();
+                }
+            } finally {
+                EVICTING.set(false);
+            }
+        }
+    }
+
     private ParseAndResolveResult parseAndResolve(final String initialValue, boolean lenient, OperationContext context) throws OperationFailedException {
 
 
@@ -469,4 +623,82 @@ public class ExpressionResolverImpl implements ExpressionResolver {
         }
     }
 
+    /**
+     * The parsed form of a string consisting of literal text and non-nested {@code ${...}} expressions.
+     * Only the structure of the string is retained, never the values its expressions resolve to, so a cached
+     * instance remains valid regardless of changes to system properties, credential stores or other sources
+     * of expression values.
+     */
+    private static final class CompiledExpression {
+
+        private static final String[] NO_STRINGS = new String[0];
+        private static final int[] NO_INDEXES = new int[0];
+
+        /** The literal text surrounding the expressions; always one element longer than {@link #expressions} */
+        private final String[] literals;
+        private final String[] expressions;
+        private final int[] startIndexes;
+        /** Whether the string was resolved since the previous eviction; races between resolutions are benign */
+        private boolean used;
+
+        private CompiledExpression(String[] literals, String[] expressions, int[] startIndexes) {
+            this.literals = literals;
+            this.expressions = expressions;
+            this.startIndexes = startIndexes;
+        }
+
+        /**
+         * Creates the marker of a string using nested expressions or {@code $} escapes, which require a full parse on
+         * each resolution.
+         */
+        private static CompiledExpression complex() {
+            return new CompiledExpression(NO_STRINGS, NO_STRINGS, NO_INDEXES);
+        }
+
+        private boolean isComplex() {
+            return this.literals.length == 0;
+        }
+
+        private static CompiledExpression compile(String value) {
+            List<String> literals = new ArrayList<>();
+            List<String> expressions = new ArrayList<>();
+            List<Integer> startIndexes = new ArrayList<>();
+            final int len = value.length();
+            int literalStart = 0;
+            int i = 0;
+            while (i < len) {
+                if (value.charAt(i) != '$') {
+                    i++;
+                    continue;
+                }
+                if (i + 1 == len || value.charAt(i + 1) != '{') {
+                    // An escape or a '$' that does not start an expression
+                    return complex();
+                }
+                int end = i + 2;
+                while (end < len && value.charAt(end) != '}') {
+                    char ch = value.charAt(end);
+                    if (ch == '$' || ch == '{') {
+                        // Nested expression or braces
+                        return complex();
+                    }
+                    end++;
+                }
+                if (end == len) {
+                    // Incomplete expression; let the full parse report it
+                    return complex();
+                }
+                literals.add(value.substring(literalStart, i));
+                expressions.add(value.substring(i, end + 1));
+                startIndexes.add(i);
+                i = literalStart = end + 1;
+            }
+            literals.add(value.substring(literalStart));
+            int[] starts = new int[startIndexes.size()];
+            for (int j = 0; j < starts.length; j++) {
+                starts[j] = startIndexes.get(j);
+            }
+            return new CompiledExpression(literals.toArray(new String[0]), expressions.toArray(new String[0]), starts);
+        }
+    }
 }
@@ -55,6 +55,38 @@ public interface ModelController {
      */
     OperationResponse execute(Operation operation, OperationMessageHandler handler, OperationTransactionControl control);
 
+    /**
+     * Gets the generation of the persistent configuration of the resource at the given address and of all its
+     * descendants. The generation changes whenever any such resource is added, removed or modified, so callers can
+     * detect whether the configuration they read previously is still current without reading it again.
+     * Generations of different controller instances are not comparable.
+     *
+     * @param address the address of the resource
+     * @return the generation, or {@code -1} if no generation is tracked for the resource, e.g. as it is a runtime-only
+     *         or a remote resource
+     *
+     * @throws SecurityException if the caller does not have {@link #ACCESS_PERMISSION}
+     */
+    default long getModelGeneration(PathAddress address) {
+        return -1;
+    }
+
+    /**
+     * Gets whether reading the resource at the given address and its descendants, excluding runtime attributes and
+     * runtime-only resources, only reports state held in the persistent configuration. Only then does the
+     * {@link #getModelGeneration(PathAddress) generation} of the resource determine what such a read reports.
+     * Resources with runtime-only or remote children, or with configuration attributes computed by a custom read
+     * handler, are not model backed.
+     *
+     * @param address the address of the resource
+     * @return {@code true} if the resource and its descendants are model backed, {@code false} otherwise
+     *
+     * @throws SecurityException if the caller does not have {@link #ACCESS_PERMISSION}
+     */
+    default boolean isModelBacked(PathAddress address) {
+        return false;
+    }
+
     /**
      * A callback interface for the operation's completion status.  Implemented in order to control whether a complete
      * operation is committed or rolled back after it is prepared.
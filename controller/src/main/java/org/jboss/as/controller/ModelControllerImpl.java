@@ -44,17 +44,18 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 import org.jboss.as.controller.OperationContext.RollbackHandler;
 import org.jboss.as.controller.access.Authorizer;
 import org.jboss.as.controller.audit.AuditLogger;
 import org.jboss.as.controller.audit.ManagedAuditLogger;
-import org.jboss.as.controller.capability.registry.RuntimeCapabilityRegistry;
 import org.jboss.as.controller.client.ModelControllerClient;
 import org.jboss.as.controller.client.Operation;
 import org.jboss.as.controller.client.OperationAttachments;
@@ -69,11 +70,13 @@ import org.jboss.as.controller.operations.global.ReadResourceHandler;
 import org.jboss.as.controller.persistence.ConfigurationExtension;
 import org.jboss.as.controller.persistence.ConfigurationPersistenceException;
 import org.jboss.as.controller.persistence.ConfigurationPersister;
+import org.jboss.as.controller.registry.AttributeAccess;
 import org.jboss.as.controller.registry.DelegatingResource;
 import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.registry.NotificationHandlerRegistration;
 import org.jboss.as.controller.registry.OperationEntry;
+import org.jboss.as.controller.registry.PathCopyingResourceTree;
 import org.jboss.as.controller.registry.PlaceholderResource;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.controller.registry.Resource.ResourceEntry;
@@ -122,6 +125,11 @@ class ModelControllerImpl implements ModelController {
 
     private final ConcurrentMap<Integer, OperationContextImpl> activeOperations = new ConcurrentHashMap<>();
     private final Random random = new Random();
+    private final LongAdder fastPathOperationCount = new LongAdder();
+    private final LongAdder fullPathOperationCount = new LongAdder();
+    private volatile ModelNode bootTimingReport;
+    private final BootProfiler bootProfiler;
+    private final ModelGenerations modelGenerations = new ModelGenerations();
     private final ManagedAuditLogger auditLogger;
     private final BootErrorCollector bootErrorCollector;
 
@@ -149,8 +157,10 @@ class ModelControllerImpl implements ModelController {
                         final BootErrorCollector bootErrorCollector, final OperationStepHandler extraValidationStepHandler,
                         final CapabilityRegistry capabilityRegistry,
                         final AbstractControllerService.PartialModelIndicator partialModelIndicator,
-                        final AbstractControllerService.ControllerInstabilityListener instabilityListener) {
+                        final AbstractControllerService.ControllerInstabilityListener instabilityListener,
+                        final BootProfiler bootProfiler) {
         this.partialModelIndicator = partialModelIndicator;
+        this.bootProfiler = bootProfiler;
         this.instabilityListener = instabilityListener;
         assert serviceRegistry != null;
         this.serviceRegistry = serviceRegistry;
@@ -407,15 +417,26 @@ class ModelControllerImpl implements ModelController {
             return handleExternalRequestDuringBoot();
         }
 
+        // Pure reads execute against the model published when they started, without ever attempting the controller lock
+        final ManagementModelImpl publishedModel = managementModel.get();
+        final PathAddress fastPathAddress = attemptLock || forBoot ? null : getReadOnlyFastPathAddress(operation, attachments, publishedModel);
+        final boolean readOnlyFastPath = fastPathAddress != null;
+        if (readOnlyFastPath) {
+            fastPathOperationCount.increment();
+        } else {
+            fullPathOperationCount.increment();
+        }
+
         for (;;) {
             responseStreams = null;
-            // Create a random operation-id
-            final Integer operationID = random.nextInt();
+            // Create a random operation-id, without contending on our shared Random for the high volume of fast path reads
+            final Integer operationID = readOnlyFastPath ? ThreadLocalRandom.current().nextInt() : random.nextInt();
+            // Fast path reads modify no resources, so they skip model validation
             final OperationContextImpl context = new OperationContextImpl(operationID, operation.get(OP).asString(),
                     operation.get(OP_ADDR), this, processType, this.stability, runningModeControl.getRunningMode(),
-                    headers, handler, attachments, managementModel.get(), originalResultTxControl, processState, auditLogger,
-                    bootingFlag.get(), forBoot, hostServerGroupTracker, accessContext, notificationSupport,
-                    false, extraValidationStepHandler, partialModel, securityIdentitySupplier);
+                    headers, handler, attachments, readOnlyFastPath ? publishedModel : managementModel.get(), originalResultTxControl,
+                    processState, auditLogger, bootingFlag.get(), forBoot, hostServerGroupTracker, accessContext, notificationSupport,
+                    readOnlyFastPath, extraValidationStepHandler, partialModel, securityIdentitySupplier);
             // Try again if the operation-id is already taken
             if(activeOperations.putIfAbsent(operationID, context) == null) {
                 //noinspection deprecation
@@ -431,7 +452,7 @@ class ModelControllerImpl implements ModelController {
                         shouldUnlock = true;
                     }
 
-                    context.addStep(responseNode, operation, prepareStep, OperationContext.Stage.MODEL);
+                    context.addStep(responseNode, operation, fastPathAddress, prepareStep, OperationContext.Stage.MODEL);
                     ControllerLogger.MGMT_OP_LOGGER.tracef("Executing %s", operation);
                     context.executeOperation();
                     responseStreams = context.getResponseStreams();
@@ -495,6 +516,7 @@ class ModelControllerImpl implements ModelController {
                 this, processType, this.stability, runningModeControl.getRunningMode(),
                 headers, handler, null, managementModel.get(), control, processState, auditLogger, bootingFlag.get(), true,
                 hostServerGroupTracker, null, notificationSupport, true, extraValidationStepHandler, true, securityIdentitySupplier);
+        context.attach(BootProfiler.ATTACHMENT_KEY, bootProfiler);
 
         // Add to the context all ops prior to the first ExtensionAddHandler as well as all ExtensionAddHandlers; save the rest.
         // This gets extensions registered before proceeding to other ops that count on these registrations
@@ -518,6 +540,7 @@ class ModelControllerImpl implements ModelController {
                     headers, handler, null, managementModel.get(), control, processState, auditLogger,
                             bootingFlag.get(), true, hostServerGroupTracker, null, notificationSupport, true,
                             extraValidationStepHandler, partialModel, securityIdentitySupplier);
+            postExtContext.attach(BootProfiler.ATTACHMENT_KEY, bootProfiler);
             if (configExtension != null && configExtension.shouldProcessOperations(runningModeControl)) {
                 configExtension.processOperations(managementModel.get().getRootResourceRegistration(), bootOperations.postExtensionOps);
             }
@@ -726,6 +749,49 @@ class ModelControllerImpl implements ModelController {
         return managementModel.get();
     }
 
+    @Override
+    public long getModelGeneration(PathAddress address) {
+        SecurityManager sm = System.getSecurityManager();
+        if (sm != null) {
+            sm.checkPermission(ModelController.ACCESS_PERMISSION);
+        }
+        ImmutableManagementResourceRegistration registration = managementModel.get().getRootResourceRegistration().getSubModel(address);
+        if (registration != null && (registration.isRemote() || registration.isRuntimeOnly())) {
+            return -1;
+        }
+        return modelGenerations.getGeneration(address);
+    }
+
+    @Override
+    public boolean isModelBacked(PathAddress address) {
+        SecurityManager sm = System.getSecurityManager();
+        if (sm != null) {
+            sm.checkPermission(ModelController.ACCESS_PERMISSION);
+        }
+        ImmutableManagementResourceRegistration registration = managementModel.get().getRootResourceRegistration().getSubModel(address);
+        return registration != null && isModelBacked(registration);
+    }
+
+    private static boolean isModelBacked(ImmutableManagementResourceRegistration registration) {
+        if (registration.isRemote() || registration.isRuntimeOnly() || registration.isAlias()) {
+            return false;
+        }
+        for (String attributeName : registration.getAttributeNames(PathAddress.EMPTY_ADDRESS)) {
+            AttributeAccess access = registration.getAttributeAccess(PathAddress.EMPTY_ADDRESS, attributeName);
+            if (access.getStorageType() == AttributeAccess.Storage.CONFIGURATION && access.getReadHandler() != null) {
+                return false;
+            }
+        }
+        for (PathElement element : registration.getChildAddresses(PathAddress.EMPTY_ADDRESS)) {
+            ImmutableManagementResourceRegistration child = registration.getSubModel(PathAddress.pathAddress(element));
+            // Runtime-only children can come and go without a change to the configuration, and still be listed
+            if (child != null && !isModelBacked(child)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     Resource.ResourceEntry getModelControllerResource() {
         return modelControllerResource;
     }
@@ -774,6 +840,12 @@ class ModelControllerImpl implements ModelController {
                         delegate.commit();
                     }
                 }
+                // Only after publishing, so that no reader can associate a new generation with the previous model.
+                // Changes to the resource registrations may affect the description of any resource.
+                if (resourceTreeModified || resourceRegistrationModified) {
+                    modelGenerations.published(resourceTreeModified ? affectedAddresses : Set.of(),
+                            resourceRegistrationModified || bootingFlag.get());
+                }
             }
 
             @Override
@@ -936,6 +1008,14 @@ class ModelControllerImpl implements ModelController {
         return auditLogger;
     }
 
+    void setBootTimingReport(ModelNode report) {
+        this.bootTimingReport = report;
+    }
+
+    BootProfiler getBootProfiler() {
+        return bootProfiler;
+    }
+
     static MutableRootResourceRegistrationProvider getMutableRootResourceRegistrationProvider() {
         return MutableRootResourceRegistrationProviderImpl.INSTANCE;
     }
@@ -1034,6 +1114,37 @@ class ModelControllerImpl implements ModelController {
         return result;
     }
 
+    /**
+     * Determines whether the given operation can be executed via the read-only fast path, i.e. whether it is a single,
+     * non-composite operation registered as {@link OperationEntry.Flag#READ_ONLY read-only} that is executed by a server
+     * after boot. Such operations never modify the model, so they can be executed against the model published when they
+     * started.
+     *
+     * @param operation the operation
+     * @param attachments the operation attachments, or {@code null}
+     * @param model the published model
+     * @return the address of the operation if it qualifies for the fast path, so it is not parsed again, or {@code null}
+     *         otherwise
+     */
+    private PathAddress getReadOnlyFastPathAddress(final ModelNode operation, final OperationAttachments attachments, final ManagementModelImpl model) {
+        if (!processType.isServer() || bootingFlag.get() || operation.hasDefined(STEPS)
+                || (attachments != null && !attachments.getInputStreams().isEmpty())) {
+            return null;
+        }
+        final PathAddress address;
+        try {
+            address = PathAddress.pathAddress(operation.get(OP_ADDR));
+        } catch (RuntimeException e) {
+            // Let the full path report the problem
+            return null;
+        }
+        if (address.isMultiTarget()) {
+            return null;
+        }
+        final OperationEntry entry = model.getRootResourceRegistration().getOperationEntry(address, operation.get(OP).asString());
+        return entry != null && entry.getFlags().contains(OperationEntry.Flag.READ_ONLY) ? address : null;
+    }
+
     private boolean isReadOnlyOperation(final ModelNode operation) {
         if (operation.hasDefined(STEPS)) {
             final List<ModelNode> steps = operation.get(STEPS).asList();
@@ -1067,12 +1178,53 @@ class ModelControllerImpl implements ModelController {
         }
     }
 
-    private final class ModelControllerResource extends PlaceholderResource.PlaceholderResourceEntry {
+    private final class ModelControllerResource extends PlaceholderResource.PlaceholderResourceEntry implements ModelControllerStatistics {
 
         private ModelControllerResource() {
             super(SERVICE, MANAGEMENT_OPERATIONS);
         }
 
+        @Override
+        public ModelNode getBootTimingReport() {
+            final ModelNode report = bootTimingReport;
+            return report == null ? null : report.clone();
+        }
+
+        @Override
+        public ModelNode getBootProfile(int limit) {
+            return bootProfiler.getReport(limit);
+        }
+
+        @Override
+        public int getPendingConfigurationWrites() {
+            return persister.getPendingWrites();
+        }
+
+        @Override
+        public long getConfigurationPersistenceLag() {
+            return persister.getPersistenceLag();
+        }
+
+        @Override
+        public long getDeliveredNotificationCount() {
+            return notificationSupport.getDeliveredNotificationCount();
+        }
+
+        @Override
+        public long getDroppedNotificationCount() {
+            return notificationSupport.getDroppedNotificationCount();
+        }
+
+        @Override
+        public long getFastPathOperationCount() {
+            return fastPathOperationCount.sum();
+        }
+
+        @Override
+        public long getFullPathOperationCount() {
+            return fullPathOperationCount.sum();
+        }
+
         @Override
         public boolean hasChild(PathElement element) {
             try {
@@ -1152,6 +1304,8 @@ class ModelControllerImpl implements ModelController {
         private final ManagementResourceRegistration resourceRegistration;
         // The possibly unpublished root Resource
         private final Resource rootResource;
+        // Tracks modifications of an unpublished root Resource, or null if this model was not created for modification
+        private final PathCopyingResourceTree resourceTree;
         // The root MRR we expose
         private final ManagementResourceRegistration delegatingResourceRegistration;
         // The root Resource we expose
@@ -1164,8 +1318,22 @@ class ModelControllerImpl implements ModelController {
         ManagementModelImpl(final ManagementResourceRegistration resourceRegistration,
                             final Resource rootResource,
                             final CapabilityRegistry capabilityRegistry) {
+            this(resourceRegistration, rootResource, null, capabilityRegistry);
+        }
+
+        private ManagementModelImpl(final ManagementResourceRegistration resourceRegistration,
+                                    final PathCopyingResourceTree resourceTree,
+                                    final CapabilityRegistry capabilityRegistry) {
+            this(resourceRegistration, resourceTree.getRoot(), resourceTree, capabilityRegistry);
+        }
+
+        private ManagementModelImpl(final ManagementResourceRegistration resourceRegistration,
+                                    final Resource rootResource,
+                                    final PathCopyingResourceTree resourceTree,
+                                    final CapabilityRegistry capabilityRegistry) {
             this.resourceRegistration = resourceRegistration;
             this.rootResource = rootResource;
+            this.resourceTree = resourceTree;
             assert capabilityRegistry != null;
             this.capabilityRegistry = capabilityRegistry;
             // What we expose depends on the state of our 'published' field. If 'true' we've been published
@@ -1212,7 +1380,7 @@ class ModelControllerImpl implements ModelController {
         }
 
         @Override
-        public RuntimeCapabilityRegistry getCapabilityRegistry() {
+        public CapabilityRegistry getCapabilityRegistry() {
             return capabilityRegistry;
         }
 
@@ -1249,10 +1417,14 @@ class ModelControllerImpl implements ModelController {
         */
 
         /**
-         * Creates a new {@code ManagementModelImpl} that uses a clone of this one's root {@link Resource}.
-         * The caller can safely modify that {@code Resource} without changes being exposed
+         * Creates a new {@code ManagementModelImpl} that uses a copy of this one's root {@link Resource}.
+         * The caller can safely modify that {@code Resource} via {@link #getResourceTree()} without changes being exposed
          * to other callers. Use {@link ModelControllerImpl#writeModel(ManagementModelImpl, Set, boolean, boolean, boolean)}
          * to publish changes.
+         * <p>
+         * The copy of a published root {@code Resource} shares all resources with it, except for those along the path
+         * to any modified resource. So the cost of a modification is proportional to the depth of the modified resource,
+         * rather than to the size of the model.
          *
          * @return the new {@code ManagementModelImpl}. Will not return {@code null}
          */
@@ -1274,12 +1446,24 @@ class ModelControllerImpl implements ModelController {
                 currentResource = rootResource;
                 currentCaps = capabilityRegistry;
             }
-            Resource clone = currentResource.clone();
-            ManagementModelImpl result = new ManagementModelImpl(mrr, clone, currentCaps);
-            ControllerLogger.MGMT_OP_LOGGER.tracef("cloned to %s to create %s and %s", currentResource, clone, result);
+            // A published root Resource is never modified, so we can share its resources.
+            // Otherwise our root Resource might still be modified by the thread that holds the controller lock.
+            PathCopyingResourceTree tree = new PathCopyingResourceTree(published ? currentResource : currentResource.clone());
+            ManagementModelImpl result = new ManagementModelImpl(mrr, tree, currentCaps);
+            ControllerLogger.MGMT_OP_LOGGER.tracef("copied %s to create %s and %s", currentResource, tree.getRoot(), result);
             return result;
         }
 
+        /**
+         * Returns the tree through which the root {@link Resource} of a model created via {@link #cloneRootResource()}
+         * must be modified.
+         *
+         * @return the resource tree, or {@code null} if this model was not created via {@link #cloneRootResource()}
+         */
+        PathCopyingResourceTree getResourceTree() {
+            return resourceTree;
+        }
+
         /**
          * Compares the registered requirements to the registered capabilities, returning any missing
          * or inconsistent requirements.
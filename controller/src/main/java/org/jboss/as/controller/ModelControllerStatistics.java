@@ -0,0 +1,77 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Statistics gathered by a {@link ModelController}. They are provided by the resource of its management operations
+ * service, at {@code core-service=management/service=management-operations}.
+ */
+public interface ModelControllerStatistics {
+
+    /**
+     * Gets, for each subsystem booted in parallel, the number of its boot operations and the time until they were
+     * executed in the model and runtime stages.
+     *
+     * @return the timings, keyed by subsystem name, or {@code null} if the controller did not boot any subsystem in
+     *         parallel
+     */
+    ModelNode getBootTimingReport();
+
+    /**
+     * Gets the times recorded by the {@link BootProfiler} of the controller during its last profiled boot.
+     *
+     * @param limit the maximum number of entries reported per category, or not limited if not positive
+     * @return the report
+     */
+    ModelNode getBootProfile(int limit);
+
+    /**
+     * Gets the number of committed changes to the configuration whose persistence was deferred and which were not
+     * written yet.
+     *
+     * @return the number of changes
+     */
+    int getPendingConfigurationWrites();
+
+    /**
+     * Gets how long ago the oldest committed change to the configuration which was not written yet was committed.
+     *
+     * @return the time in milliseconds, or {@code 0} if all committed changes were written
+     */
+    long getConfigurationPersistenceLag();
+
+    /**
+     * Gets the number of notifications delivered, counting a notification once per handler it was delivered to.
+     *
+     * @return the number of notifications
+     */
+    long getDeliveredNotificationCount();
+
+    /**
+     * Gets the number of notifications dropped for a handler which did not keep up with the notifications.
+     *
+     * @return the number of notifications
+     */
+    long getDroppedNotificationCount();
+
+    /**
+     * Gets the number of operations executed via the read-only fast path, i.e. single operations registered as
+     * read-only which a server executed after boot against the model published when they started.
+     *
+     * @return the number of operations
+     */
+    long getFastPathOperationCount();
+
+    /**
+     * Gets the number of operations not executed via the read-only fast path.
+     *
+     * @return the number of operations
+     * @see #getFastPathOperationCount()
+     */
+    long getFullPathOperationCount();
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tracks the generation of each subtree of the published management model, i.e. a number that increases whenever
+ * a resource in the subtree is added, removed or modified.
+ * <p>
+ * Generations start from a random value, so that generations of different controller instances, such as those of
+ * a restarted process, are not comparable. Generations are only updated by the thread holding the controller lock,
+ * but may be read concurrently.
+ */
+final class ModelGenerations {
+
+    // The maximum number of modified resources tracked individually before the whole model is regarded as modified
+    static final int MAX_TRACKED_ADDRESSES = 1024;
+
+    private volatile State state = new State(ThreadLocalRandom.current().nextLong(Long.MAX_VALUE >>> 1));
+
+    /**
+     * Gets the generation of the subtree rooted at the given address.
+     *
+     * @param address the address of the root of the subtree
+     * @return the generation
+     */
+    long getGeneration(PathAddress address) {
+        State state = this.state;
+        long result = state.subtreeGenerations.getOrDefault(address, state.baseGeneration);
+        // Modifying a resource may add, remove or modify any of its descendants
+        for (int i = 0; i <= address.size(); i++) {
+            Long modified = state.modifiedGenerations.get(address.subAddress(0, i));
+            if (modified != null && modified > result) {
+                result = modified;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Records that a new model was published.
+     *
+     * @param modifiedAddresses the addresses of the resources that were added, removed or modified
+     * @param all {@code true} if the whole model should be regarded as modified
+     */
+    void published(Set<PathAddress> modifiedAddresses, boolean all) {
+        State current = this.state;
+        long generation = current.nextGeneration();
+        if (all || modifiedAddresses.contains(PathAddress.EMPTY_ADDRESS)
+                || current.modifiedGenerations.size() + modifiedAddresses.size() > MAX_TRACKED_ADDRESSES) {
+            // No need to track any address individually anymore
+            this.state = new State(generation);
+        } else if (!modifiedAddresses.isEmpty()) {
+            Map<PathAddress, Long> subtreeGenerations = new HashMap<>(current.subtreeGenerations);
+            Map<PathAddress, Long> modifiedGenerations = new HashMap<>(current.modifiedGenerations);
+            for (PathAddress address : modifiedAddresses) {
+                modifiedGenerations.put(address, generation);
+                for (int i = 0; i <= address.size(); i++) {
+                    subtreeGenerations.put(address.subAddress(0, i), generation);
+                }
+            }
+            this.state = new State(current.baseGeneration, generation, subtreeGenerations, modifiedGenerations);
+        }
+    }
+
+    private static final class State {
+        // The generation of all subtrees not tracked individually
+        private final long baseGeneration;
+        private final long lastGeneration;
+        // The generations of the subtrees containing a modified resource
+        private final Map<PathAddress, Long> subtreeGenerations;
+        // The generations at which resources were last modified
+        private final Map<PathAddress, Long> modifiedGenerations;
+
+        State(long baseGeneration) {
+            this(baseGeneration, baseGeneration, Collections.emptyMap(), Collections.emptyMap());
+        }
+
+        State(long baseGeneration, long lastGeneration, Map<PathAddress, Long> subtreeGenerations, Map<PathAddress, Long> modifiedGenerations) {
+            this.baseGeneration = baseGeneration;
+            this.lastGeneration = lastGeneration;
+            this.subtreeGenerations = subtreeGenerations;
+            this.modifiedGenerations = modifiedGenerations;
+        }
+
+        long nextGeneration() {
+            return this.lastGeneration + 1;
+        }
+    }
+}
@@ -131,7 +131,7 @@ final class OperationContextImpl extends AbstractOperationContext {
 
     private final ModelControllerImpl modelController;
     private final OperationMessageHandler messageHandler;
-    private final Set<ServiceController<?>> realRemovingControllers = Collections.newSetFromMap(new IdentityHashMap<>());
+    private final Set<ServiceController<?>> realRemovingControllers = Collections.newSetFromMap(new IdentityHashMap<>(2));
     // protected by "realRemovingControllers"
     private final Map<ServiceName, Step> removalSteps = new HashMap<>();
     private final OperationAttachments attachments;
@@ -1000,7 +1000,8 @@ final class OperationContextImpl extends AbstractOperationContext {
             }
             resource = requireChild(resource, element, address);
         }
-        return resource;
+        // Now that we know the resource exists, copy it (and its ancestors) if it is still shared with the published model
+        return this.managementModel.getResourceTree().getResourceForUpdate(address);
     }
 
     private boolean isResourceRuntimeOnly(PathAddress fullAddress) {
@@ -1090,11 +1091,7 @@ final class OperationContextImpl extends AbstractOperationContext {
                     if(!childrenNames.contains(key)) {
                         throw ControllerLogger.ROOT_LOGGER.noChildType(key);
                     }
-                    if (index < 0) {
-                        model.registerChild(element, toAdd);
-                    } else {
-                        model.registerChild(element, index, toAdd);
-                    }
+                    this.managementModel.getResourceTree().registerChild(absoluteAddress, index, toAdd);
                     model = toAdd;
                 }
             } else {
@@ -1144,7 +1141,7 @@ final class OperationContextImpl extends AbstractOperationContext {
                 throw ControllerLogger.ROOT_LOGGER.cannotRemove("*");
             }
             if (!i.hasNext()) {
-                model = model.removeChild(element);
+                model = this.managementModel.getResourceTree().removeChild(address);
             } else {
                 model = requireChild(model, element, address);
             }
@@ -2065,6 +2062,10 @@ final class OperationContextImpl extends AbstractOperationContext {
                     removalSteps.remove(sn);
                 }
 
+                final BootProfiler profiler = modelController.getBootProfiler();
+                if (profiler.isActive()) {
+                    builder.addListener(profiler.serviceListener());
+                }
                 ServiceController<T> retVal = builder.install();
                 step.serviceAdded(retVal);
                 return retVal;
@@ -8,12 +8,17 @@ package org.jboss.as.controller;
 import static org.jboss.as.controller.logging.ControllerLogger.MGMT_OP_LOGGER;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.jboss.as.controller.client.OperationResponse;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
@@ -22,16 +27,38 @@ import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
+import org.jboss.threads.EnhancedQueueExecutor;
 import org.wildfly.security.auth.server.SecurityDomain;
 import org.wildfly.security.auth.server.SecurityRealm;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Special handler that executes subsystem boot operations in parallel.
+ * <p>
+ * If configured via the {@value #CHILD_TASKS_PROPERTY} system property, the runtime steps of the operations for the
+ * child resources of a subsystem are additionally executed by several tasks, once the runtime steps of the
+ * operations for the subsystem resource itself were executed. The runtime steps for the same child resource, as well
+ * as those for child resources requiring capabilities provided by one another, are always executed by the same task, in
+ * their original order. As every task occupies a thread of the executor until the boot operation completes, the child
+ * resource tasks of all subsystems are limited to half the threads the executor can start besides the subsystem tasks,
+ * and the runtime steps are not split if that number is unknown.
  *
  * @author Brian Stansberry (c) 2011 Red Hat Inc.
  */
 public class ParallelBootOperationStepHandler implements OperationStepHandler {
 
+    /**
+     * The maximum number of tasks executing the runtime steps for the child resources of a subsystem. The runtime
+     * steps of a subsystem are executed by a single task if less than 2, which is the default.
+     */
+    static final String CHILD_TASKS_PROPERTY = "org.jboss.as.controller.parallel.boot.child.tasks";
+
+    private static final String MODEL_OPERATIONS = "model-operations";
+    private static final String MODEL_TIME = "model-time";
+    private static final String RUNTIME_OPERATIONS = "runtime-operations";
+    private static final String RUNTIME_TASKS = "runtime-tasks";
+    private static final String RUNTIME_TIME = "runtime-time";
+
     private final Executor executor;
     private final ImmutableManagementResourceRegistration rootRegistration;
     private final ControlledProcessState processState;
@@ -41,6 +68,8 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
     private final int operationId;
 
     private final Map<String, List<ParsedBootOp>> opsBySubsystem = new LinkedHashMap<String, List<ParsedBootOp>>();
+    private final int childTasks = getChildTasks();
+    private final ModelNode bootTimings = new ModelNode().setEmptyObject();
     private ParsedBootOp ourOp;
 
     ParallelBootOperationStepHandler(final ExecutorService executorService, final ImmutableManagementResourceRegistration rootRegistration,
@@ -97,6 +126,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
         }
 
         long start = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         final OperationContextImpl primaryContext = (OperationContextImpl) context;
 
@@ -106,7 +136,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
         context.acquireControllerLock();
 
         final Map<String, List<ParsedBootOp>> runtimeOpsBySubsystem = new LinkedHashMap<String, List<ParsedBootOp>>();
-        final Map<String, ParallelBootTransactionControl> transactionControls = new LinkedHashMap<String, ParallelBootTransactionControl>();
+        final Map<String, List<ParallelBootTransactionControl>> transactionControls = new LinkedHashMap<String, List<ParallelBootTransactionControl>>();
 
         final CountDownLatch preparedLatch = new CountDownLatch(opsBySubsystem.size());
         final CountDownLatch committedLatch = new CountDownLatch(1);
@@ -124,14 +154,15 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
             runtimeOpsBySubsystem.put(subsystemName, subsystemRuntimeOps);
 
             final ParallelBootTransactionControl txControl = new ParallelBootTransactionControl(preparedLatch, committedLatch, completeLatch);
-            transactionControls.put(entry.getKey(), txControl);
+            transactionControls.put(entry.getKey(), List.of(txControl));
 
             // Execute the subsystem's ops in another thread
             List<ParsedBootOp> bootOps = entry.getValue();
+            bootTimings.get(subsystemName, MODEL_OPERATIONS).set(bootOps.size());
             ParallelBootOperationContext pboc = bootOps.isEmpty()
                     ? null
                     : createOperationContext(primaryContext, bootSecurityDomain, txControl, subsystemRuntimeOps);
-            ParallelBootTask subsystemTask = new ParallelBootTask(subsystemName, bootOps, OperationContext.Stage.MODEL, txControl, pboc);
+            ParallelBootTask subsystemTask = new ParallelBootTask(subsystemName, bootOps, OperationContext.Stage.MODEL, txControl, pboc, null);
             executor.execute(subsystemTask);
         }
 
@@ -141,6 +172,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
 
             // See if all subsystems succeeded; if not report a failure to context
             checkForSubsystemFailures(context, transactionControls, OperationContext.Stage.MODEL);
+            recordTimings(transactionControls, startTime, MODEL_TIME);
 
             // Add any logging subsystem steps so we get logging early in the boot
             List<ParsedBootOp> loggingOps = runtimeOpsBySubsystem.remove("logging");
@@ -205,10 +237,17 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
                 extraValidationStepHandler, bootSecurityDomain::getAnonymousSecurityIdentity);
     }
 
-    private void checkForSubsystemFailures(OperationContext context, Map<String, ParallelBootTransactionControl> transactionControls, OperationContext.Stage stage) {
+    private void checkForSubsystemFailures(OperationContext context, Map<String, List<ParallelBootTransactionControl>> transactionControls, OperationContext.Stage stage) {
         boolean failureRecorded = false;
-        for (Map.Entry<String, ParallelBootTransactionControl> entry : transactionControls.entrySet()) {
-            ParallelBootTransactionControl txControl = entry.getValue();
+        for (Map.Entry<String, List<ParallelBootTransactionControl>> entry : transactionControls.entrySet()) {
+            // Report the first failure of the subsystem's tasks, as a failed task fails the tasks depending on it
+            ParallelBootTransactionControl txControl = entry.getValue().get(0);
+            for (ParallelBootTransactionControl taskTxControl : entry.getValue()) {
+                if (taskTxControl.transaction == null) {
+                    txControl = taskTxControl;
+                    break;
+                }
+            }
             if (txControl.transaction == null) {
                 // This means a set of subsystem steps didn't complete and rolled back
                 String failureDesc;
@@ -231,25 +270,149 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
         }
     }
 
-    private void notifySubsystemTransactions(final Map<String, ParallelBootTransactionControl> transactionControls,
+    private void notifySubsystemTransactions(final Map<String, List<ParallelBootTransactionControl>> transactionControls,
                                              final boolean rollback,
                                              final CountDownLatch committedLatch,
                                              final OperationContext.Stage stage) {
-        for (Map.Entry<String, ParallelBootTransactionControl> entry : transactionControls.entrySet()) {
-            ParallelBootTransactionControl txControl = entry.getValue();
-            if (txControl.transaction != null) {
-                if (!rollback) {
-                    txControl.transaction.commit();
-                    MGMT_OP_LOGGER.debugf("Committed transaction for %s subsystem %s stage boot operations", entry.getKey(), stage);
-                } else {
-                    txControl.transaction.rollback();
-                    MGMT_OP_LOGGER.debugf("Rolled back transaction for %s subsystem %s stage boot operations", entry.getKey(), stage);
+        for (Map.Entry<String, List<ParallelBootTransactionControl>> entry : transactionControls.entrySet()) {
+            for (ParallelBootTransactionControl txControl : entry.getValue()) {
+                if (txControl.transaction != null) {
+                    if (!rollback) {
+                        txControl.transaction.commit();
+                        MGMT_OP_LOGGER.debugf("Committed transaction for %s subsystem %s stage boot operations", entry.getKey(), stage);
+                    } else {
+                        txControl.transaction.rollback();
+                        MGMT_OP_LOGGER.debugf("Rolled back transaction for %s subsystem %s stage boot operations", entry.getKey(), stage);
+                    }
                 }
             }
         }
         committedLatch.countDown();
     }
 
+    /**
+     * Records how long it took until the operations of each subsystem were prepared, and makes the timings of the
+     * subsystems available via the management model.
+     */
+    private void recordTimings(final Map<String, List<ParallelBootTransactionControl>> transactionControls,
+                               final long startTime, final String timing) {
+        for (Map.Entry<String, List<ParallelBootTransactionControl>> entry : transactionControls.entrySet()) {
+            long preparedTime = startTime;
+            for (ParallelBootTransactionControl txControl : entry.getValue()) {
+                preparedTime = Math.max(preparedTime, txControl.preparedTime);
+            }
+            bootTimings.get(entry.getKey(), timing).set(TimeUnit.NANOSECONDS.toMillis(preparedTime - startTime));
+        }
+        controller.setBootTimingReport(bootTimings.clone());
+    }
+
+    /**
+     * Splits the runtime steps of a subsystem into those executed by separate tasks. The first list contains the
+     * steps for the subsystem resource, which are executed before the steps in the remaining lists. The steps of a
+     * subsystem are not split if the steps for the subsystem resource are not executed before those for its child
+     * resources, as they may then depend on the child resources. Likewise, the steps for child resources of which one
+     * requires a capability provided by the other, or by their descendants, are executed by the same task.
+     *
+     * @param subsystemName the name of the subsystem
+     * @param runtimeOps the runtime steps of the subsystem, in execution order
+     * @param childTasks the maximum number of tasks executing the steps for the child resources
+     * @param requirements the addresses of the resources providing the capabilities required by each resource
+     * @return the steps executed by each task
+     */
+    static List<List<ParsedBootOp>> splitRuntimeOperations(final String subsystemName, final List<ParsedBootOp> runtimeOps, final int childTasks,
+                                                           final Map<PathAddress, Set<PathAddress>> requirements) {
+        if (childTasks > 1) {
+            final PathElement subsystem = PathElement.pathElement(ModelDescriptionConstants.SUBSYSTEM, subsystemName);
+            final List<ParsedBootOp> subsystemOps = new ArrayList<>();
+            final Map<PathElement, PathElement> groups = new HashMap<>();
+            for (ParsedBootOp op : runtimeOps) {
+                if (op.address.size() < 2) {
+                    if (!groups.isEmpty()) {
+                        return List.of(runtimeOps);
+                    }
+                    subsystemOps.add(op);
+                } else if (subsystem.equals(op.address.getElement(0))) {
+                    groups.putIfAbsent(op.address.getElement(1), op.address.getElement(1));
+                } else {
+                    return List.of(runtimeOps);
+                }
+            }
+            if (groups.size() > 1) {
+                // Group the child resources depending on each other
+                for (Map.Entry<PathAddress, Set<PathAddress>> requirement : requirements.entrySet()) {
+                    final PathElement dependent = getChildElement(subsystem, requirement.getKey());
+                    if (dependent != null && groups.containsKey(dependent)) {
+                        for (PathAddress address : requirement.getValue()) {
+                            final PathElement provider = getChildElement(subsystem, address);
+                            if (provider != null && groups.containsKey(provider)) {
+                                groups.put(getGroup(groups, dependent), getGroup(groups, provider));
+                            }
+                        }
+                    }
+                }
+                final Map<PathElement, List<ParsedBootOp>> groupOps = new LinkedHashMap<>();
+                for (ParsedBootOp op : runtimeOps) {
+                    if (op.address.size() >= 2) {
+                        groupOps.computeIfAbsent(getGroup(groups, op.address.getElement(1)), key -> new ArrayList<>()).add(op);
+                    }
+                }
+                if (groupOps.size() > 1) {
+                    final int tasks = Math.min(childTasks, groupOps.size());
+                    final List<List<ParsedBootOp>> result = new ArrayList<>(tasks + 1);
+                    result.add(subsystemOps);
+                    for (int i = 0; i < tasks; i++) {
+                        result.add(new ArrayList<>());
+                    }
+                    int index = 0;
+                    for (List<ParsedBootOp> ops : groupOps.values()) {
+                        result.get(1 + index++ % tasks).addAll(ops);
+                    }
+                    return result;
+                }
+            }
+        }
+        return List.of(runtimeOps);
+    }
+
+    private static PathElement getChildElement(final PathElement subsystem, final PathAddress address) {
+        return address.size() >= 2 && subsystem.equals(address.getElement(0)) ? address.getElement(1) : null;
+    }
+
+    private static PathElement getGroup(final Map<PathElement, PathElement> groups, final PathElement child) {
+        PathElement group = child;
+        PathElement parent = groups.get(group);
+        while (!parent.equals(group)) {
+            group = parent;
+            parent = groups.get(group);
+        }
+        return group;
+    }
+
+    /**
+     * Gets the number of tasks the given executor can execute concurrently.
+     *
+     * @return the number of tasks, or {@code -1} if unknown
+     */
+    private static int getMaximumPoolSize(final Executor executor) {
+        if (executor instanceof EnhancedQueueExecutor) {
+            return ((EnhancedQueueExecutor) executor).getMaximumPoolSize();
+        }
+        if (executor instanceof ThreadPoolExecutor) {
+            return ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+        }
+        return -1;
+    }
+
+    private static int getChildTasks() {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(CHILD_TASKS_PROPERTY, null);
+        try {
+            return value == null ? 0 : Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            ControllerLogger.ROOT_LOGGER.invalidSystemPropertyValueUsingDefault(value, CHILD_TASKS_PROPERTY);
+            return 0;
+        }
+    }
+
     private OperationStepHandler getRuntimeStep(final Map<String, List<ParsedBootOp>> runtimeOpsBySubsystem, final SecurityDomain bootSecurityDomain) {
 
         return new OperationStepHandler() {
@@ -257,6 +420,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
             public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
 
                 long start = System.currentTimeMillis();
+                long startTime = System.nanoTime();
 
                 if (!(context instanceof OperationContextImpl)) {
                     throw ControllerLogger.ROOT_LOGGER.operationContextIsNotAbstractOperationContext();
@@ -266,23 +430,59 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
                 // make sure the registry lock is held
                 context.getServiceRegistry(true);
 
-                final Map<String, ParallelBootTransactionControl> transactionControls = new LinkedHashMap<String, ParallelBootTransactionControl>();
+                final Map<String, List<ParallelBootTransactionControl>> transactionControls = new LinkedHashMap<String, List<ParallelBootTransactionControl>>();
 
-                final CountDownLatch preparedLatch = new CountDownLatch(runtimeOpsBySubsystem.size());
-                final CountDownLatch committedLatch = new CountDownLatch(1);
-                final CountDownLatch completeLatch = new CountDownLatch(runtimeOpsBySubsystem.size());
+                // Every task blocks a thread until the boot operation completes, so the child resource tasks must leave
+                // enough threads for the subsystem tasks, and for other users of the executor
+                final int maximumPoolSize = getMaximumPoolSize(executor);
+                int availableChildTasks = childTasks > 1 && maximumPoolSize > 0 ? (maximumPoolSize - runtimeOpsBySubsystem.size()) / 2 : 0;
+                final Map<PathAddress, Set<PathAddress>> requirements = availableChildTasks > 1
+                        ? primaryContext.getManagementModel().getCapabilityRegistry().getRequiredCapabilityProviders()
+                        : Map.of();
 
+                final Map<String, List<List<ParsedBootOp>>> taskOpsBySubsystem = new LinkedHashMap<String, List<List<ParsedBootOp>>>();
+                int tasks = 0;
                 for (Map.Entry<String, List<ParsedBootOp>> entry : runtimeOpsBySubsystem.entrySet()) {
+                    List<List<ParsedBootOp>> taskOps = splitRuntimeOperations(entry.getKey(), entry.getValue(), Math.min(childTasks, availableChildTasks), requirements);
+                    availableChildTasks -= taskOps.size() - 1;
+                    taskOpsBySubsystem.put(entry.getKey(), taskOps);
+                    tasks += taskOps.size();
+                    bootTimings.get(entry.getKey(), RUNTIME_OPERATIONS).set(entry.getValue().size());
+                    bootTimings.get(entry.getKey(), RUNTIME_TASKS).set(taskOps.size());
+                }
+
+                final CountDownLatch preparedLatch = new CountDownLatch(tasks);
+                final CountDownLatch committedLatch = new CountDownLatch(1);
+                final CountDownLatch completeLatch = new CountDownLatch(tasks);
+
+                for (Map.Entry<String, List<List<ParsedBootOp>>> entry : taskOpsBySubsystem.entrySet()) {
                     String subsystemName = entry.getKey();
-                    final ParallelBootTransactionControl txControl = new ParallelBootTransactionControl(preparedLatch, committedLatch, completeLatch);
-                    transactionControls.put(subsystemName, txControl);
+                    List<List<ParsedBootOp>> taskOps = entry.getValue();
+                    List<ParallelBootTransactionControl> txControls = new ArrayList<ParallelBootTransactionControl>(taskOps.size());
+                    for (int i = 0; i < taskOps.size(); i++) {
+                        txControls.add(new ParallelBootTransactionControl(preparedLatch, committedLatch, completeLatch));
+                    }
+                    transactionControls.put(subsystemName, txControls);
+
+                    // The child resource tasks are started by the subsystem task
+                    ChildBootTasks childBootTasks = null;
+                    if (taskOps.size() > 1) {
+                        List<ParallelBootTask> childTasks = new ArrayList<ParallelBootTask>(taskOps.size() - 1);
+                        for (int i = 1; i < taskOps.size(); i++) {
+                            ParallelBootTransactionControl txControl = txControls.get(i);
+                            ParallelBootOperationContext pboc = createOperationContext(primaryContext, bootSecurityDomain, txControl, null);
+                            childTasks.add(new ParallelBootTask(subsystemName, taskOps.get(i), OperationContext.Stage.RUNTIME, txControl, pboc, null));
+                        }
+                        childBootTasks = new ChildBootTasks(subsystemName, childTasks);
+                    }
 
                     // Execute the subsystem's ops in another thread
-                    List<ParsedBootOp> bootOps = entry.getValue();
+                    List<ParsedBootOp> bootOps = taskOps.get(0);
+                    ParallelBootTransactionControl txControl = txControls.get(0);
                     ParallelBootOperationContext pboc = bootOps.isEmpty()
                         ? null
                         : createOperationContext(primaryContext, bootSecurityDomain, txControl, null);
-                    ParallelBootTask subsystemTask = new ParallelBootTask(subsystemName, bootOps, OperationContext.Stage.RUNTIME, txControl, pboc);
+                    ParallelBootTask subsystemTask = new ParallelBootTask(subsystemName, bootOps, OperationContext.Stage.RUNTIME, txControl, pboc, childBootTasks);
                     executor.execute(subsystemTask);
                 }
 
@@ -292,6 +492,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
 
                     // See if all subsystems succeeded; if not report a failure to context
                     checkForSubsystemFailures(context, transactionControls, OperationContext.Stage.RUNTIME);
+                    recordTimings(transactionControls, startTime, RUNTIME_TIME);
 
                 } catch (InterruptedException e) {
                     context.getFailureDescription().set(new ModelNode().set(ControllerLogger.ROOT_LOGGER.subsystemBootInterrupted()));
@@ -331,18 +532,21 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
         private final OperationContext.Stage executionStage;
         private final ParallelBootTransactionControl transactionControl;
         private final ParallelBootOperationContext pboc;
+        private final ChildBootTasks childBootTasks;
 
         ParallelBootTask(final String subsystemName,
                          final List<ParsedBootOp> bootOperations,
                          final OperationContext.Stage executionStage,
                          final ParallelBootTransactionControl transactionControl,
-                         final ParallelBootOperationContext pboc) {
+                         final ParallelBootOperationContext pboc,
+                         final ChildBootTasks childBootTasks) {
             assert bootOperations != null || pboc != null;
             this.subsystemName = subsystemName;
             this.bootOperations = bootOperations;
             this.executionStage = executionStage;
             this.transactionControl = transactionControl;
             this.pboc = pboc;
+            this.childBootTasks = childBootTasks;
         }
 
         @Override
@@ -350,6 +554,9 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
             try {
 
                 if (pboc == null) {
+                    if (childBootTasks != null) {
+                        childBootTasks.execute();
+                    }
                     transactionControl.operationPrepared(new ModelController.OperationTransaction() {
                         @Override
                         public void commit() {}
@@ -365,6 +572,11 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
                         final OperationStepHandler osh = op.handler == null ? rootRegistration.getOperationHandler(op.address, op.operationName) : op.handler;
                         pboc.addStep(op.response, op.operation, osh, executionStage);
                     }
+                    if (childBootTasks != null) {
+                        // Start the child resource tasks once the steps for the subsystem resource were executed
+                        ModelNode op = Util.createEmptyOperation("parallel-subsystem-boot", PathAddress.pathAddress(ModelDescriptionConstants.SUBSYSTEM, subsystemName));
+                        pboc.addStep(new ModelNode(), op, (context, operation) -> childBootTasks.execute(), executionStage);
+                    }
                     pboc.executeOperation();
                 }
             } catch (RuntimeException | Error t) {
@@ -395,6 +607,41 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
                 } else {
                     transactionControl.operationCompleted(transactionControl.response);
                 }
+                if (childBootTasks != null) {
+                    // Fails the child resource tasks if the subsystem task failed before starting them
+                    childBootTasks.cancel();
+                }
+            }
+        }
+    }
+
+    private class ChildBootTasks {
+
+        private final String subsystemName;
+        private final List<ParallelBootTask> tasks;
+        private final AtomicBoolean started = new AtomicBoolean();
+
+        ChildBootTasks(final String subsystemName, final List<ParallelBootTask> tasks) {
+            this.subsystemName = subsystemName;
+            this.tasks = tasks;
+        }
+
+        void execute() {
+            if (started.compareAndSet(false, true)) {
+                for (ParallelBootTask task : tasks) {
+                    executor.execute(task);
+                }
+            }
+        }
+
+        void cancel() {
+            if (started.compareAndSet(false, true)) {
+                for (ParallelBootTask task : tasks) {
+                    ModelNode failure = new ModelNode();
+                    failure.get(ModelDescriptionConstants.SUCCESS).set(false);
+                    failure.get(ModelDescriptionConstants.FAILURE_DESCRIPTION).set(ControllerLogger.ROOT_LOGGER.subsystemBootOperationFailedExecuting(subsystemName));
+                    task.transactionControl.operationFailed(failure);
+                }
             }
         }
     }
@@ -407,6 +654,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
         private OperationResponse response;
         private ModelController.OperationTransaction transaction;
         private boolean signalled;
+        private long preparedTime;
 
         ParallelBootTransactionControl(CountDownLatch preparedLatch, CountDownLatch committedLatch, CountDownLatch completeLatch) {
             this.preparedLatch = preparedLatch;
@@ -418,6 +666,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
         public void operationFailed(ModelNode response) {
             if (!signalled) {
                 this.response = OperationResponse.Factory.createSimple(response);
+                this.preparedTime = System.nanoTime();
                 preparedLatch.countDown();
                 completeLatch.countDown();
                 signalled = true;
@@ -428,6 +677,7 @@ public class ParallelBootOperationStepHandler implements OperationStepHandler {
         public void operationPrepared(ModelController.OperationTransaction transaction, ModelNode result) {
             if (!signalled) {
                 this.transaction = transaction;
+                this.preparedTime = System.nanoTime();
                 preparedLatch.countDown();
                 signalled = true;
 
@@ -10,10 +10,8 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SER
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
 import java.util.ListIterator;
-import java.util.Set;
 
 import org.jboss.as.controller._private.OperationFailedRuntimeException;
 import org.jboss.as.controller.logging.ControllerLogger;
@@ -68,20 +66,10 @@ public class PathAddress implements Iterable<PathElement> {
             if (props.isEmpty()) {
                 return EMPTY_ADDRESS;
             } else {
-                final Set<String> seen = new HashSet<>();
-                final List<PathElement> values = new ArrayList<>();
-                int index = 0;
+                final List<PathElement> values = new ArrayList<>(props.size());
+                int from = 0;
                 for (final Property prop : props) {
-                    final String name = prop.getName();
-                    if (seen.add(name)) {
-                        values.add(new PathElement(name, prop.getValue().asString()));
-                    } else {
-                        throw duplicateElement(name);
-                    }
-                    if (index == 1 && name.equals(SERVER) && seen.contains(HOST)) {
-                        seen.clear();
-                    }
-                    index++;
+                    from = addElement(values, new PathElement(prop.getName(), prop.getValue().asString()), from);
                 }
                 return new PathAddress(Collections.unmodifiableList(values));
             }
@@ -95,22 +83,32 @@ public class PathAddress implements Iterable<PathElement> {
             return EMPTY_ADDRESS;
         }
         final ArrayList<PathElement> newList = new ArrayList<>(elements.size());
-        final Set<String> seen = new HashSet<>();
-        int index = 0;
+        int from = 0;
         for (PathElement element : elements) {
-            final String name = element.getKey();
-            if (seen.add(name)) {
-                newList.add(element);
-            } else {
+            from = addElement(newList, element, from);
+        }
+        return new PathAddress(Collections.unmodifiableList(newList));
+    }
+
+    /**
+     * Adds an element to the elements of an address, failing if one of the elements from the given index on has the
+     * same key. Addresses are short, so scanning their elements is cheaper than collecting their keys in a set.
+     *
+     * @param elements the elements of the address
+     * @param element the element to add
+     * @param from the index of the first element whose key must differ
+     * @return the index of the first element whose key must differ from the key of the next element
+     */
+    private static int addElement(final List<PathElement> elements, final PathElement element, final int from) {
+        final String name = element.getKey();
+        for (int i = from; i < elements.size(); i++) {
+            if (elements.get(i).getKey().equals(name)) {
                 throw duplicateElement(name);
             }
-            if (index == 1 && name.equals(SERVER) && seen.contains(HOST)) {
-                seen.clear();
-            }
-            index++;
-
         }
-        return new PathAddress(Collections.unmodifiableList(newList));
+        elements.add(element);
+        // The address of a server below its host may reuse the keys of the host and server elements
+        return elements.size() == 2 && name.equals(SERVER) && elements.get(0).getKey().equals(HOST) ? 2 : from;
     }
 
     public static PathAddress pathAddress(PathElement... elements) {
@@ -274,6 +272,13 @@ public class PathAddress implements Iterable<PathElement> {
      * @return the new path address
      */
     public PathAddress append(PathAddress address) {
+        // Addresses are immutable, so there is no need to copy one to append it to an empty address, or vice versa
+        if (address.pathAddressList.isEmpty()) {
+            return this;
+        }
+        if (pathAddressList.isEmpty()) {
+            return address;
+        }
         return append(address.pathAddressList);
     }
 
@@ -156,6 +156,27 @@ public class HostEffectConstraint extends AbstractConstraint implements Constrai
         return other instanceof HostEffectConstraint && (readOnly || readOnlyConstraint != null);
     }
 
+    /**
+     * Required constraints are equal if they require the same hosts, as the factory creates a new one for each target
+     * associated with specific hosts. User constraints, whose hosts can change, are only equal to themselves.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof HostEffectConstraint)) {
+            return false;
+        }
+        HostEffectConstraint hec = (HostEffectConstraint) other;
+        return !user && !hec.user && global == hec.global && hostsHolder.specific.equals(hec.hostsHolder.specific);
+    }
+
+    @Override
+    public int hashCode() {
+        return user ? System.identityHashCode(this) : 31 * Boolean.hashCode(global) + hostsHolder.specific.hashCode();
+    }
+
     // Scoping Constraint
 
     @Override
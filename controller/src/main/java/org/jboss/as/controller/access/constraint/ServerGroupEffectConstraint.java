@@ -205,6 +205,39 @@ public class ServerGroupEffectConstraint extends AbstractConstraint implements C
         return other instanceof ServerGroupEffectConstraint && (readOnly || readOnlyConstraint != null);
     }
 
+    /**
+     * Required constraints are equal if they require the same server groups in the same way, as the factory creates a
+     * new one for each target associated with specific server groups. User constraints, whose server groups can
+     * change, are only equal to themselves.
+     */
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ServerGroupEffectConstraint)) {
+            return false;
+        }
+        ServerGroupEffectConstraint sgec = (ServerGroupEffectConstraint) other;
+        return !user && !sgec.user && global == sgec.global && nonServerHost == sgec.nonServerHost
+                && unassigned == sgec.unassigned && groupAdd == sgec.groupAdd && groupRemove == sgec.groupRemove
+                && groupsHolder.specific.equals(sgec.groupsHolder.specific);
+    }
+
+    @Override
+    public int hashCode() {
+        if (user) {
+            return System.identityHashCode(this);
+        }
+        int result = groupsHolder.specific.hashCode();
+        result = 31 * result + Boolean.hashCode(global);
+        result = 31 * result + Boolean.hashCode(nonServerHost);
+        result = 31 * result + Boolean.hashCode(unassigned);
+        result = 31 * result + Boolean.hashCode(groupAdd);
+        result = 31 * result + Boolean.hashCode(groupRemove);
+        return result;
+    }
+
     // Scoping Constraint
 
     @Override
@@ -7,13 +7,17 @@ package org.jboss.as.controller.access.permission;
 
 import java.security.Permission;
 import java.security.PermissionCollection;
+import java.util.Arrays;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.access.Action;
+import org.jboss.as.controller.access.constraint.Constraint;
 
 /**
 * {@link PermissionCollection} for use with {@link ManagementPermission}. It's homogeneous.
@@ -22,18 +26,58 @@ import org.jboss.as.controller.access.Action;
 */
 public class ManagementPermissionCollection extends PermissionCollection {
 
+    // Bounds the number of distinct required permissions whose evaluation is retained per collection
+    private static final int MAX_CACHED_DECISIONS = 1024;
+    private static final LongAdder DECISION_CACHE_HITS = new LongAdder();
+    private static final LongAdder DECISION_CACHE_MISSES = new LongAdder();
+
     private final Class<? extends ManagementPermission> type;
 
     private final String name;
     private final Map<Action.ActionEffect, ManagementPermission> permissions = new HashMap<Action.ActionEffect, ManagementPermission>();
+    private final Map<DecisionKey, Boolean> decisions;
 
     public ManagementPermissionCollection(Class<? extends ManagementPermission> type) {
         this(null, type);
     }
 
     public ManagementPermissionCollection(String name, Class<? extends ManagementPermission> type) {
+        this(name, type, false);
+    }
+
+    /**
+     * Creates a new collection, optionally caching whether it implies a {@link SimpleManagementPermission}.
+     * <p>
+     * Whether a {@code SimpleManagementPermission} is implied only depends on its action effect and its constraints,
+     * as long as the constraints of the permissions in this collection do not change. Decisions may thus only be
+     * cached by collections whose permissions' constraints are immutable.
+     *
+     * @param name the name of the collection, used for logging
+     * @param type the type of the permissions in the collection
+     * @param cacheDecisions {@code true} if whether a {@code SimpleManagementPermission} is implied should be cached
+     */
+    public ManagementPermissionCollection(String name, Class<? extends ManagementPermission> type, boolean cacheDecisions) {
         this.name = name;
         this.type = type;
+        this.decisions = cacheDecisions ? new ConcurrentHashMap<>() : null;
+    }
+
+    /**
+     * Gets the number of permission checks answered from the decisions cached by the collections.
+     *
+     * @return the number of cache hits
+     */
+    public static long getDecisionCacheHitCount() {
+        return DECISION_CACHE_HITS.sum();
+    }
+
+    /**
+     * Gets the number of permission checks that had to evaluate the constraints because the decision was not cached.
+     *
+     * @return the number of cache misses
+     */
+    public static long getDecisionCacheMissCount() {
+        return DECISION_CACHE_MISSES.sum();
     }
 
     @Override
@@ -47,6 +91,9 @@ public class ManagementPermissionCollection extends PermissionCollection {
             synchronized (permissions) {
                 permissions.put(mperm.getActionEffect(), mperm);
             }
+            if (decisions != null) {
+                decisions.clear();
+            }
         } else {
             throw ControllerLogger.ROOT_LOGGER.incompatiblePermissionType(permission.getClass());
         }
@@ -54,6 +101,28 @@ public class ManagementPermissionCollection extends PermissionCollection {
 
     @Override
     public boolean implies(Permission permission) {
+        if (decisions != null && permission instanceof SimpleManagementPermission) {
+            SimpleManagementPermission sperm = (SimpleManagementPermission) permission;
+            DecisionKey key = new DecisionKey(sperm.getActionEffect(), sperm.getConstraints());
+            Boolean decision = decisions.get(key);
+            if (decision != null) {
+                DECISION_CACHE_HITS.increment();
+                return decision;
+            }
+            DECISION_CACHE_MISSES.increment();
+            boolean implied = evaluate(permission);
+            // Required permissions targeting specific hosts or server groups have distinct constraints, so start
+            // over once full rather than retaining only the decisions made first
+            if (decisions.size() >= MAX_CACHED_DECISIONS) {
+                decisions.clear();
+            }
+            decisions.put(key, implied);
+            return implied;
+        }
+        return evaluate(permission);
+    }
+
+    private boolean evaluate(Permission permission) {
         if (permission instanceof ManagementPermission) {
             ManagementPermission mperm = (ManagementPermission) permission;
             Action.ActionEffect actionEffect = mperm.getActionEffect();
@@ -99,4 +168,35 @@ public class ManagementPermissionCollection extends PermissionCollection {
             return permissions.values().iterator();
         }
     }
+
+    /**
+     * Identifies the decision whether a {@link SimpleManagementPermission} is implied. Constraints are compared by
+     * {@code equals}; the required constraints are either shared instances, or, if created per target as for hosts and
+     * server groups, equal if they require the same.
+     */
+    private static final class DecisionKey {
+        private final Action.ActionEffect actionEffect;
+        private final Constraint[] constraints;
+        private final int hash;
+
+        DecisionKey(Action.ActionEffect actionEffect, Constraint[] constraints) {
+            this.actionEffect = actionEffect;
+            this.constraints = constraints;
+            this.hash = actionEffect.hashCode() * 31 + Arrays.hashCode(constraints);
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if (!(object instanceof DecisionKey)) {
+                return false;
+            }
+            DecisionKey key = (DecisionKey) object;
+            return actionEffect == key.actionEffect && Arrays.equals(constraints, key.constraints);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
 }
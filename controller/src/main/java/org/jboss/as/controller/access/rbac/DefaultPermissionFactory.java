@@ -111,6 +111,7 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
         final CombinationPolicy combinationPolicy = authorizerConfiguration.getPermissionCombinationPolicy();
         ManagementPermissionCollection simple = null;
         Map<Action.ActionEffect, CombinationManagementPermission> combined = null;
+        boolean scoped = false;
         for (String roleName : roles) {
             if (combinationPolicy == CombinationPolicy.REJECTING && simple != null) {
                 throw ControllerLogger.ROOT_LOGGER.illegalMultipleRoles();
@@ -119,6 +120,7 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
             if (role == null) {
                 continue;
             }
+            scoped |= currentPerms.scopedRoles.contains(getOfficialForm(roleName));
             if (simple == null) {
                 simple = role;
             } else {
@@ -152,7 +154,8 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
         if (combined == null) {
             result = simple != null ? simple : NO_PERMISSIONS;
         } else {
-            result = new ManagementPermissionCollection("MULTIPLE ROLES", CombinationManagementPermission.class);
+            // The constraints of scoped roles change as the hosts or server groups they are scoped to are updated
+            result = new ManagementPermissionCollection("MULTIPLE ROLES", CombinationManagementPermission.class, !scoped);
             for (CombinationManagementPermission cmp : combined.values()) {
                 result.add(cmp);
             }
@@ -269,7 +272,7 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
             for (Map.Entry<String, ScopedBase> entry : scopedBaseMap.entrySet()) {
                 addScopedRoleInternal(entry.getKey(), entry.getValue().base, entry.getValue().constraint);
             }
-            permsHolder = new PermsHolder(permissionsByRole, constraintFactories);
+            permsHolder = new PermsHolder(permissionsByRole, scopedBaseMap.keySet(), constraintFactories);
             rolePermissionsConfigured = true;
         }
         return permsHolder;
@@ -280,7 +283,7 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
         Map<String, ManagementPermissionCollection> result = new HashMap<String, ManagementPermissionCollection>();
         for (StandardRole standardRole : StandardRole.values()) {
             String officialForm = getOfficialForm(standardRole);
-            ManagementPermissionCollection rolePerms = new ManagementPermissionCollection(officialForm, SimpleManagementPermission.class);
+            ManagementPermissionCollection rolePerms = new ManagementPermissionCollection(officialForm, SimpleManagementPermission.class, true);
             for (Action.ActionEffect actionEffect : Action.ActionEffect.values()) {
                 if (standardRole.isActionEffectAllowed(actionEffect)) {
                     Constraint[] constraints = new Constraint[constraintFactories.size()];
@@ -418,10 +421,12 @@ public class DefaultPermissionFactory implements PermissionFactory, AuthorizerCo
                 Collections.synchronizedMap(new HashMap<Set<String>, PermissionCollection>());
         private final Map<String, ManagementPermissionCollection> permsByRole =
                 new HashMap<String, ManagementPermissionCollection>();
+        private final Set<String> scopedRoles;
         private final ConstraintFactory[] constraintFactories;
 
-        private PermsHolder(Map<String, ManagementPermissionCollection> permsByRole, SortedSet<ConstraintFactory> constraintFactories) {
+        private PermsHolder(Map<String, ManagementPermissionCollection> permsByRole, Set<String> scopedRoles, SortedSet<ConstraintFactory> constraintFactories) {
             this.permsByRole.putAll(permsByRole);
+            this.scopedRoles = new HashSet<String>(scopedRoles);
             this.constraintFactories = constraintFactories.toArray(new ConstraintFactory[constraintFactories.size()]);
         }
 
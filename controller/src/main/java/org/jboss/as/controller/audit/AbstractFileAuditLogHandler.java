@@ -17,6 +17,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 
 /**
  *  All methods on this class should be called with {@link org.jboss.as.controller.audit.ManagedAuditLoggerImpl}'s lock taken.
@@ -88,6 +89,24 @@ public abstract class AbstractFileAuditLogHandler extends AuditLogHandler {
         }
     }
 
+    @Override
+    void writeFormattedLogItems(List<String> formattedItems) throws IOException {
+        final FileOutputStream fos = new FileOutputStream(file, true);
+        final BufferedOutputStream output = new BufferedOutputStream(fos);
+        try {
+            for (String formattedItem : formattedItems) {
+                output.write(formattedItem.getBytes(StandardCharsets.UTF_8));
+                output.write(LINE_TERMINATOR);
+            }
+
+            //Flush and force the file to sync once for the whole batch
+            output.flush();
+            fos.getFD().sync();
+        } finally {
+            IoUtils.safeClose(output);
+        }
+    }
+
     @Override
     boolean isDifferent(AuditLogHandler other){
         if (other instanceof AbstractFileAuditLogHandler == false){
@@ -71,6 +71,32 @@ abstract class AuditLogHandler {
         }
     }
 
+    /**
+     * Formats a log item, to be written as part of a batch by {@link #writeLogItems(List)}.
+     *
+     * @param item the log item
+     * @return the formatted log item
+     */
+    String formatLogItem(AuditLogItem item) {
+        return item.format(formatter);
+    }
+
+    /**
+     * Writes a batch of formatted log items, in the given order.
+     *
+     * @param formattedItems the formatted log items
+     */
+    void writeLogItems(List<String> formattedItems) {
+        FailureCountHandler fch = getFailureCountHandler();
+        try {
+            initialize();
+            writeFormattedLogItems(formattedItems);
+            fch.success();
+        } catch (Throwable t) {
+            fch.failure(t);
+        }
+    }
+
     void recycle() {
         this.failureCount = 0;
         stop();
@@ -116,6 +142,12 @@ abstract class AuditLogHandler {
     abstract void stop();
     abstract void writeLogItem(String formattedItem) throws IOException;
 
+    void writeFormattedLogItems(List<String> formattedItems) throws IOException {
+        for (String formattedItem : formattedItems) {
+            writeLogItem(formattedItem);
+        }
+    }
+
     List<ModelNode> listLastEntries() {
         return Collections.emptyList();
     }
@@ -0,0 +1,200 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.audit;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.jboss.as.controller.logging.ControllerLogger;
+
+/**
+ * Bounded queue of audit log records, written in batches by a background thread, so that the threads logging the
+ * records neither format nor write them.
+ * <p>
+ * The queue's monitor is only held to add or remove records, never while the records are written. Once the queue is
+ * full, further records either wait until the queue has capacity again, or are dropped and counted.
+ *
+ * @param <E> the type of the queued records
+ */
+final class AuditLogQueue<E> {
+
+    /** How long the writing thread waits for further records before it terminates. */
+    private static final long IDLE_TIMEOUT = TimeUnit.SECONDS.toNanos(60);
+
+    private final String name;
+    private final int capacity;
+    private final int batchSize;
+    private final boolean dropOnOverflow;
+    private final Consumer<List<E>> writer;
+
+    private final ArrayDeque<E> queue;
+    private long dropped;
+    private boolean dropping;
+    private boolean writing;
+    private Thread thread;
+
+    /**
+     * Creates a new queue.
+     *
+     * @param name the name of the writing thread
+     * @param capacity the maximum number of queued records
+     * @param batchSize the maximum number of records written at once
+     * @param dropOnOverflow {@code true} if records are dropped while the queue is full, or {@code false} if they wait
+     *                       until the queue has capacity again
+     * @param writer writes a batch of records, in the order they were queued
+     */
+    AuditLogQueue(String name, int capacity, int batchSize, boolean dropOnOverflow, Consumer<List<E>> writer) {
+        this.name = name;
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.dropOnOverflow = dropOnOverflow;
+        this.writer = writer;
+        this.queue = new ArrayDeque<>(capacity);
+    }
+
+    /**
+     * Queues a record.
+     *
+     * @param record the record
+     * @param mandatory {@code true} if the record must not be dropped, regardless of the overflow policy
+     * @return {@code true} if the record was queued, or {@code false} if it was dropped
+     */
+    synchronized boolean add(E record, boolean mandatory) {
+        if (queue.size() >= capacity) {
+            if (dropOnOverflow && !mandatory) {
+                dropped++;
+                if (!dropping) {
+                    dropping = true;
+                    ControllerLogger.MGMT_OP_LOGGER.droppingAuditLogRecords(capacity);
+                }
+                return false;
+            }
+            if (thread == null) {
+                // Never wait for capacity without a thread writing the queued records
+                startThread();
+            }
+            boolean interrupted = false;
+            try {
+                while (queue.size() >= capacity) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        dropping = false;
+        queue.add(record);
+        if (thread == null) {
+            startThread();
+        } else {
+            notifyAll();
+        }
+        return true;
+    }
+
+    private void startThread() {
+        assert Thread.holdsLock(this);
+        thread = new Thread(this::run, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Waits until all queued records were written.
+     */
+    synchronized void flush() {
+        boolean interrupted = false;
+        try {
+            while (!queue.isEmpty() || writing) {
+                try {
+                    wait();
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of records that were not written yet.
+     *
+     * @return the number of records
+     */
+    synchronized int getDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the number of records dropped while the queue was full.
+     *
+     * @return the number of records
+     */
+    synchronized long getDropped() {
+        return dropped;
+    }
+
+    private void run() {
+        final List<E> batch = new ArrayList<>(batchSize);
+        for (;;) {
+            synchronized (this) {
+                writing = false;
+                notifyAll();
+                try {
+                    long remaining = IDLE_TIMEOUT;
+                    final long deadline = System.nanoTime() + IDLE_TIMEOUT;
+                    while (queue.isEmpty() && remaining > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                        remaining = deadline - System.nanoTime();
+                    }
+                } catch (InterruptedException e) {
+                    // Terminate, unless records are queued
+                }
+                if (queue.isEmpty()) {
+                    // A new thread is started once a further record is queued
+                    thread = null;
+                    return;
+                }
+                while (batch.size() < batchSize && !queue.isEmpty()) {
+                    batch.add(queue.poll());
+                }
+                writing = true;
+                // Wake up the threads waiting for capacity
+                notifyAll();
+            }
+            try {
+                writer.accept(batch);
+            } catch (RuntimeException e) {
+                ControllerLogger.MGMT_OP_LOGGER.failedToUpdateAuditLog(e);
+            } catch (Error e) {
+                synchronized (this) {
+                    thread = null;
+                    writing = false;
+                    if (!queue.isEmpty()) {
+                        // Otherwise nothing writes the remaining records, and flushing or waiting for capacity never returns
+                        startThread();
+                    }
+                    notifyAll();
+                }
+                throw e;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+}
@@ -181,6 +181,30 @@ public interface ManagedAuditLogger extends AuditLogger {
         return Collections.emptyList();
     }
 
+    /**
+     * Gets the number of audit log records queued to be written in the background.
+     *
+     * @return the number of records, or {@code 0} if records are written synchronously
+     */
+    default int getQueueDepth() {
+        return 0;
+    }
+
+    /**
+     * Gets the number of audit log records dropped as the queue of records to be written in the background was full.
+     *
+     * @return the number of records
+     */
+    default long getDroppedRecordCount() {
+        return 0;
+    }
+
+    /**
+     * Waits until the audit log records queued to be written in the background were written.
+     */
+    default void flush() {
+    }
+
     /**
      * Callback for the controller to call before the controller is booted
      */
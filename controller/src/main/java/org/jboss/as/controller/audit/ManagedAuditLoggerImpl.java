@@ -11,12 +11,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 import org.jboss.as.controller.OperationContext.ResultAction;
 import org.jboss.as.controller.PathAddress;
@@ -25,17 +27,30 @@ import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.core.security.AccessMechanism;
 import org.jboss.dmr.ModelNode;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Audit logger wrapper
+ * <p>
+ * If configured via the {@value #QUEUE_SIZE_PROPERTY} system property, the audit log records are not written by the
+ * threads logging them, but queued and written in batches by a background thread. Each handler then writes a batch of
+ * records at once, e.g. syncing a file handler's file once per batch.
  *
  * @author Brian Stansberry (c) 2012 Red Hat Inc.
  * @author Kabir Khan
  */
 public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditLogger.AuditLogHandlerUpdater {
+    /** The capacity of the queue of records written in the background. Records are written synchronously if not positive, which is the default. */
+    public static final String QUEUE_SIZE_PROPERTY = "org.jboss.as.controller.audit.queue.size";
+    /** Either {@code block}, the default, to wait until the full queue has capacity, or {@code drop} to drop and count records while the queue is full. */
+    public static final String QUEUE_OVERFLOW_PROPERTY = "org.jboss.as.controller.audit.queue.overflow";
+
     /** Maximum number of consecutive logging failures before we stop logging */
     private static final short MAX_FAILURE_COUNT = 10;
 
+    /** Maximum number of queued records written at once */
+    private static final int MAX_BATCH_SIZE = 256;
+
     private final List<ManagedAuditLoggerImpl> childImpls;
 
     /** If we are the core audit logger, list the children */
@@ -44,6 +59,10 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
     /** Guarded by config's auditLock - updates to the handlers */
     private HandlerUpdateTask handlerUpdateTask;
 
+    /** Whether handlerUpdateTask is set, so that queueing a record only takes the lock if there are handler updates.
+      * Only change with lock held */
+    private volatile boolean handlerUpdatesPending;
+
     /** Guarded by config's auditLock - the messages logged while in the QUEUEING state */
     private final List<AuditLogItem> queuedItems = new ArrayList<AuditLogItem>();
 
@@ -57,7 +76,11 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
     private final AtomicBoolean runDisabledFastPath = new AtomicBoolean(false);
 
     public ManagedAuditLoggerImpl(String asVersion, boolean server) {
-        config = new CoreAuditLogConfiguration(asVersion, server);
+        this(asVersion, server, getQueueSize(), isDropOnOverflow());
+    }
+
+    ManagedAuditLoggerImpl(String asVersion, boolean server, int queueSize, boolean dropOnOverflow) {
+        config = new CoreAuditLogConfiguration(asVersion, server, queueSize, dropOnOverflow);
         childImpls = new ArrayList<ManagedAuditLoggerImpl>();
     }
 
@@ -73,9 +96,16 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         if (runDisabledFastPath.get())
             return;
 
+        final AuditLogQueue<QueuedLogItem> queue = config.getQueue();
+        if (queue != null) {
+            queueLogItem(queue, readOnly, () -> AuditLogItem.createModelControllerItem(config.getAsVersion(), readOnly, config.isBooting(), resultAction,
+                    userId, domainUUID, accessMechanism, remoteAddress, operations));
+            return;
+        }
+
         config.lock();
         try {
-            if (skipLogging(readOnly)) {
+            if (skipLogging(readOnly, config.isBooting())) {
                 return;
             }
             storeLogItem(
@@ -95,9 +125,16 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         if (runDisabledFastPath.get())
             return;
 
+        final AuditLogQueue<QueuedLogItem> queue = config.getQueue();
+        if (queue != null) {
+            queueLogItem(queue, readOnly, () -> AuditLogItem.createMethodAccessItem(config.getAsVersion(), readOnly, config.isBooting(), userId,
+                    domainUUID, accessMechanism, remoteAddress, methodName, methodSignature, methodParams, error));
+            return;
+        }
+
         config.lock();
         try {
-            if (skipLogging(readOnly)) {
+            if (skipLogging(readOnly, config.isBooting())) {
                 return;
             }
             storeLogItem(
@@ -111,8 +148,8 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         }
     }
 
-    private boolean skipLogging(boolean readOnly) {
-        if (config.isBooting() && !isLogBoot() || readOnly && !isLogReadOnly()) {
+    private boolean skipLogging(boolean readOnly, boolean booting) {
+        if (booting && !isLogBoot() || readOnly && !isLogReadOnly()) {
             if (getLoggerStatus() == Status.DISABLED) {
                 // switch to the fast path for the next event
                 runDisabledFastPath.set(true);
@@ -122,6 +159,53 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         return false;
     }
 
+    /**
+     * Queues a record to be written in the background, along with the handler updates of the operation it records,
+     * which are applied once the record was written.
+     */
+    private void queueLogItem(AuditLogQueue<QueuedLogItem> queue, boolean readOnly, Supplier<AuditLogItem> itemFactory) {
+        final HandlerUpdateTask updates = takeHandlerUpdates();
+        // Checked again once the record is written, as the configuration may have changed meanwhile
+        final boolean skip = config.isBooting() && !config.isLogBoot() || readOnly && !config.isLogReadOnly();
+        if (skip && updates == null) {
+            return;
+        }
+        // The handler updates must not be dropped
+        queue.add(new QueuedLogItem(this, readOnly, skip ? null : itemFactory.get(), updates), updates != null);
+    }
+
+    private HandlerUpdateTask takeHandlerUpdates() {
+        if (!handlerUpdatesPending) {
+            return null;
+        }
+        config.lock();
+        try {
+            final HandlerUpdateTask updates = handlerUpdateTask;
+            handlerUpdateTask = null;
+            handlerUpdatesPending = false;
+            return updates;
+        } finally {
+            config.unlock();
+        }
+    }
+
+    /** Called by the queue's thread with config's audit lock taken */
+    private void logQueuedItem(QueuedLogItem queued) {
+        try {
+            if (queued.item != null && !skipLogging(queued.readOnly, queued.item.isBooting())) {
+                storeLogItem(queued.item);
+            }
+        } catch (Exception e) {
+            handleLoggingException(e);
+        } finally {
+            if (queued.updates != null) {
+                // Write the records queued so far before the handlers are changed
+                config.getBatch().write();
+                queued.updates.applyChanges();
+            }
+        }
+    }
+
     public ManagedAuditLoggerImpl createNewConfiguration(boolean manualCommit) {
         if (childImpls == null) {
             throw ControllerLogger.ROOT_LOGGER.canOnlyCreateChildAuditLoggerForMainAuditLogger();
@@ -240,11 +324,16 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
 
     /** protected by config's audit lock */
     private void writeLogItem(AuditLogItem item) throws IOException{
+        final LogItemBatch batch = config.getBatch();
         Set<String> formatterNames = new HashSet<String>();
         try {
             for (AuditLogHandler handler : config.getHandlersForLogging()) {
                 formatterNames.add(handler.getFormatterName());
-                handler.writeLogItem(item);
+                if (batch != null) {
+                    batch.add(handler, item);
+                } else {
+                    handler.writeLogItem(item);
+                }
             }
         } finally {
             for (String formatterName : formatterNames) {
@@ -273,6 +362,7 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         try {
             if (handlerUpdateTask == null){
                 handlerUpdateTask = new HandlerUpdateTask();
+                handlerUpdatesPending = true;
             }
             handlerUpdateTask.addHandler(handler);
             runDisabledFastPath.set(false);
@@ -289,6 +379,7 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
             if (handler.isDifferent(existing)){
                 if (handlerUpdateTask == null){
                     handlerUpdateTask = new HandlerUpdateTask();
+                    handlerUpdatesPending = true;
                 }
                 handlerUpdateTask.replaceHandler(handler);
                 runDisabledFastPath.set(false);
@@ -304,6 +395,7 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         try {
             if (handlerUpdateTask == null){
                 handlerUpdateTask = new HandlerUpdateTask();
+                handlerUpdatesPending = true;
             }
             handlerUpdateTask.removeHandler(name);
             runDisabledFastPath.set(false);
@@ -318,6 +410,7 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         try {
             if (handlerUpdateTask == null){
                 handlerUpdateTask = new HandlerUpdateTask();
+                handlerUpdatesPending = true;
             }
             handlerUpdateTask.addHandlerReference(referenceAddress);
             runDisabledFastPath.set(false);
@@ -332,6 +425,7 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         try {
             if (handlerUpdateTask == null){
                 handlerUpdateTask = new HandlerUpdateTask();
+                handlerUpdatesPending = true;
             }
             handlerUpdateTask.removeHandlerReference(referenceAddress);
             runDisabledFastPath.set(false);
@@ -347,6 +441,7 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
             if (handlerUpdateTask != null){
                 handlerUpdateTask.rollbackChanges();
                 handlerUpdateTask = null;
+                handlerUpdatesPending = false;
             }
         } finally {
             config.unlock();
@@ -372,6 +467,7 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         if (handlerUpdateTask != null) {
             handlerUpdateTask.applyChanges();
             handlerUpdateTask = null;
+            handlerUpdatesPending = false;
         }
     }
 
@@ -510,6 +606,47 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         }
     }
 
+    @Override
+    public int getQueueDepth() {
+        final AuditLogQueue<QueuedLogItem> queue = config.getQueue();
+        return queue == null ? 0 : queue.getDepth();
+    }
+
+    @Override
+    public long getDroppedRecordCount() {
+        final AuditLogQueue<QueuedLogItem> queue = config.getQueue();
+        return queue == null ? 0 : queue.getDropped();
+    }
+
+    @Override
+    public void flush() {
+        final AuditLogQueue<QueuedLogItem> queue = config.getQueue();
+        if (queue != null) {
+            queue.flush();
+        }
+    }
+
+    private static int getQueueSize() {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(QUEUE_SIZE_PROPERTY, null);
+        try {
+            return value == null ? 0 : Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            // Write synchronously
+            ControllerLogger.ROOT_LOGGER.invalidSystemPropertyValueUsingDefault(value, QUEUE_SIZE_PROPERTY);
+            return 0;
+        }
+    }
+
+    private static boolean isDropOnOverflow() {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(QUEUE_OVERFLOW_PROPERTY, "block").trim();
+        if ("drop".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if (!"block".equalsIgnoreCase(value)) {
+            ControllerLogger.ROOT_LOGGER.invalidSystemPropertyValueUsingDefault(value, QUEUE_OVERFLOW_PROPERTY);
+        }
+        return false;
+    }
 
     /**
      * Abstract base class for core and new configuration
@@ -577,6 +714,15 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
             return sharedConfiguration.isServer();
         }
 
+        AuditLogQueue<QueuedLogItem> getQueue() {
+            return sharedConfiguration.getQueue();
+        }
+
+        /** Call with lock taken */
+        LogItemBatch getBatch() {
+            return sharedConfiguration.getBatch();
+        }
+
         /** Call with lock taken */
         AuditLogItemFormatter getFormatter(String name) {
             return sharedConfiguration.getFormatter(name);
@@ -592,7 +738,7 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
             sharedConfiguration.setBooting(booting);
         }
 
-        /** Call with lock taken */
+        /** May be called without the lock taken */
         boolean isBooting() {
             return sharedConfiguration.isBooting();
         }
@@ -647,8 +793,8 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
      */
     private static class CoreAuditLogConfiguration extends ManagedAuditLogConfiguration {
 
-        CoreAuditLogConfiguration(String asVersion, boolean server) {
-            super(new SharedConfiguration(asVersion, server), true, false);
+        CoreAuditLogConfiguration(String asVersion, boolean server, int queueSize, boolean dropOnOverflow) {
+            super(new SharedConfiguration(asVersion, server, queueSize, dropOnOverflow), true, false);
         }
 
         @Override
@@ -729,13 +875,47 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
         /** Guarded by auditLock - the handlers configured in the global file-handlers and syslog-handlers section */
         private final Map<String, AuditLogHandler> configuredHandlers = new HashMap<String, AuditLogHandler>();
 
-        /** Guarded by auditLock - whether we are boothing or not */
-        private boolean booting = true;
+        /** Changed with auditLock taken - whether we are boothing or not */
+        private volatile boolean booting = true;
+
+        /** The queue of records written in the background, or null if records are written synchronously */
+        private final AuditLogQueue<QueuedLogItem> queue;
 
+        /** Guarded by auditLock - the records written by the queue's thread */
+        private LogItemBatch batch;
 
-        SharedConfiguration(String asVersion, boolean server) {
+
+        SharedConfiguration(String asVersion, boolean server, int queueSize, boolean dropOnOverflow) {
             this.asVersion = asVersion;
             this.server = server;
+            this.queue = queueSize > 0 ? new AuditLogQueue<>("Management audit log writer", queueSize, Math.min(queueSize, MAX_BATCH_SIZE),
+                    dropOnOverflow, this::writeQueuedItems) : null;
+        }
+
+        /** Called by the queue's thread, taking the lock once per batch */
+        private void writeQueuedItems(List<QueuedLogItem> items) {
+            lock();
+            try {
+                batch = new LogItemBatch();
+                try {
+                    for (QueuedLogItem item : items) {
+                        item.logger.logQueuedItem(item);
+                    }
+                } finally {
+                    batch.write();
+                    batch = null;
+                }
+            } finally {
+                unlock();
+            }
+        }
+
+        AuditLogQueue<QueuedLogItem> getQueue() {
+            return queue;
+        }
+
+        LogItemBatch getBatch() {
+            return batch;
         }
 
         public void recycleHandler(String name) {
@@ -798,6 +978,50 @@ public class ManagedAuditLoggerImpl implements ManagedAuditLogger, ManagedAuditL
     }
 
 
+    /**
+     * A record queued to be written in the background.
+     */
+    private static class QueuedLogItem {
+        private final ManagedAuditLoggerImpl logger;
+        private final boolean readOnly;
+        /** null if the record is not logged, but only the handler updates are applied */
+        private final AuditLogItem item;
+        private final HandlerUpdateTask updates;
+
+        QueuedLogItem(ManagedAuditLoggerImpl logger, boolean readOnly, AuditLogItem item, HandlerUpdateTask updates) {
+            this.logger = logger;
+            this.readOnly = readOnly;
+            this.item = item;
+            this.updates = updates;
+        }
+    }
+
+    /**
+     * The records written by the queue's thread, formatted right away but written to each handler at once.
+     * All methods are called with the lock taken.
+     */
+    private static class LogItemBatch {
+        private final Map<AuditLogHandler, List<String>> formattedItems = new LinkedHashMap<>();
+
+        void add(AuditLogHandler handler, AuditLogItem item) {
+            final String formattedItem;
+            try {
+                formattedItem = handler.formatLogItem(item);
+            } catch (Throwable t) {
+                handler.getFailureCountHandler().failure(t);
+                return;
+            }
+            formattedItems.computeIfAbsent(handler, key -> new ArrayList<>()).add(formattedItem);
+        }
+
+        void write() {
+            for (Map.Entry<AuditLogHandler, List<String>> entry : formattedItems.entrySet()) {
+                entry.getKey().writeLogItems(entry.getValue());
+            }
+            formattedItems.clear();
+        }
+    }
+
     /**
      * When we add a handler(reference) we want that to be part of the current write.
      * If we remove/change and handler, and or reference, we don't want that to take effect until the next write.
@@ -65,6 +65,8 @@ public class ModelDescriptionConstants {
     public static final String AUTHENTICATION = "authentication";
     public static final String AUTHENTICATION_CONTEXT = "authentication-context";
     public static final String AUTHORIZATION = "authorization";
+    public static final String AUTHORIZATION_CACHE_HIT_COUNT = "authorization-cache-hit-count";
+    public static final String AUTHORIZATION_CACHE_MISS_COUNT = "authorization-cache-miss-count";
     public static final String AUTO_START = "auto-start";
     public static final String BACKLOG = "backlog";
     public static final String BASE_DN = "base-dn";
@@ -95,6 +97,8 @@ public class ModelDescriptionConstants {
     public static final String COMPLEX_ATTRIBUTE = "complex-attribute";
     public static final String COMPOSITE = "composite";
     public static final String CONFIGURATION_CHANGES="configuration-changes";
+    public static final String CONFIGURATION_PERSISTENCE_LAG = "configuration-persistence-lag";
+    public static final String CONFIGURATION_PERSISTENCE_PENDING_WRITES = "configuration-persistence-pending-writes";
     public static final String CONNECTION_HIGH_WATER = "connection-high-water";
     public static final String CONNECTION_LOW_WATER = "connection-low-water";
     public static final String CONSTRAINT = "constraint";
@@ -157,6 +161,7 @@ public class ModelDescriptionConstants {
     public static final String DOMAIN_RESULTS = "domain-results";
     public static final String DOMAIN_ROLLOUT = "domain-rollout";
     public static final String DOMAIN_UUID = "domain-uuid";
+    public static final String DROPPED_RECORD_COUNT = "dropped-record-count";
     public static final String DYNAMIC = "dynamic";
     public static final String DYNAMIC_ELEMENTS = "dynamic-elements";
     public static final String DUMP_SERVICES = "dump-services";
@@ -179,6 +184,8 @@ public class ModelDescriptionConstants {
     public static final String EXECUTE_FOR_COORDINATOR = "execute-for-coordinator";
     public static final String EXECUTION_STATUS = "execution-status";
     public static final String EXPLODE = "explode";
+    public static final String EXPRESSION_CACHE_HIT_COUNT = "expression-cache-hit-count";
+    public static final String EXPRESSION_CACHE_MISS_COUNT = "expression-cache-miss-count";
     public static final String EXPRESSIONS_ALLOWED = "expressions-allowed";
     public static final String EXTENSION = "extension";
     public static final String FACILITY = "facility";
@@ -187,6 +194,7 @@ public class ModelDescriptionConstants {
     public static final String FAILED_SERVICES = "failed-services";
     public static final String FAILURE_COUNT = "failure-count";
     public static final String FAILURE_DESCRIPTION = "failure-description";
+    public static final String FAST_PATH_OPERATION_COUNT = "fast-path-operation-count";
     public static final String FEATURE = "feature";
     public static final String FEATURE_ID = "feature-id";
     public static final String FEATURE_REFERENCE = "feature-reference";
@@ -203,6 +211,7 @@ public class ModelDescriptionConstants {
     public static final String FIXED_SOURCE_PORT = "fixed-source-port";
     public static final String FORCE = "force";
     public static final String FORMATTER = "formatter";
+    public static final String FULL_PATH_OPERATION_COUNT = "full-path-operation-count";
     public static final String FULL_REPLACE_DEPLOYMENT = "full-replace-deployment";
     public static final String GENERATE_SELF_SIGNED_CERTIFICATE_HOST = "generate-self-signed-certificate-host";
     public static final String GRACEFUL_SHUTDOWN_TIMEOUT = "graceful-shutdown-timeout";
@@ -276,6 +285,7 @@ public class ModelDescriptionConstants {
     public static final String LEVEL = "level";
     public static final String LDAP = "ldap";
     public static final String LDAP_CONNECTION = "ldap-connection";
+    public static final String LIMIT = "limit";
     public static final String LIST_SNAPSHOTS_OPERATION = "list-snapshots";
     public static final String LIST_MODULES = "list-modules";
     public static final String LOCAL = "local";
@@ -335,7 +345,10 @@ public class ModelDescriptionConstants {
     public static final String NOTIFICATION_DATA_TYPE = "data-type";
     public static final String NOTIFICATION_TYPE = "notification-type";
     public static final String NOTIFICATIONS = "notifications";
+    public static final String NOTIFICATIONS_DELIVERED = "notifications-delivered";
+    public static final String NOTIFICATIONS_DROPPED = "notifications-dropped";
     public static final String NO_SERVICES = "no-services";
+    public static final String OFFSET = "offset";
     /** Use this as the standard operation name field in the operation *request* ModelNode */
     public static final String OP = "operation";
     /** Use this standard operation address field in the operation *request* ModelNode */
@@ -392,6 +405,7 @@ public class ModelDescriptionConstants {
     public static final String PROVIDES = "provides";
     public static final String PROXIES = "proxies";
     public static final String QUERY = "query";
+    public static final String QUEUE_DEPTH = "queue-depth";
     public static final String READ = "read";
     public static final String READ_ATTRIBUTE_OPERATION = "read-attribute";
     public static final String READ_ATTRIBUTE_GROUP_OPERATION = "read-attribute-group";
@@ -523,6 +537,8 @@ public class ModelDescriptionConstants {
     public static final String SOCKET_BINDING_GROUP_NAME = "socket-binding-group-name";
     public static final String SOCKET_BINDING_PORT_OFFSET = "socket-binding-port-offset";
     public static final String SOCKET_BINDING_REF = "socket-binding-ref";
+    public static final String SORT_BY = "sort-by";
+    public static final String SORT_DESCENDING = "sort-descending";
     public static final String SOURCE_INTERFACE = "source-interface";
     public static final String SOURCE_PORT = "source-port";
     public static final String SPEC = "spec";
@@ -46,6 +46,7 @@ import org.jboss.as.controller.capability.registry.RegistrationPoint;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.controller.interfaces.InterfaceCriteria;
 import org.jboss.as.controller.notification.Notification;
+import org.jboss.as.controller.notification.NotificationHandler;
 import org.jboss.as.controller.parsing.Element;
 import org.jboss.as.controller.persistence.ConfigurationPersistenceException;
 import org.jboss.as.controller.registry.OperationEntry;
@@ -3881,4 +3882,33 @@ public interface ControllerLogger extends BasicLogger {
 
     @Message(id = 536, value = "Value for parameter '%1$s' must be less than or equal to '%3$s': '%2$s'")
     OperationFailedException inclusiveUpperBoundExceeded(String name, Object value, Object upperBound);
+
+    /**
+     * Logs a warning message indicating that audit log records are dropped as the audit log queue is full.
+     *
+     * @param capacity the capacity of the queue
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 537, value = "The management operation audit log queue is full with %d records; dropping audit log records until it has capacity again")
+    void droppingAuditLogRecords(int capacity);
+
+    /**
+     * Logs a warning message indicating that a notification handler does not keep up with the notifications.
+     *
+     * @param handler the notification handler
+     * @param capacity the capacity of the handler's queue of notifications
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 538, value = "Notification handler %s does not keep up with the notifications; its queue is full with %d notifications")
+    void slowNotificationHandler(NotificationHandler handler, int capacity);
+
+    /**
+     * Logs a warning message indicating that the value of a system property is invalid, so its default is used.
+     *
+     * @param value the invalid value
+     * @param name  the name of the system property
+     */
+    @LogMessage(level = WARN)
+    @Message(id = 539, value = "Invalid value '%s' for system property '%s' -- using the default")
+    void invalidSystemPropertyValueUsingDefault(String value, String name);
 }
@@ -7,7 +7,9 @@ package org.jboss.as.controller.notification;
 
 import java.util.concurrent.ExecutorService;
 
+import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.registry.NotificationHandlerRegistration;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * The NotificationSupport can be used to emit notifications.
@@ -28,13 +30,39 @@ public interface NotificationSupport {
      */
     void emit(final Notification... notifications);
 
+    /**
+     * Gets the number of notifications delivered, counting a notification once per handler it was delivered to.
+     *
+     * @return the number of delivered notifications
+     */
+    default long getDeliveredNotificationCount() {
+        return 0;
+    }
+
+    /**
+     * Gets the number of notifications dropped for a handler, as the handler did not keep up with the notifications.
+     *
+     * @return the number of dropped notifications
+     */
+    default long getDroppedNotificationCount() {
+        return 0;
+    }
+
     class Factory {
+
+        /** The maximum number of notifications queued for a handler, if emitted asynchronously. Defaults to 1024. */
+        public static final String HANDLER_QUEUE_SIZE_PROPERTY = "org.jboss.as.controller.notification.handler.queue.size";
+        /** Either {@code block}, the default, to wait until a handler's full queue has capacity, or {@code drop} to drop and count notifications for a handler while its queue is full. */
+        public static final String HANDLER_QUEUE_OVERFLOW_PROPERTY = "org.jboss.as.controller.notification.handler.queue.overflow";
+
         private Factory() {
         }
 
         /**
          * If the {@code executorService} parameter is null, the notifications will be emitted synchronously
-         * and may be subject to handlers blocking the execution.
+         * and may be subject to handlers blocking the execution. Otherwise, the notifications are queued per handler,
+         * as configured by the {@value #HANDLER_QUEUE_SIZE_PROPERTY} and {@value #HANDLER_QUEUE_OVERFLOW_PROPERTY}
+         * system properties.
          *
          * @param executorService can be {@code null}.
          */
@@ -43,8 +71,30 @@ public interface NotificationSupport {
             if (executorService == null) {
                 return new NotificationSupports.BlockingNotificationSupport(registry);
             } else {
-                return new NotificationSupports.NonBlockingNotificationSupport(registry, executorService);
+                return new NotificationSupports.NonBlockingNotificationSupport(registry, executorService, getHandlerQueueSize(), isDropOnOverflow());
+            }
+        }
+
+        private static int getHandlerQueueSize() {
+            final String value = WildFlySecurityManager.getPropertyPrivileged(HANDLER_QUEUE_SIZE_PROPERTY, null);
+            try {
+                final int size = value == null ? NotificationSupports.DEFAULT_HANDLER_QUEUE_SIZE : Integer.parseInt(value.trim());
+                return size > 0 ? size : NotificationSupports.DEFAULT_HANDLER_QUEUE_SIZE;
+            } catch (NumberFormatException e) {
+                ControllerLogger.ROOT_LOGGER.invalidSystemPropertyValueUsingDefault(value, HANDLER_QUEUE_SIZE_PROPERTY);
+                return NotificationSupports.DEFAULT_HANDLER_QUEUE_SIZE;
+            }
+        }
+
+        private static boolean isDropOnOverflow() {
+            final String value = WildFlySecurityManager.getPropertyPrivileged(HANDLER_QUEUE_OVERFLOW_PROPERTY, "block").trim();
+            if ("drop".equalsIgnoreCase(value)) {
+                return true;
+            }
+            if (!"block".equalsIgnoreCase(value)) {
+                ControllerLogger.ROOT_LOGGER.invalidSystemPropertyValueUsingDefault(value, HANDLER_QUEUE_OVERFLOW_PROPERTY);
             }
+            return false;
         }
     }
 }
@@ -5,10 +5,15 @@
 
 package org.jboss.as.controller.notification;
 
+import java.util.ArrayDeque;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 
@@ -24,14 +29,21 @@ import org.jboss.as.controller.registry.NotificationHandlerRegistration;
  * The {@code NonBlockingNotificationSupport} will fire the notifications in a separate thread (provided by its {@code
  *  executorService}.
  * Its {@code emit()} method will return immediately and will not block the code execution.
+ * Each handler has its own bounded queue of notifications to deliver, so that a slow handler does not delay the delivery
+ * to other handlers. Once a handler's queue is full, further notifications either wait for the handler, delaying the
+ * delivery to all handlers, or are dropped for that handler.
  *
  * @author <a href="http://jmesnil.net/">Jeff Mesnil</a> (c) 2014 Red Hat inc.
  */
 class NotificationSupports {
 
+    /** The default maximum number of notifications queued for a handler. */
+    static final int DEFAULT_HANDLER_QUEUE_SIZE = 1024;
+
     static class BlockingNotificationSupport implements NotificationSupport {
 
         private final NotificationHandlerRegistration registry;
+        private final LongAdder delivered = new LongAdder();
 
         public BlockingNotificationSupport(NotificationHandlerRegistration registry) {
             this.registry = registry;
@@ -39,25 +51,32 @@ class NotificationSupports {
 
         @Override
         public void emit(Notification... notifications) {
-            fireNotifications(registry, notifications);
+            fireNotifications(registry, delivered, notifications);
         }
 
         @Override
         public NotificationHandlerRegistration getNotificationRegistry() {
             return registry;
         }
+
+        @Override
+        public long getDeliveredNotificationCount() {
+            return delivered.sum();
+        }
     }
 
     static class NonBlockingNotificationSupport implements  NotificationSupport {
 
         private final NotificationHandlerRegistration registry;
         private final ExecutorService executor;
+        private final int handlerQueueSize;
+        private final boolean dropOnOverflow;
 
         /**
          * Use a concurrent queue to put the notifications in it when {@code emit()} is called.
-         * The queue will be drained in a separate thread and the notifications effectively delivered to the handlers.
+         * The queue will be drained in a separate thread and the notifications dispatched to the queues of the handlers.
          *
-         * This ensures that the notifications will be delivered in the same order they were emitted.
+         * This ensures that the notifications will be delivered to each handler in the same order they were emitted.
          */
         private final Queue<Notification> queue = new ConcurrentLinkedQueue<Notification>();
 
@@ -66,9 +85,29 @@ class NotificationSupports {
          */
         private final ReadWriteLock lock = new ReentrantReadWriteLock();
 
+        /**
+         * The queues of the handlers that have notifications to deliver. A handler's queue is removed once all its
+         * notifications were delivered.
+         */
+        private final Map<NotificationHandler, HandlerQueue> handlerQueues = new ConcurrentHashMap<>();
+
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
         public NonBlockingNotificationSupport(NotificationHandlerRegistration registry, ExecutorService executor) {
+            this(registry, executor, DEFAULT_HANDLER_QUEUE_SIZE, false);
+        }
+
+        /**
+         * @param handlerQueueSize the maximum number of notifications queued for a handler
+         * @param dropOnOverflow {@code true} if notifications are dropped for a handler whose queue is full, or
+         *                       {@code false} if they wait until the handler's queue has capacity again
+         */
+        NonBlockingNotificationSupport(NotificationHandlerRegistration registry, ExecutorService executor, int handlerQueueSize, boolean dropOnOverflow) {
             this.registry = registry;
             this.executor = executor;
+            this.handlerQueueSize = handlerQueueSize;
+            this.dropOnOverflow = dropOnOverflow;
         }
 
         @Override
@@ -85,7 +124,7 @@ class NotificationSupports {
                             if (notification == null) {
                                 break;
                             }
-                            fireNotifications(registry, notification);
+                            dispatchNotification(notification);
                         }
                     } finally {
                         lock.writeLock().unlock();
@@ -98,15 +137,135 @@ class NotificationSupports {
         public NotificationHandlerRegistration getNotificationRegistry() {
             return registry;
         }
+
+        @Override
+        public long getDeliveredNotificationCount() {
+            return delivered.sum();
+        }
+
+        @Override
+        public long getDroppedNotificationCount() {
+            return dropped.sum();
+        }
+
+        private void dispatchNotification(Notification notification) {
+            try {
+                // each notification may have a different subset of handlers depending on their filters
+                for (NotificationHandler handler : registry.findMatchingNotificationHandlers(notification)) {
+                    HandlerQueue handlerQueue;
+                    do {
+                        handlerQueue = handlerQueues.computeIfAbsent(handler, HandlerQueue::new);
+                        // A queue whose notifications were all delivered meanwhile is replaced by a new one
+                    } while (!handlerQueue.add(notification));
+                }
+            } catch (Throwable t) {
+                ControllerLogger.ROOT_LOGGER.failedToEmitNotification(notification, t);
+            }
+        }
+
+        /**
+         * The notifications to deliver to a handler, delivered by a single thread at a time in the order they were
+         * dispatched.
+         */
+        private class HandlerQueue implements Runnable {
+            private final NotificationHandler handler;
+            private final ArrayDeque<Notification> notifications = new ArrayDeque<>();
+            private boolean delivering;
+            private boolean removed;
+            private boolean slow;
+
+            HandlerQueue(NotificationHandler handler) {
+                this.handler = handler;
+            }
+
+            /**
+             * Adds a notification to deliver. Called by the thread dispatching the notifications.
+             *
+             * @return {@code false} if the queue was removed, as all its notifications were delivered
+             */
+            synchronized boolean add(Notification notification) {
+                if (removed) {
+                    return false;
+                }
+                if (notifications.size() >= handlerQueueSize) {
+                    if (!slow) {
+                        slow = true;
+                        ControllerLogger.ROOT_LOGGER.slowNotificationHandler(handler, handlerQueueSize);
+                    }
+                    if (dropOnOverflow) {
+                        dropped.increment();
+                        return true;
+                    }
+                    boolean interrupted = false;
+                    try {
+                        while (notifications.size() >= handlerQueueSize) {
+                            try {
+                                wait();
+                            } catch (InterruptedException e) {
+                                interrupted = true;
+                            }
+                        }
+                    } finally {
+                        if (interrupted) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                }
+                notifications.add(notification);
+                if (!delivering) {
+                    delivering = true;
+                    try {
+                        executor.execute(this);
+                    } catch (RejectedExecutionException e) {
+                        // The process is stopping
+                        ControllerLogger.ROOT_LOGGER.debugf(e, "Not delivering %d notifications to %s", notifications.size(), handler);
+                        dropped.add(notifications.size());
+                        notifications.clear();
+                        remove();
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public void run() {
+                while (true) {
+                    final Notification notification;
+                    synchronized (this) {
+                        notification = notifications.poll();
+                        if (notification == null) {
+                            remove();
+                            return;
+                        }
+                        // Wake up the dispatching thread waiting for capacity
+                        notifyAll();
+                    }
+                    try {
+                        handler.handleNotification(notification);
+                        delivered.increment();
+                    } catch (Throwable t) {
+                        ControllerLogger.ROOT_LOGGER.failedToEmitNotification(notification, t);
+                    }
+                }
+            }
+
+            private void remove() {
+                assert Thread.holdsLock(this);
+                delivering = false;
+                removed = true;
+                handlerQueues.remove(handler, this);
+            }
+        }
     }
 
 
-    private static void fireNotifications(NotificationHandlerRegistration registry, final Notification... notifications) {
+    private static void fireNotifications(NotificationHandlerRegistration registry, LongAdder delivered, final Notification... notifications) {
         for (Notification notification : notifications) {
             try {
                 // each notification may have a different subset of handlers depending on their filters
                 for (NotificationHandler handler : registry.findMatchingNotificationHandlers(notification)) {
                     handler.handleNotification(notification);
+                    delivered.increment();
                 }
             } catch (Throwable t) {
                 ControllerLogger.ROOT_LOGGER.failedToEmitNotification(notification, t);
@@ -4,6 +4,7 @@
  */
 package org.jboss.as.controller.operations.global;
 
+import org.jboss.as.controller.PrimitiveListAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
@@ -73,6 +74,30 @@ class GlobalOperationAttributes {
     .setRequired(true)
     .build();
 
+    static final PrimitiveListAttributeDefinition SELECT = new PrimitiveListAttributeDefinition.Builder(ModelDescriptionConstants.SELECT, ModelType.STRING)
+    .setRequired(false)
+    .build();
+
+    static final SimpleAttributeDefinition OFFSET = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.OFFSET, ModelType.INT)
+    .setRequired(false)
+    .setValidator(new IntRangeValidator(0, true))
+    .build();
+
+    static final SimpleAttributeDefinition LIMIT = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.LIMIT, ModelType.INT)
+    .setRequired(false)
+    .setValidator(new IntRangeValidator(1, true))
+    .build();
+
+    static final SimpleAttributeDefinition SORT_BY = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.SORT_BY, ModelType.STRING)
+    .setValidator(new StringLengthValidator(1, true))
+    .setRequired(false)
+    .build();
+
+    static final SimpleAttributeDefinition SORT_DESCENDING = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.SORT_DESCENDING, ModelType.BOOLEAN)
+    .setRequired(false)
+    .setDefaultValue(ModelNode.FALSE)
+    .build();
+
     static final SimpleAttributeDefinition VALUE = new SimpleAttributeDefinitionBuilder(ModelDescriptionConstants.VALUE, ModelType.STRING)
     .setValidator(new StringLengthValidator(1))
     .setRequired(false)
@@ -103,6 +103,15 @@ public final class QueryOperationHandler extends GlobalOperationHandlers.Abstrac
         readResourceOp.get(ADDRESS).set(operation.get(ADDRESS));
         readResourceOp.get(OP).set(READ_RESOURCE_OPERATION);
         readResourceOp.get(INCLUDE_RUNTIME).set(true);
+        if (select.isDefined()) {
+            // Only read the selected attributes and those the filter criteria refer to
+            final ModelNode attributes = readResourceOp.get(ModelDescriptionConstants.SELECT).set(select);
+            if (where.isDefined()) {
+                for (Property property : where.asPropertyList()) {
+                    attributes.add(property.getName());
+                }
+            }
+        }
 
         // filter/reduce phase
         parentContext.addStep(operation, new FilterReduceHandler(where, operator, select), OperationContext.Stage.MODEL);
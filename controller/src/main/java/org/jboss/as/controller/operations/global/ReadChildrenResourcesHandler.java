@@ -9,20 +9,31 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACC
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_CHILDREN_RESOURCES_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.CHILD_TYPE;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.INCLUDE_DEFAULTS;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.INCLUDE_RUNTIME;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.LIMIT;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.OFFSET;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.PROXIES;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.RECURSIVE;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.RECURSIVE_DEPTH;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.SELECT;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.SORT_BY;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.SORT_DESCENDING;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.TreeMap;
 
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationDefinition;
@@ -31,8 +42,11 @@ import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.access.Action;
+import org.jboss.as.controller.access.AuthorizationResult;
 import org.jboss.as.controller.descriptions.common.ControllerResolver;
 import org.jboss.as.controller.logging.ControllerLogger;
+import org.jboss.as.controller.operations.common.Util;
 import org.jboss.as.controller.registry.ImmutableManagementResourceRegistration;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.dmr.ModelNode;
@@ -47,7 +61,7 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
 
 
     public static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(READ_CHILDREN_RESOURCES_OPERATION, ControllerResolver.getResolver("global"))
-            .setParameters(CHILD_TYPE, RECURSIVE, RECURSIVE_DEPTH, PROXIES, INCLUDE_RUNTIME, INCLUDE_DEFAULTS)
+            .setParameters(CHILD_TYPE, RECURSIVE, RECURSIVE_DEPTH, PROXIES, INCLUDE_RUNTIME, INCLUDE_DEFAULTS, SELECT, SORT_BY, SORT_DESCENDING, OFFSET, LIMIT)
             .setReadOnly()
             .setReplyType(ModelType.LIST)
             .setReplyValueType(ModelType.OBJECT)
@@ -60,6 +74,10 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
 
         final PathAddress address = context.getCurrentAddress();
         final String childType = CHILD_TYPE.resolveModelAttribute(context, operation).asString();
+        final ModelNode sortBy = SORT_BY.resolveModelAttribute(context, operation);
+        final boolean descending = SORT_DESCENDING.resolveModelAttribute(context, operation).asBoolean();
+        final ModelNode offset = OFFSET.resolveModelAttribute(context, operation);
+        final ModelNode limit = LIMIT.resolveModelAttribute(context, operation);
 
         // Build up the op we're going to repeatedly execute
         final ModelNode readOp = new ModelNode();
@@ -69,8 +87,7 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
         RECURSIVE_DEPTH.validateAndSet(operation, readOp);
         PROXIES.validateAndSet(operation, readOp);
         INCLUDE_DEFAULTS.validateAndSet(operation, readOp);
-
-        final Map<PathElement, ModelNode> resources = new HashMap<PathElement, ModelNode>();
+        SELECT.validateAndSet(operation, readOp);
 
         final Resource resource = context.readResource(PathAddress.EMPTY_ADDRESS, false);
         final ImmutableManagementResourceRegistration registry = context.getResourceRegistration();
@@ -81,7 +98,124 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
         }
 
         // Track any excluded items
-        FilteredData filteredData = new FilteredData(address);
+        final FilteredData filteredData = new FilteredData(address);
+
+        final Page page = new Page(offset.asInt(0), limit.asInt(Integer.MAX_VALUE));
+        if (sortBy.isDefined() || offset.isDefined() || limit.isDefined()) {
+            // Only the addressable children are sorted and paged, so that a page is not reduced by the children
+            // filtered afterwards
+            childNames = getAddressableChildren(context, operation, address, childType, childNames, filteredData);
+        }
+
+        if (sortBy.isDefined()) {
+            // Read the attribute the children are sorted by first, and only read the requested page of children afterwards
+            final Map<String, GlobalOperationHandlers.AvailableResponse> sortValues = new HashMap<>();
+            context.addStep(new OperationStepHandler() {
+                @Override
+                public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                    final List<String> sortedNames = sortByValue(context, sortValues, descending);
+                    if (sortedNames != null) {
+                        readChildren(context, readOp, filteredData, address, childType, page.apply(sortedNames));
+                    }
+                }
+            }, OperationContext.Stage.MODEL, true);
+
+            for (final String key : childNames) {
+                final PathAddress childAddress = address.append(PathElement.pathElement(childType, key));
+                final ModelNode readAttributeOp = Util.getReadAttributeOperation(childAddress, sortBy.asString());
+                final ModelNode response = new ModelNode();
+                final GlobalOperationHandlers.AvailableResponse availableResponse = new GlobalOperationHandlers.AvailableResponse(response);
+                sortValues.put(key, availableResponse);
+                final OperationStepHandler handler = new GlobalOperationHandlers.AvailableResponseWrapper(new ReadAttributeHandler(filteredData, null, false), availableResponse);
+                context.addStep(response, readAttributeOp, handler, OperationContext.Stage.MODEL, true);
+            }
+        } else {
+            final List<String> sortedNames = new ArrayList<>(childNames);
+            sortedNames.sort(descending ? Comparator.reverseOrder() : Comparator.naturalOrder());
+            readChildren(context, readOp, filteredData, address, childType, page.apply(sortedNames));
+        }
+    }
+
+    private static Set<String> getAddressableChildren(OperationContext context, ModelNode operation, PathAddress address,
+                                                      String childType, Set<String> childNames, FilteredData filteredData) {
+        final Set<String> result = new HashSet<>();
+        for (String key : childNames) {
+            final PathAddress childAddress = address.append(PathElement.pathElement(childType, key));
+            final ModelNode rrOp = Util.createEmptyOperation(READ_RESOURCE_OPERATION, childAddress);
+            rrOp.get(OPERATION_HEADERS).set(operation.get(OPERATION_HEADERS));
+            if (context.authorize(rrOp, EnumSet.of(Action.ActionEffect.ADDRESS)).getDecision() == AuthorizationResult.Decision.DENY) {
+                filteredData.addAccessRestrictedResource(childAddress);
+            } else {
+                result.add(key);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sorts the children by the values read for their sort attribute, and by their names if the values are equal.
+     *
+     * @return the sorted names, or {@code null} if reading a value failed
+     */
+    private static List<String> sortByValue(OperationContext context, Map<String, GlobalOperationHandlers.AvailableResponse> sortValues,
+                                            boolean descending) {
+        final Map<String, ModelNode> values = new HashMap<>();
+        for (Map.Entry<String, GlobalOperationHandlers.AvailableResponse> entry : sortValues.entrySet()) {
+            final GlobalOperationHandlers.AvailableResponse ar = entry.getValue();
+            if (ar.unavailable) {
+                // The child was removed meanwhile
+                continue;
+            }
+            if (ar.response.hasDefined(FAILURE_DESCRIPTION)) {
+                context.getFailureDescription().set(ar.response.get(FAILURE_DESCRIPTION));
+                return null;
+            }
+            values.put(entry.getKey(), ar.response.get(RESULT));
+        }
+        // Allow prompt gc
+        sortValues.clear();
+        Comparator<String> comparator = Comparator.comparing(values::get, ReadChildrenResourcesHandler::compareValues);
+        comparator = comparator.thenComparing(Comparator.naturalOrder());
+        final List<String> result = new ArrayList<>(values.keySet());
+        result.sort(descending ? comparator.reversed() : comparator);
+        return result;
+    }
+
+    /**
+     * Compares attribute values, sorting undefined values first, and comparing numbers and booleans by their value
+     * and any other values by their string representation.
+     */
+    private static int compareValues(ModelNode value1, ModelNode value2) {
+        if (!value1.isDefined() || !value2.isDefined()) {
+            return Boolean.compare(value1.isDefined(), value2.isDefined());
+        }
+        if (isNumber(value1) && isNumber(value2)) {
+            return value1.asBigDecimal().compareTo(value2.asBigDecimal());
+        }
+        if (value1.getType() == ModelType.BOOLEAN && value2.getType() == ModelType.BOOLEAN) {
+            return Boolean.compare(value1.asBoolean(), value2.asBoolean());
+        }
+        return value1.asString().compareTo(value2.asString());
+    }
+
+    private static boolean isNumber(ModelNode value) {
+        switch (value.getType()) {
+            case INT:
+            case LONG:
+            case DOUBLE:
+            case BIG_INTEGER:
+            case BIG_DECIMAL:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    private static void readChildren(OperationContext context, ModelNode readOp, FilteredData filteredData, PathAddress address,
+                                     String childType, List<String> childNames) throws OperationFailedException {
+
+        // Keeps the order of the children
+        final Map<PathElement, ModelNode> resources = new LinkedHashMap<PathElement, ModelNode>();
 
         // We're going to add a bunch of steps that should immediately follow this one. We are going to add them
         // in reverse order of how they should execute, building up a stack.
@@ -112,6 +246,24 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
         }
     }
 
+    /**
+     * The range of the sorted children to read.
+     */
+    private static class Page {
+        private final int offset;
+        private final int limit;
+
+        private Page(int offset, int limit) {
+            this.offset = offset;
+            this.limit = limit;
+        }
+
+        private List<String> apply(List<String> sortedNames) {
+            final int from = Math.min(offset, sortedNames.size());
+            return sortedNames.subList(from, from + Math.min(limit, sortedNames.size() - from));
+        }
+    }
+
     /**
      * Assembles the response to a read-resource request from the components gathered by earlier steps.
      */
@@ -126,9 +278,9 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
          * Creates a ReadResourceAssemblyHandler that will assemble the response using the contents
          * of the given maps.
          *
-         * @param resources read-resource response from child resources, where the key is the path of the resource
-         *                  relative to the address of the operation this handler is handling and the
-         *                  value is the full read-resource response. Will not be {@code null}
+         * @param resources read-resource response from child resources, in the order of the response, where the key is
+         *                  the path of the resource relative to the address of the operation this handler is handling
+         *                  and the value is the full read-resource response. Will not be {@code null}
          * @param filteredData record of any excluded data
          * @param address    the address of the targeted resource
          * @param childType  the type of child being read
@@ -147,7 +299,7 @@ public class ReadChildrenResourcesHandler implements OperationStepHandler {
             context.addStep(new OperationStepHandler() {
                 @Override
                 public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
-                    Map<String, ModelNode> sortedChildren = new TreeMap<String, ModelNode>();
+                    Map<String, ModelNode> sortedChildren = new LinkedHashMap<String, ModelNode>();
                     boolean failed = false;
                     for (Map.Entry<PathElement, ModelNode> entry : resources.entrySet()) {
                         PathElement path = entry.getKey();
@@ -22,6 +22,7 @@ import static org.jboss.as.controller.operations.global.GlobalOperationAttribute
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.PROXIES;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.RECURSIVE;
 import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.RECURSIVE_DEPTH;
+import static org.jboss.as.controller.operations.global.GlobalOperationAttributes.SELECT;
 
 import java.util.Collections;
 import java.util.EnumSet;
@@ -78,7 +79,7 @@ public class ReadResourceHandler extends GlobalOperationHandlers.AbstractMultiTa
             .build();
 
     public static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder(READ_RESOURCE_OPERATION, ControllerResolver.getResolver("global"))
-            .setParameters(RECURSIVE, RECURSIVE_DEPTH, PROXIES, INCLUDE_RUNTIME, INCLUDE_DEFAULTS, ATTRIBUTES_ONLY, INCLUDE_ALIASES, INCLUDE_UNDEFINED_METRIC_VALUES)
+            .setParameters(RECURSIVE, RECURSIVE_DEPTH, PROXIES, INCLUDE_RUNTIME, INCLUDE_DEFAULTS, ATTRIBUTES_ONLY, INCLUDE_ALIASES, INCLUDE_UNDEFINED_METRIC_VALUES, SELECT)
             .setReadOnly()
             .setReplyType(ModelType.OBJECT)
             .build();
@@ -91,7 +92,7 @@ public class ReadResourceHandler extends GlobalOperationHandlers.AbstractMultiTa
             .build();
 
     public static final OperationDefinition RESOLVE_DEFINITION = new SimpleOperationDefinitionBuilder(READ_RESOURCE_OPERATION, ControllerResolver.getResolver("global"))
-            .setParameters(RESOLVE, RECURSIVE, RECURSIVE_DEPTH, PROXIES, INCLUDE_RUNTIME, INCLUDE_DEFAULTS, ATTRIBUTES_ONLY, INCLUDE_ALIASES)
+            .setParameters(RESOLVE, RECURSIVE, RECURSIVE_DEPTH, PROXIES, INCLUDE_RUNTIME, INCLUDE_DEFAULTS, ATTRIBUTES_ONLY, INCLUDE_ALIASES, SELECT)
             .setReadOnly()
             .setReplyType(ModelType.OBJECT)
             .build();
@@ -188,6 +189,8 @@ public class ReadResourceHandler extends GlobalOperationHandlers.AbstractMultiTa
         final boolean includeUndefinedMetricValues = operation.get(ModelDescriptionConstants.INCLUDE_UNDEFINED_METRIC_VALUES).asBoolean(false);
         final boolean attributesOnly = operation.get(ModelDescriptionConstants.ATTRIBUTES_ONLY).asBoolean(false);
         final boolean resolve = RESOLVE.resolveModelAttribute(context, operation).asBoolean();
+        // The attributes to read, or null if all attributes are read
+        final Set<String> select = getSelectedAttributes(operation);
 
         // Child types with no actual children
         final Set<String> nonExistentChildTypes = new HashSet<String>();
@@ -270,6 +273,9 @@ public class ReadResourceHandler extends GlobalOperationHandlers.AbstractMultiTa
                             rrOp.get(ModelDescriptionConstants.INCLUDE_ALIASES).set(aliases);
                             rrOp.get(ModelDescriptionConstants.INCLUDE_DEFAULTS).set(defaults);
                             rrOp.get(ModelDescriptionConstants.RESOLVE_EXPRESSIONS).set(resolve);
+                            if (select != null) {
+                                rrOp.get(ModelDescriptionConstants.SELECT).set(operation.get(ModelDescriptionConstants.SELECT));
+                            }
                             ModelNode rrRsp = new ModelNode();
                             childResources.put(childPE, rrRsp);
 
@@ -312,6 +318,9 @@ public class ReadResourceHandler extends GlobalOperationHandlers.AbstractMultiTa
         final Set<String> attributeNames = registry != null ? registry.getAttributeNames(PathAddress.EMPTY_ADDRESS) : Collections.<String>emptySet();
         for (final String attributeName : attributeNames) {
 
+            if (select != null && !select.contains(attributeName)) {
+                continue;
+            }
             final AttributeAccess access = registry.getAttributeAccess(PathAddress.EMPTY_ADDRESS, attributeName);
             if ((aliases || !access.getFlags().contains(AttributeAccess.Flag.ALIAS))
                     && (queryRuntime || access.getStorageType() == AttributeAccess.Storage.CONFIGURATION)) {
@@ -326,6 +335,23 @@ public class ReadResourceHandler extends GlobalOperationHandlers.AbstractMultiTa
         }
     }
 
+    /**
+     * Gets the names of the attributes to read, if only some attributes should be read.
+     *
+     * @param operation the read-resource operation
+     * @return the names of the attributes, or {@code null} if all attributes should be read
+     */
+    private static Set<String> getSelectedAttributes(ModelNode operation) {
+        if (!operation.hasDefined(ModelDescriptionConstants.SELECT)) {
+            return null;
+        }
+        final Set<String> result = new HashSet<>();
+        for (ModelNode attribute : operation.get(ModelDescriptionConstants.SELECT).asList()) {
+            result.add(attribute.asString());
+        }
+        return result;
+    }
+
     private boolean isSingletonResource(final ImmutableManagementResourceRegistration registry, final String key) {
         return registry.getSubModel(PathAddress.pathAddress(PathElement.pathElement(key))) == null;
     }
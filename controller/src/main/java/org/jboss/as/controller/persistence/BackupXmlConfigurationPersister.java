@@ -25,6 +25,7 @@ public class BackupXmlConfigurationPersister extends XmlConfigurationPersister {
 
     private ConfigurationFile configurationFile;
     private final AtomicBoolean successfulBoot = new AtomicBoolean();
+    private volatile DeferredConfigurationWriter deferredWriter;
 
     /**
      * Construct a new instance.
@@ -68,6 +69,19 @@ public class BackupXmlConfigurationPersister extends XmlConfigurationPersister {
         return initialEmpty && !reload;
     }
 
+    /**
+     * Writes the configuration file in the background instead of when a change to the model is committed, so that
+     * the changes committed within the given delay are written at once. A change to the model is then no longer
+     * rolled back if the model cannot be marshalled.
+     *
+     * @param delay the maximum time, in milliseconds, a committed change is not written, or not positive to write the
+     *              configuration file when a change is committed
+     */
+    public void setWriteDelay(long delay) {
+        this.deferredWriter = delay > 0 ? new DeferredConfigurationWriter(configurationFile.getMainFile().getName(), delay,
+                model -> new ConfigurationFilePersistenceResource(model, configurationFile, this).commit()) : null;
+    }
+
     @Override
     public void registerAdditionalRootElement(final QName anotherRoot, final XMLElementReader<List<ModelNode>> parser){
         super.registerAdditionalRootElement(anotherRoot, parser);
@@ -104,11 +118,46 @@ public class BackupXmlConfigurationPersister extends XmlConfigurationPersister {
             };
         }
         this.stored = true;
+        final DeferredConfigurationWriter writer = this.deferredWriter;
+        if (writer != null) {
+            return new PersistenceResource() {
+                @Override
+                public void commit() {
+                    writer.submit(model);
+                }
+
+                @Override
+                public void rollback() {
+                }
+            };
+        }
         return new ConfigurationFilePersistenceResource(model, configurationFile, this);
     }
 
+    @Override
+    public void flush() {
+        final DeferredConfigurationWriter writer = this.deferredWriter;
+        if (writer != null) {
+            writer.flush();
+        }
+    }
+
+    @Override
+    public int getPendingWrites() {
+        final DeferredConfigurationWriter writer = this.deferredWriter;
+        return writer != null ? writer.getPendingWrites() : 0;
+    }
+
+    @Override
+    public long getPersistenceLag() {
+        final DeferredConfigurationWriter writer = this.deferredWriter;
+        return writer != null ? writer.getLag() : 0;
+    }
+
     @Override
     public String snapshot(String name, String comment) throws ConfigurationPersistenceException {
+        // The snapshot contains all committed changes
+        flush();
         return configurationFile.snapshot(name, comment);
     }
 
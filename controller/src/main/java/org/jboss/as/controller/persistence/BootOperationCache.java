@@ -0,0 +1,173 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.persistence;
+
+import static org.jboss.as.controller.logging.ControllerLogger.ROOT_LOGGER;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.jboss.as.controller.client.impl.CompactModelNodeEncoding;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * Stores the operations parsed from a configuration file, so that a following boot using the same configuration file
+ * does not need to parse it again.
+ * <p>
+ * The cached operations are only used if the content of the configuration file, and a key identifying everything else
+ * the parsed operations depend on, such as the version of the installation, are the same as when they were stored.
+ * The cache is therefore only suitable for installations whose extensions are only modified when its version changes,
+ * and whose extension parsers do not depend on the environment, such as by resolving expressions while parsing.
+ * <p>
+ * As the cached operations disclose the content of the configuration file, the cache file is created with the permissions
+ * of the configuration file, or, if these are unknown, readable and writable by its owner only.
+ */
+public final class BootOperationCache {
+
+    private static final int MAGIC = 0x424f4f54; // BOOT
+    private static final int FORMAT_VERSION = 1;
+    private static final String SUFFIX = ".boot-ops";
+
+    private final File cacheFile;
+    private final String key;
+    private final File configurationFile;
+
+    /**
+     * Creates a cache storing the operations parsed from a configuration file in the given file.
+     *
+     * @param cacheFile the file storing the operations
+     * @param key identifies everything other than the configuration file content the parsed operations depend on
+     */
+    public BootOperationCache(File cacheFile, String key) {
+        this(cacheFile, key, null);
+    }
+
+    private BootOperationCache(File cacheFile, String key, File configurationFile) {
+        this.cacheFile = cacheFile;
+        this.key = key;
+        this.configurationFile = configurationFile;
+    }
+
+    /**
+     * Creates a cache storing the operations parsed from a configuration file next to that file.
+     *
+     * @param configurationFile the configuration file
+     * @param key identifies everything other than the configuration file content the parsed operations depend on
+     * @return the cache
+     */
+    public static BootOperationCache forConfigurationFile(File configurationFile, String key) {
+        return new BootOperationCache(new File(configurationFile.getParentFile(), "." + configurationFile.getName() + SUFFIX), key, configurationFile);
+    }
+
+    File getCacheFile() {
+        return cacheFile;
+    }
+
+    /**
+     * Gets the operations stored for the given configuration file content.
+     *
+     * @param content the content of the configuration file
+     * @return the operations, or {@code null} if no operations were stored for the content
+     */
+    List<ModelNode> load(byte[] content) {
+        if (!cacheFile.isFile()) {
+            return null;
+        }
+        try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(cacheFile.toPath())))) {
+            if (input.readInt() != MAGIC || input.readInt() != FORMAT_VERSION || !input.readUTF().equals(digest(content))) {
+                return null;
+            }
+            ModelNode operations = CompactModelNodeEncoding.read(input);
+            if (operations.getType() != ModelType.LIST) {
+                return null;
+            }
+            ROOT_LOGGER.debugf("Using the cached boot operations in %s", cacheFile);
+            return operations.asList();
+        } catch (IOException | RuntimeException e) {
+            ROOT_LOGGER.debugf(e, "Failed to read the cached boot operations in %s", cacheFile);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the operations parsed from the given configuration file content.
+     *
+     * @param content the content of the configuration file
+     * @param operations the parsed operations
+     */
+    void store(byte[] content, List<ModelNode> operations) {
+        ModelNode list = new ModelNode().setEmptyList();
+        for (ModelNode operation : operations) {
+            list.add(operation);
+        }
+        Path target = cacheFile.toPath();
+        Path temp = target.resolveSibling(cacheFile.getName() + ".tmp");
+        try {
+            Files.deleteIfExists(temp);
+            createFile(temp);
+            try (OutputStream stream = Files.newOutputStream(temp); DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream))) {
+                output.writeInt(MAGIC);
+                output.writeInt(FORMAT_VERSION);
+                output.writeUTF(digest(content));
+                CompactModelNodeEncoding.write(list, output);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException | RuntimeException e) {
+            ROOT_LOGGER.debugf(e, "Failed to store the boot operations in %s", cacheFile);
+            try {
+                Files.deleteIfExists(temp);
+            } catch (IOException ignored) {
+                // The temporary file will be overwritten the next time
+            }
+        }
+    }
+
+    private void createFile(Path file) throws IOException {
+        if (configurationFile != null && configurationFile.exists()) {
+            FilePersistenceUtils.createTempFileWithAttributes(file, configurationFile);
+        } else {
+            try {
+                Files.createFile(file, PosixFilePermissions.asFileAttribute(EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE)));
+            } catch (UnsupportedOperationException e) {
+                Files.createFile(file);
+            }
+        }
+    }
+
+    private String digest(byte[] content) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(key.getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(content);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
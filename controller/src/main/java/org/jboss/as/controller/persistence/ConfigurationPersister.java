@@ -74,6 +74,36 @@ public interface ConfigurationPersister {
      */
     PersistenceResource store(ModelNode model, Set<PathAddress> affectedAddresses) throws ConfigurationPersistenceException;
 
+    /**
+     * Writes the committed models whose persistence was deferred, returning once they were written.
+     * <p>
+     * The default implementation does nothing.
+     */
+    default void flush() {
+    }
+
+    /**
+     * Gets the number of committed changes whose persistence was deferred and which were not written yet.
+     * <p>
+     * The default implementation always returns {@code 0}
+     *
+     * @return the number of changes
+     */
+    default int getPendingWrites() {
+        return 0;
+    }
+
+    /**
+     * Gets how long ago the oldest committed change which was not written yet was committed.
+     * <p>
+     * The default implementation always returns {@code 0}
+     *
+     * @return the time in milliseconds, or {@code 0} if all committed changes were written
+     */
+    default long getPersistenceLag() {
+        return 0;
+    }
+
     /**
      * Marshals the given configuration model to XML, writing to the given stream.
      *
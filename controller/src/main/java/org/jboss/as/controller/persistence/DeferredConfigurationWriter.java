@@ -0,0 +1,189 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.persistence;
+
+import static org.jboss.as.controller.logging.ControllerLogger.MGMT_OP_LOGGER;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.dmr.ModelNode;
+
+/**
+ * Writes a configuration file in the background, so that the changes to the model committed within a bounded delay
+ * are written to the file at once.
+ * <p>
+ * A committed model is written at most the configured delay after the oldest change not yet written was committed.
+ * Only the most recent model is marshalled and written, which contains all changes committed before it. Changes
+ * committed while the file is being written are written by the following write. A model that failed to be written
+ * remains pending, and is written again, along with any later changes, after the next submission or by the next flush.
+ */
+final class DeferredConfigurationWriter {
+
+    /**
+     * Writes a model to the configuration file.
+     */
+    interface Writer {
+        void write(ModelNode model) throws ConfigurationPersistenceException;
+    }
+
+    private final String fileName;
+    private final long delay;
+    private final Writer writer;
+
+    private ModelNode pending;
+    private int pendingWrites;
+    private long pendingSince;
+    private boolean writing;
+    private int writingWrites;
+    private long submittedSince;
+    private ModelNode failed;
+    private Thread thread;
+
+    /**
+     * Creates a new writer.
+     *
+     * @param fileName the name of the configuration file, used for logging and naming the writing thread
+     * @param delay the maximum time, in milliseconds, a committed change is not written
+     * @param writer writes a model to the configuration file
+     */
+    DeferredConfigurationWriter(String fileName, long delay, Writer writer) {
+        this.fileName = fileName;
+        this.delay = TimeUnit.MILLISECONDS.toNanos(delay);
+        this.writer = writer;
+    }
+
+    /**
+     * Schedules writing a committed model.
+     *
+     * @param model the model, which must not be modified afterwards
+     */
+    synchronized void submit(ModelNode model) {
+        if (pending == null) {
+            pendingSince = System.nanoTime();
+        } else if (writing && pendingWrites == writingWrites) {
+            // First change not contained in the model being written
+            submittedSince = System.nanoTime();
+        }
+        pending = model;
+        pendingWrites++;
+        if (thread == null) {
+            thread = new Thread(this::run, "Configuration writer for " + fileName);
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Writes the committed model not written yet, if any, returning once all committed changes were written.
+     */
+    void flush() {
+        final ModelNode model;
+        synchronized (this) {
+            boolean interrupted = false;
+            try {
+                while (writing) {
+                    try {
+                        wait();
+                    } catch (InterruptedException e) {
+                        interrupted = true;
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            model = take();
+        }
+        if (model != null) {
+            write(model);
+        }
+    }
+
+    /**
+     * Gets the number of committed changes that were not written yet.
+     *
+     * @return the number of changes
+     */
+    synchronized int getPendingWrites() {
+        return pendingWrites;
+    }
+
+    /**
+     * Gets how long ago the oldest change that was not written yet was committed.
+     *
+     * @return the time in milliseconds, or 0 if all changes were written
+     */
+    synchronized long getLag() {
+        return pending == null ? 0 : TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - pendingSince);
+    }
+
+    private void run() {
+        for (;;) {
+            final ModelNode model;
+            synchronized (this) {
+                try {
+                    long remaining;
+                    while (pending != null && (remaining = pendingSince + delay - System.nanoTime()) > 0) {
+                        TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                    }
+                    while (writing) {
+                        wait();
+                    }
+                } catch (InterruptedException e) {
+                    // Written by the next flush
+                    thread = null;
+                    return;
+                }
+                if (pending == null || pending == failed) {
+                    // Flushed meanwhile, or failed to be written; a new thread is started by the next submission
+                    thread = null;
+                    return;
+                }
+                model = take();
+            }
+            write(model);
+        }
+    }
+
+    private ModelNode take() {
+        assert Thread.holdsLock(this);
+        final ModelNode model = pending;
+        if (model != null) {
+            writingWrites = pendingWrites;
+            writing = true;
+        }
+        return model;
+    }
+
+    private void write(ModelNode model) {
+        boolean written = false;
+        try {
+            writer.write(model);
+            written = true;
+        } catch (ConfigurationPersistenceException | RuntimeException e) {
+            MGMT_OP_LOGGER.failedToStoreConfiguration(e, fileName);
+        } finally {
+            synchronized (this) {
+                if (written) {
+                    // Only the changes submitted while writing remain pending
+                    if (pending == model) {
+                        pending = null;
+                        pendingWrites = 0;
+                    } else {
+                        pendingWrites -= writingWrites;
+                        pendingSince = submittedSince;
+                    }
+                    failed = null;
+                } else {
+                    failed = model;
+                }
+                writing = false;
+                notifyAll();
+            }
+        }
+    }
+}
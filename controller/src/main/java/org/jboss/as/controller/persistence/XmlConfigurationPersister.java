@@ -8,10 +8,13 @@ package org.jboss.as.controller.persistence;
 import static org.jboss.as.controller.logging.ControllerLogger.ROOT_LOGGER;
 
 import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
 import java.io.Closeable;
 import java.io.File;
 import java.io.FileInputStream;
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -44,6 +47,7 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
     private final XMLElementReader<List<ModelNode>> rootParser;
     private final Map<QName, XMLElementReader<List<ModelNode>>> additionalParsers;
     private final boolean suppressLoad;
+    private volatile BootOperationCache bootOperationCache;
     protected volatile boolean stored = false;
 
     /**
@@ -82,6 +86,16 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
         }
     }
 
+    /**
+     * Sets the cache used to store the operations parsed from the configuration file, so that they are loaded from the
+     * cache instead of parsing the configuration file again, as long as it does not change.
+     *
+     * @param bootOperationCache the cache, or {@code null} to always parse the configuration file
+     */
+    public void setBootOperationCache(final BootOperationCache bootOperationCache) {
+        this.bootOperationCache = bootOperationCache;
+    }
+
     /** {@inheritDoc} */
     @Override
     public PersistenceResource store(final ModelNode model, Set<PathAddress> affectedAddresses) throws ConfigurationPersistenceException {
@@ -96,6 +110,20 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
             return new ArrayList<>();
         }
 
+        final BootOperationCache cache = this.bootOperationCache;
+        byte[] content = null;
+        if (cache != null) {
+            try {
+                content = Files.readAllBytes(fileName.toPath());
+            } catch (Exception e) {
+                throw ControllerLogger.ROOT_LOGGER.failedToParseConfiguration(e);
+            }
+            final List<ModelNode> cached = cache.load(content);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         final XMLMapper mapper = XMLMapper.Factory.create();
         mapper.registerRootElement(rootElement, rootParser);
         synchronized (additionalParsers) {
@@ -104,10 +132,10 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
             }
         }
         final List<ModelNode> updates = new ArrayList<ModelNode>();
-        BufferedInputStream input = null;
+        InputStream input = null;
         XMLStreamReader streamReader = null;
         try {
-            input = new BufferedInputStream(new FileInputStream(fileName));
+            input = content != null ? new ByteArrayInputStream(content) : new BufferedInputStream(new FileInputStream(fileName));
             streamReader = XMLInputFactoryUtil.create().createXMLStreamReader(input, StandardCharsets.UTF_8.toString());
             mapper.parseDocument(updates, streamReader);
         } catch (XMLStreamException e) {
@@ -128,6 +156,9 @@ public class XmlConfigurationPersister extends AbstractConfigurationPersister {
             safeClose(input);
         }
 
+        if (cache != null) {
+            cache.store(content, updates);
+        }
         return updates;
     }
 
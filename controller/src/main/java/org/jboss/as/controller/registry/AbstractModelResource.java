@@ -244,6 +244,41 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
         }
     }
 
+    /**
+     * Registers the resource providers of this resource with the given copy, sharing rather than cloning the child resources.
+     * Only possible if all providers of this resource are default providers.
+     *
+     * @param copy the copy of this resource
+     * @return {@code true} if the children of this resource were shared with the copy, {@code false} if this resource
+     *         has a custom resource provider, in which case the copy was not modified
+     */
+    boolean shareProviders(AbstractModelResource copy) {
+        synchronized (children) {
+            for (final ResourceProvider provider : children.values()) {
+                if (!(provider instanceof DefaultResourceProvider)) {
+                    return false;
+                }
+            }
+            for (final Map.Entry<String, ResourceProvider> entry : children.entrySet()) {
+                copy.registerResourceProvider(entry.getKey(), ((DefaultResourceProvider) entry.getValue()).share());
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Replaces an existing child of this resource, retaining its position amongst its siblings.
+     *
+     * @param address the address of the child
+     * @param resource the replacement resource
+     * @return {@code true} if the child was replaced, {@code false} if no such child exists or if it is not held by a
+     *         default resource provider
+     */
+    boolean replaceChild(PathElement address, Resource resource) {
+        final ResourceProvider provider = getProvider(address.getKey());
+        return (provider instanceof DefaultResourceProvider) && ((DefaultResourceProvider) provider).replace(address.getValue(), resource);
+    }
+
     private static class DefaultResourceProvider implements ResourceProvider {
 
         private final Map<String, Resource> children = new LinkedHashMap<String, Resource>();
@@ -327,6 +362,20 @@ public abstract class AbstractModelResource extends ResourceProvider.ResourcePro
             }
         }
 
+        boolean replace(String name, Resource resource) {
+            synchronized (children) {
+                return children.replace(name, resource) != null;
+            }
+        }
+
+        DefaultResourceProvider share() {
+            final DefaultResourceProvider provider = new DefaultResourceProvider();
+            synchronized (children) {
+                provider.children.putAll(children);
+            }
+            return provider;
+        }
+
         @Override
         public ResourceProvider clone() {
             final DefaultResourceProvider provider = new DefaultResourceProvider();
@@ -60,17 +60,33 @@ class BasicResource extends AbstractModelResource implements Resource {
     @SuppressWarnings({"CloneDoesntCallSuperClone"})
     @Override
     public Resource clone() {
-        final BasicResource clone = new BasicResource(isRuntime(), getOrderedChildTypes(), true);
+        final BasicResource clone = copyModel();
+        cloneProviders(clone);
+        return clone;
+    }
+
+    /**
+     * Creates a copy of this resource whose model is a copy of this resource's model, but which shares its child
+     * resources with this resource. Neither resource may be modified in a way that affects the children of the other.
+     *
+     * @return the copy, or {@code null} if the children of this resource cannot be shared
+     */
+    BasicResource copySharingChildren() {
+        final BasicResource copy = copyModel();
+        return shareProviders(copy) ? copy : null;
+    }
+
+    private BasicResource copyModel() {
+        final BasicResource copy = new BasicResource(isRuntime(), getOrderedChildTypes(), true);
         for (;;) {
             try {
-                clone.writeModel(model);
+                copy.writeModel(model);
                 break;
             } catch (ConcurrentModificationException ignore) {
                 // TODO horrible hack :(
             }
         }
-        cloneProviders(clone);
-        return clone;
+        return copy;
     }
 
 }
@@ -0,0 +1,192 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.registry;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+
+/**
+ * A private, modifiable copy of a {@link Resource} tree that shares all resources with the tree it was copied from
+ * until they need to be modified.
+ *
+ * <p>Rather than cloning the whole tree up front, only the resources along the path to a modified resource are copied
+ * (path copying), while all other resources remain shared with the original tree. The original tree is never
+ * modified, so it can continue to be read concurrently. Resources returned by {@link #getResourceForUpdate(PathAddress)}
+ * are private to this tree together with all their descendants, so callers can modify them freely.</p>
+ *
+ * <p>Standard resources (i.e. those created via {@link Resource.Factory}) are copied sharing their children.
+ * Any other resource type is {@link Resource#clone() cloned} as a whole when it needs to be copied.</p>
+ *
+ * <p>Concurrency note: all modifications of the tree must be performed via this class, and its resources must not be
+ * made visible to other threads until all modifications are complete.</p>
+ */
+public final class PathCopyingResourceTree {
+
+    private final Resource root;
+    // Addresses of resources that are private to this tree, whose children may still be shared
+    private final Set<PathAddress> copied = new HashSet<>();
+    // Addresses of resources that are private to this tree, together with all their descendants
+    private final Set<PathAddress> owned = new HashSet<>();
+
+    /**
+     * Creates a copy of the given resource tree.
+     *
+     * @param root the root resource of the tree to copy. Will not be modified.
+     */
+    public PathCopyingResourceTree(Resource root) {
+        this.root = this.copy(PathAddress.EMPTY_ADDRESS, root, false);
+    }
+
+    /**
+     * Returns the root resource of this tree. The returned resource must only be used for reads; use
+     * {@link #getResourceForUpdate(PathAddress)} to obtain a resource that can be modified.
+     *
+     * @return the root resource. Will not return {@code null}
+     */
+    public Resource getRoot() {
+        return this.root;
+    }
+
+    /**
+     * Returns the resource at the given address, such that it and all its descendants can be modified without affecting
+     * the tree this tree was copied from.
+     *
+     * @param address the address of the resource
+     * @return the resource. Will not return {@code null}
+     * @throws Resource.NoSuchResourceException if there is no resource at the given address
+     */
+    public synchronized Resource getResourceForUpdate(PathAddress address) {
+        return this.navigate(address, true);
+    }
+
+    /**
+     * Registers a child resource at the given address. The registered resource, together with all its descendants, is
+     * assumed to be private to this tree.
+     *
+     * @param address the address of the child resource. Cannot be the empty address.
+     * @param index the index at which to register the child, or {@code -1} to register it after any existing siblings
+     * @param resource the resource to register
+     * @throws Resource.NoSuchResourceException if there is no resource at the parent address
+     * @see Resource#registerChild(PathElement, int, Resource)
+     */
+    public synchronized void registerChild(PathAddress address, int index, Resource resource) {
+        Resource parent = this.navigate(address.getParent(), false);
+        PathElement element = address.getLastElement();
+        if (index < 0) {
+            parent.registerChild(element, resource);
+        } else {
+            parent.registerChild(element, index, resource);
+        }
+        // Any tracking of a previously removed resource at the same address no longer applies
+        this.copied.remove(address);
+        if (!this.isOwned(address)) {
+            this.owned.add(address);
+        }
+    }
+
+    /**
+     * Removes the child resource at the given address.
+     *
+     * @param address the address of the child resource. Cannot be the empty address.
+     * @return the removed resource, which is private to the caller, or {@code null} if no such child exists
+     * @throws Resource.NoSuchResourceException if there is no resource at the parent address
+     * @see Resource#removeChild(PathElement)
+     */
+    public synchronized Resource removeChild(PathAddress address) {
+        Resource parent = this.navigate(address.getParent(), false);
+        boolean owned = this.isOwned(address);
+        Resource removed = parent.removeChild(address.getLastElement());
+        this.copied.remove(address);
+        this.owned.remove(address);
+        // The removed resource may still be part of the original tree
+        return (removed != null) && !owned ? removed.clone() : removed;
+    }
+
+    /**
+     * Navigates to the resource at the given address, copying any shared resources along the way.
+     * Entries of descendants of removed resources are left behind in the tracking sets, as any resource subsequently
+     * registered at the address of a removed resource is private to this tree anyway.
+     */
+    private Resource navigate(PathAddress address, boolean includeDescendants) {
+        Resource resource = this.root;
+        PathAddress current = PathAddress.EMPTY_ADDRESS;
+        boolean owned = this.owned.contains(current);
+        Iterator<PathElement> elements = address.iterator();
+        while (elements.hasNext()) {
+            PathElement element = elements.next();
+            Resource child = resource.requireChild(element);
+            PathAddress childAddress = current.append(element);
+            if (!owned && !this.copied.contains(childAddress) && !this.owned.contains(childAddress)) {
+                child = this.copy(childAddress, child, includeDescendants && !elements.hasNext());
+                replaceChild(resource, element, child);
+            }
+            owned = owned || this.owned.contains(childAddress);
+            resource = child;
+            current = childAddress;
+        }
+        if (includeDescendants && !owned) {
+            this.own(current, resource);
+        }
+        return resource;
+    }
+
+    /**
+     * Makes all shared descendants of the given private resource private, retaining the identity of descendants that
+     * are already private, as callers may still hold references to these.
+     */
+    private void own(PathAddress address, Resource resource) {
+        for (String type : resource.getChildTypes()) {
+            for (String name : resource.getChildrenNames(type)) {
+                PathElement element = PathElement.pathElement(type, name);
+                PathAddress childAddress = address.append(element);
+                if (!this.owned.contains(childAddress)) {
+                    Resource child = resource.getChild(element);
+                    if (this.copied.contains(childAddress)) {
+                        this.own(childAddress, child);
+                    } else {
+                        replaceChild(resource, element, child.clone());
+                    }
+                }
+            }
+        }
+        this.copied.remove(address);
+        this.owned.add(address);
+    }
+
+    private Resource copy(PathAddress address, Resource resource, boolean includeDescendants) {
+        if (!includeDescendants && (resource instanceof BasicResource)) {
+            Resource copy = ((BasicResource) resource).copySharingChildren();
+            if (copy != null) {
+                this.copied.add(address);
+                return copy;
+            }
+        }
+        this.owned.add(address);
+        return resource.clone();
+    }
+
+    private boolean isOwned(PathAddress address) {
+        for (int i = 0; i <= address.size(); ++i) {
+            if (this.owned.contains(address.subAddress(0, i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void replaceChild(Resource parent, PathElement element, Resource child) {
+        if (!(parent instanceof AbstractModelResource) || !((AbstractModelResource) parent).replaceChild(element, child)) {
+            // Re-registering the child does not retain its position amongst its siblings, but this is only necessary
+            // for resources that provide their children by some other means
+            parent.removeChild(element);
+            parent.registerChild(element, child);
+        }
+    }
+}
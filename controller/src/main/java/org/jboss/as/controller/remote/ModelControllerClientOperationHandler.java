@@ -44,6 +44,7 @@ import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.client.OperationMessageHandler;
 import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.controller.client.impl.CompactModelNodeEncoding;
 import org.jboss.as.controller.client.impl.ModelControllerProtocol;
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.core.security.AccessMechanism;
@@ -313,8 +314,14 @@ public class ModelControllerClientOperationHandler implements ManagementRequestH
                     try {
                         MGMT_OP_LOGGER.tracef("Transmitting response for %d", context.getOperationId());
                         output = responseContext.writeMessage(response);
-                        output.write(ModelControllerProtocol.PARAM_RESPONSE);
-                        result.writeExternal(output);
+                        if (CompactModelNodeEncoding.isSupported(response.getVersion())) {
+                            output.write(ModelControllerProtocol.PARAM_COMPACT_RESPONSE);
+                            output.write(ModelControllerProtocol.PARAM_RESPONSE);
+                            CompactModelNodeEncoding.write(result, output);
+                        } else {
+                            output.write(ModelControllerProtocol.PARAM_RESPONSE);
+                            result.writeExternal(output);
+                        }
                         output.writeByte(ManagementProtocol.RESPONSE_END);
                         output.close();
                     } catch (IOException e) {
@@ -34,6 +34,7 @@ import org.jboss.as.controller.client.MessageSeverity;
 import org.jboss.as.controller.client.OperationAttachments;
 import org.jboss.as.controller.client.OperationMessageHandler;
 import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.controller.client.impl.CompactModelNodeEncoding;
 import org.jboss.as.controller.client.impl.ModelControllerProtocol;
 import org.jboss.as.controller.client.impl.OperationResponseProxy;
 import org.jboss.as.controller.logging.ControllerLogger;
@@ -207,9 +208,17 @@ class TransactionalProtocolClientImpl implements ManagementRequestHandlerFactory
         @Override
         public void handleRequest(final DataInput input, final ActiveOperation.ResultHandler<OperationResponse> resultHandler, final ManagementRequestContext<ExecuteRequestContext> context) throws IOException {
             ControllerLogger.MGMT_OP_LOGGER.tracef("received response to ExecuteRequest for %d", context.getOperationId());
-            final byte responseType = input.readByte();
-            final ModelNode response = new ModelNode();
-            response.readExternal(input);
+            final byte responseType;
+            final ModelNode response;
+            final byte param = input.readByte();
+            if (param == ModelControllerProtocol.PARAM_COMPACT_RESPONSE) {
+                responseType = input.readByte();
+                response = CompactModelNodeEncoding.read(input);
+            } else {
+                responseType = param;
+                response = new ModelNode();
+                response.readExternal(input);
+            }
             // If not prepared the operation failed
             final boolean prepared = responseType == ModelControllerProtocol.PARAM_OPERATION_PREPARED;
             final ExecuteRequestContext executeRequestContext = context.getAttachment();
@@ -292,9 +301,19 @@ class TransactionalProtocolClientImpl implements ManagementRequestHandlerFactory
         public void handleRequest(final DataInput input, final ActiveOperation.ResultHandler<OperationResponse> resultHandler, final ManagementRequestContext<ExecuteRequestContext> context) throws IOException {
             ControllerLogger.MGMT_OP_LOGGER.tracef("received response to CompleteTxRequest (%s) for %d", status != ModelControllerProtocol.PARAM_ROLLBACK, context.getOperationId());
             // We only accept operationCompleted responses
-            expectHeader(input, ModelControllerProtocol.PARAM_OPERATION_COMPLETED);
-            final ModelNode responseNode = new ModelNode();
-            responseNode.readExternal(input);
+            byte param = input.readByte();
+            final boolean compact = param == ModelControllerProtocol.PARAM_COMPACT_RESPONSE;
+            if (compact) {
+                param = input.readByte();
+            }
+            expectHeader(param, ModelControllerProtocol.PARAM_OPERATION_COMPLETED);
+            final ModelNode responseNode;
+            if (compact) {
+                responseNode = CompactModelNodeEncoding.read(input);
+            } else {
+                responseNode = new ModelNode();
+                responseNode.readExternal(input);
+            }
             // Complete the operation
             resultHandler.done(createOperationResponse(responseNode, channelAssociation, context.getOperationId()));
         }
@@ -41,6 +41,7 @@ import org.jboss.as.controller.access.InVmAccess;
 import org.jboss.as.controller.client.Operation;
 import org.jboss.as.controller.client.OperationMessageHandler;
 import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.controller.client.impl.CompactModelNodeEncoding;
 import org.jboss.as.controller.client.impl.ModelControllerProtocol;
 import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.remote.IdentityAddressProtocolUtil.PropagatedIdentity;
@@ -694,10 +695,18 @@ public class TransactionalProtocolOperationHandler implements ManagementRequestH
                     MGMT_OP_LOGGER.tracef("Transmitting response for %d", context.getOperationId());
                     final ManagementResponseHeader header = ManagementResponseHeader.create(context.getRequestHeader());
                     output = context.writeMessage(header);
-                    // response type
-                    output.writeByte(responseType);
-                    // operation result
-                    response.writeExternal(output);
+                    if (CompactModelNodeEncoding.isSupported(header.getVersion())) {
+                        output.writeByte(ModelControllerProtocol.PARAM_COMPACT_RESPONSE);
+                        // response type
+                        output.writeByte(responseType);
+                        // operation result
+                        CompactModelNodeEncoding.write(response, output);
+                    } else {
+                        // response type
+                        output.writeByte(responseType);
+                        // operation result
+                        response.writeExternal(output);
+                    }
                     // response end
                     output.writeByte(ManagementProtocol.RESPONSE_END);
                     output.close();
@@ -0,0 +1,135 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link BootProfiler}.
+ */
+public class BootProfilerTestCase {
+
+    private final BootProfiler profiler = new BootProfiler();
+
+    @After
+    public void cleanup() {
+        System.clearProperty(BootProfiler.PROFILE_PROPERTY);
+    }
+
+    @Test
+    public void testDisabled() {
+        profiler.start();
+        assertFalse(profiler.isActive());
+        assertNull(profiler.beginOperationStep());
+        assertNull(profiler.beginDeploymentUnitProcessor());
+    }
+
+    @Test
+    public void testReport() throws InterruptedException {
+        System.setProperty(BootProfiler.PROFILE_PROPERTY, "true");
+        profiler.start();
+        assertTrue(profiler.isActive());
+
+        PathAddress first = PathAddress.pathAddress("subsystem", "test").append("child", "first");
+        PathAddress second = PathAddress.pathAddress("subsystem", "test").append("child", "second");
+        BootProfiler.Measurement secondModel = profiler.beginOperationStep();
+        BootProfiler.Measurement firstModel = profiler.beginOperationStep();
+        BootProfiler.Measurement processorA = profiler.beginDeploymentUnitProcessor();
+        BootProfiler.Measurement processorB = profiler.beginDeploymentUnitProcessor();
+        BootProfiler.Measurement processorC = profiler.beginDeploymentUnitProcessor();
+        sleep(10);
+        profiler.operationStepExecuted(firstModel, "add", first, OperationContext.Stage.MODEL);
+        BootProfiler.Measurement firstRuntime = profiler.beginOperationStep();
+        sleep(10);
+        profiler.deploymentUnitProcessorExecuted(processorA, "Processor", "PARSE", "a.war");
+        profiler.deploymentUnitProcessorExecuted(processorB, "Processor", "PARSE", "b.war");
+        profiler.operationStepExecuted(firstRuntime, "add", first, OperationContext.Stage.RUNTIME);
+        profiler.operationStepExecuted(secondModel, "add", second, OperationContext.Stage.MODEL);
+        profiler.stop();
+        assertFalse(profiler.isActive());
+        // Not recorded once booted
+        profiler.deploymentUnitProcessorExecuted(processorC, "Processor", "PARSE", "c.war");
+
+        ModelNode report = profiler.getReport(0);
+        assertTrue(report.hasDefined(BootProfiler.BOOT_TIME));
+
+        List<ModelNode> operations = report.get(BootProfiler.OPERATIONS).asList();
+        assertEquals(3, operations.size());
+        assertSorted(operations);
+        // The step spanning the others is the longest
+        assertEntry(operations.get(0), "/subsystem=test/child=second:add", "MODEL", 1, 20);
+        long firstModelTime = assertEntry(find(operations, "/subsystem=test/child=first:add", "MODEL"), "/subsystem=test/child=first:add", "MODEL", 1, 10);
+        assertEntry(find(operations, "/subsystem=test/child=first:add", "RUNTIME"), "/subsystem=test/child=first:add", "RUNTIME", 1, 10);
+
+        List<ModelNode> subsystems = report.get(BootProfiler.SUBSYSTEMS).asList();
+        assertEquals(2, subsystems.size());
+        assertSorted(subsystems);
+        long subsystemModelTime = assertEntry(subsystems.get(0), "test", "MODEL", 2, 30);
+        // Summed in nanoseconds, so may differ by the truncation to microseconds
+        assertEquals(operations.get(0).get(BootProfiler.TIME).asLong() + firstModelTime, subsystemModelTime, 1);
+        assertEntry(subsystems.get(1), "test", "RUNTIME", 1, 10);
+
+        List<ModelNode> processors = report.get(BootProfiler.DEPLOYMENT_UNIT_PROCESSORS).asList();
+        assertEquals(1, processors.size());
+        assertEntry(processors.get(0), "Processor", "PARSE", 2, 40);
+
+        assertEquals(1, profiler.getReport(1).get(BootProfiler.OPERATIONS).asList().size());
+        assertEquals(0, report.get(BootProfiler.SERVICES).asList().size());
+    }
+
+    @Test
+    public void testInstancesAreIndependent() {
+        System.setProperty(BootProfiler.PROFILE_PROPERTY, "true");
+        profiler.start();
+        BootProfiler other = new BootProfiler();
+        assertFalse(other.isActive());
+
+        profiler.operationStepExecuted(profiler.beginOperationStep(), "add", PathAddress.pathAddress("subsystem", "test"), OperationContext.Stage.MODEL);
+        profiler.stop();
+
+        assertEquals(1, profiler.getReport(0).get(BootProfiler.OPERATIONS).asList().size());
+        assertEquals(0, other.getReport(0).get(BootProfiler.OPERATIONS).asList().size());
+        assertFalse(other.getReport(0).hasDefined(BootProfiler.BOOT_TIME));
+    }
+
+    private static void sleep(long millis) throws InterruptedException {
+        Thread.sleep(millis);
+    }
+
+    private static ModelNode find(List<ModelNode> entries, String name, String stage) {
+        for (ModelNode entry : entries) {
+            if (name.equals(entry.get(BootProfiler.NAME).asString()) && stage.equals(entry.get(BootProfiler.STAGE).asString())) {
+                return entry;
+            }
+        }
+        throw new AssertionError(name + " " + stage + " not reported");
+    }
+
+    private static void assertSorted(List<ModelNode> entries) {
+        for (int i = 1; i < entries.size(); i++) {
+            assertTrue(entries.get(i - 1).get(BootProfiler.TIME).asLong() >= entries.get(i).get(BootProfiler.TIME).asLong());
+        }
+    }
+
+    private static long assertEntry(ModelNode entry, String name, String stage, long count, long minMillis) {
+        assertEquals(name, entry.get(BootProfiler.NAME).asString());
+        assertEquals(stage, entry.get(BootProfiler.STAGE).asString());
+        assertEquals(count, entry.get(BootProfiler.COUNT).asLong());
+        long time = entry.get(BootProfiler.TIME).asLong();
+        assertTrue(time >= TimeUnit.MILLISECONDS.toMicros(minMillis));
+        return time;
+    }
+}
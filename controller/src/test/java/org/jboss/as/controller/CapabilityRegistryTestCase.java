@@ -21,6 +21,7 @@ import java.util.concurrent.atomic.AtomicReference;
 
 import org.jboss.as.controller.capability.RuntimeCapability;
 import org.jboss.as.controller.capability.registry.CapabilityId;
+import org.jboss.as.controller.capability.registry.CapabilityRegistration;
 import org.jboss.as.controller.capability.registry.CapabilityScope;
 import org.jboss.as.controller.capability.registry.RegistrationPoint;
 import org.jboss.as.controller.capability.registry.RuntimeCapabilityRegistration;
@@ -883,6 +884,34 @@ public class CapabilityRegistryTestCase extends AbstractControllerTestBase {
     }
 
 
+    @Test
+    public void testShadowCopyIsolation() {
+        CapabilityRegistry registry = new CapabilityRegistry(true);
+        CapabilityRegistry shadow = registry.createShadowCopy();
+        String name = IO_WORKER_RUNTIME_CAPABILITY.getName();
+        PathAddress address = PathAddress.pathAddress("subsystem", "io");
+
+        shadow.registerCapability(new RuntimeCapabilityRegistration(IO_WORKER_RUNTIME_CAPABILITY, CapabilityScope.GLOBAL,
+                new RegistrationPoint(address, null)));
+        Assert.assertTrue(shadow.hasCapability(name, CapabilityScope.GLOBAL));
+        // Unpublished changes are not visible
+        Assert.assertFalse(registry.hasCapability(name, CapabilityScope.GLOBAL));
+
+        shadow.publish();
+        Assert.assertTrue(registry.hasCapability(name, CapabilityScope.GLOBAL));
+        Set<CapabilityRegistration<?>> published = registry.getCapabilities();
+
+        Assert.assertNotNull(shadow.removeCapability(name, CapabilityScope.GLOBAL, address));
+        Assert.assertFalse(shadow.hasCapability(name, CapabilityScope.GLOBAL));
+        Assert.assertTrue(registry.hasCapability(name, CapabilityScope.GLOBAL));
+        // Registrations read from a snapshot are not modified by later changes
+        Assert.assertEquals(1, published.iterator().next().getRegistrationPointCount());
+
+        shadow.rollback();
+        Assert.assertFalse(shadow.isModified());
+        Assert.assertTrue(shadow.hasCapability(name, CapabilityScope.GLOBAL));
+    }
+
     @Test
     public void testAddRemoveAdd() throws OperationFailedException {
         executeCheckNoFailure(Util.createEmptyOperation("root-cap", PathAddress.EMPTY_ADDRESS));
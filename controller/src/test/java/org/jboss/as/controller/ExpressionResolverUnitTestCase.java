@@ -5,9 +5,13 @@
 package org.jboss.as.controller;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.fail;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
 
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -427,6 +431,101 @@ public class ExpressionResolverUnitTestCase {
         }
     }
 
+    @Test
+    public void testCachedExpressionReflectsPropertyChanges() throws OperationFailedException {
+        String expression = "a-${test.prop.cached}-b-${test.prop.cached.other:x}";
+        System.setProperty("test.prop.cached", "ONE");
+        try {
+            long misses = ExpressionResolverImpl.getExpressionCacheMissCount();
+            long hits = ExpressionResolverImpl.getExpressionCacheHitCount();
+            assertEquals("a-ONE-b-x", ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression(expression)).asString());
+            assertEquals(misses + 1, ExpressionResolverImpl.getExpressionCacheMissCount());
+
+            // Only the parsed form is cached, so the new values must be picked up
+            System.setProperty("test.prop.cached", "TWO");
+            System.setProperty("test.prop.cached.other", "y");
+            assertEquals("a-TWO-b-y", ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression(expression)).asString());
+            assertEquals(misses + 1, ExpressionResolverImpl.getExpressionCacheMissCount());
+            assertEquals(hits + 1, ExpressionResolverImpl.getExpressionCacheHitCount());
+
+            // A cached expression resolving to another expression
+            System.setProperty("test.prop.cached", "${test.prop.cached.other}");
+            assertEquals("a-y-b-y", ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression(expression)).asString());
+
+            System.clearProperty("test.prop.cached");
+            try {
+                ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression(expression));
+                fail("Did not fail with ERUE");
+            } catch (ExpressionResolver.ExpressionResolutionUserException expected) {
+                // expected
+            }
+            assertEquals(ModelType.EXPRESSION, ExpressionResolver.SIMPLE_LENIENT.resolveExpressions(expression(expression)).getType());
+        } finally {
+            System.clearProperty("test.prop.cached");
+            System.clearProperty("test.prop.cached.other");
+        }
+    }
+
+    @Test
+    public void testUnusedExpressionsAreEvicted() throws OperationFailedException {
+        String eldest = "${test.prop.evicted:a}";
+        String recent = "${test.prop.retained:b}";
+        ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression(eldest));
+        for (int i = 0; i < ExpressionResolverImpl.MAX_COMPILED_EXPRESSIONS; i++) {
+            if (i % 100 == 0) {
+                ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression(recent));
+            }
+            ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression("${test.prop.other" + i + ":c}"));
+        }
+        long misses = ExpressionResolverImpl.getExpressionCacheMissCount();
+        assertEquals("b", ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression(recent)).asString());
+        assertEquals(misses, ExpressionResolverImpl.getExpressionCacheMissCount());
+        assertEquals("a", ExpressionResolver.TEST_RESOLVER.resolveExpressions(expression(eldest)).asString());
+        assertEquals(misses + 1, ExpressionResolverImpl.getExpressionCacheMissCount());
+    }
+
+    @Test
+    public void testNodesWithoutExpressionsAreCopied() throws OperationFailedException {
+        ModelNode node = new ModelNode();
+        node.get("map", "plain").set("a");
+        node.get("list").add("one");
+        node.get("prop").set("name", "value");
+        ModelNode resolved = ExpressionResolver.TEST_RESOLVER.resolveExpressions(node);
+        assertEquals(node, resolved);
+        assertNotSame(node, resolved);
+        resolved.get("map", "plain").set("b");
+        assertEquals("a", node.get("map", "plain").asString());
+
+        ModelNode simple = new ModelNode("plain");
+        assertSame(simple, ExpressionResolver.TEST_RESOLVER.resolveExpressions(simple));
+    }
+
+    @Test
+    public void testUnresolvedSubtreesArePreserved() throws OperationFailedException {
+        System.setProperty("test.prop.b", "B");
+        try {
+            ModelNode node = new ModelNode();
+            node.get("first", "plain").set("a");
+            node.get("second").set(new ValueExpression("${test.prop.b}"));
+            node.get("third").add("one");
+            node.get("list").add("zero");
+            node.get("list").add(new ValueExpression("${test.prop.b}"));
+            node.get("list").add("two");
+            ModelNode resolved = ExpressionResolver.TEST_RESOLVER.resolveExpressions(node);
+            assertEquals(Arrays.asList("first", "second", "third", "list"), new ArrayList<>(resolved.keys()));
+            assertEquals("a", resolved.get("first", "plain").asString());
+            assertEquals("B", resolved.get("second").asString());
+            assertEquals("one", resolved.get("third").get(0).asString());
+            assertEquals(3, resolved.get("list").asList().size());
+            assertEquals("zero", resolved.get("list").get(0).asString());
+            assertEquals("B", resolved.get("list").get(1).asString());
+            assertEquals("two", resolved.get("list").get(2).asString());
+            assertEquals(ModelType.EXPRESSION, node.get("second").getType());
+        } finally {
+            System.clearProperty("test.prop.b");
+        }
+    }
+
     private ModelNode expression(String str) {
         return new ModelNode(new ValueExpression(str));
     }
@@ -93,6 +93,7 @@ public class ModelControllerImplUnitTestCase {
     private static final PathAddress CHILD_TWO = PathAddress.pathAddress(PathElement.pathElement("child", "two"));
     private ServiceContainer container;
     private ModelController controller;
+    private ModelControllerStatistics statistics;
     private AtomicBoolean sharedState;
     private ServiceNotificationHandler notificationHandler;
 
@@ -113,6 +114,7 @@ public class ModelControllerImplUnitTestCase {
         sharedState = svc.getSharedState();
         svc.awaitStartup(30, TimeUnit.SECONDS);
         controller = svc.getValue();
+        statistics = svc.statistics;
         ModelNode setup = Util.getEmptyOperation("setup", new ModelNode());
         controller.execute(setup, null, null, null);
         notificationHandler = new ServiceNotificationHandler();
@@ -479,6 +481,81 @@ public class ModelControllerImplUnitTestCase {
         notificationHandler.validate(0);
     }
 
+    @Test
+    public void testModelGeneration() throws Exception {
+        long root = controller.getModelGeneration(PathAddress.EMPTY_ADDRESS);
+        long child = controller.getModelGeneration(CHILD_ONE);
+
+        // Reads do not change the generation
+        ModelNode result = controller.execute(Util.getReadAttributeOperation(CHILD_ONE, "attribute1"), null, null, null);
+        assertEquals(SUCCESS, result.get(OUTCOME).asString());
+        assertEquals(root, controller.getModelGeneration(PathAddress.EMPTY_ADDRESS));
+        assertEquals(child, controller.getModelGeneration(CHILD_ONE));
+
+        // Writes to the root resource change the generation of all resources
+        result = controller.execute(getOperation("good", "attr1", 5), null, null, null);
+        assertEquals(SUCCESS, result.get(OUTCOME).asString());
+        assertTrue(controller.getModelGeneration(PathAddress.EMPTY_ADDRESS) > root);
+        assertTrue(controller.getModelGeneration(CHILD_ONE) > child);
+
+        // Failed writes do not
+        root = controller.getModelGeneration(PathAddress.EMPTY_ADDRESS);
+        result = controller.execute(getOperation("bad", "attr1", 6), null, null, null);
+        assertEquals(FAILED, result.get(OUTCOME).asString());
+        assertEquals(root, controller.getModelGeneration(PathAddress.EMPTY_ADDRESS));
+
+        // Runtime-only resources have no generation
+        assertEquals(-1, controller.getModelGeneration(PathAddress.pathAddress("runtime-child", "one")));
+    }
+
+    @Test
+    public void testModelBacked() {
+        assertTrue(controller.isModelBacked(CHILD_ONE));
+        // The root resource has runtime-only children
+        assertFalse(controller.isModelBacked(PathAddress.EMPTY_ADDRESS));
+        assertFalse(controller.isModelBacked(PathAddress.pathAddress("runtime-child", "one")));
+        assertFalse(controller.isModelBacked(PathAddress.pathAddress("unknown", "one")));
+    }
+
+    @Test
+    public void testReadOnlyFastPath() throws Exception {
+        long fastPath = statistics.getFastPathOperationCount();
+        long fullPath = statistics.getFullPathOperationCount();
+
+        ModelNode operation = Util.getReadAttributeOperation(PathAddress.EMPTY_ADDRESS, "attr1");
+        ModelNode result = controller.execute(operation, null, null, null);
+        assertEquals(SUCCESS, result.get(OUTCOME).asString());
+        assertEquals(1, result.get(RESULT).asInt());
+        assertEquals(fastPath + 1, statistics.getFastPathOperationCount());
+        assertEquals(fullPath, statistics.getFullPathOperationCount());
+
+        // Composite operations always use the full path, even if all their steps are read-only
+        ModelNode composite = Util.createEmptyOperation(COMPOSITE, PathAddress.EMPTY_ADDRESS);
+        composite.get(STEPS).add(operation);
+        result = controller.execute(composite, null, null, null);
+        assertEquals(SUCCESS, result.get(OUTCOME).asString());
+        assertEquals(fastPath + 1, statistics.getFastPathOperationCount());
+        assertEquals(fullPath + 1, statistics.getFullPathOperationCount());
+
+        // As do writes
+        result = controller.execute(getOperation("good", "attr1", 5), null, null, null);
+        assertEquals(SUCCESS, result.get(OUTCOME).asString());
+        assertEquals(fastPath + 1, statistics.getFastPathOperationCount());
+        assertEquals(fullPath + 2, statistics.getFullPathOperationCount());
+
+        // Reads observe the most recently published model
+        result = controller.execute(operation, null, null, null);
+        assertEquals(SUCCESS, result.get(OUTCOME).asString());
+        assertEquals(5, result.get(RESULT).asInt());
+        assertEquals(fastPath + 2, statistics.getFastPathOperationCount());
+
+        // Failures of fast path reads are reported as usual
+        result = controller.execute(Util.getReadAttributeOperation(PathAddress.EMPTY_ADDRESS, "missing"), null, null, null);
+        assertEquals(FAILED, result.get(OUTCOME).asString());
+        assertTrue(result.hasDefined(FAILURE_DESCRIPTION));
+        assertEquals(fastPath + 3, statistics.getFastPathOperationCount());
+    }
+
     @Test
     public void testReloadRequired() throws Exception {
         ModelNode result = controller.execute(getOperation("reload-required", "attr1", 5), null, null, null);
@@ -826,8 +903,11 @@ public class ModelControllerImplUnitTestCase {
 
     static class ModelControllerService extends TestModelControllerService {
 
+        volatile ModelControllerStatistics statistics;
+
         @Override
         protected void initModel(ManagementModel managementModel, Resource modelControllerResource) {
+            this.statistics = (ModelControllerStatistics) modelControllerResource;
             ManagementResourceRegistration rootRegistration = managementModel.getRootResourceRegistration();
             rootRegistration.registerOperationHandler(getOD("setup"), new ModelControllerImplUnitTestCase.SetupHandler(),true);
             rootRegistration.registerOperationHandler(getOD("composite"), CompositeOperationHandler.INSTANCE,true);
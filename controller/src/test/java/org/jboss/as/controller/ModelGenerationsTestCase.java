@@ -0,0 +1,92 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Set;
+
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link ModelGenerations}.
+ */
+public class ModelGenerationsTestCase {
+
+    private static final PathAddress SUBSYSTEM = PathAddress.pathAddress("subsystem", "test");
+    private static final PathAddress CHILD = SUBSYSTEM.append("child", "one");
+    private static final PathAddress GRANDCHILD = CHILD.append("grandchild", "one");
+    private static final PathAddress SIBLING = SUBSYSTEM.append("child", "two");
+    private static final PathAddress OTHER = PathAddress.pathAddress("subsystem", "other");
+
+    @Test
+    public void testSubtreeGenerations() {
+        ModelGenerations generations = new ModelGenerations();
+        long root = generations.getGeneration(PathAddress.EMPTY_ADDRESS);
+        long sibling = generations.getGeneration(SIBLING);
+        long other = generations.getGeneration(OTHER);
+
+        generations.published(Set.of(CHILD), false);
+
+        // The modified resource, its ancestors and its descendants change
+        assertTrue(generations.getGeneration(PathAddress.EMPTY_ADDRESS) > root);
+        assertEquals(generations.getGeneration(PathAddress.EMPTY_ADDRESS), generations.getGeneration(SUBSYSTEM));
+        assertEquals(generations.getGeneration(PathAddress.EMPTY_ADDRESS), generations.getGeneration(CHILD));
+        assertEquals(generations.getGeneration(PathAddress.EMPTY_ADDRESS), generations.getGeneration(GRANDCHILD));
+        // Unrelated subtrees do not
+        assertEquals(sibling, generations.getGeneration(SIBLING));
+        assertEquals(other, generations.getGeneration(OTHER));
+
+        long child = generations.getGeneration(CHILD);
+        generations.published(Set.of(OTHER), false);
+        assertEquals(child, generations.getGeneration(CHILD));
+        assertTrue(generations.getGeneration(OTHER) > other);
+
+        // Nothing modified
+        long current = generations.getGeneration(PathAddress.EMPTY_ADDRESS);
+        generations.published(Set.of(), false);
+        assertEquals(current, generations.getGeneration(PathAddress.EMPTY_ADDRESS));
+    }
+
+    @Test
+    public void testWholeModelGenerations() {
+        ModelGenerations generations = new ModelGenerations();
+        generations.published(Set.of(CHILD), false);
+        long child = generations.getGeneration(CHILD);
+        long other = generations.getGeneration(OTHER);
+
+        generations.published(Set.of(PathAddress.EMPTY_ADDRESS), false);
+        assertTrue(generations.getGeneration(CHILD) > child);
+        assertTrue(generations.getGeneration(OTHER) > other);
+
+        child = generations.getGeneration(CHILD);
+        other = generations.getGeneration(OTHER);
+        generations.published(Set.of(), true);
+        assertTrue(generations.getGeneration(CHILD) > child);
+        assertTrue(generations.getGeneration(OTHER) > other);
+    }
+
+    @Test
+    public void testTrackedAddressesLimit() {
+        ModelGenerations generations = new ModelGenerations();
+        long other = generations.getGeneration(OTHER);
+        for (int i = 0; i < ModelGenerations.MAX_TRACKED_ADDRESSES; i++) {
+            generations.published(Set.of(CHILD.append("grandchild", String.valueOf(i))), false);
+        }
+        assertEquals(other, generations.getGeneration(OTHER));
+
+        // Once the limit is exceeded, the whole model is regarded as modified
+        generations.published(Set.of(CHILD.append("grandchild", "last")), false);
+        assertTrue(generations.getGeneration(OTHER) > other);
+    }
+
+    @Test
+    public void testInstancesDiffer() {
+        assertNotEquals(new ModelGenerations().getGeneration(PathAddress.EMPTY_ADDRESS), new ModelGenerations().getGeneration(PathAddress.EMPTY_ADDRESS));
+    }
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUBSYSTEM;
+import static org.junit.Assert.assertEquals;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.as.controller.operations.common.Util;
+import org.junit.Test;
+
+/**
+ * Unit tests of the splitting of subsystem runtime steps by {@link ParallelBootOperationStepHandler}.
+ */
+public class ParallelBootOperationStepHandlerTestCase {
+
+    private static final ParsedBootOp SUBSYSTEM_OP = op();
+    private static final ParsedBootOp A1 = op("a", "1");
+    private static final ParsedBootOp A1_CHILD = op("a", "1", "child", "x");
+    private static final ParsedBootOp A2 = op("a", "2");
+    private static final ParsedBootOp B1 = op("b", "1");
+
+    @Test
+    public void testNotSplit() {
+        List<ParsedBootOp> ops = List.of(SUBSYSTEM_OP, A1, A2, B1);
+        assertEquals(List.of(ops), ParallelBootOperationStepHandler.splitRuntimeOperations("test", ops, 0, Map.of()));
+        assertEquals(List.of(ops), ParallelBootOperationStepHandler.splitRuntimeOperations("test", ops, 1, Map.of()));
+        // Single child resource
+        List<ParsedBootOp> single = List.of(SUBSYSTEM_OP, A1, A1_CHILD);
+        assertEquals(List.of(single), ParallelBootOperationStepHandler.splitRuntimeOperations("test", single, 4, Map.of()));
+        // Subsystem resource steps following child resource steps
+        List<ParsedBootOp> unordered = List.of(A1, SUBSYSTEM_OP, A2);
+        assertEquals(List.of(unordered), ParallelBootOperationStepHandler.splitRuntimeOperations("test", unordered, 4, Map.of()));
+    }
+
+    @Test
+    public void testSplit() {
+        List<ParsedBootOp> ops = List.of(SUBSYSTEM_OP, A1, A2, A1_CHILD, B1);
+        assertEquals(List.of(List.of(SUBSYSTEM_OP), List.of(A1, A1_CHILD), List.of(A2), List.of(B1)),
+                ParallelBootOperationStepHandler.splitRuntimeOperations("test", ops, 4, Map.of()));
+        assertEquals(List.of(List.of(SUBSYSTEM_OP), List.of(A1, A1_CHILD, B1), List.of(A2)),
+                ParallelBootOperationStepHandler.splitRuntimeOperations("test", ops, 2, Map.of()));
+        // No steps for the subsystem resource
+        assertEquals(List.of(List.of(), List.of(A2), List.of(B1)),
+                ParallelBootOperationStepHandler.splitRuntimeOperations("test", List.of(A2, B1), 2, Map.of()));
+    }
+
+    @Test
+    public void testSplitDependent() {
+        List<ParsedBootOp> ops = List.of(SUBSYSTEM_OP, A1, A2, A1_CHILD, B1);
+        // b=1 requires a capability provided by a descendant of a=1
+        Map<PathAddress, Set<PathAddress>> requirements = Map.of(B1.address, Set.of(A1_CHILD.address));
+        assertEquals(List.of(List.of(SUBSYSTEM_OP), List.of(A1, A1_CHILD, B1), List.of(A2)),
+                ParallelBootOperationStepHandler.splitRuntimeOperations("test", ops, 4, requirements));
+        // Requirements on the subsystem resource or on other subsystems do not group child resources
+        requirements = Map.of(A1.address, Set.of(SUBSYSTEM_OP.address, PathAddress.pathAddress(SUBSYSTEM, "other").append("a", "2")));
+        assertEquals(List.of(List.of(SUBSYSTEM_OP), List.of(A1, A1_CHILD), List.of(A2), List.of(B1)),
+                ParallelBootOperationStepHandler.splitRuntimeOperations("test", ops, 4, requirements));
+        // All child resources depending on each other
+        requirements = Map.of(A1.address, Set.of(A2.address), B1.address, Set.of(A2.address));
+        assertEquals(List.of(ops), ParallelBootOperationStepHandler.splitRuntimeOperations("test", ops, 4, requirements));
+    }
+
+    private static ParsedBootOp op(String... pairs) {
+        PathAddress address = PathAddress.pathAddress(SUBSYSTEM, "test");
+        for (int i = 0; i < pairs.length; i += 2) {
+            address = address.append(pairs[i], pairs[i + 1]);
+        }
+        return new ParsedBootOp(Util.createEmptyOperation(ADD, address), null);
+    }
+}
@@ -92,6 +92,20 @@ public class PathAddressTestCase {
         Assert.assertEquals("3", pathAddress.getElement(2).getValue());
     }
 
+    @Test
+    public void testAppend() {
+        PathAddress address = PathAddress.pathAddress("one", "1");
+        Assert.assertSame(address, address.append(PathAddress.EMPTY_ADDRESS));
+        Assert.assertSame(address, PathAddress.EMPTY_ADDRESS.append(address));
+        Assert.assertEquals(PathAddress.pathAddress(PathElement.pathElement("one", "1"), PathElement.pathElement("two", "2")),
+                address.append(PathAddress.pathAddress("two", "2")));
+    }
+
+    @Test(expected=OperationFailedRuntimeException.class)
+    public void testDuplicateFailsAppend() {
+        PathAddress.pathAddress("one", "1").append(PathAddress.pathAddress("one", "2"));
+    }
+
     @Test(expected=OperationFailedRuntimeException.class)
     public void testDuplicateFailsElement() {
         PathAddress.pathAddress(PathElement.pathElement("one", "1"), PathElement.pathElement("one", "2"));
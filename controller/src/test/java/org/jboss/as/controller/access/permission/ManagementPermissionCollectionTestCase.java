@@ -5,14 +5,25 @@
 
 package org.jboss.as.controller.access.permission;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.security.Permission;
 import java.util.Enumeration;
+import java.util.Set;
 
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.access.Action;
+import org.jboss.as.controller.access.HostEffect;
+import org.jboss.as.controller.access.ServerGroupEffect;
+import org.jboss.as.controller.access.TargetResource;
+import org.jboss.as.controller.access.constraint.Constraint;
+import org.jboss.as.controller.access.constraint.HostEffectConstraint;
+import org.jboss.as.controller.access.constraint.ServerGroupEffectConstraint;
+import org.jboss.as.controller.access.rbac.StandardRole;
 import org.jboss.as.controller.security.ControllerPermission;
 import org.junit.Before;
 import org.junit.Test;
@@ -94,8 +105,162 @@ public class ManagementPermissionCollectionTestCase {
         } catch (SecurityException ignored) { /* expected */ }
     }
 
+    @Test
+    public void testCachedDecisions() {
+        TestConstraint userConstraint = new TestConstraint();
+        ManagementPermissionCollection cachingCollection = new ManagementPermissionCollection(getClass().getSimpleName(),
+                SimpleManagementPermission.class, true);
+        cachingCollection.add(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, userConstraint));
+
+        Constraint required = new TestConstraint();
+        long hits = ManagementPermissionCollection.getDecisionCacheHitCount();
+        long misses = ManagementPermissionCollection.getDecisionCacheMissCount();
+        assertTrue(cachingCollection.implies(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, required)));
+        assertEquals(1, userConstraint.evaluations);
+        assertEquals(misses + 1, ManagementPermissionCollection.getDecisionCacheMissCount());
+
+        // Same action effect and constraints
+        assertTrue(cachingCollection.implies(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, required)));
+        assertEquals(1, userConstraint.evaluations);
+        assertEquals(hits + 1, ManagementPermissionCollection.getDecisionCacheHitCount());
+
+        // Different constraints
+        userConstraint.violated = true;
+        assertFalse(cachingCollection.implies(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, new TestConstraint())));
+        assertEquals(2, userConstraint.evaluations);
+
+        // Adding a permission discards the cached decisions
+        cachingCollection.add(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, userConstraint));
+        assertFalse(cachingCollection.implies(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG, required)));
+        assertEquals(3, userConstraint.evaluations);
+    }
+
+    @Test
+    public void testCachedDecisionsForDomainScopedTargets() {
+        ManagementPermissionCollection cachingCollection = new ManagementPermissionCollection(getClass().getSimpleName(),
+                SimpleManagementPermission.class, true);
+        cachingCollection.add(new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG,
+                HostEffectConstraint.FACTORY.getStandardUserConstraint(StandardRole.MONITOR, Action.ActionEffect.READ_CONFIG),
+                ServerGroupEffectConstraint.FACTORY.getStandardUserConstraint(StandardRole.MONITOR, Action.ActionEffect.READ_CONFIG)));
+
+        long hits = ManagementPermissionCollection.getDecisionCacheHitCount();
+        long misses = ManagementPermissionCollection.getDecisionCacheMissCount();
+        SimpleManagementPermission required = getRequiredPermission("primary", "main-server-group");
+        assertTrue(cachingCollection.implies(required));
+        assertEquals(misses + 1, ManagementPermissionCollection.getDecisionCacheMissCount());
+
+        // The factories create new constraints for the same hosts and server groups
+        SimpleManagementPermission sameTarget = getRequiredPermission("primary", "main-server-group");
+        assertNotSame(required.getConstraints()[0], sameTarget.getConstraints()[0]);
+        assertNotSame(required.getConstraints()[1], sameTarget.getConstraints()[1]);
+        assertTrue(cachingCollection.implies(sameTarget));
+        assertEquals(hits + 1, ManagementPermissionCollection.getDecisionCacheHitCount());
+        assertEquals(misses + 1, ManagementPermissionCollection.getDecisionCacheMissCount());
+
+        // Different hosts or server groups
+        assertTrue(cachingCollection.implies(getRequiredPermission("secondary", "main-server-group")));
+        assertTrue(cachingCollection.implies(getRequiredPermission("primary", "other-server-group")));
+        assertEquals(hits + 1, ManagementPermissionCollection.getDecisionCacheHitCount());
+        assertEquals(misses + 3, ManagementPermissionCollection.getDecisionCacheMissCount());
+    }
+
     // ---
 
+    private static SimpleManagementPermission getRequiredPermission(String host, String serverGroup) {
+        PathAddress address = PathAddress.pathAddress("host", host);
+        TargetResource target = TargetResource.forDomain(address, null, null,
+                new TestServerGroupEffect(address, serverGroup), new TestHostEffect(address, host));
+        return new SimpleManagementPermission(Action.ActionEffect.READ_CONFIG,
+                HostEffectConstraint.FACTORY.getRequiredConstraint(Action.ActionEffect.READ_CONFIG, null, target),
+                ServerGroupEffectConstraint.FACTORY.getRequiredConstraint(Action.ActionEffect.READ_CONFIG, null, target));
+    }
+
+    private static final class TestHostEffect implements HostEffect {
+        private final PathAddress address;
+        private final String host;
+
+        private TestHostEffect(PathAddress address, String host) {
+            this.address = address;
+            this.host = host;
+        }
+
+        @Override
+        public PathAddress getResourceAddress() {
+            return address;
+        }
+
+        @Override
+        public boolean isHostEffectGlobal() {
+            return false;
+        }
+
+        @Override
+        public boolean isServerEffect() {
+            return true;
+        }
+
+        @Override
+        public Set<String> getAffectedHosts() {
+            return Set.of(host);
+        }
+    }
+
+    private static final class TestServerGroupEffect implements ServerGroupEffect {
+        private final PathAddress address;
+        private final String serverGroup;
+
+        private TestServerGroupEffect(PathAddress address, String serverGroup) {
+            this.address = address;
+            this.serverGroup = serverGroup;
+        }
+
+        @Override
+        public PathAddress getResourceAddress() {
+            return address;
+        }
+
+        @Override
+        public boolean isServerGroupEffectGlobal() {
+            return false;
+        }
+
+        @Override
+        public boolean isServerGroupEffectUnassigned() {
+            return false;
+        }
+
+        @Override
+        public Set<String> getAffectedServerGroups() {
+            return Set.of(serverGroup);
+        }
+
+        @Override
+        public boolean isServerGroupAdd() {
+            return false;
+        }
+
+        @Override
+        public boolean isServerGroupRemove() {
+            return false;
+        }
+    }
+
+    private static final class TestConstraint implements Constraint {
+        private int evaluations;
+        private boolean violated;
+
+        @Override
+        public boolean violates(Constraint other, Action.ActionEffect actionEffect) {
+            evaluations++;
+            return violated;
+        }
+
+        @Override
+        public boolean replaces(Constraint other) {
+            return false;
+        }
+    }
+
     private static final class TestManagementPermission extends ManagementPermission {
         private TestManagementPermission(Action.ActionEffect actionEffect) {
             super("test", actionEffect);
@@ -11,6 +11,8 @@ import static org.jboss.as.controller.PathElement.pathElement;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_CONTROL;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ADD;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.LIMIT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OFFSET;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_CHILDREN_RESOURCES_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESPONSE_HEADERS;
@@ -19,6 +21,9 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUC
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.jboss.as.controller.AbstractAddStepHandler;
 import org.jboss.as.controller.AbstractRemoveStepHandler;
 import org.jboss.as.controller.ManagementModel;
@@ -48,6 +53,7 @@ public class FilteredReadChildrenResourcesTestCase extends AbstractRbacTestBase
 
     public static final String FOO = "foo";
     public static final String BAR = "bar";
+    public static final String BAZ = "baz";
 
     @Before
     public void setup() {
@@ -107,6 +113,14 @@ public class FilteredReadChildrenResourcesTestCase extends AbstractRbacTestBase
         test(true, StandardRole.ADMINISTRATOR, StandardRole.AUDITOR);
     }
 
+    @Test
+    public void testPageOnlyContainsAddressableChildren() {
+        // More unconstrained children than fit in a page
+        executeWithRoles(Util.createOperation(ADD, pathAddress(UNCONSTRAINED_RESOURCE, BAZ)), StandardRole.SUPERUSER);
+        testPage(false, StandardRole.MONITOR);
+        testPage(true, StandardRole.ADMINISTRATOR);
+    }
+
     private void test(boolean sensitiveResourceVisible, StandardRole... roles) {
         ModelNode operation = Util.createOperation(READ_CHILDREN_RESOURCES_OPERATION, EMPTY_ADDRESS);
         operation.get(CHILD_TYPE).set(UNCONSTRAINED_RESOURCE);
@@ -127,6 +141,29 @@ public class FilteredReadChildrenResourcesTestCase extends AbstractRbacTestBase
                 .get("filtered-children-types").get(0).asString().equals(SENSITIVE_CONSTRAINED_RESOURCE));
     }
 
+    private void testPage(boolean sensitiveResourceVisible, StandardRole... roles) {
+        // Children of the unconstrained type are paged in name order, regardless of their filtered sibling type
+        ModelNode operation = Util.createOperation(READ_CHILDREN_RESOURCES_OPERATION, EMPTY_ADDRESS);
+        operation.get(CHILD_TYPE).set(UNCONSTRAINED_RESOURCE);
+        operation.get(LIMIT).set(2);
+        ModelNode result = executeWithRoles(operation, roles);
+        assertEquals(SUCCESS, result.get(OUTCOME).asString());
+        assertEquals(List.of(BAR, BAZ), new ArrayList<>(result.get(RESULT).keys()));
+
+        operation.get(OFFSET).set(1);
+        result = executeWithRoles(operation, roles);
+        assertEquals(SUCCESS, result.get(OUTCOME).asString());
+        assertEquals(List.of(BAZ, FOO), new ArrayList<>(result.get(RESULT).keys()));
+
+        // Filtered children are not counted in a page
+        operation = Util.createOperation(READ_CHILDREN_RESOURCES_OPERATION, EMPTY_ADDRESS);
+        operation.get(CHILD_TYPE).set(SENSITIVE_CONSTRAINED_RESOURCE);
+        operation.get(LIMIT).set(1);
+        result = executeWithRoles(operation, roles);
+        assertEquals(SUCCESS, result.get(OUTCOME).asString());
+        assertEquals(sensitiveResourceVisible ? List.of(BAR) : List.of(), new ArrayList<>(result.get(RESULT).keys()));
+    }
+
     // model definition
 
     private static final SensitivityClassification MY_SENSITIVITY
@@ -0,0 +1,180 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.audit;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.as.controller.OperationContext.ResultAction;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.audit.AuditLogger.Status;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests writing the audit log records in the background.
+ */
+public class ManagedAuditLoggerQueueTestCase {
+
+    @Test
+    public void testRecordsWrittenInOrder() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ManagedAuditLoggerImpl auditLogger = new ManagedAuditLoggerImpl("8.0.0", true, 128, false);
+        RecordingHandler handler = addHandler(auditLogger, release);
+
+        log(auditLogger, "op0");
+        handler.awaitWriting();
+        for (int i = 1; i < 100; i++) {
+            log(auditLogger, "op" + i);
+        }
+        Assert.assertEquals(99, auditLogger.getQueueDepth());
+        release.countDown();
+        auditLogger.flush();
+
+        Assert.assertEquals(0, auditLogger.getQueueDepth());
+        Assert.assertEquals(0, auditLogger.getDroppedRecordCount());
+        List<String> records = handler.getRecords();
+        Assert.assertEquals(100, records.size());
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals("op" + i, ModelNode.fromJSONString(records.get(i)).get(JsonAuditLogItemFormatter.OPERATIONS).get(0).get("operation").asString());
+        }
+        // The records queued while the first one was written are written at once
+        Assert.assertEquals(2, handler.getBatches());
+    }
+
+    @Test
+    public void testRecordsDroppedWhileQueueIsFull() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ManagedAuditLoggerImpl auditLogger = new ManagedAuditLoggerImpl("8.0.0", true, 1, true);
+        RecordingHandler handler = addHandler(auditLogger, release);
+
+        // Written by the queue's thread, which waits for the handler
+        log(auditLogger, "op0");
+        handler.awaitWriting();
+        // Queued
+        log(auditLogger, "op1");
+        Assert.assertEquals(1, auditLogger.getQueueDepth());
+        // Dropped
+        log(auditLogger, "op2");
+        Assert.assertEquals(1, auditLogger.getDroppedRecordCount());
+
+        release.countDown();
+        auditLogger.flush();
+
+        Assert.assertEquals(0, auditLogger.getQueueDepth());
+        Assert.assertEquals(1, auditLogger.getDroppedRecordCount());
+        Assert.assertEquals(2, handler.getRecords().size());
+    }
+
+    @Test
+    public void testRecordsWrittenAfterError() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<String> records = Collections.synchronizedList(new ArrayList<>());
+        AuditLogQueue<String> queue = new AuditLogQueue<>("test-audit-log", 2, 1, false, batch -> {
+            if (batch.contains("error")) {
+                writing.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new AssertionError("Expected");
+            }
+            records.addAll(batch);
+        });
+
+        // Fails the queue's thread once the further records are queued
+        queue.add("error", false);
+        Assert.assertTrue(writing.await(10, TimeUnit.SECONDS));
+        queue.add("record0", false);
+        queue.add("record1", false);
+        release.countDown();
+        // Waits for capacity, which a new thread provides
+        queue.add("record2", false);
+        CompletableFuture.runAsync(queue::flush).get(10, TimeUnit.SECONDS);
+
+        Assert.assertEquals(0, queue.getDepth());
+        Assert.assertEquals(List.of("record0", "record1", "record2"), records);
+    }
+
+    private static RecordingHandler addHandler(ManagedAuditLoggerImpl auditLogger, CountDownLatch release) {
+        auditLogger.addFormatter(new JsonAuditLogItemFormatter("json", false, " - ", "yyyy-MM-dd HH:mm:ss", true, false, false));
+        RecordingHandler handler = new RecordingHandler(release);
+        auditLogger.getUpdater().addHandler(handler);
+        auditLogger.getUpdater().addHandlerReference(PathAddress.pathAddress(PathElement.pathElement("handler", handler.getName())));
+        auditLogger.setLoggerStatus(Status.LOGGING);
+        auditLogger.bootDone();
+        return handler;
+    }
+
+    private static void log(ManagedAuditLoggerImpl auditLogger, String operationName) {
+        ModelNode operation = Util.createEmptyOperation(operationName, PathAddress.EMPTY_ADDRESS);
+        auditLogger.log(false, ResultAction.KEEP, "user", null, null, null, null, Collections.singletonList(operation));
+    }
+
+    private static class RecordingHandler extends AuditLogHandler {
+        private final CountDownLatch release;
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final List<String> records = Collections.synchronizedList(new ArrayList<>());
+        private volatile int batches;
+
+        RecordingHandler(CountDownLatch release) {
+            super("recording", "json", 0);
+            this.release = release;
+        }
+
+        List<String> getRecords() {
+            return records;
+        }
+
+        int getBatches() {
+            return batches;
+        }
+
+        void awaitWriting() throws InterruptedException {
+            Assert.assertTrue(writing.await(10, TimeUnit.SECONDS));
+        }
+
+        @Override
+        boolean isDifferent(AuditLogHandler other) {
+            return other != this;
+        }
+
+        @Override
+        void initialize() {
+        }
+
+        @Override
+        void stop() {
+        }
+
+        @Override
+        void writeFormattedLogItems(List<String> formattedItems) throws IOException {
+            batches++;
+            super.writeFormattedLogItems(formattedItems);
+        }
+
+        @Override
+        void writeLogItem(String formattedItem) {
+            writing.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            records.add(formattedItem);
+        }
+    }
+}
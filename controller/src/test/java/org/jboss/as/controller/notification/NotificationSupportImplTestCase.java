@@ -13,12 +13,15 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import org.jboss.as.controller.registry.NotificationHandlerRegistration;
+import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
@@ -27,8 +30,17 @@ import org.junit.Test;
  */
 public class NotificationSupportImplTestCase {
 
+    private ExecutorService executor;
+
     @Before
     public void setUp() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void tearDown() throws InterruptedException {
+        executor.shutdownNow();
+        assertTrue(executor.awaitTermination(5, SECONDS));
     }
 
     @Test
@@ -90,4 +102,112 @@ public class NotificationSupportImplTestCase {
         // handled the 2nd notifications2 that were emitted
         assertEquals(notifications2, handler.getNotifications().subList(9, 12));
     }
+
+    @Test
+    public void testSlowHandlerDoesNotDelayOtherHandlers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        NotificationSupport notificationSupport = new NotificationSupports.NonBlockingNotificationSupport(NotificationHandlerRegistration.Factory.create(),
+                executor, NotificationSupports.DEFAULT_HANDLER_QUEUE_SIZE, false);
+        BlockingNotificationHandler slowHandler = new BlockingNotificationHandler(release);
+        CountdownListBackedNotificationHandler fastHandler = new CountdownListBackedNotificationHandler(new CountDownLatch(3));
+        notificationSupport.getNotificationRegistry().registerNotificationHandler(NotificationHandlerRegistration.ANY_ADDRESS, slowHandler, ALL);
+        notificationSupport.getNotificationRegistry().registerNotificationHandler(NotificationHandlerRegistration.ANY_ADDRESS, fastHandler, ALL);
+
+        List<Notification> notifications = createNotifications(3);
+        for (Notification notification : notifications) {
+            notificationSupport.emit(notification);
+        }
+
+        // Delivered to the fast handler while the slow handler blocks
+        assertTrue(awaitNotifications(fastHandler, 3));
+        assertEquals(notifications, fastHandler.getNotifications());
+        assertTrue(slowHandler.getNotifications().isEmpty());
+
+        release.countDown();
+        assertTrue(awaitNotifications(slowHandler, 3));
+        assertEquals(notifications, slowHandler.getNotifications());
+        // Counted once the handler returned
+        assertTrue(awaitDeliveredNotifications(notificationSupport, 6));
+        assertEquals(6, notificationSupport.getDeliveredNotificationCount());
+        assertEquals(0, notificationSupport.getDroppedNotificationCount());
+    }
+
+    @Test
+    public void testNotificationsDroppedForSlowHandler() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        NotificationSupport notificationSupport = new NotificationSupports.NonBlockingNotificationSupport(NotificationHandlerRegistration.Factory.create(),
+                executor, 1, true);
+        BlockingNotificationHandler slowHandler = new BlockingNotificationHandler(release);
+        notificationSupport.getNotificationRegistry().registerNotificationHandler(NotificationHandlerRegistration.ANY_ADDRESS, slowHandler, ALL);
+
+        List<Notification> notifications = createNotifications(3);
+        // Delivered, while the handler blocks
+        notificationSupport.emit(notifications.get(0));
+        assertTrue(slowHandler.handling.await(5, SECONDS));
+        // Queued, then dropped as the queue is full
+        notificationSupport.emit(notifications.get(1));
+        notificationSupport.emit(notifications.get(2));
+        long deadline = System.nanoTime() + SECONDS.toNanos(5);
+        while (notificationSupport.getDroppedNotificationCount() == 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(1, notificationSupport.getDroppedNotificationCount());
+
+        release.countDown();
+        assertTrue(awaitNotifications(slowHandler, 2));
+        assertEquals(notifications.subList(0, 2), slowHandler.getNotifications());
+        assertTrue(awaitDeliveredNotifications(notificationSupport, 2));
+        assertEquals(2, notificationSupport.getDeliveredNotificationCount());
+    }
+
+    private static List<Notification> createNotifications(int count) {
+        Notification[] notifications = new Notification[count];
+        for (int i = 0; i < count; i++) {
+            notifications[i] = new Notification("foo", pathAddress("resource", "foo"), "foo" + i);
+        }
+        return Arrays.asList(notifications);
+    }
+
+    private static boolean awaitNotifications(CountdownListBackedNotificationHandler handler, int count) throws InterruptedException {
+        long deadline = System.nanoTime() + SECONDS.toNanos(5);
+        while (handler.getNotifications().size() < count) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private static boolean awaitDeliveredNotifications(NotificationSupport notificationSupport, long count) throws InterruptedException {
+        long deadline = System.nanoTime() + SECONDS.toNanos(5);
+        while (notificationSupport.getDeliveredNotificationCount() < count) {
+            if (System.nanoTime() > deadline) {
+                return false;
+            }
+            Thread.sleep(10);
+        }
+        return true;
+    }
+
+    private static class BlockingNotificationHandler extends CountdownListBackedNotificationHandler {
+        private final CountDownLatch release;
+        private final CountDownLatch handling = new CountDownLatch(1);
+
+        BlockingNotificationHandler(CountDownLatch release) {
+            super(new CountDownLatch(0));
+            this.release = release;
+        }
+
+        @Override
+        public void handleNotification(Notification notification) {
+            handling.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            super.handleNotification(notification);
+        }
+    }
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.controller.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ValueExpression;
+import org.jboss.staxmapper.XMLElementReader;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests of {@link BootOperationCache}.
+ */
+public class BootOperationCacheTestCase {
+
+    private static final QName ROOT = new QName("urn:test:1.0", "server");
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final AtomicInteger parsed = new AtomicInteger();
+
+    private final XMLElementReader<List<ModelNode>> parser = new XMLElementReader<>() {
+        @Override
+        public void readElement(XMLExtendedStreamReader reader, List<ModelNode> operations) throws XMLStreamException {
+            parsed.incrementAndGet();
+            ModelNode operation = new ModelNode();
+            operation.get("operation").set("write-attribute");
+            operation.get("name").set("name");
+            operation.get("value").set(new ValueExpression(reader.getAttributeValue(null, "name")));
+            operations.add(operation);
+            reader.nextTag();
+        }
+    };
+
+    @Test
+    public void testCachedOperations() throws Exception {
+        File config = writeConfig("${server.name:one}");
+        XmlConfigurationPersister persister = createPersister(config, "key");
+
+        List<ModelNode> operations = persister.load();
+        assertEquals(1, parsed.get());
+        assertTrue(BootOperationCache.forConfigurationFile(config, "key").getCacheFile().isFile());
+
+        // Unchanged configuration
+        assertEquals(operations, createPersister(config, "key").load());
+        assertEquals(1, parsed.get());
+
+        // Changed configuration
+        writeConfig("two");
+        List<ModelNode> changed = createPersister(config, "key").load();
+        assertEquals(2, parsed.get());
+        assertEquals("two", changed.get(0).get("value").asString());
+        assertEquals(changed, createPersister(config, "key").load());
+        assertEquals(2, parsed.get());
+
+        // Changed installation
+        createPersister(config, "other").load();
+        assertEquals(3, parsed.get());
+    }
+
+    @Test
+    public void testCorruptCache() throws Exception {
+        File config = writeConfig("one");
+        File cacheFile = BootOperationCache.forConfigurationFile(config, "key").getCacheFile();
+        Files.write(cacheFile.toPath(), new byte[] { 1, 2, 3 });
+
+        List<ModelNode> operations = createPersister(config, "key").load();
+        assertEquals(1, parsed.get());
+        assertEquals("one", operations.get(0).get("value").asString());
+
+        // The corrupt cache was replaced
+        assertEquals(operations, createPersister(config, "key").load());
+        assertEquals(1, parsed.get());
+    }
+
+    @Test
+    public void testCachePermissions() throws Exception {
+        File config = writeConfig("one");
+        if (!Files.getFileStore(config.toPath()).supportsFileAttributeView(PosixFileAttributeView.class)) {
+            return;
+        }
+        Set<PosixFilePermission> permissions = EnumSet.of(PosixFilePermission.OWNER_READ, PosixFilePermission.OWNER_WRITE);
+        Files.setPosixFilePermissions(config.toPath(), permissions);
+        createPersister(config, "key").load();
+        File cacheFile = BootOperationCache.forConfigurationFile(config, "key").getCacheFile();
+        assertEquals(permissions, Files.getPosixFilePermissions(cacheFile.toPath()));
+
+        // Without a configuration file, only the owner can access the cache
+        File other = new File(folder.getRoot(), "other.boot-ops");
+        new BootOperationCache(other, "key").store(new byte[0], List.of(new ModelNode("operation")));
+        assertEquals(permissions, Files.getPosixFilePermissions(other.toPath()));
+    }
+
+    private XmlConfigurationPersister createPersister(File config, String key) {
+        XmlConfigurationPersister persister = new XmlConfigurationPersister(config, ROOT, parser, null);
+        persister.setBootOperationCache(BootOperationCache.forConfigurationFile(config, key));
+        return persister;
+    }
+
+    private File writeConfig(String name) throws IOException {
+        File config = new File(folder.getRoot(), "standalone.xml");
+        Files.writeString(config.toPath(), "<server xmlns=\"urn:test:1.0\" name=\"" + name + "\"/>", StandardCharsets.UTF_8);
+        return config;
+    }
+}
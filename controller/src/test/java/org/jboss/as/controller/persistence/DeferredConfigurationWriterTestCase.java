@@ -0,0 +1,107 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link DeferredConfigurationWriter}.
+ */
+public class DeferredConfigurationWriterTestCase {
+
+    private final List<ModelNode> written = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void testGroupCommit() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        DeferredConfigurationWriter writer = new DeferredConfigurationWriter("test.xml", 100, model -> {
+            written.add(model);
+            latch.countDown();
+        });
+        for (int i = 0; i < 10; i++) {
+            writer.submit(new ModelNode(i));
+        }
+        assertEquals(10, writer.getPendingWrites());
+
+        assertTrue(latch.await(10, TimeUnit.SECONDS));
+        writer.flush();
+        assertEquals(List.of(new ModelNode(9)), written);
+        assertEquals(0, writer.getPendingWrites());
+        assertEquals(0, writer.getLag());
+    }
+
+    @Test
+    public void testFlush() {
+        DeferredConfigurationWriter writer = new DeferredConfigurationWriter("test.xml", TimeUnit.HOURS.toMillis(1), written::add);
+        writer.submit(new ModelNode(1));
+        writer.submit(new ModelNode(2));
+        writer.flush();
+        assertEquals(List.of(new ModelNode(2)), written);
+        assertEquals(0, writer.getPendingWrites());
+
+        // Nothing left to write
+        writer.flush();
+        assertEquals(1, written.size());
+
+        writer.submit(new ModelNode(3));
+        writer.flush();
+        assertEquals(List.of(new ModelNode(2), new ModelNode(3)), written);
+    }
+
+    @Test
+    public void testFailedWrite() {
+        DeferredConfigurationWriter writer = new DeferredConfigurationWriter("test.xml", TimeUnit.HOURS.toMillis(1), model -> {
+            if (model.asInt() == 1) {
+                throw new ConfigurationPersistenceException("test");
+            }
+            written.add(model);
+        });
+        writer.submit(new ModelNode(1));
+        writer.flush();
+        writer.submit(new ModelNode(2));
+        writer.flush();
+        assertEquals(List.of(new ModelNode(2)), written);
+        assertEquals(0, writer.getPendingWrites());
+    }
+
+    @Test
+    public void testRetryFailedWrite() throws Exception {
+        AtomicInteger failures = new AtomicInteger(2);
+        DeferredConfigurationWriter writer = new DeferredConfigurationWriter("test.xml", TimeUnit.HOURS.toMillis(1), model -> {
+            if (failures.getAndDecrement() > 0) {
+                throw new ConfigurationPersistenceException("test");
+            }
+            written.add(model);
+        });
+        writer.submit(new ModelNode(1));
+        writer.submit(new ModelNode(2));
+        writer.flush();
+        // The failed model remains pending
+        assertEquals(List.of(), written);
+        assertEquals(2, writer.getPendingWrites());
+        Thread.sleep(10);
+        assertTrue(writer.getLag() > 0);
+
+        writer.flush();
+        assertEquals(List.of(), written);
+        assertEquals(2, writer.getPendingWrites());
+
+        writer.flush();
+        assertEquals(List.of(new ModelNode(2)), written);
+        assertEquals(0, writer.getPendingWrites());
+        assertEquals(0, writer.getLag());
+    }
+}
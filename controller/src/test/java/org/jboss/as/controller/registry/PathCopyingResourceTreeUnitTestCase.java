@@ -0,0 +1,120 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.controller.registry;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link PathCopyingResourceTree}.
+ */
+public class PathCopyingResourceTreeUnitTestCase {
+
+    private static final PathElement SUBSYSTEM_A = PathElement.pathElement("subsystem", "a");
+    private static final PathElement SUBSYSTEM_B = PathElement.pathElement("subsystem", "b");
+    private static final PathElement CHILD_1 = PathElement.pathElement("child", "1");
+    private static final PathElement CHILD_2 = PathElement.pathElement("child", "2");
+    private static final PathElement CHILD_3 = PathElement.pathElement("child", "3");
+
+    private Resource original;
+
+    @Before
+    public void setUp() {
+        this.original = Resource.Factory.create();
+        for (PathElement subsystem : List.of(SUBSYSTEM_A, SUBSYSTEM_B)) {
+            Resource resource = Resource.Factory.create();
+            resource.getModel().get("name").set(subsystem.getValue());
+            this.original.registerChild(subsystem, resource);
+            for (PathElement child : List.of(CHILD_1, CHILD_2, CHILD_3)) {
+                Resource childResource = Resource.Factory.create();
+                childResource.getModel().get("value").set(child.getValue());
+                resource.registerChild(child, childResource);
+            }
+        }
+    }
+
+    @Test
+    public void testResourceForUpdate() {
+        PathCopyingResourceTree tree = new PathCopyingResourceTree(this.original);
+        PathAddress address = PathAddress.pathAddress(SUBSYSTEM_A, CHILD_2);
+
+        Resource resource = tree.getResourceForUpdate(address);
+        resource.getModel().get("value").set("modified");
+
+        assertEquals("modified", tree.getRoot().navigate(address).getModel().get("value").asString());
+        assertEquals("2", this.original.navigate(address).getModel().get("value").asString());
+
+        // Only the path to the modified resource was copied
+        assertNotSame(this.original.getChild(SUBSYSTEM_A), tree.getRoot().getChild(SUBSYSTEM_A));
+        assertSame(this.original.getChild(SUBSYSTEM_B), tree.getRoot().getChild(SUBSYSTEM_B));
+        assertSame(this.original.getChild(SUBSYSTEM_A).getChild(CHILD_1), tree.getRoot().getChild(SUBSYSTEM_A).getChild(CHILD_1));
+        assertSame(this.original.getChild(SUBSYSTEM_A).getChild(CHILD_3), tree.getRoot().getChild(SUBSYSTEM_A).getChild(CHILD_3));
+
+        // Sibling order is retained
+        assertEquals(List.of("1", "2", "3"), List.copyOf(tree.getRoot().getChild(SUBSYSTEM_A).getChildrenNames("child")));
+
+        // A resource is only copied once
+        assertSame(resource, tree.getResourceForUpdate(address));
+    }
+
+    @Test
+    public void testAncestorForUpdate() {
+        PathCopyingResourceTree tree = new PathCopyingResourceTree(this.original);
+        PathAddress childAddress = PathAddress.pathAddress(SUBSYSTEM_A, CHILD_1);
+
+        Resource child = tree.getResourceForUpdate(childAddress);
+        Resource subsystem = tree.getResourceForUpdate(PathAddress.pathAddress(SUBSYSTEM_A));
+
+        // Descendants of a resource for update are private, but previously obtained resources retain their identity
+        assertSame(child, subsystem.getChild(CHILD_1));
+        assertNotSame(this.original.getChild(SUBSYSTEM_A).getChild(CHILD_2), subsystem.getChild(CHILD_2));
+
+        subsystem.getChild(CHILD_3).getModel().get("value").set("modified");
+        assertEquals("3", this.original.getChild(SUBSYSTEM_A).getChild(CHILD_3).getModel().get("value").asString());
+    }
+
+    @Test
+    public void testRegisterChild() {
+        PathCopyingResourceTree tree = new PathCopyingResourceTree(this.original);
+        PathElement child4 = PathElement.pathElement("child", "4");
+        PathAddress address = PathAddress.pathAddress(SUBSYSTEM_B, child4);
+
+        Resource added = Resource.Factory.create();
+        tree.registerChild(address, -1, added);
+
+        assertSame(added, tree.getRoot().navigate(address));
+        assertFalse(this.original.getChild(SUBSYSTEM_B).hasChild(child4));
+
+        // A registered resource is private, so it is never copied
+        assertSame(added, tree.getResourceForUpdate(address));
+    }
+
+    @Test
+    public void testRemoveChild() {
+        PathCopyingResourceTree tree = new PathCopyingResourceTree(this.original);
+        PathAddress address = PathAddress.pathAddress(SUBSYSTEM_A, CHILD_1);
+
+        Resource removed = tree.removeChild(address);
+
+        assertEquals("1", removed.getModel().get("value").asString());
+        assertNotSame(this.original.navigate(address), removed);
+        assertFalse(tree.getRoot().getChild(SUBSYSTEM_A).hasChild(CHILD_1));
+        assertTrue(this.original.getChild(SUBSYSTEM_A).hasChild(CHILD_1));
+
+        assertNull(tree.removeChild(address));
+    }
+}
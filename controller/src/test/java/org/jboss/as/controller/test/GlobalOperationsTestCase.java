@@ -16,9 +16,11 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DYN
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_DEFAULTS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INHERITED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.LIMIT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NOTIFICATIONS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NOTIFICATION_TYPE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OFFSET;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATIONS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_NAME;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
@@ -37,6 +39,9 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RES
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOURCE_ADDED_NOTIFICATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOURCE_REMOVED_NOTIFICATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUNTIME_ONLY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SELECT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SORT_BY;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SORT_DESCENDING;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.TYPE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.VALUE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
@@ -540,6 +545,85 @@ public class GlobalOperationsTestCase extends AbstractGlobalOperationsTestCase {
         assertTrue(result.asList().isEmpty());
     }
 
+    @Test
+    public void testReadChildrenResourcesPaged() throws Exception {
+        ModelNode operation = createOperation(READ_CHILDREN_RESOURCES_OPERATION);
+        operation.get(CHILD_TYPE).set("profile");
+        operation.get(OFFSET).set(1);
+        operation.get(LIMIT).set(1);
+        ModelNode result = executeForResult(operation);
+        assertEquals(Arrays.asList("profileB"), List.copyOf(result.keys()));
+        assertEquals("Profile B", result.get("profileB", NAME).asString());
+
+        operation.get(OFFSET).set(2);
+        operation.get(LIMIT).set(5);
+        result = executeForResult(operation);
+        assertEquals(Arrays.asList("profileC"), List.copyOf(result.keys()));
+
+        operation.get(OFFSET).set(5);
+        result = executeForResult(operation);
+        assertEquals(ModelType.OBJECT, result.getType());
+        assertTrue(result.keys().isEmpty());
+
+        operation.remove(OFFSET);
+        operation.get(LIMIT).set(2);
+        operation.get(SORT_DESCENDING).set(true);
+        result = executeForResult(operation);
+        assertEquals(Arrays.asList("profileC", "profileB"), List.copyOf(result.keys()));
+
+        operation.get(LIMIT).set(0);
+        executeForFailure(operation);
+    }
+
+    @Test
+    public void testReadChildrenResourcesSortedByAttribute() throws Exception {
+        ModelNode operation = createOperation(READ_CHILDREN_RESOURCES_OPERATION);
+        operation.get(CHILD_TYPE).set("profile");
+        operation.get(SORT_BY).set(NAME);
+        ModelNode result = executeForResult(operation);
+        // "Profile B" < "profileA" < "profileC"
+        assertEquals(Arrays.asList("profileB", "profileA", "profileC"), List.copyOf(result.keys()));
+
+        operation.get(SORT_DESCENDING).set(true);
+        operation.get(OFFSET).set(1);
+        operation.get(LIMIT).set(1);
+        result = executeForResult(operation);
+        assertEquals(Arrays.asList("profileA"), List.copyOf(result.keys()));
+        assertEquals("profileA", result.get("profileA", NAME).asString());
+
+        operation.get(SORT_BY).set("non-existent-attribute");
+        executeForFailure(operation);
+    }
+
+    @Test
+    public void testReadResourceSelectedAttributes() throws Exception {
+        ModelNode operation = createOperation(READ_RESOURCE_OPERATION, "profile", "profileA", "subsystem", "subsystem1");
+        operation.get(SELECT).add("attr1");
+        ModelNode result = executeForResult(operation);
+        assertEquals(2, result.get("attr1").asList().size());
+        assertFalse(result.has("read-only"));
+        assertFalse(result.has("read-write"));
+        // Children are still listed
+        assertTrue(result.has("type1"));
+
+        operation = createOperation(READ_CHILDREN_RESOURCES_OPERATION, "profile", "profileA", "subsystem", "subsystem1");
+        operation.get(CHILD_TYPE).set("type1");
+        operation.get(SELECT).add(NAME);
+        result = executeForResult(operation);
+        assertEquals(2, result.keys().size());
+        assertEquals("Name11", result.get("thing1", NAME).asString());
+        assertFalse(result.get("thing1").has(VALUE));
+
+        operation = createOperation(READ_RESOURCE_OPERATION, "profile", "profileA");
+        operation.get(RECURSIVE).set(true);
+        operation.get(SELECT).add(NAME);
+        result = executeForResult(operation);
+        assertEquals("profileA", result.get(NAME).asString());
+        ModelNode thing2 = result.get("subsystem", "subsystem1", "type1", "thing2");
+        assertEquals("Name12", thing2.get(NAME).asString());
+        assertFalse(thing2.has(VALUE));
+    }
+
     @Test
     public void testReadOperationNamesOperation() throws Exception {
         ModelNode operation = createOperation(READ_OPERATION_NAMES_OPERATION, "profile", "profileA", "subsystem", "subsystem1");
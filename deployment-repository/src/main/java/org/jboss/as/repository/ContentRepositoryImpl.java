@@ -12,15 +12,16 @@ import static org.jboss.as.repository.PathUtil.getFileExtension;
 import static org.jboss.as.repository.PathUtil.isArchive;
 import static org.jboss.as.repository.PathUtil.resolveSecurely;
 
-import java.io.BufferedInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
-import java.security.DigestOutputStream;
+import java.nio.file.StandardOpenOption;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.HashMap;
@@ -50,6 +51,7 @@ import org.wildfly.common.Assert;
 public class ContentRepositoryImpl implements ContentRepository {
 
     protected static final String CONTENT = "content";
+    private static final int BUFFER_SIZE = 64 * 1024;
     private final File repoRoot;
     private final File tmpRoot;
     protected final AtomicReference<MessageDigest> messageDigestRef;
@@ -99,17 +101,9 @@ public class ContentRepositoryImpl implements ContentRepository {
         byte[] sha1Bytes;
         Path tmp = File.createTempFile(CONTENT, ".tmp", repoRoot).toPath();
         if (stream != null) {
-            try (OutputStream fos = Files.newOutputStream(tmp);
+            try (FileChannel target = FileChannel.open(tmp, StandardOpenOption.WRITE);
                  MessageDigestHandle digestHandle = new MessageDigestHandle()) {
-                DigestOutputStream dos = new DigestOutputStream(fos, digestHandle.getMessageDigest());
-                BufferedInputStream bis = new BufferedInputStream(stream);
-                byte[] bytes = new byte[8192];
-                int read;
-                while ((read = bis.read(bytes)) > -1) {
-                    dos.write(bytes, 0, read);
-                }
-                fos.flush();
-                sha1Bytes = dos.getMessageDigest().digest();
+                sha1Bytes = writeContent(stream, target, digestHandle.getMessageDigest());
             }
         } else {//create a directory instead
             Files.delete(tmp);
@@ -133,6 +127,39 @@ public class ContentRepositoryImpl implements ContentRepository {
         return sha1Bytes;
     }
 
+    /**
+     * Writes the given stream to the given channel, returning the SHA-1 hash of its content.
+     * The content is hashed as it is copied, so that it is only read once. The content of a file stream is read from its
+     * channel into a direct buffer, which is hashed and written to the target without copying the content to the heap.
+     */
+    private static byte[] writeContent(InputStream stream, FileChannel target, MessageDigest digest) throws IOException {
+        if (stream.getClass() == FileInputStream.class) {
+            FileChannel source = ((FileInputStream) stream).getChannel();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            while (source.read(buffer) > -1) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.rewind();
+                while (buffer.hasRemaining()) {
+                    target.write(buffer);
+                }
+                buffer.clear();
+            }
+            return digest.digest();
+        }
+        byte[] bytes = new byte[BUFFER_SIZE];
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        int read;
+        while ((read = stream.read(bytes)) > -1) {
+            digest.update(bytes, 0, read);
+            buffer.limit(read).position(0);
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+        }
+        return digest.digest();
+    }
+
     @Override
     public void addContentReference(ContentReference reference) {
         if(!this.readWrite) {
@@ -524,7 +551,12 @@ public class ContentRepositoryImpl implements ContentRepository {
             tmpDir = Files.createTempDirectory(tmpRoot.toPath(), HashUtil.bytesToHexString(deploymentHash));
             Path file = PathUtil.readFile(src, tmpDir);
             Path tmp = Files.createTempFile(tmpRoot.toPath(), CONTENT, getFileExtension(src));
-            Files.copy(file, tmp, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+            if (file.startsWith(tmpDir)) {
+                // The file was extracted from an archive, so it can just be moved
+                Files.move(file, tmp, StandardCopyOption.REPLACE_EXISTING);
+            } else {
+                linkOrCopy(file, tmp);
+            }
             return new TemporaryFileInputStream(tmp);
         } catch (InterruptedException ex) {
             Thread.currentThread().interrupt();
@@ -538,6 +570,19 @@ public class ContentRepositoryImpl implements ContentRepository {
         }
     }
 
+    /**
+     * Links the given immutable repository file to the given target, falling back to a copy if the file system does not
+     * support links between these locations.
+     */
+    private static void linkOrCopy(Path file, Path target) throws IOException {
+        try {
+            Files.delete(target);
+            Files.createLink(target, file);
+        } catch (IOException | UnsupportedOperationException | SecurityException e) {
+            Files.copy(file, target, StandardCopyOption.COPY_ATTRIBUTES, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     @Override
     public List<ContentRepositoryElement> listContent(byte[] deploymentHash, String path, ContentFilter filter) throws ExplodedContentException {
         Path tmpDir = null;
@@ -126,6 +126,51 @@ public class ContentRepositoryTest {
         }
     }
 
+    /**
+     * Test of addContent method, of class ContentRepository, for content read from the channel of a file stream.
+     */
+    @Test
+    public void testAddFileChannelContent() throws Exception {
+        Path file = tmpRootDir.toPath().resolve("testfile.xhtml");
+        try (InputStream stream = getResourceAsStream("testfile.xhtml")) {
+            Files.copy(stream, file);
+        }
+        try (InputStream stream = new FileInputStream(file.toFile())) {
+            byte[] result = repository.addContent(stream);
+            assertThat(HashUtil.bytesToHexString(result), is(TESTFILE_HASH));
+            assertThat(stream.read(), is(-1));
+        }
+    }
+
+    /**
+     * Test of explodeContent method, of class ContentRepository, for an archive with many entries.
+     */
+    @Test
+    public void testExplodeContentWithManyEntries() throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ZipOutputStream out = new ZipOutputStream(bytes)) {
+            for (int i = 0; i < 200; i++) {
+                out.putNextEntry(new ZipEntry("dir" + (i % 10) + "/file" + i + ".txt"));
+                out.write(("content " + i).getBytes(StandardCharsets.UTF_8));
+                out.closeEntry();
+            }
+        }
+        byte[] archiveHash = repository.addContent(new ByteArrayInputStream(bytes.toByteArray()));
+        byte[] hash = repository.explodeContent(archiveHash);
+        Path content = repository.getContent(hash).getPhysicalFile().toPath();
+        for (int i = 0; i < 200; i++) {
+            assertThat(Files.readString(content.resolve("dir" + (i % 10) + "/file" + i + ".txt")), is("content " + i));
+        }
+        // Read from both the exploded content and the archive
+        try (InputStream in = repository.readContent(hash, "dir3/file13.txt")) {
+            assertThat(readFileContent(in), is("content 13"));
+        }
+        try (InputStream in = repository.readContent(archiveHash, "dir7/file197.txt")) {
+            assertThat(readFileContent(in), is("content 197"));
+        }
+        assertThat(Files.readString(content.resolve("dir3/file13.txt")), is("content 13"));
+    }
+
     /**
      * Test of explodeContent method, of class ContentRepository.
      */
@@ -13,7 +13,10 @@ interface CommonAttributes {
     String AUTO_DEPLOY_ZIPPED = "auto-deploy-zipped";
     String AUTO_DEPLOY_EXPLODED = "auto-deploy-exploded";
     String AUTO_DEPLOY_XML = "auto-deploy-xml";
+    String COMPLETED_SCAN_TASK_COUNT = "completed-scan-task-count";
+    String DEPLOYMENT_BATCH_SIZE = "deployment-batch-size";
     String DEPLOYMENT_SCANNER = "deployment-scanner";
+    String DEPLOYMENT_BATCH_DURATIONS = "deployment-batch-durations";
     String DEPLOYMENT_TIMEOUT = "deployment-timeout";
     String NAME = "name";
     String PATH = "path";
@@ -21,6 +24,8 @@ interface CommonAttributes {
     String SCANNER = "scanner";
     String SCAN_ENABLED = "scan-enabled";
     String SCAN_INTERVAL = "scan-interval";
+    String SCAN_TASK_COUNT = "scan-task-count";
     String RUNTIME_FAILURE_CAUSES_ROLLBACK = "runtime-failure-causes-rollback";
+    String WATCH_ENABLED = "watch-enabled";
 
 }
@@ -0,0 +1,119 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.server.deployment.scanner;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.jboss.as.server.deployment.scanner.logging.DeploymentScannerLogger;
+
+/**
+ * Watches a deployment directory, and those of its subdirectories that are scanned for deployments, for changes
+ * reported by the file system.
+ *
+ * <p>This class is not thread safe, except for {@link #close()}; it is polled from a single periodic task.</p>
+ */
+final class DeploymentDirectoryWatcher implements Closeable {
+
+    private final Path root;
+    private final Predicate<Path> scannedDirectory;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private WatchKey rootKey;
+
+    /**
+     * Creates a watcher for the given deployment directory.
+     *
+     * @param root the deployment directory
+     * @param scannedDirectory whether a subdirectory is scanned for deployments, rather than being deployment content itself
+     * @throws IOException if the file system does not support watching for changes
+     */
+    DeploymentDirectoryWatcher(final Path root, final Predicate<Path> scannedDirectory) throws IOException {
+        this.root = root;
+        this.scannedDirectory = scannedDirectory;
+        this.watchService = root.getFileSystem().newWatchService();
+        this.registerRoot();
+    }
+
+    /**
+     * Processes the changes reported since the last invocation, registering any newly created subdirectories.
+     *
+     * @return true if any change was reported, or if changes may have been missed; false otherwise
+     */
+    boolean pollChanges() {
+        boolean changed = false;
+        if (this.rootKey == null || !this.rootKey.isValid()) {
+            // The deployment directory did not exist, or was removed since; watch it once it is accessible again
+            changed = this.registerRoot();
+        }
+        WatchKey key;
+        while ((key = this.watchService.poll()) != null) {
+            final Path directory = this.directories.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                changed = true;
+                if (event.kind() == ENTRY_CREATE && directory != null) {
+                    final Path child = directory.resolve((Path) event.context());
+                    if (Files.isDirectory(child) && this.scannedDirectory.test(child)) {
+                        this.register(child);
+                    }
+                }
+                // OVERFLOW means events were lost, which is fine as any change results in a full scan
+            }
+            if (!key.reset()) {
+                this.directories.remove(key);
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public void close() {
+        try {
+            this.watchService.close();
+        } catch (IOException e) {
+            DeploymentScannerLogger.ROOT_LOGGER.debugf(e, "Failed to close watch service for %s", this.root);
+        }
+    }
+
+    private boolean registerRoot() {
+        if (!Files.isDirectory(this.root)) {
+            return false;
+        }
+        this.rootKey = this.register(this.root);
+        return this.rootKey != null;
+    }
+
+    private WatchKey register(final Path directory) {
+        try {
+            final WatchKey key = directory.register(this.watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY, OVERFLOW);
+            this.directories.put(key, directory);
+            try (DirectoryStream<Path> children = Files.newDirectoryStream(directory, child -> Files.isDirectory(child) && this.scannedDirectory.test(child))) {
+                for (Path child : children) {
+                    this.register(child);
+                }
+            }
+            return key;
+        } catch (IOException e) {
+            // Changes within this directory are only detected by scans triggered by other changes
+            DeploymentScannerLogger.ROOT_LOGGER.debugf(e, "Failed to watch %s", directory);
+            return null;
+        }
+    }
+}
@@ -8,9 +8,11 @@ package org.jboss.as.server.deployment.scanner;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FILESYSTEM_PATH;
 
 import org.jboss.as.controller.SimpleAttributeDefinition;
+import org.jboss.as.controller.SimpleMapAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
 import org.jboss.as.controller.operations.validation.StringLengthValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.controller.services.path.PathInfoHandler;
@@ -73,6 +75,12 @@ public class DeploymentScannerDefinition extends SimpleResourceDefinition {
                     .setAllowExpression(true)
                     .setDefaultValue(ModelNode.ZERO)
                     .build();
+    protected static final SimpleAttributeDefinition WATCH_ENABLED =
+            new SimpleAttributeDefinitionBuilder(CommonAttributes.WATCH_ENABLED, ModelType.BOOLEAN, true)
+                    .setXmlName(CommonAttributes.WATCH_ENABLED)
+                    .setAllowExpression(true)
+                    .setDefaultValue(ModelNode.FALSE)
+                    .build();
     protected static final SimpleAttributeDefinition AUTO_DEPLOY_ZIPPED =
             new SimpleAttributeDefinitionBuilder(CommonAttributes.AUTO_DEPLOY_ZIPPED, ModelType.BOOLEAN, true)
                     .setXmlName(CommonAttributes.AUTO_DEPLOY_ZIPPED)
@@ -100,6 +108,14 @@ public class DeploymentScannerDefinition extends SimpleResourceDefinition {
                     .setDefaultValue(new ModelNode().set(600))
                     .build();
 
+    protected static final SimpleAttributeDefinition DEPLOYMENT_BATCH_SIZE =
+            new SimpleAttributeDefinitionBuilder(CommonAttributes.DEPLOYMENT_BATCH_SIZE, ModelType.INT, true)
+                    .setXmlName(CommonAttributes.DEPLOYMENT_BATCH_SIZE)
+                    .setAllowExpression(true)
+                    .setValidator(new IntRangeValidator(0, true, true))
+                    .setDefaultValue(ModelNode.ZERO)
+                    .build();
+
     protected static final SimpleAttributeDefinition RUNTIME_FAILURE_CAUSES_ROLLBACK =
             new SimpleAttributeDefinitionBuilder(CommonAttributes.RUNTIME_FAILURE_CAUSES_ROLLBACK, ModelType.BOOLEAN, true)
                     .setXmlName(CommonAttributes.RUNTIME_FAILURE_CAUSES_ROLLBACK)
@@ -107,7 +123,22 @@ public class DeploymentScannerDefinition extends SimpleResourceDefinition {
                     .setDefaultValue(ModelNode.FALSE)
                     .build();
 
-    protected static final SimpleAttributeDefinition[] ALL_ATTRIBUTES = {PATH,RELATIVE_TO,SCAN_ENABLED,SCAN_INTERVAL,AUTO_DEPLOY_EXPLODED,AUTO_DEPLOY_XML,AUTO_DEPLOY_ZIPPED,DEPLOYMENT_TIMEOUT,RUNTIME_FAILURE_CAUSES_ROLLBACK};
+    protected static final SimpleAttributeDefinition[] ALL_ATTRIBUTES = {PATH,RELATIVE_TO,SCAN_ENABLED,SCAN_INTERVAL,WATCH_ENABLED,AUTO_DEPLOY_EXPLODED,AUTO_DEPLOY_XML,AUTO_DEPLOY_ZIPPED,DEPLOYMENT_TIMEOUT,DEPLOYMENT_BATCH_SIZE,RUNTIME_FAILURE_CAUSES_ROLLBACK};
+
+    static final SimpleAttributeDefinition SCAN_TASK_COUNT =
+            new SimpleAttributeDefinitionBuilder(CommonAttributes.SCAN_TASK_COUNT, ModelType.INT, true)
+                    .setStorageRuntime()
+                    .build();
+
+    static final SimpleAttributeDefinition COMPLETED_SCAN_TASK_COUNT =
+            new SimpleAttributeDefinitionBuilder(CommonAttributes.COMPLETED_SCAN_TASK_COUNT, ModelType.INT, true)
+                    .setStorageRuntime()
+                    .build();
+
+    static final SimpleMapAttributeDefinition DEPLOYMENT_BATCH_DURATIONS =
+            new SimpleMapAttributeDefinition.Builder(CommonAttributes.DEPLOYMENT_BATCH_DURATIONS, ModelType.LONG, true)
+                    .setStorageRuntime()
+                    .build();
 
     @Override
     public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
@@ -117,11 +148,17 @@ public class DeploymentScannerDefinition extends SimpleResourceDefinition {
         UpdateScannerWriteAttributeHandler commonHandler = new UpdateScannerWriteAttributeHandler();
         resourceRegistration.registerReadWriteAttribute(SCAN_ENABLED, null, commonHandler);
         resourceRegistration.registerReadWriteAttribute(SCAN_INTERVAL, null, commonHandler);
+        resourceRegistration.registerReadWriteAttribute(WATCH_ENABLED, null, commonHandler);
         resourceRegistration.registerReadWriteAttribute(AUTO_DEPLOY_ZIPPED, null, commonHandler);
         resourceRegistration.registerReadWriteAttribute(AUTO_DEPLOY_EXPLODED, null, commonHandler);
         resourceRegistration.registerReadWriteAttribute(AUTO_DEPLOY_XML, null, commonHandler);
         resourceRegistration.registerReadWriteAttribute(DEPLOYMENT_TIMEOUT, null, commonHandler);
+        resourceRegistration.registerReadWriteAttribute(DEPLOYMENT_BATCH_SIZE, null, commonHandler);
         resourceRegistration.registerReadWriteAttribute(RUNTIME_FAILURE_CAUSES_ROLLBACK, null, commonHandler);
+        ScannerMetricsReadHandler metricsHandler = new ScannerMetricsReadHandler();
+        resourceRegistration.registerMetric(SCAN_TASK_COUNT, metricsHandler);
+        resourceRegistration.registerMetric(COMPLETED_SCAN_TASK_COUNT, metricsHandler);
+        resourceRegistration.registerMetric(DEPLOYMENT_BATCH_DURATIONS, metricsHandler);
     }
 
     @Override
@@ -66,20 +66,24 @@ class DeploymentScannerParser_2_0 implements XMLStreamConstants, XMLElementReade
                     writer.writeAttribute(NAME, scannerName);
                 }
 
-                DeploymentScannerDefinition.PATH.marshallAsAttribute(configuration, writer);
-                DeploymentScannerDefinition.RELATIVE_TO.marshallAsAttribute(configuration, writer);
-                DeploymentScannerDefinition.SCAN_ENABLED.marshallAsAttribute(configuration, writer);
-                DeploymentScannerDefinition.SCAN_INTERVAL.marshallAsAttribute(configuration, writer);
-                DeploymentScannerDefinition.AUTO_DEPLOY_ZIPPED.marshallAsAttribute(configuration, writer);
-                DeploymentScannerDefinition.AUTO_DEPLOY_EXPLODED.marshallAsAttribute(configuration, writer);
-                DeploymentScannerDefinition.AUTO_DEPLOY_XML.marshallAsAttribute(configuration, writer);
-                DeploymentScannerDefinition.DEPLOYMENT_TIMEOUT.marshallAsAttribute(configuration, writer);
-                DeploymentScannerDefinition.RUNTIME_FAILURE_CAUSES_ROLLBACK.marshallAsAttribute(configuration, writer);
+                writeScannerAttributes(configuration, writer);
             }
             writer.writeEndElement();
         }
     }
 
+    void writeScannerAttributes(ModelNode configuration, XMLExtendedStreamWriter writer) throws XMLStreamException {
+        DeploymentScannerDefinition.PATH.marshallAsAttribute(configuration, writer);
+        DeploymentScannerDefinition.RELATIVE_TO.marshallAsAttribute(configuration, writer);
+        DeploymentScannerDefinition.SCAN_ENABLED.marshallAsAttribute(configuration, writer);
+        DeploymentScannerDefinition.SCAN_INTERVAL.marshallAsAttribute(configuration, writer);
+        DeploymentScannerDefinition.AUTO_DEPLOY_ZIPPED.marshallAsAttribute(configuration, writer);
+        DeploymentScannerDefinition.AUTO_DEPLOY_EXPLODED.marshallAsAttribute(configuration, writer);
+        DeploymentScannerDefinition.AUTO_DEPLOY_XML.marshallAsAttribute(configuration, writer);
+        DeploymentScannerDefinition.DEPLOYMENT_TIMEOUT.marshallAsAttribute(configuration, writer);
+        DeploymentScannerDefinition.RUNTIME_FAILURE_CAUSES_ROLLBACK.marshallAsAttribute(configuration, writer);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -99,20 +103,14 @@ class DeploymentScannerParser_2_0 implements XMLStreamConstants, XMLElementReade
 
         // elements
         while (reader.hasNext() && reader.nextTag() != END_ELEMENT) {
-            switch (Namespace.forUri(reader.getNamespaceURI())) {
-                case DEPLOYMENT_SCANNER_1_0:
-                case DEPLOYMENT_SCANNER_1_1:
-                case DEPLOYMENT_SCANNER_2_0: {
-                    final String element = reader.getLocalName();
-                    switch (element) {
-                        case DEPLOYMENT_SCANNER: {
-                            //noinspection unchecked
-                            parseScanner(reader, address, list);
-                            break;
-                        }
-                        default:
-                            throw unexpectedElement(reader);
-                    }
+            if (!isSupported(Namespace.forUri(reader.getNamespaceURI()))) {
+                throw unexpectedElement(reader);
+            }
+            final String element = reader.getLocalName();
+            switch (element) {
+                case DEPLOYMENT_SCANNER: {
+                    //noinspection unchecked
+                    parseScanner(reader, address, list);
                     break;
                 }
                 default:
@@ -121,6 +119,17 @@ class DeploymentScannerParser_2_0 implements XMLStreamConstants, XMLElementReade
         }
     }
 
+    boolean isSupported(Namespace namespace) {
+        switch (namespace) {
+            case DEPLOYMENT_SCANNER_1_0:
+            case DEPLOYMENT_SCANNER_1_1:
+            case DEPLOYMENT_SCANNER_2_0:
+                return true;
+            default:
+                return false;
+        }
+    }
+
     void parseScanner(XMLExtendedStreamReader reader, final ModelNode address, List<ModelNode> list) throws XMLStreamException {
         // Handle attributes
 
@@ -143,40 +152,8 @@ class DeploymentScannerParser_2_0 implements XMLStreamConstants, XMLElementReade
                     name = parse(DeploymentScannerDefinition.NAME,value,reader).asString();
                     break;
                 }
-                case RELATIVE_TO: {
-                    DeploymentScannerDefinition.RELATIVE_TO.parseAndSetParameter(value,operation,reader);
-                    break;
-                }
-                case SCAN_INTERVAL: {
-                    DeploymentScannerDefinition.SCAN_INTERVAL.parseAndSetParameter(value,operation,reader);
-                    break;
-                }
-                case SCAN_ENABLED: {
-                    DeploymentScannerDefinition.SCAN_ENABLED.parseAndSetParameter(value,operation,reader);
-                    break;
-                }
-                case AUTO_DEPLOY_ZIPPED: {
-                    DeploymentScannerDefinition.AUTO_DEPLOY_ZIPPED.parseAndSetParameter(value,operation,reader);
-                    break;
-                }
-                case AUTO_DEPLOY_EXPLODED: {
-                    DeploymentScannerDefinition.AUTO_DEPLOY_EXPLODED.parseAndSetParameter(value,operation,reader);
-                    break;
-                }
-                case AUTO_DEPLOY_XML: {
-                    DeploymentScannerDefinition.AUTO_DEPLOY_XML.parseAndSetParameter(value,operation,reader);
-                    break;
-                }
-                case DEPLOYMENT_TIMEOUT: {
-                    DeploymentScannerDefinition.DEPLOYMENT_TIMEOUT.parseAndSetParameter(value,operation,reader);
-                    break;
-                }
-                case RUNTIME_FAILURE_CAUSES_ROLLBACK: {
-                    DeploymentScannerDefinition.RUNTIME_FAILURE_CAUSES_ROLLBACK.parseAndSetParameter(value,operation,reader);
-                    break;
-                }
                 default:
-                    throw ParseUtils.unexpectedAttribute(reader, i);
+                    parseScannerAttribute(reader, i, attribute, value, operation);
             }
         }
         if (name == null) {
@@ -190,6 +167,45 @@ class DeploymentScannerParser_2_0 implements XMLStreamConstants, XMLElementReade
         list.add(operation);
     }
 
+    void parseScannerAttribute(XMLExtendedStreamReader reader, int index, String attribute, String value, ModelNode operation) throws XMLStreamException {
+        switch (attribute) {
+            case RELATIVE_TO: {
+                DeploymentScannerDefinition.RELATIVE_TO.parseAndSetParameter(value,operation,reader);
+                break;
+            }
+            case SCAN_INTERVAL: {
+                DeploymentScannerDefinition.SCAN_INTERVAL.parseAndSetParameter(value,operation,reader);
+                break;
+            }
+            case SCAN_ENABLED: {
+                DeploymentScannerDefinition.SCAN_ENABLED.parseAndSetParameter(value,operation,reader);
+                break;
+            }
+            case AUTO_DEPLOY_ZIPPED: {
+                DeploymentScannerDefinition.AUTO_DEPLOY_ZIPPED.parseAndSetParameter(value,operation,reader);
+                break;
+            }
+            case AUTO_DEPLOY_EXPLODED: {
+                DeploymentScannerDefinition.AUTO_DEPLOY_EXPLODED.parseAndSetParameter(value,operation,reader);
+                break;
+            }
+            case AUTO_DEPLOY_XML: {
+                DeploymentScannerDefinition.AUTO_DEPLOY_XML.parseAndSetParameter(value,operation,reader);
+                break;
+            }
+            case DEPLOYMENT_TIMEOUT: {
+                DeploymentScannerDefinition.DEPLOYMENT_TIMEOUT.parseAndSetParameter(value,operation,reader);
+                break;
+            }
+            case RUNTIME_FAILURE_CAUSES_ROLLBACK: {
+                DeploymentScannerDefinition.RUNTIME_FAILURE_CAUSES_ROLLBACK.parseAndSetParameter(value,operation,reader);
+                break;
+            }
+            default:
+                throw ParseUtils.unexpectedAttribute(reader, index);
+        }
+    }
+
     private static ModelNode parse(AttributeDefinition ad, String value, XMLExtendedStreamReader reader) throws XMLStreamException {
         return ad.getParser().parse(ad,value,reader);
     }
@@ -0,0 +1,50 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.server.deployment.scanner;
+
+import static org.jboss.as.server.deployment.scanner.CommonAttributes.DEPLOYMENT_BATCH_SIZE;
+import static org.jboss.as.server.deployment.scanner.CommonAttributes.WATCH_ENABLED;
+
+import javax.xml.stream.XMLStreamException;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.staxmapper.XMLExtendedStreamReader;
+import org.jboss.staxmapper.XMLExtendedStreamWriter;
+
+/**
+ * Parser for the 3.0 schema, which adds the {@code watch-enabled} and {@code deployment-batch-size} attributes to the
+ * deployment scanner element of the 2.0 schema.
+ */
+class DeploymentScannerParser_3_0 extends DeploymentScannerParser_2_0 {
+
+    @Override
+    void writeScannerAttributes(ModelNode configuration, XMLExtendedStreamWriter writer) throws XMLStreamException {
+        super.writeScannerAttributes(configuration, writer);
+        DeploymentScannerDefinition.WATCH_ENABLED.marshallAsAttribute(configuration, writer);
+        DeploymentScannerDefinition.DEPLOYMENT_BATCH_SIZE.marshallAsAttribute(configuration, writer);
+    }
+
+    @Override
+    boolean isSupported(Namespace namespace) {
+        return namespace == Namespace.DEPLOYMENT_SCANNER_3_0 || super.isSupported(namespace);
+    }
+
+    @Override
+    void parseScannerAttribute(XMLExtendedStreamReader reader, int index, String attribute, String value, ModelNode operation) throws XMLStreamException {
+        switch (attribute) {
+            case WATCH_ENABLED: {
+                DeploymentScannerDefinition.WATCH_ENABLED.parseAndSetParameter(value,operation,reader);
+                break;
+            }
+            case DEPLOYMENT_BATCH_SIZE: {
+                DeploymentScannerDefinition.DEPLOYMENT_BATCH_SIZE.parseAndSetParameter(value,operation,reader);
+                break;
+            }
+            default:
+                super.parseScannerAttribute(reader, index, attribute, value, operation);
+        }
+    }
+}
@@ -36,6 +36,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.net.MalformedURLException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.DirectoryStream.Filter;
 import java.nio.file.Files;
@@ -49,6 +50,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
@@ -110,13 +112,26 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
      */
     static final long DEFAULT_DEPLOYMENT_TIMEOUT = 600;
 
+    /**
+     * Period in ms at which changes reported by the file system are polled, if watching is enabled
+     */
+    static final long WATCH_POLL_INTERVAL = 500;
+
+    /**
+     * Minimum period in ms of the scan that picks up changes not reported by the file system, if watching is enabled
+     */
+    static final long WATCH_RECONCILIATION_INTERVAL = 60000;
+
     private File deploymentDir;
     private long scanInterval = 0;
+    private boolean watchEnabled = false;
     private volatile boolean scanEnabled = false;
     private volatile boolean firstScan = true;
     private volatile boolean deployedContentEstablished = false;
     private ScheduledFuture<?> scanTask;
     private ScheduledFuture<?> rescanIncompleteTask;
+    private ScheduledFuture<?> watchTask;
+    private DeploymentDirectoryWatcher watcher;
     private ScheduledFuture<?> rescanUndeployTask;
     private final Lock scanLock = new ReentrantLock();
 
@@ -140,6 +155,13 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
     private volatile long maxNoProgress = MAX_NO_PROGRESS;
     private volatile boolean rollbackOnRuntimeFailure;
     private volatile long deploymentTimeout = DEFAULT_DEPLOYMENT_TIMEOUT;
+    private volatile int deploymentBatchSize = 0;
+
+    // Progress of the current, or most recent, execution of scanner tasks
+    private volatile int scanTaskCount = 0;
+    private volatile int completedScanTaskCount = 0;
+    // Duration in ms of the operation that most recently processed each deployment that is not undeployed
+    private final Map<String, Long> deploymentBatchDurations = new ConcurrentHashMap<>();
 
     private final ModelNode resourceAddress;
     private final String relativeTo;
@@ -259,6 +281,26 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
 
     private final DeploymentScanRunnable scanRunnable = new DeploymentScanRunnable();
 
+    private class DeploymentWatchRunnable implements Runnable {
+
+        private final DeploymentDirectoryWatcher watcher;
+
+        DeploymentWatchRunnable(final DeploymentDirectoryWatcher watcher) {
+            this.watcher = watcher;
+        }
+
+        @Override
+        public void run() {
+            try {
+                if (watcher.pollChanges()) {
+                    scanRunnable.run();
+                }
+            } catch (ClosedWatchServiceException e) {
+                // Do nothing as this happens if the scan was cancelled while polling
+            }
+        }
+    }
+
     FileSystemDeploymentService(final PathAddress resourceAddress, final String relativeTo, final File deploymentDir, final File relativeToDir,
                                 final DeploymentOperations.Factory deploymentOperationsFactory,
                                 final ScheduledExecutorService scheduledExecutor) {
@@ -340,11 +382,58 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
         startScan();
     }
 
+    @Override
+    public boolean isWatchEnabled() {
+        return watchEnabled;
+    }
+
+    @Override
+    public synchronized void setWatchEnabled(boolean watchEnabled) {
+        if (watchEnabled != this.watchEnabled) {
+            cancelScan();
+            this.watchEnabled = watchEnabled;
+            startScan();
+        }
+    }
+
     @Override
     public void setDeploymentTimeout(long deploymentTimeout) {
         this.deploymentTimeout = deploymentTimeout;
     }
 
+    /**
+     * Sets the maximum number of scanner tasks executed by a single operation by periodic scans.
+     *
+     * @param deploymentBatchSize the maximum number of tasks per operation, or a value of less than 1 to execute all
+     *                            tasks found by a scan in a single operation
+     */
+    @Override
+    public void setDeploymentBatchSize(int deploymentBatchSize) {
+        this.deploymentBatchSize = deploymentBatchSize;
+    }
+
+    /**
+     * Gets the number of scanner tasks found by the current, or most recent, scan that found any.
+     */
+    int getScanTaskCount() {
+        return scanTaskCount;
+    }
+
+    /**
+     * Gets the number of scanner tasks of the current, or most recent, scan whose execution has completed.
+     */
+    int getCompletedScanTaskCount() {
+        return completedScanTaskCount;
+    }
+
+    /**
+     * Gets the duration in ms of the batch operation that most recently deployed, redeployed or replaced each deployment
+     * that was not undeployed since. All deployments of a batch are processed by one operation, so they share its duration.
+     */
+    Map<String, Long> getDeploymentBatchDurations() {
+        return Collections.unmodifiableMap(deploymentBatchDurations);
+    }
+
     @Override
     public synchronized void startScanner() {
         assert deploymentOperationsFactory != null : "deploymentOperationsFactory is null";
@@ -683,6 +772,44 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
 
     private void executeScannerTasks(List<ScannerTask> scannerTasks, DeploymentOperations deploymentOperations,
                                      boolean oneOffScan) throws InterruptedException {
+        if (!scannerTasks.isEmpty()) {
+            scanTaskCount = scannerTasks.size();
+            completedScanTaskCount = 0;
+            // One-off scans, e.g. the boot-time scan, expect a single operation
+            final int batchSize = oneOffScan ? 0 : deploymentBatchSize;
+            if (batchSize < 1 || scannerTasks.size() <= batchSize) {
+                executeScannerTaskBatch(scannerTasks, deploymentOperations, oneOffScan);
+            } else {
+                // Execute bounded batches in sequence; the deployments of each batch are still processed concurrently
+                for (int i = 0; i < scannerTasks.size(); i += batchSize) {
+                    List<ScannerTask> batch = new ArrayList<>(scannerTasks.subList(i, Math.min(i + batchSize, scannerTasks.size())));
+                    executeScannerTaskBatch(batch, deploymentOperations, oneOffScan);
+                }
+            }
+        }
+    }
+
+    private void executeScannerTaskBatch(List<ScannerTask> scannerTasks, DeploymentOperations deploymentOperations,
+                                         boolean oneOffScan) throws InterruptedException {
+        final int batchTaskCount = scannerTasks.size();
+        final long batchStart = System.currentTimeMillis();
+        try {
+            this.executeTasks(scannerTasks, deploymentOperations, oneOffScan);
+        } finally {
+            final long duration = System.currentTimeMillis() - batchStart;
+            for (ScannerTask task : scannerTasks) {
+                if (task instanceof UndeployTask) {
+                    deploymentBatchDurations.remove(task.deploymentName);
+                } else {
+                    deploymentBatchDurations.put(task.deploymentName, duration);
+                }
+            }
+            completedScanTaskCount += batchTaskCount;
+        }
+    }
+
+    private void executeTasks(List<ScannerTask> scannerTasks, DeploymentOperations deploymentOperations,
+                              boolean oneOffScan) throws InterruptedException {
         // Process the tasks
         if (!scannerTasks.isEmpty()) {
             List<ModelNode> updates = new ArrayList<ModelNode>(scannerTasks.size());
@@ -1279,7 +1406,20 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
 
     private synchronized void startScan() {
         if (scanEnabled) {
-            if (scanInterval > 0) {
+            if (watchEnabled && watchTask == null) {
+                try {
+                    watcher = new DeploymentDirectoryWatcher(deploymentDir.toPath(), this::isScannedDirectory);
+                    watchTask = scheduledExecutor.scheduleWithFixedDelay(new DeploymentWatchRunnable(watcher), WATCH_POLL_INTERVAL, WATCH_POLL_INTERVAL, TimeUnit.MILLISECONDS);
+                } catch (IOException | UnsupportedOperationException e) {
+                    ROOT_LOGGER.cannotWatchDeploymentDirectory(e, deploymentDir.getAbsolutePath());
+                    cancelWatch();
+                }
+            }
+            if (watchTask != null) {
+                // Changes reported by the file system trigger a scan as they happen, while a less frequent periodic
+                // scan picks up any changes that the file system did not report
+                scanTask = scheduledExecutor.scheduleWithFixedDelay(scanRunnable, 0, Math.max(scanInterval, WATCH_RECONCILIATION_INTERVAL), TimeUnit.MILLISECONDS);
+            } else if (scanInterval > 0) {
                 scanTask = scheduledExecutor.scheduleWithFixedDelay(scanRunnable, 0, scanInterval, TimeUnit.MILLISECONDS);
             } else {
                 scanTask = scheduledExecutor.schedule(scanRunnable, scanInterval, TimeUnit.MILLISECONDS);
@@ -1287,6 +1427,29 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
         }
     }
 
+    /**
+     * Whether the given subdirectory of the deployment directory is scanned for deployments, mirroring
+     * {@link #scanDirectory(File, String)}.
+     */
+    private boolean isScannedDirectory(final Path directory) {
+        final String fileName = directory.getFileName().toString();
+        return !isEEArchive(fileName) && !WEB_INF.equalsIgnoreCase(fileName) && !META_INF.equalsIgnoreCase(fileName);
+    }
+
+    /**
+     * Invoke with the object monitor held
+     */
+    private void cancelWatch() {
+        if (watchTask != null) {
+            watchTask.cancel(true);
+            watchTask = null;
+        }
+        if (watcher != null) {
+            watcher.close();
+            watcher = null;
+        }
+    }
+
     /**
      * Invoke with the object monitor held
      */
@@ -1303,6 +1466,7 @@ class FileSystemDeploymentService implements DeploymentScanner, NotificationHand
             scanTask.cancel(true);
             scanTask = null;
         }
+        cancelWatch();
     }
 
     private ModelNode getCompositeUpdate(final List<ModelNode> updates) {
@@ -0,0 +1,50 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.server.deployment.scanner;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+
+import java.util.Map;
+
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Reads the progress and timing metrics of a deployment scanner.
+ */
+class ScannerMetricsReadHandler extends AbstractRuntimeOnlyHandler {
+
+    @Override
+    protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final String attributeName = operation.require(NAME).asString();
+        final ServiceController<?> controller = context.getServiceRegistry(false).getService(DeploymentScannerService.getServiceName(context.getCurrentAddressValue()));
+        final Object value = (controller != null && controller.getState() == ServiceController.State.UP) ? controller.getValue() : null;
+        if (value instanceof FileSystemDeploymentService) {
+            final FileSystemDeploymentService scanner = (FileSystemDeploymentService) value;
+            final ModelNode result = context.getResult();
+            switch (attributeName) {
+                case CommonAttributes.SCAN_TASK_COUNT:
+                    result.set(scanner.getScanTaskCount());
+                    break;
+                case CommonAttributes.COMPLETED_SCAN_TASK_COUNT:
+                    result.set(scanner.getCompletedScanTaskCount());
+                    break;
+                case CommonAttributes.DEPLOYMENT_BATCH_DURATIONS:
+                    result.setEmptyObject();
+                    for (Map.Entry<String, Long> entry : scanner.getDeploymentBatchDurations().entrySet()) {
+                        result.get(entry.getKey()).set(entry.getValue());
+                    }
+                    break;
+                default:
+                    // Someone forgot something
+                    throw new IllegalStateException();
+            }
+        }
+    }
+}
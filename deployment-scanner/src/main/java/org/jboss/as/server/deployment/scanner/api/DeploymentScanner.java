@@ -37,6 +37,25 @@ public interface DeploymentScanner {
      */
     void setScanInterval(long scanInterval);
 
+    /**
+     * Gets whether the scanner scans upon changes reported by the file system, rather than only periodically.
+     *
+     * @return true if changes are watched, false otherwise
+     */
+    default boolean isWatchEnabled() {
+        return false;
+    }
+
+    /**
+     * Sets whether the scanner scans upon changes reported by the file system, in which case the
+     * {@link #setScanInterval(long) scan interval} is ignored, unless the deployment directory cannot be watched.
+     *
+     * @param watchEnabled true if changes should be watched
+     */
+    default void setWatchEnabled(boolean watchEnabled) {
+        // Periodic scanning only
+    }
+
     /**
      * Start the scanner, if not already started, using a default {@link DeploymentOperations}.
      *
@@ -115,6 +134,17 @@ public interface DeploymentScanner {
      */
     void setDeploymentTimeout(long timeout);
 
+    /**
+     * Sets the maximum number of deployment changes applied by a single management operation when a scan finds
+     * more changes than that, in which case the changes are applied by successive operations.
+     *
+     * @param batchSize the maximum number of changes per operation, or a value of less than 1 to apply all changes
+     *                  found by a scan in a single operation
+     */
+    default void setDeploymentBatchSize(int batchSize) {
+        // All changes are applied by a single operation
+    }
+
     /**
      * Sets whether a runtime failure of a deployment causes a rollback of the deployment as well as all other (maybe
      * unrelated) deployments as part of the scan operation.
@@ -0,0 +1,72 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.server.deployment.scanner;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests of {@link DeploymentDirectoryWatcher}.
+ */
+public class DeploymentDirectoryWatcherTestCase {
+
+    private static final long TIMEOUT = TimeUnit.SECONDS.toMillis(30);
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testChanges() throws Exception {
+        Path root = this.folder.newFolder("deployments").toPath();
+        try (DeploymentDirectoryWatcher watcher = new DeploymentDirectoryWatcher(root, directory -> !directory.getFileName().toString().endsWith(".war"))) {
+            assertFalse(watcher.pollChanges());
+
+            Files.createFile(root.resolve("test.jar"));
+            awaitChanges(watcher);
+
+            // Changes within a newly created subdirectory are reported
+            Path subdirectory = Files.createDirectory(root.resolve("subdirectory"));
+            awaitChanges(watcher);
+            Files.createFile(subdirectory.resolve("test.jar.dodeploy"));
+            awaitChanges(watcher);
+
+            Files.delete(root.resolve("test.jar"));
+            awaitChanges(watcher);
+        }
+    }
+
+    @Test
+    public void testMissingDirectory() throws Exception {
+        Path root = this.folder.getRoot().toPath().resolve("deployments");
+        try (DeploymentDirectoryWatcher watcher = new DeploymentDirectoryWatcher(root, directory -> true)) {
+            assertFalse(watcher.pollChanges());
+
+            // The directory is watched once it exists
+            Files.createDirectory(root);
+            assertTrue(watcher.pollChanges());
+            Files.createFile(root.resolve("test.jar"));
+            awaitChanges(watcher);
+        }
+    }
+
+    private static void awaitChanges(DeploymentDirectoryWatcher watcher) throws InterruptedException, IOException {
+        long deadline = System.currentTimeMillis() + TIMEOUT;
+        while (!watcher.pollChanges()) {
+            // Some watch service implementations poll the file system periodically
+            assertTrue("No changes reported", System.currentTimeMillis() < deadline);
+            Thread.sleep(50);
+        }
+    }
+}
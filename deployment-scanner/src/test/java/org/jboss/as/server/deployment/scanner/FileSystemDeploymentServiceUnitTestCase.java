@@ -167,6 +167,29 @@ public class FileSystemDeploymentServiceUnitTestCase {
         assertTrue(deployed.exists());
     }
 
+    @Test
+    public void testBatchedDeploy() throws Exception {
+        List<File> deployed = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            createFile("foo" + i + ".war");
+            createFile("foo" + i + ".war" + FileSystemDeploymentService.DO_DEPLOY);
+            deployed.add(new File(tmpDir, "foo" + i + ".war" + FileSystemDeploymentService.DEPLOYED));
+        }
+        TesteeSet ts = createTestee();
+        ts.testee.setDeploymentBatchSize(2);
+        ts.controller.addCompositeSuccessResponse(2);
+        ts.controller.addCompositeSuccessResponse(2);
+        ts.controller.addCompositeSuccessResponse(1);
+        ts.testee.scan();
+        for (File file : deployed) {
+            assertTrue(file.exists());
+        }
+        assertEquals(3, ts.controller.requests.stream().filter(request -> COMPOSITE.equals(request.get(OP).asString())).count());
+        assertEquals(5, ts.testee.getScanTaskCount());
+        assertEquals(5, ts.testee.getCompletedScanTaskCount());
+        assertEquals(5, ts.testee.getDeploymentBatchDurations().size());
+    }
+
     @Test
     public void testBasicXmlDeploy() throws Exception {
         File xml = createXmlFile("foo.xml", "<rootElement/>");
@@ -1983,6 +2006,41 @@ public class FileSystemDeploymentServiceUnitTestCase {
         assertEquals(bytes, ts.controller.deployed.get("external.war"));
     }
 
+    @Test
+    public void testWatchSlowsPeriodicScan() throws Exception {
+        final List<Long> periodicTasks = new ArrayList<>();
+        final DiscardTaskExecutor myExecutor = new DiscardTaskExecutor() {
+            @Override
+            public ScheduledFuture<?> scheduleWithFixedDelay(Runnable command, long initialDelay, long delay, TimeUnit unit) {
+                periodicTasks.add(unit.toMillis(delay));
+                return super.scheduleWithFixedDelay(() -> { }, 1, 1, TimeUnit.DAYS);
+            }
+        };
+        try {
+            TesteeSet ts = createTestee(myExecutor);
+            ts.testee.setScanInterval(5000);
+            assertEquals(Arrays.asList(5000L), periodicTasks);
+
+            // The changes reported by the file system are polled, and the repository is still scanned, less frequently
+            periodicTasks.clear();
+            ts.testee.setWatchEnabled(true);
+            assertEquals(Arrays.asList(FileSystemDeploymentService.WATCH_POLL_INTERVAL, FileSystemDeploymentService.WATCH_RECONCILIATION_INTERVAL), periodicTasks);
+
+            periodicTasks.clear();
+            ts.testee.setScanInterval(2 * FileSystemDeploymentService.WATCH_RECONCILIATION_INTERVAL);
+            assertEquals(Arrays.asList(FileSystemDeploymentService.WATCH_POLL_INTERVAL, 2 * FileSystemDeploymentService.WATCH_RECONCILIATION_INTERVAL), periodicTasks);
+
+            ts.testee.setScanInterval(5000);
+
+            periodicTasks.clear();
+            ts.testee.setWatchEnabled(false);
+            assertEquals(Arrays.asList(5000L), periodicTasks);
+            ts.testee.stopScanner();
+        } finally {
+            myExecutor.shutdownNow();
+        }
+    }
+
     private TesteeSet createTestee(String... existingContent) {
         return createTestee(new MockServerController(existingContent));
     }
@@ -4,21 +4,28 @@
  */
 package org.jboss.as.domain.http.server;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.ACCESS_MECHANISM;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTHORIZATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CALLER_TYPE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.COMPOSITE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CORE_SERVICE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DOMAIN_UUID;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXECUTE_FOR_COORDINATOR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OPERATION_HEADERS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROXIES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_OPERATION_DESCRIPTION_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_OPERATION_NAMES_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_DESCRIPTION_OPERATION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESOLVE_EXPRESSIONS;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SYNC_REMOVED_FOR_READD;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.USER;
 import static org.jboss.as.domain.http.server.DomainUtil.getStreamIndex;
@@ -33,6 +40,7 @@ import java.io.UnsupportedEncodingException;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Deque;
 import java.util.List;
@@ -40,6 +48,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeSet;
 
 import io.undertow.server.HttpHandler;
 import io.undertow.server.HttpServerExchange;
@@ -57,8 +66,10 @@ import org.jboss.as.controller.client.OperationResponse;
 import org.jboss.as.controller.descriptions.ModelDescriptionConstants;
 import org.jboss.as.core.security.AccessMechanism;
 import org.jboss.as.domain.http.server.logging.HttpServerLogger;
+import org.jboss.as.domain.http.server.security.ElytronIdentityHandler;
 import org.jboss.as.protocol.StreamUtils;
 import org.jboss.dmr.ModelNode;
+import org.wildfly.security.auth.server.SecurityIdentity;
 import org.xnio.IoUtils;
 import org.xnio.streams.ChannelInputStream;
 
@@ -69,6 +80,7 @@ import org.xnio.streams.ChannelInputStream;
 class DomainApiHandler implements HttpHandler {
     private static final Set<String> PREPARED_RESPONSE_OPERATIONS = ModelDescriptionConstants.RELOAD_OPERATIONS;
     private static final String JSON_PRETTY = "json.pretty";
+    private static final PathAddress ACCESS_CONTROL_ADDRESS = PathAddress.pathAddress(CORE_SERVICE, MANAGEMENT).append(ACCESS, AUTHORIZATION);
 
     /**
      * Represents all possible management operations that can be executed using HTTP GET. Cacheable operations
@@ -118,6 +130,7 @@ class DomainApiHandler implements HttpHandler {
 
         final HeaderMap requestHeaders = exchange.getRequestHeaders();
         final boolean cachable;
+        final ETag modelEtag;
         final boolean get = exchange.getRequestMethod().equals(Methods.GET);
         final boolean encode = Common.APPLICATION_DMR_ENCODED.equals(requestHeaders.getFirst(Headers.ACCEPT))
                 || Common.APPLICATION_DMR_ENCODED.equals(requestHeaders.getFirst(Headers.CONTENT_TYPE));
@@ -130,9 +143,11 @@ class DomainApiHandler implements HttpHandler {
                 operationParameterBuilder.maxAge(operation.getMaxAge());
                 dmr = convertGetRequest(exchange, operation);
                 cachable = operation.getMaxAge() > 0;
+                modelEtag = streamIndex < 0 ? getModelGenerationETag(exchange, operation, dmr, encode) : null;
             } else {
                 dmr = convertPostRequest(exchange, encode);
                 cachable = false;
+                modelEtag = null;
             }
             //operationParameterBuilder.pretty(dmr.hasDefined("json.pretty") && dmr.get("json.pretty").asBoolean());
             boolean pretty = false;
@@ -148,6 +163,17 @@ class DomainApiHandler implements HttpHandler {
             return;
         }
 
+        if (modelEtag != null) {
+            // Answer a conditional request without executing the operation if the configuration is unchanged
+            operationParameterBuilder.etag(modelEtag);
+            if (!ETagUtils.handleIfNoneMatch(exchange, modelEtag, false)) {
+                exchange.setStatusCode(304);
+                DomainUtil.writeCacheHeaders(exchange, 304, operationParameterBuilder.build());
+                exchange.endExchange();
+                return;
+            }
+        }
+
         final ResponseCallback callback = new ResponseCallback() {
             @Override
             void doSendResponse(final OperationResponse response) {
@@ -217,6 +243,45 @@ class DomainApiHandler implements HttpHandler {
         callback.sendResponse(response);
     }
 
+    /**
+     * Computes an ETag for a GET request whose response only depends on the persistent configuration, based on the
+     * generation of that configuration rather than on the response, so that a conditional request can be answered
+     * without executing its operation.
+     *
+     * @return the ETag, or {@code null} if the response may depend on runtime state
+     */
+    private ETag getModelGenerationETag(HttpServerExchange exchange, GetOperation operation, ModelNode dmr, boolean encode) throws NoSuchAlgorithmException {
+        if (operation != GetOperation.RESOURCE || isEnabled(dmr, INCLUDE_RUNTIME) || isEnabled(dmr, RESOLVE_EXPRESSIONS) || isEnabled(dmr, PROXIES)) {
+            return null;
+        }
+        PathAddress address = PathAddress.pathAddress(dmr.get(OP_ADDR));
+        if (!modelController.isModelBacked(address)) {
+            return null;
+        }
+        long generation = modelController.getModelGeneration(address);
+        // Changes to the access control configuration may change what the caller is allowed to read
+        long accessControlGeneration = modelController.getModelGeneration(ACCESS_CONTROL_ADDRESS);
+        if (generation < 0 || accessControlGeneration < 0) {
+            return null;
+        }
+        // The response also varies with the request and with the caller, whose roles determine what it may read
+        MessageDigest md = MessageDigest.getInstance("MD5");
+        md.update(dmr.toString().getBytes(StandardCharsets.UTF_8));
+        SecurityIdentity identity = exchange.getAttachment(ElytronIdentityHandler.IDENTITY_KEY);
+        if (identity != null) {
+            md.update(identity.getPrincipal().getName().getBytes(StandardCharsets.UTF_8));
+            Set<String> roles = new TreeSet<>();
+            identity.getRoles().forEach(roles::add);
+            md.update(roles.toString().getBytes(StandardCharsets.UTF_8));
+        }
+        md.update((generation + ":" + accessControlGeneration + ":" + encode).getBytes(StandardCharsets.UTF_8));
+        return new ETag(false, HexConverter.convertToHexString(md.digest()));
+    }
+
+    private static boolean isEnabled(ModelNode dmr, String parameter) {
+        return dmr.hasDefined(parameter) && !dmr.get(parameter).asString().equalsIgnoreCase("false");
+    }
+
     private GetOperation getOperation(HttpServerExchange exchange) {
         Map<String, Deque<String>> queryParameters = exchange.getQueryParameters();
 
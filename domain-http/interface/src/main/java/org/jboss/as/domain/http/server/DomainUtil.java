@@ -14,6 +14,9 @@ import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Deque;
@@ -32,6 +35,7 @@ import io.undertow.util.HeaderValues;
 import io.undertow.util.Headers;
 import io.undertow.util.HttpString;
 import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.domain.http.server.logging.HttpServerLogger;
 import org.jboss.dmr.ModelNode;
 import org.xnio.IoUtils;
 
@@ -67,14 +71,43 @@ public class DomainUtil {
             response = response.get(RESULT);
         }
         try {
-            byte[] data = getResponseBytes(response, operationParameter);
-            responseHeaders.put(Headers.CONTENT_LENGTH, data.length);
-            exchange.getResponseSender().send(ByteBuffer.wrap(data));
+            if (exchange.isInIoThread()) {
+                // We must not block, so prepare the whole response up front
+                byte[] data = getResponseBytes(response, operationParameter);
+                responseHeaders.put(Headers.CONTENT_LENGTH, data.length);
+                exchange.getResponseSender().send(ByteBuffer.wrap(data));
+            } else {
+                writeResponseStream(exchange, response, operationParameter);
+            }
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
     }
 
+    /**
+     * Writes the response directly to the exchange's pooled buffers while walking the response node. The response
+     * is sent with chunked transfer encoding once it exceeds a single buffer, and is compressed by any
+     * {@code EncodingHandler} wrapping the calling handler.
+     */
+    private static void writeResponseStream(final HttpServerExchange exchange, final ModelNode response,
+                                            final OperationParameter operationParameter) throws IOException {
+        exchange.startBlocking();
+        try (OutputStream out = exchange.getOutputStream()) {
+            if (operationParameter.isEncode()) {
+                BufferedOutputStream buffered = new BufferedOutputStream(out);
+                response.writeBase64(buffered);
+                buffered.flush();
+            } else {
+                PrintWriter writer = new PrintWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                JsonResponseWriter.write(response, writer, !operationParameter.isPretty());
+                writer.flush();
+                if (writer.checkError()) {
+                    throw HttpServerLogger.ROOT_LOGGER.failedToWriteResponse();
+                }
+            }
+        }
+    }
+
 
     static void writeStreamResponse(final HttpServerExchange exchange,
                                      final OperationResponse operationResponse,
@@ -0,0 +1,90 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.http.server;
+
+import java.io.PrintWriter;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.Property;
+
+/**
+ * Writes the JSON representation of a {@link ModelNode} to a {@link PrintWriter} while walking the node, rather than
+ * first building the complete representation as a string, so that the memory needed to write a response does not
+ * depend on its size. The output is identical to that of {@link ModelNode#toJSONString(boolean)}.
+ */
+final class JsonResponseWriter {
+
+    private JsonResponseWriter() {
+    }
+
+    static void write(ModelNode node, PrintWriter writer, boolean compact) {
+        if (compact) {
+            // ModelNode.writeJSONString(writer, true) uses a different compact format than toJSONString(true)
+            writeCompact(node, writer);
+        } else {
+            // Unlike the compact format, the pretty format is already written while walking the node
+            node.writeJSONString(writer, false);
+        }
+    }
+
+    private static void writeCompact(ModelNode node, PrintWriter writer) {
+        switch (node.getType()) {
+            case OBJECT: {
+                writer.append('{');
+                boolean first = true;
+                for (String key : node.keys()) {
+                    if (!first) {
+                        writer.append(", ");
+                    }
+                    first = false;
+                    writeQuoted(key, writer);
+                    writer.append(" : ");
+                    writeCompact(node.get(key), writer);
+                }
+                writer.append('}');
+                break;
+            }
+            case LIST: {
+                writer.append('[');
+                boolean first = true;
+                for (ModelNode element : node.asList()) {
+                    if (!first) {
+                        writer.append(',');
+                    }
+                    first = false;
+                    writeCompact(element, writer);
+                }
+                writer.append(']');
+                break;
+            }
+            case PROPERTY: {
+                Property property = node.asProperty();
+                writer.append("{ ");
+                // Property names are escaped like values, unlike object keys
+                writer.append(new ModelNode(property.getName()).toJSONString(true));
+                writer.append(" : ");
+                writeCompact(property.getValue(), writer);
+                writer.append(" }");
+                break;
+            }
+            default: {
+                // Simple values are small
+                writer.append(node.toJSONString(true));
+            }
+        }
+    }
+
+    private static void writeQuoted(String value, PrintWriter writer) {
+        writer.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                writer.append('\\');
+            }
+            writer.append(c);
+        }
+        writer.append('"');
+    }
+}
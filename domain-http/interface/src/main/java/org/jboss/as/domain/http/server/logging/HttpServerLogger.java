@@ -8,6 +8,7 @@ import static org.jboss.logging.Logger.Level.ERROR;
 import static org.jboss.logging.Logger.Level.INFO;
 import static org.jboss.logging.Logger.Level.WARN;
 
+import java.io.IOException;
 import java.lang.invoke.MethodHandles;
 import java.net.InetAddress;
 
@@ -93,4 +94,7 @@ public interface HttpServerLogger extends BasicLogger {
 
     @Message(id = 17, value = "The context name conflicts with an already registered context: %s")
     IllegalStateException conflictingContextNames(String contextName);
+
+    @Message(id = 18, value = "Failed to write the response")
+    IOException failedToWriteResponse();
 }
@@ -0,0 +1,75 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.http.server;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.ValueExpression;
+import org.junit.Test;
+
+/**
+ * Tests that {@link JsonResponseWriter} produces the same output as {@link ModelNode#toJSONString(boolean)}.
+ */
+public class JsonResponseWriterTestCase {
+
+    @Test
+    public void testCompact() {
+        ModelNode node = createModelNode();
+        assertEquals(node.toJSONString(true), write(node, true));
+    }
+
+    @Test
+    public void testPretty() {
+        ModelNode node = createModelNode();
+        assertEquals(node.toJSONString(false), write(node, false));
+    }
+
+    @Test
+    public void testSimpleValues() {
+        for (ModelNode node : createModelNode().asList()) {
+            // Lists of properties, so check each value in isolation
+            assertEquals(node.toJSONString(true), write(node, true));
+        }
+        assertEquals(new ModelNode().toJSONString(true), write(new ModelNode(), true));
+        assertEquals(new ModelNode("value").toJSONString(true), write(new ModelNode("value"), true));
+    }
+
+    private static String write(ModelNode node, boolean compact) {
+        StringWriter result = new StringWriter();
+        PrintWriter writer = new PrintWriter(result);
+        JsonResponseWriter.write(node, writer, compact);
+        writer.flush();
+        return result.toString();
+    }
+
+    private static ModelNode createModelNode() {
+        ModelNode node = new ModelNode();
+        node.get("string").set("a\"b\\c\n\t\u0001é/");
+        node.get("key \"with\\ quotes\n").set(1);
+        node.get("long").set(2L);
+        node.get("double").set(1.5);
+        node.get("big-decimal").set(new BigDecimal("1.50"));
+        node.get("big-integer").set(new BigInteger("123"));
+        node.get("boolean").set(true);
+        node.get("undefined");
+        node.get("bytes").set(new byte[] {1, 2, 3});
+        node.get("expression").set(new ValueExpression("${x:y}"));
+        node.get("type").set(ModelType.STRING);
+        node.get("list").add(1).add("x").add(new ModelNode()).add("name", "value");
+        node.get("empty-list").setEmptyList();
+        node.get("empty-object").setEmptyObject();
+        node.get("property").set("name\n", new ModelNode().add(1).add(2));
+        node.get("nested", "a", "b").set(1);
+        node.get("nested", "a", "c").set("d");
+        return node;
+    }
+}
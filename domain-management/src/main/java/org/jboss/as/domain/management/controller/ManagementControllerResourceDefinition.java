@@ -5,20 +5,43 @@
 
 package org.jboss.as.domain.management.controller;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTHORIZATION_CACHE_HIT_COUNT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTHORIZATION_CACHE_MISS_COUNT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.BOOT_COMPLETE_NOTIFICATION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONFIGURATION_PERSISTENCE_LAG;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONFIGURATION_PERSISTENCE_PENDING_WRITES;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CORE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXPRESSION_CACHE_HIT_COUNT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXPRESSION_CACHE_MISS_COUNT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAST_PATH_OPERATION_COUNT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FULL_PATH_OPERATION_COUNT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_OPERATIONS;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NAME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NOTIFICATIONS_DELIVERED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NOTIFICATIONS_DROPPED;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUNTIME_MODIFICATION_BEGUN;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RUNTIME_MODIFICATION_COMPLETE;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVICE;
 
+import org.jboss.as.controller.AbstractRuntimeOnlyHandler;
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.ExpressionResolverImpl;
+import org.jboss.as.controller.ModelControllerStatistics;
 import org.jboss.as.controller.NotificationDefinition;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.ResourceDefinition;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
 import org.jboss.as.controller.SimpleResourceDefinition;
+import org.jboss.as.controller.access.permission.ManagementPermissionCollection;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
 import org.jboss.as.controller.descriptions.ResourceDescriptionResolver;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.as.domain.management._private.DomainManagementResolver;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 
 /**
  * {@code ResourceDefinition} for the management of operation execution.
@@ -35,6 +58,59 @@ public class ManagementControllerResourceDefinition extends SimpleResourceDefini
     private static final NotificationDefinition NOTIFICATION_COMPLETE_RUNTIME_MODIFICATION = NotificationDefinition.Builder.create(RUNTIME_MODIFICATION_COMPLETE, RESOLVER).build();
     private static final NotificationDefinition NOTIFICATION_BOOT_COMPLETE = NotificationDefinition.Builder.create(BOOT_COMPLETE_NOTIFICATION, RESOLVER).build();
 
+    private static final AttributeDefinition EXPRESSION_CACHE_HITS =
+            SimpleAttributeDefinitionBuilder.create(EXPRESSION_CACHE_HIT_COUNT, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setRuntimeServiceNotRequired()
+                    .build();
+    private static final AttributeDefinition EXPRESSION_CACHE_MISSES =
+            SimpleAttributeDefinitionBuilder.create(EXPRESSION_CACHE_MISS_COUNT, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setRuntimeServiceNotRequired()
+                    .build();
+    private static final AttributeDefinition AUTHORIZATION_CACHE_HITS =
+            SimpleAttributeDefinitionBuilder.create(AUTHORIZATION_CACHE_HIT_COUNT, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setRuntimeServiceNotRequired()
+                    .build();
+    private static final AttributeDefinition AUTHORIZATION_CACHE_MISSES =
+            SimpleAttributeDefinitionBuilder.create(AUTHORIZATION_CACHE_MISS_COUNT, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setRuntimeServiceNotRequired()
+                    .build();
+    private static final AttributeDefinition PERSISTENCE_PENDING_WRITES =
+            SimpleAttributeDefinitionBuilder.create(CONFIGURATION_PERSISTENCE_PENDING_WRITES, ModelType.INT)
+                    .setStorageRuntime()
+                    .setRuntimeServiceNotRequired()
+                    .build();
+    private static final AttributeDefinition PERSISTENCE_LAG =
+            SimpleAttributeDefinitionBuilder.create(CONFIGURATION_PERSISTENCE_LAG, ModelType.LONG)
+                    .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+                    .setStorageRuntime()
+                    .setRuntimeServiceNotRequired()
+                    .build();
+    private static final AttributeDefinition DELIVERED_NOTIFICATIONS =
+            SimpleAttributeDefinitionBuilder.create(NOTIFICATIONS_DELIVERED, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setRuntimeServiceNotRequired()
+                    .build();
+    private static final AttributeDefinition DROPPED_NOTIFICATIONS =
+            SimpleAttributeDefinitionBuilder.create(NOTIFICATIONS_DROPPED, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setRuntimeServiceNotRequired()
+                    .build();
+
+    private static final AttributeDefinition FAST_PATH_OPERATIONS =
+            SimpleAttributeDefinitionBuilder.create(FAST_PATH_OPERATION_COUNT, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setRuntimeServiceNotRequired()
+                    .build();
+    private static final AttributeDefinition FULL_PATH_OPERATIONS =
+            SimpleAttributeDefinitionBuilder.create(FULL_PATH_OPERATION_COUNT, ModelType.LONG)
+                    .setStorageRuntime()
+                    .setRuntimeServiceNotRequired()
+                    .build();
+
     public static final ResourceDefinition INSTANCE = new ManagementControllerResourceDefinition();
 
     private ManagementControllerResourceDefinition() {
@@ -43,11 +119,28 @@ public class ManagementControllerResourceDefinition extends SimpleResourceDefini
         );
     }
 
+    @Override
+    public void registerAttributes(ManagementResourceRegistration resourceRegistration) {
+        super.registerAttributes(resourceRegistration);
+        resourceRegistration.registerMetric(EXPRESSION_CACHE_HITS, ManagementOperationsMetricHandler.INSTANCE);
+        resourceRegistration.registerMetric(EXPRESSION_CACHE_MISSES, ManagementOperationsMetricHandler.INSTANCE);
+        resourceRegistration.registerMetric(AUTHORIZATION_CACHE_HITS, ManagementOperationsMetricHandler.INSTANCE);
+        resourceRegistration.registerMetric(AUTHORIZATION_CACHE_MISSES, ManagementOperationsMetricHandler.INSTANCE);
+        resourceRegistration.registerMetric(PERSISTENCE_PENDING_WRITES, ManagementOperationsMetricHandler.INSTANCE);
+        resourceRegistration.registerMetric(PERSISTENCE_LAG, ManagementOperationsMetricHandler.INSTANCE);
+        resourceRegistration.registerMetric(DELIVERED_NOTIFICATIONS, ManagementOperationsMetricHandler.INSTANCE);
+        resourceRegistration.registerMetric(DROPPED_NOTIFICATIONS, ManagementOperationsMetricHandler.INSTANCE);
+        resourceRegistration.registerMetric(FAST_PATH_OPERATIONS, ManagementOperationsMetricHandler.INSTANCE);
+        resourceRegistration.registerMetric(FULL_PATH_OPERATIONS, ManagementOperationsMetricHandler.INSTANCE);
+    }
+
     @Override
     public void registerOperations(ManagementResourceRegistration resourceRegistration) {
         super.registerOperations(resourceRegistration);
         resourceRegistration.registerOperationHandler(FindNonProgressingOperationHandler.DEFINITION, FindNonProgressingOperationHandler.INSTANCE);
         resourceRegistration.registerOperationHandler(CancelNonProgressingOperationHandler.DEFINITION, CancelNonProgressingOperationHandler.INSTANCE);
+        resourceRegistration.registerOperationHandler(ReadBootTimingReportHandler.DEFINITION, ReadBootTimingReportHandler.INSTANCE);
+        resourceRegistration.registerOperationHandler(ReadBootProfileHandler.DEFINITION, ReadBootProfileHandler.INSTANCE);
     }
 
     @Override
@@ -63,4 +156,39 @@ public class ManagementControllerResourceDefinition extends SimpleResourceDefini
         super.registerChildren(resourceRegistration);
         resourceRegistration.registerSubModel(ActiveOperationResourceDefinition.INSTANCE);
     }
+
+    private static class ManagementOperationsMetricHandler extends AbstractRuntimeOnlyHandler {
+
+        static final ManagementOperationsMetricHandler INSTANCE = new ManagementOperationsMetricHandler();
+
+        @Override
+        protected void executeRuntimeStep(OperationContext context, ModelNode operation) throws OperationFailedException {
+            String attr = operation.require(NAME).asString();
+            if (attr.equals(EXPRESSION_CACHE_HIT_COUNT)) {
+                context.getResult().set(ExpressionResolverImpl.getExpressionCacheHitCount());
+            } else if (attr.equals(EXPRESSION_CACHE_MISS_COUNT)) {
+                context.getResult().set(ExpressionResolverImpl.getExpressionCacheMissCount());
+            } else if (attr.equals(AUTHORIZATION_CACHE_HIT_COUNT)) {
+                context.getResult().set(ManagementPermissionCollection.getDecisionCacheHitCount());
+            } else if (attr.equals(AUTHORIZATION_CACHE_MISS_COUNT)) {
+                context.getResult().set(ManagementPermissionCollection.getDecisionCacheMissCount());
+            } else if (attr.equals(CONFIGURATION_PERSISTENCE_PENDING_WRITES)) {
+                context.getResult().set(getStatistics(context).getPendingConfigurationWrites());
+            } else if (attr.equals(CONFIGURATION_PERSISTENCE_LAG)) {
+                context.getResult().set(getStatistics(context).getConfigurationPersistenceLag());
+            } else if (attr.equals(NOTIFICATIONS_DELIVERED)) {
+                context.getResult().set(getStatistics(context).getDeliveredNotificationCount());
+            } else if (attr.equals(NOTIFICATIONS_DROPPED)) {
+                context.getResult().set(getStatistics(context).getDroppedNotificationCount());
+            } else if (attr.equals(FAST_PATH_OPERATION_COUNT)) {
+                context.getResult().set(getStatistics(context).getFastPathOperationCount());
+            } else if (attr.equals(FULL_PATH_OPERATION_COUNT)) {
+                context.getResult().set(getStatistics(context).getFullPathOperationCount());
+            }
+        }
+
+        private static ModelControllerStatistics getStatistics(OperationContext context) {
+            return ModelControllerStatistics.class.cast(context.readResource(PathAddress.EMPTY_ADDRESS));
+        }
+    }
 }
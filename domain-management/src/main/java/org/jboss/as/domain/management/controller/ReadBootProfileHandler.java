@@ -0,0 +1,58 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.domain.management.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CORE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_OPERATIONS;
+
+import org.jboss.as.controller.AttributeDefinition;
+import org.jboss.as.controller.BootProfiler;
+import org.jboss.as.controller.ModelControllerStatistics;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.domain.management._private.DomainManagementResolver;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * {@link org.jboss.as.controller.OperationStepHandler} that returns the times recorded by the {@link BootProfiler} of
+ * the controller during its last profiled boot.
+ * <p>
+ * Unlike the report of {@link ReadBootTimingReportHandler}, which is always recorded and is limited to the progress
+ * of the subsystems booted in parallel, the profile breaks the boot time down by operation step, service and
+ * deployment unit processor, and is only recorded if enabled.
+ */
+public class ReadBootProfileHandler implements OperationStepHandler {
+
+    private static final AttributeDefinition LIMIT = SimpleAttributeDefinitionBuilder.create("limit", ModelType.INT)
+            .setRequired(false)
+            .setDefaultValue(new ModelNode(20))
+            .setValidator(new IntRangeValidator(0, true))
+            .build();
+
+    static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder("read-boot-profile",
+            DomainManagementResolver.getResolver(CORE, MANAGEMENT_OPERATIONS))
+            .setParameters(LIMIT)
+            .setReplyType(ModelType.OBJECT)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .build();
+
+    static final OperationStepHandler INSTANCE = new ReadBootProfileHandler();
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final int limit = LIMIT.resolveModelAttribute(context, operation).asInt();
+        final ModelControllerStatistics statistics = ModelControllerStatistics.class.cast(context.readResource(PathAddress.EMPTY_ADDRESS));
+        context.getResult().set(statistics.getBootProfile(limit));
+    }
+}
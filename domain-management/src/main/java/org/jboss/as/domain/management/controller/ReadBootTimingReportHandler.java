@@ -0,0 +1,52 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.domain.management.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CORE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.MANAGEMENT_OPERATIONS;
+
+import org.jboss.as.controller.ModelControllerStatistics;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationDefinition;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.SimpleOperationDefinitionBuilder;
+import org.jboss.as.domain.management._private.DomainManagementResolver;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+
+/**
+ * {@link org.jboss.as.controller.OperationStepHandler} that returns, for each subsystem booted in parallel, the number
+ * of its boot operations and the time it took until they were executed in the model and runtime stages.
+ * <p>
+ * The report is always recorded, and shows how the subsystems progressed relative to each other, including the time
+ * spent waiting for a boot thread. {@link ReadBootProfileHandler} instead reports where the time was spent, by
+ * operation step, service and deployment unit processor, but only if profiling the boot was enabled.
+ */
+public class ReadBootTimingReportHandler implements OperationStepHandler {
+
+    static final OperationDefinition DEFINITION = new SimpleOperationDefinitionBuilder("read-boot-timing-report",
+            DomainManagementResolver.getResolver(CORE, MANAGEMENT_OPERATIONS))
+            .setReplyType(ModelType.OBJECT)
+            .setReplyValueType(ModelType.OBJECT)
+            .setReadOnly()
+            .setRuntimeOnly()
+            .build();
+
+    static final OperationStepHandler INSTANCE = new ReadBootTimingReportHandler();
+
+    @Override
+    public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        final ModelControllerStatistics statistics = ModelControllerStatistics.class.cast(context.readResource(PathAddress.EMPTY_ADDRESS));
+        final ModelNode report = statistics.getBootTimingReport();
+        final ModelNode result = context.getResult();
+        result.setEmptyObject();
+        if (report != null) {
+            result.set(report);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.domain.management.controller;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONFIGURATION_PERSISTENCE_LAG;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.CONFIGURATION_PERSISTENCE_PENDING_WRITES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAST_PATH_OPERATION_COUNT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FULL_PATH_OPERATION_COUNT;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDE_RUNTIME;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NOTIFICATIONS_DELIVERED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.NOTIFICATIONS_DROPPED;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PATH;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.ServiceNameFactory;
+import org.jboss.as.controller.notification.Notification;
+import org.jboss.as.controller.notification.NotificationFilter;
+import org.jboss.as.controller.notification.NotificationHandler;
+import org.jboss.as.controller.notification.NotificationHandlerRegistry;
+import org.jboss.as.controller.operations.common.Util;
+import org.jboss.as.domain.management.CoreManagementResourceDefinition;
+import org.jboss.as.domain.management.security.util.ManagementControllerTestBase;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.junit.Test;
+
+/**
+ * Executes the operations of {@link ManagementControllerResourceDefinition} against the resource provided by the
+ * model controller.
+ */
+public class ManagementOperationsResourceTestCase extends ManagementControllerTestBase {
+
+    private static final PathAddress ADDRESS = PathAddress.pathAddress(CoreManagementResourceDefinition.PATH_ELEMENT,
+            ManagementControllerResourceDefinition.PATH_ELEMENT);
+
+    @Test
+    public void testReadBootTimingReport() throws Exception {
+        // Nothing was booted in parallel
+        ModelNode result = executeForResult(Util.createEmptyOperation(ReadBootTimingReportHandler.DEFINITION.getName(), ADDRESS));
+        assertEquals(ModelType.OBJECT, result.getType());
+        assertEquals(0, result.keys().size());
+    }
+
+    @Test
+    public void testReadBootProfile() throws Exception {
+        ModelNode operation = Util.createEmptyOperation(ReadBootProfileHandler.DEFINITION.getName(), ADDRESS);
+        operation.get("limit").set(1);
+        ModelNode result = executeForResult(operation);
+        for (String category : new String[] { "operations", "subsystems", "services", "deployment-unit-processors" }) {
+            assertEquals(category, ModelType.LIST, result.get(category).getType());
+        }
+
+        operation.get("limit").set(-1);
+        executeForFailure(operation);
+    }
+
+    @Test
+    public void testReadPersistenceMetrics() throws Exception {
+        // The test persister writes nothing in the background
+        assertEquals(0, executeForResult(Util.getReadAttributeOperation(ADDRESS, CONFIGURATION_PERSISTENCE_PENDING_WRITES)).asInt());
+        assertEquals(0L, executeForResult(Util.getReadAttributeOperation(ADDRESS, CONFIGURATION_PERSISTENCE_LAG)).asLong());
+
+        ModelNode operation = Util.createEmptyOperation(READ_RESOURCE_OPERATION, ADDRESS);
+        operation.get(INCLUDE_RUNTIME).set(true);
+        ModelNode result = executeForResult(operation);
+        assertEquals(0, result.get(CONFIGURATION_PERSISTENCE_PENDING_WRITES).asInt());
+        assertEquals(0L, result.get(CONFIGURATION_PERSISTENCE_LAG).asLong());
+    }
+
+    @Test
+    public void testReadOperationPathMetrics() throws Exception {
+        ModelNode readFastPath = Util.getReadAttributeOperation(ADDRESS, FAST_PATH_OPERATION_COUNT);
+        ModelNode readFullPath = Util.getReadAttributeOperation(ADDRESS, FULL_PATH_OPERATION_COUNT);
+        long fastPath = executeForResult(readFastPath).asLong();
+        long fullPath = executeForResult(readFullPath).asLong();
+        // Both reads took the fast path themselves
+        assertEquals(fastPath + 2, executeForResult(readFastPath).asLong());
+        assertEquals(fullPath, executeForResult(readFullPath).asLong());
+    }
+
+    @Test
+    public void testReadNotificationMetrics() throws Exception {
+        long delivered = executeForResult(Util.getReadAttributeOperation(ADDRESS, NOTIFICATIONS_DELIVERED)).asLong();
+
+        NotificationHandlerRegistry registry = (NotificationHandlerRegistry) getContainer()
+                .getRequiredService(ServiceNameFactory.resolveServiceName(NotificationHandlerRegistry.SERVICE_DESCRIPTOR)).getValue();
+        List<Notification> notifications = new CopyOnWriteArrayList<>();
+        NotificationHandler handler = notifications::add;
+        registry.registerNotificationHandler(NotificationHandlerRegistry.ANY_ADDRESS, handler, NotificationFilter.ALL);
+        try {
+            ModelNode add = Util.createAddOperation(PathAddress.pathAddress(PATH, "test"));
+            add.get(PATH).set(tmpDir.getAbsolutePath());
+            executeForResult(add);
+        } finally {
+            registry.unregisterNotificationHandler(NotificationHandlerRegistry.ANY_ADDRESS, handler, NotificationFilter.ALL);
+        }
+
+        assertFalse(notifications.isEmpty());
+        assertEquals(delivered + notifications.size(), executeForResult(Util.getReadAttributeOperation(ADDRESS, NOTIFICATIONS_DELIVERED)).asLong());
+        assertEquals(0L, executeForResult(Util.getReadAttributeOperation(ADDRESS, NOTIFICATIONS_DROPPED)).asLong());
+    }
+}
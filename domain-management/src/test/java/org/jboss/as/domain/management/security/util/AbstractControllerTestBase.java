@@ -53,6 +53,10 @@ public abstract class AbstractControllerTestBase {
 
     protected abstract void initModel(ManagementModel managementModel);
 
+    protected void initModel(ManagementModel managementModel, Resource modelControllerResource) {
+        initModel(managementModel);
+    }
+
     private ServiceContainer container;
     private ModelController controller;
     protected final ProcessType processType;
@@ -161,7 +165,7 @@ public abstract class AbstractControllerTestBase {
 
         protected void initModel(ManagementModel managementModel, Resource modelControllerResource) {
             try {
-                AbstractControllerTestBase.this.initModel(managementModel);
+                AbstractControllerTestBase.this.initModel(managementModel, modelControllerResource);
             } catch (Exception e) {
                 e.printStackTrace();
             }
@@ -22,6 +22,7 @@ import org.jboss.as.controller.services.path.PathManagerService;
 import org.jboss.as.controller.services.path.PathResourceDefinition;
 import org.jboss.as.domain.management.CoreManagementResourceDefinition;
 import org.jboss.as.domain.management.audit.EnvironmentNameReader;
+import org.jboss.as.domain.management.controller.ManagementControllerResourceDefinition;
 import org.jboss.msc.service.StabilityMonitor;
 
 /**
@@ -107,4 +108,11 @@ public class ManagementControllerTestBase extends AbstractControllerTestBase {
         rootResource.registerChild(CoreManagementResourceDefinition.PATH_ELEMENT, Resource.Factory.create());
     }
 
+    @Override
+    protected void initModel(ManagementModel managementModel, Resource modelControllerResource) {
+        super.initModel(managementModel, modelControllerResource);
+        managementModel.getRootResource().requireChild(CoreManagementResourceDefinition.PATH_ELEMENT)
+                .registerChild(ManagementControllerResourceDefinition.PATH_ELEMENT, modelControllerResource);
+    }
+
 }
@@ -15,6 +15,7 @@ import java.lang.invoke.MethodHandles;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.TimeoutException;
 
 import javax.xml.stream.Location;
 import javax.xml.stream.XMLStreamException;
@@ -789,4 +790,10 @@ public interface DomainControllerLogger extends BasicLogger {
 
     @Message(id = 98, value = "The following servers %s are starting; execution of remote management operations is not currently available")
     OperationFailedException serverManagementUnavailableDuringBoot(String serverNames);
+
+    @Message(id = 99, value = "Awaiting prepared responses from %d of %d remote host(s) after %d ms")
+    String awaitingHostPreparedResponses(int outstanding, int total, long elapsed);
+
+    @Message(id = 100, value = "Request was not sent to the remote host within %d ms")
+    TimeoutException timedOutSendingHostRequests(long timeout);
 }
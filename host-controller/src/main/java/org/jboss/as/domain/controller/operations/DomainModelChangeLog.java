@@ -0,0 +1,140 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.domain.controller.operations;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.version.Version;
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.Property;
+
+/**
+ * Determines which parts of the domain model changed since a version of the model previously sent to a slave host
+ * controller, so that a reconnecting slave only needs to be sent the resources that changed.
+ * <p>
+ * A version consists of the release of this domain controller and of a digest of the persistent configuration of each
+ * child of the domain root resource. As it only depends on the content of the domain model, a version remains comparable
+ * after the domain controller is restarted, so slaves reconnecting to a restarted domain controller are only sent the
+ * resources that changed while it was down. The digest of a resource is recomputed only once the
+ * {@link ModelController#getModelGeneration(PathAddress) generation} of the resource changes.
+ */
+public final class DomainModelChangeLog {
+
+    static final String RELEASE = "release";
+    static final String DIGESTS = "digests";
+
+    private final Map<PathElement, Digest> digests = new ConcurrentHashMap<>();
+    private final ModelController controller;
+
+    public DomainModelChangeLog(ModelController controller) {
+        this.controller = controller;
+    }
+
+    /**
+     * Gets the current version of the domain model.
+     *
+     * @param root the domain root resource
+     * @return the version
+     */
+    ModelNode getVersion(Resource root) {
+        ModelNode version = new ModelNode();
+        version.get(RELEASE).set(Version.AS_VERSION);
+        ModelNode rootDigests = version.get(DIGESTS).setEmptyObject();
+        Set<PathElement> children = new HashSet<>();
+        for (String type : root.getChildTypes()) {
+            if (HOST.equals(type)) {
+                continue;
+            }
+            for (Resource.ResourceEntry entry : root.getChildren(type)) {
+                if (entry.isProxy() || entry.isRuntime()) {
+                    continue;
+                }
+                children.add(entry.getPathElement());
+                rootDigests.get(type, entry.getName()).set(getDigest(entry));
+            }
+        }
+        digests.keySet().retainAll(children);
+        return version;
+    }
+
+    /**
+     * Gets the children of the domain root resource that were added or modified between the given versions.
+     *
+     * @param version a version previously returned by {@link #getVersion(Resource)}, possibly by another instance
+     * @param current the current version, as returned by {@link #getVersion(Resource)}
+     * @return the modified children, or {@code null} if they cannot be determined or all of them were modified, in
+     * which case the complete domain model needs to be sent
+     */
+    Set<PathElement> getModifiedSince(ModelNode version, ModelNode current) {
+        if (!version.hasDefined(RELEASE) || !version.hasDefined(DIGESTS) || !current.get(RELEASE).equals(version.get(RELEASE))) {
+            return null;
+        }
+        ModelNode known = version.get(DIGESTS);
+        Set<PathElement> modified = new HashSet<>();
+        int count = 0;
+        for (Property type : current.get(DIGESTS).asPropertyList()) {
+            for (Property child : type.getValue().asPropertyList()) {
+                count++;
+                if (!known.hasDefined(type.getName(), child.getName())
+                        || !Arrays.equals(child.getValue().asBytes(), known.get(type.getName(), child.getName()).asBytes())) {
+                    modified.add(PathElement.pathElement(type.getName(), child.getName()));
+                }
+            }
+        }
+        return modified.size() < count ? modified : null;
+    }
+
+    private byte[] getDigest(Resource.ResourceEntry entry) {
+        PathElement element = entry.getPathElement();
+        long generation = controller.getModelGeneration(PathAddress.pathAddress(element));
+        Digest digest = digests.get(element);
+        if (digest == null || generation < 0 || digest.generation != generation) {
+            digest = new Digest(generation, digest(Resource.Tools.readModel(entry)));
+            if (generation >= 0) {
+                digests.put(element, digest);
+            }
+        }
+        return digest.value;
+    }
+
+    private static byte[] digest(ModelNode model) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            try (DataOutputStream output = new DataOutputStream(new DigestOutputStream(OutputStream.nullOutputStream(), digest))) {
+                model.writeExternal(output);
+            }
+            return digest.digest();
+        } catch (NoSuchAlgorithmException | IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Digest {
+        private final long generation;
+        private final byte[] value;
+
+        Digest(long generation, byte[] value) {
+            this.generation = generation;
+            this.value = value;
+        }
+    }
+}
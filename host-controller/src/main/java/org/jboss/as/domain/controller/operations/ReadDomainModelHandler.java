@@ -5,9 +5,14 @@
 
 package org.jboss.as.domain.controller.operations;
 
+import java.util.List;
+import java.util.Set;
+
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.controller.transform.Transformers;
 import org.jboss.dmr.ModelNode;
 
@@ -21,14 +26,30 @@ class ReadDomainModelHandler implements OperationStepHandler {
     private final Transformers transformers;
     private final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry;
     private final boolean lock;
+    private final Set<PathElement> rootResources;
 
     public ReadDomainModelHandler(final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry, final Transformers transformers, final boolean lock) {
+        this(ignoredTransformationRegistry, transformers, lock, null);
+    }
+
+    /**
+     * Creates a handler only reading the given children of the domain root resource, in addition to the root resource itself.
+     *
+     * @param rootResources the children of the root resource to read, or {@code null} to read all of them
+     */
+    ReadDomainModelHandler(final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry, final Transformers transformers,
+                           final boolean lock, final Set<PathElement> rootResources) {
         this.transformers = transformers;
         this.ignoredTransformationRegistry = ignoredTransformationRegistry != null ? ignoredTransformationRegistry : Transformers.DEFAULT;
         this.lock = lock;
+        this.rootResources = rootResources;
     }
 
     public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+        context.getResult().set(describe(context));
+    }
+
+    List<ModelNode> describe(OperationContext context) throws OperationFailedException {
         // if the calling process has already acquired a lock, don't relock.
         if (lock) {
             // Acquire the lock to make sure that nobody can modify the model before the slave has applied it
@@ -36,9 +57,12 @@ class ReadDomainModelHandler implements OperationStepHandler {
         }
 
         final Transformers.TransformationInputs transformationInputs = new Transformers.TransformationInputs(context);
+        Resource root = transformationInputs.getRootResource();
+        if (rootResources != null) {
+            root = ReadMasterDomainModelUtil.filterRootResource(root, rootResources);
+        }
         final ReadMasterDomainModelUtil readUtil = ReadMasterDomainModelUtil.readMasterDomainResourcesForInitialConnect(transformers,
-                transformationInputs, ignoredTransformationRegistry, transformationInputs.getRootResource());
-        context.getResult().set(readUtil.getDescribedResources());
+                transformationInputs, ignoredTransformationRegistry, root);
+        return readUtil.getDescribedResources();
     }
-
 }
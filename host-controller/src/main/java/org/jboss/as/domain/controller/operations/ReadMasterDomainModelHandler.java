@@ -5,13 +5,20 @@
 
 package org.jboss.as.domain.controller.operations;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DOMAIN_MODEL;
+
+import java.util.List;
+import java.util.Set;
+
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
 import org.jboss.as.controller.extension.ExtensionRegistry;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.controller.transform.Transformers;
+import org.jboss.as.domain.controller.logging.DomainControllerLogger;
 import org.jboss.as.host.controller.mgmt.HostInfo;
 import org.jboss.dmr.ModelNode;
 
@@ -32,12 +39,25 @@ public class ReadMasterDomainModelHandler implements OperationStepHandler {
     private final Transformers transformers;
     private final ExtensionRegistry extensionRegistry;
     private final boolean lock;
+    private final DomainModelChangeLog changeLog;
 
     public ReadMasterDomainModelHandler(final HostInfo hostInfo, final Transformers transformers, final ExtensionRegistry extensionRegistry, boolean lock) {
+        this(hostInfo, transformers, extensionRegistry, lock, null);
+    }
+
+    /**
+     * Creates a handler that, if the host supports it, only describes the resources changed since the version of the
+     * domain model the host last received, along with the current version of the domain model.
+     *
+     * @param changeLog the change log of the domain model, or {@code null} if the complete model should always be described
+     */
+    public ReadMasterDomainModelHandler(final HostInfo hostInfo, final Transformers transformers, final ExtensionRegistry extensionRegistry, boolean lock,
+                                        final DomainModelChangeLog changeLog) {
         this.hostInfo = hostInfo;
         this.transformers = transformers;
         this.extensionRegistry = extensionRegistry;
         this.lock = lock;
+        this.changeLog = changeLog;
     }
 
     @Override
@@ -57,8 +77,31 @@ public class ReadMasterDomainModelHandler implements OperationStepHandler {
             ignoredTransformationRegistry = ReadMasterDomainModelUtil.createHostIgnoredRegistry(hostInfo, rc);
         }
 
-        final OperationStepHandler handler = new ReadDomainModelHandler(ignoredTransformationRegistry, transformers, lock);
-        context.addStep(handler, OperationContext.Stage.MODEL);
+        if (changeLog == null || hostInfo == null || !hostInfo.isDomainModelVersionSupported()) {
+            final OperationStepHandler handler = new ReadDomainModelHandler(ignoredTransformationRegistry, transformers, lock);
+            context.addStep(handler, OperationContext.Stage.MODEL);
+            return;
+        }
+
+        // Describe only the root resources changed since the version known to the host, if possible
+        final ModelNode version = changeLog.getVersion(resource);
+        final ModelNode hostVersion = hostInfo.getDomainModelVersion();
+        final Set<PathElement> modified = hostVersion.isDefined() ? changeLog.getModifiedSince(hostVersion, version) : null;
+        final ReadDomainModelHandler handler = new ReadDomainModelHandler(ignoredTransformationRegistry, transformers, lock, modified);
+        context.addStep(new OperationStepHandler() {
+            @Override
+            public void execute(OperationContext context, ModelNode operation) throws OperationFailedException {
+                final List<ModelNode> described = handler.describe(context);
+                final ModelNode result = context.getResult();
+                result.get(DOMAIN_MODEL).set(described);
+                result.get(ReadMasterDomainModelUtil.DOMAIN_MODEL_VERSION).set(version);
+                if (modified != null) {
+                    // Allows the host to remove root resources and to retain the unchanged ones
+                    result.get(ReadMasterDomainModelUtil.DOMAIN_ROOT_RESOURCES).set(ReadMasterDomainModelUtil.describeRootResources(resource, ignoredTransformationRegistry));
+                    DomainControllerLogger.ROOT_LOGGER.debugf("Describing %d changed root resources of the domain model for host %s", modified.size(), hostInfo.getHostName());
+                }
+            }
+        }, OperationContext.Stage.MODEL);
     }
 
 }
@@ -4,10 +4,15 @@
  */
 package org.jboss.as.domain.controller.operations;
 
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.DOMAIN_MODEL;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXTENSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.FAILURE_DESCRIPTION;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.GROUP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.INCLUDES;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP_ADDR;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROFILE;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.RESULT;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_CONFIG;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_GROUP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SOCKET_BINDING_GROUP;
@@ -16,9 +21,11 @@ import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SUB
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.jboss.as.controller.ModelController;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.PathElement;
@@ -28,6 +35,8 @@ import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.registry.Resource;
 import org.jboss.as.controller.transform.Transformers;
 import org.jboss.as.host.controller.IgnoredNonAffectedServerGroupsUtil;
+import org.jboss.as.host.controller.logging.HostControllerLogger;
+import org.jboss.as.host.controller.mgmt.HostControllerRegistrationHandler;
 import org.jboss.as.host.controller.mgmt.HostInfo;
 import org.jboss.dmr.ModelNode;
 
@@ -48,6 +57,18 @@ public class ReadMasterDomainModelUtil {
 
     public static final String ORDERED_CHILD_TYPES_PROPERTY = "ordered-child-types";
 
+    public static final String DOMAIN_MODEL_VERSION = "domain-model-version";
+
+    public static final String DOMAIN_ROOT_RESOURCES = "domain-root-resources";
+
+    private static final ModelNode READ_LOCAL_DOMAIN_MODEL = new ModelNode();
+
+    static {
+        READ_LOCAL_DOMAIN_MODEL.get(OP).set("read-local-domain-model");
+        READ_LOCAL_DOMAIN_MODEL.get(OP_ADDR).setEmptyList();
+        READ_LOCAL_DOMAIN_MODEL.protect();
+    }
+
     private final Set<PathElement> newRootResources = new HashSet<>();
 
     private volatile List<ModelNode> describedResources;
@@ -75,6 +96,49 @@ public class ReadMasterDomainModelUtil {
         return util;
     }
 
+    /**
+     * Creates a copy of the domain root resource only containing the given children.
+     *
+     * @param domainRoot the root resource for the domain resource tree
+     * @param children the children to retain
+     * @return the filtered root resource
+     */
+    static Resource filterRootResource(final Resource domainRoot, final Set<PathElement> children) {
+        final Resource root = Resource.Factory.create();
+        root.writeModel(domainRoot.getModel());
+        for (final PathElement element : children) {
+            final Resource child = domainRoot.getChild(element);
+            if (child != null) {
+                root.registerChild(element, child);
+            }
+        }
+        return root;
+    }
+
+    /**
+     * Gets the addresses of the children of the domain root resource that are not ignored by a slave host, i.e. the
+     * root resources the slave's domain model is expected to contain.
+     *
+     * @param domainRoot the root resource for the domain resource tree
+     * @param ignoredTransformationRegistry registry of resources ignored by the slave host
+     * @return the addresses of the root resources
+     */
+    static ModelNode describeRootResources(final Resource domainRoot, final Transformers.ResourceIgnoredTransformationRegistry ignoredTransformationRegistry) {
+        final ModelNode result = new ModelNode().setEmptyList();
+        for (final String type : domainRoot.getChildTypes()) {
+            if (type.equals(ModelDescriptionConstants.HOST)) {
+                continue;
+            }
+            for (final Resource.ResourceEntry entry : domainRoot.getChildren(type)) {
+                final PathAddress address = PathAddress.pathAddress(entry.getPathElement());
+                if (!entry.isProxy() && !entry.isRuntime() && !ignoredTransformationRegistry.isResourceTransformationIgnored(address)) {
+                    result.add(address.toModelNode());
+                }
+            }
+        }
+        return result;
+    }
+
     /**
      * Gets a list of the resources for the slave's ApplyXXXXHandlers. Although the format might appear
      * similar as the operations generated at boot-time this description is only useful
@@ -131,6 +195,57 @@ public class ReadMasterDomainModelUtil {
     }
 
 
+    /**
+     * Gets the complete list of resources described by a {@code ReadMasterDomainModelHandler} result that includes the
+     * version of the domain model. If the result only describes the root resources changed since the version of the
+     * domain model the host last received, the unchanged root resources are described from the local domain model.
+     *
+     * @param result the operation result
+     * @param operationExecutor the executor used to read the local domain model
+     * @return the resources, or {@code null} if an unchanged root resource is missing from the local domain model
+     */
+    public static List<ModelNode> getDescribedDomainModel(final ModelNode result, final HostControllerRegistrationHandler.OperationExecutor operationExecutor) {
+        final List<ModelNode> described = result.get(DOMAIN_MODEL).asList();
+        if (!result.hasDefined(DOMAIN_ROOT_RESOURCES)) {
+            // The complete domain model
+            return described;
+        }
+        final Set<PathElement> changed = new HashSet<>();
+        for (final ModelNode description : described) {
+            final PathAddress address = PathAddress.pathAddress(description.require(DOMAIN_RESOURCE_ADDRESS));
+            if (address.size() > 0) {
+                changed.add(address.getElement(0));
+            }
+        }
+        final Set<PathElement> unchanged = new LinkedHashSet<>();
+        for (final ModelNode address : result.get(DOMAIN_ROOT_RESOURCES).asList()) {
+            final PathElement element = PathAddress.pathAddress(address).getElement(0);
+            if (!changed.contains(element)) {
+                unchanged.add(element);
+            }
+        }
+        HostControllerLogger.ROOT_LOGGER.debugf("Received %d changed root resources of the domain model, retaining %d", changed.size(), unchanged.size());
+        if (unchanged.isEmpty()) {
+            return described;
+        }
+        final ReadDomainModelHandler handler = new ReadDomainModelHandler(null, Transformers.Factory.createLocal(), false, unchanged);
+        final ModelNode local = operationExecutor.executeReadOnly(READ_LOCAL_DOMAIN_MODEL, handler, ModelController.OperationTransactionControl.COMMIT);
+        if (local.hasDefined(FAILURE_DESCRIPTION)) {
+            return null;
+        }
+        final List<ModelNode> resources = new ArrayList<>(described);
+        final Set<PathElement> retained = new HashSet<>();
+        for (final ModelNode description : local.get(RESULT).asList()) {
+            final PathAddress address = PathAddress.pathAddress(description.require(DOMAIN_RESOURCE_ADDRESS));
+            // The root resource itself is described by the domain controller
+            if (address.size() > 0) {
+                retained.add(address.getElement(0));
+                resources.add(description);
+            }
+        }
+        return retained.containsAll(unchanged) ? resources : null;
+    }
+
     /**
      * Create a resource based on the result of the {@code ReadMasterDomainModelHandler}.
      *
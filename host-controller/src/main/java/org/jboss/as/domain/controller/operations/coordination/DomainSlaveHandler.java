@@ -19,6 +19,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -29,6 +30,7 @@ import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
 import org.jboss.as.controller.ProxyController;
 import org.jboss.as.controller.TransformingProxyController;
+import org.jboss.as.controller.client.MessageSeverity;
 import org.jboss.as.controller.client.OperationResponse;
 import org.jboss.as.controller.operations.OperationAttachments;
 import org.jboss.as.controller.remote.ResponseAttachmentInputStreamSupport;
@@ -45,13 +47,32 @@ import org.jboss.as.controller.operations.DomainOperationTransmuter;
  */
 public class DomainSlaveHandler implements OperationStepHandler {
 
+    /** Interval, in ms, at which the progress of awaiting the prepared responses of the hosts is reported */
+    static final long PROGRESS_INTERVAL = 5000;
+
     private final MultiphaseOverallContext multiphaseContext;
     private final Map<String, ProxyController> hostProxies;
+    private final HostRequestDispatcher dispatcher;
 
     public DomainSlaveHandler(final Map<String, ProxyController> hostProxies,
                               final MultiphaseOverallContext domainOperationContext) {
+        this(hostProxies, domainOperationContext, null);
+    }
+
+    /**
+     * Creates a handler sending the operation to the hosts using threads from the given executor.
+     *
+     * @param hostProxies the proxies of the hosts, keyed by host name
+     * @param domainOperationContext the context of the overall domain operation
+     * @param executorService executor used to send the operation to several hosts concurrently. May be {@code null},
+     *                        in which case the operation is sent to one host after another
+     */
+    public DomainSlaveHandler(final Map<String, ProxyController> hostProxies,
+                              final MultiphaseOverallContext domainOperationContext,
+                              final ExecutorService executorService) {
         this.hostProxies = hostProxies;
         this.multiphaseContext = domainOperationContext;
+        this.dispatcher = new HostRequestDispatcher(executorService);
     }
 
     @Override
@@ -66,7 +87,7 @@ public class DomainSlaveHandler implements OperationStepHandler {
         final BlockingTimeout blockingTimeout = BlockingTimeout.Factory.getDomainBlockingTimeout(context);
         final Set<String> outstanding = new HashSet<String>(hostProxies.keySet());
         final List<TransactionalProtocolClient.PreparedOperation<HostControllerUpdateTask.ProxyOperation>> results = new ArrayList<TransactionalProtocolClient.PreparedOperation<HostControllerUpdateTask.ProxyOperation>>();
-        final Map<String, HostControllerUpdateTask.ExecutedHostRequest> finalResults = new HashMap<String, HostControllerUpdateTask.ExecutedHostRequest>();
+        final Map<String, HostControllerUpdateTask.HostRequest> requests = new HashMap<String, HostControllerUpdateTask.HostRequest>();
         final HostControllerUpdateTask.ProxyOperationListener listener = new HostControllerUpdateTask.ProxyOperationListener();
         final Transformers.TransformationInputs transformationInputs = Transformers.TransformationInputs.getOrCreate(context);
         final List<DomainOperationTransmuter> transformers = context.getAttachment(OperationAttachments.SLAVE_SERVER_OPERATION_TRANSMUTERS);
@@ -85,22 +106,37 @@ public class DomainSlaveHandler implements OperationStepHandler {
             clonedOp.get(OPERATION_HEADERS, EXECUTE_FOR_COORDINATOR).set(true);
             clonedOp.get(OPERATION_HEADERS, DomainControllerLockIdUtils.DOMAIN_CONTROLLER_LOCK_ID).set(CurrentOperationIdHolder.getCurrentOperationID());
             final HostControllerUpdateTask task = new HostControllerUpdateTask(host, clonedOp, context, proxyController, transformationInputs);
-            // Execute the operation on the remote host
-            final HostControllerUpdateTask.ExecutedHostRequest finalResult = task.execute(listener);
-            multiphaseContext.recordHostRequest(host, finalResult);
-            finalResults.put(host, finalResult);
+            // Transform the operation here, as only this thread may access the context
+            requests.put(host, task.prepare(listener));
+        }
+        // The hosts prepare concurrently, so the timeout applies to sending the operation to all of them and awaiting
+        // all of their prepared responses, rather than to each host
+        final long timeout = blockingTimeout.getDomainBlockingTimeout(false);
+        final long start = System.nanoTime();
+        final long deadline = start + TimeUnit.MILLISECONDS.toNanos(timeout);
+        // Execute the operation on the remote hosts
+        final Map<String, HostControllerUpdateTask.ExecutedHostRequest> finalResults = dispatcher.dispatch(requests, timeout, TimeUnit.MILLISECONDS);
+        for (Map.Entry<String, HostControllerUpdateTask.ExecutedHostRequest> entry : finalResults.entrySet()) {
+            multiphaseContext.recordHostRequest(entry.getKey(), entry.getValue());
         }
 
         // Wait for all hosts to reach the prepared state
         boolean interrupted = false;
         boolean completeStepCalled = false;
         try {
-            long timeout = 0;
+            long nextProgress = start + TimeUnit.MILLISECONDS.toNanos(PROGRESS_INTERVAL);
             while (!outstanding.isEmpty()) {
-                timeout = blockingTimeout.getDomainBlockingTimeout(false);
                 TransactionalProtocolClient.PreparedOperation<HostControllerUpdateTask.ProxyOperation> prepared = null;
                 try {
-                    prepared = listener.retrievePreparedOperation(timeout, TimeUnit.MILLISECONDS);
+                    long now = System.nanoTime();
+                    while (prepared == null && now - deadline < 0) {
+                        prepared = listener.retrievePreparedOperation(Math.min(deadline, nextProgress) - now, TimeUnit.NANOSECONDS);
+                        now = System.nanoTime();
+                        if (prepared == null && now - nextProgress >= 0) {
+                            reportProgress(context, outstanding.size(), finalResults.size(), TimeUnit.NANOSECONDS.toMillis(now - start));
+                            nextProgress = now + TimeUnit.MILLISECONDS.toNanos(PROGRESS_INTERVAL);
+                        }
+                    }
                 } catch (InterruptedException ie) {
                     interrupted = true;
                 }
@@ -161,6 +197,12 @@ public class DomainSlaveHandler implements OperationStepHandler {
         }
     }
 
+    private static void reportProgress(OperationContext context, int outstanding, int total, long elapsed) {
+        String msg = HOST_CONTROLLER_LOGGER.awaitingHostPreparedResponses(outstanding, total, elapsed);
+        HOST_CONTROLLER_LOGGER.debug(msg);
+        context.report(MessageSeverity.INFO, msg);
+    }
+
     private void handleMissingHostResponses(Map<String, HostControllerUpdateTask.ExecutedHostRequest> finalResults,
                                             Set<String> outstanding, boolean timedOut, long timeout) {
 
@@ -228,13 +270,15 @@ public class DomainSlaveHandler implements OperationStepHandler {
             // If we've been interrupted, only wait 50 ms for a final response, otherwise wait the domain blocking timeout
             // Before WFCORE-996 was analyzed, in the interrupted case we would wait 0 ms. 50 ms is a
             // workaround attempt to avoid a race
+            // The hosts commit or roll back concurrently, so the patience applies to awaiting all of them
             int patient = interruptThread ? 50 : blockingTimeout.getDomainBlockingTimeout(false);
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(patient);
             for (final TransactionalProtocolClient.PreparedOperation<HostControllerUpdateTask.ProxyOperation> prepared : results) {
                 final String hostName = prepared.getOperation().getName();
                 final HostControllerUpdateTask.ExecutedHostRequest request = finalResults.get(hostName);
                 final AsyncFuture<OperationResponse> future = prepared.getFinalResult();
                 try {
-                    final OperationResponse finalResponse = future.get(patient, TimeUnit.MILLISECONDS);
+                    final OperationResponse finalResponse = future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
                     final ModelNode transformedResult = request.transformResult(finalResponse.getResponseNode());
                     multiphaseContext.addHostControllerFinalResult(hostName, transformedResult);
 
@@ -251,6 +295,7 @@ public class DomainSlaveHandler implements OperationStepHandler {
                     // We suppressed an interrupt, so don't block indefinitely waiting for other responses;
                     // just grab them if they are already available
                     patient = patient == 0 ? 0 : 50; // if we were already really impatient, we still are
+                    deadline = Math.min(deadline, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(patient));
                     HOST_CONTROLLER_LOGGER.interruptedAwaitingFinalResponse(hostName);
                 } catch (ExecutionException e) {
                     HOST_CONTROLLER_LOGGER.caughtExceptionAwaitingFinalResponse(e.getCause(), hostName);
@@ -264,6 +309,7 @@ public class DomainSlaveHandler implements OperationStepHandler {
                     // we already waited at least the original 'patient' value since we sent out commit/rollback msgs;
                     // don't need to wait so long any more
                     patient = 0;
+                    deadline = System.nanoTime();
                 }
             }
         } finally {
@@ -70,6 +70,17 @@ class HostControllerUpdateTask {
     }
 
     public ExecutedHostRequest execute(final ProxyOperationListener listener) {
+        return prepare(listener).send();
+    }
+
+    /**
+     * Transforms the operation for the host, without sending it yet. This must be called by the thread executing the
+     * operation, as it accesses the operation context.
+     *
+     * @param listener the listener notified once the host prepared the operation
+     * @return the request, which can be sent by any thread
+     */
+    HostRequest prepare(final ProxyOperationListener listener) {
 
         final TransactionalProtocolClient client = proxyController.getProtocolClient();
         final OperationMessageHandler messageHandler = new DelegatingMessageHandler(context);
@@ -80,42 +91,96 @@ class HostControllerUpdateTask {
             final OperationTransformer.TransformedOperation transformationResult = proxyController.transformOperation(transformationInputs, operation);
             final ModelNode transformedOperation = transformationResult.getTransformedOperation();
             final ProxyOperation proxyOperation = new ProxyOperation(name, transformedOperation, messageHandler, operationAttachments);
-            try {
-                // Make sure we preserve the operation headers like PrepareStepHandler.EXECUTE_FOR_COORDINATOR
-                if(transformedOperation != null) {
-                    transformedOperation.get(OPERATION_HEADERS).set(operation.get(OPERATION_HEADERS));
-                    // If the operation was transformed
-                    if (!operation.equals(transformedOperation)) {
-                        // push all operations (incl. read-only) to the servers
-                        transformedOperation.get(OPERATION_HEADERS, ServerOperationsResolverHandler.DOMAIN_PUSH_TO_SERVERS).set(true);
-                        HOST_CONTROLLER_LOGGER.tracef("Sending %s (transformed to %s) to %s", operation, transformedOperation, name);
-                    } else {
-                        HOST_CONTROLLER_LOGGER.tracef("Sending %s (untransformed) to %s", transformedOperation, name);
-                    }
-                    final AsyncFuture<OperationResponse> result = client.execute(subsystemListener, proxyOperation);
-                    return new ExecutedHostRequest(result, transformationResult);
+            // Make sure we preserve the operation headers like PrepareStepHandler.EXECUTE_FOR_COORDINATOR
+            if(transformedOperation != null) {
+                transformedOperation.get(OPERATION_HEADERS).set(operation.get(OPERATION_HEADERS));
+                // If the operation was transformed
+                if (!operation.equals(transformedOperation)) {
+                    // push all operations (incl. read-only) to the servers
+                    transformedOperation.get(OPERATION_HEADERS, ServerOperationsResolverHandler.DOMAIN_PUSH_TO_SERVERS).set(true);
+                    HOST_CONTROLLER_LOGGER.tracef("Sending %s (transformed to %s) to %s", operation, transformedOperation, name);
                 } else {
-                    // We assume here that if we have a null transformedOperation, it means the operation must be discarded and not be sent to the slave.
-                    // The prepared step for this discarded operation will be a SucceededOperation. Later, when the DomainSlaveHandler handler is building up the
-                    // final results, it will use transformationResult.getResultTransformer() as the final result for this discarded operation, which makes the
-                    // transformed to decide what to do with this discarded operation.
-                    HOST_CONTROLLER_LOGGER.tracef("Discard sending %s (transformed to null) for %s", operation, name);
-                    final TransactionalProtocolClient.PreparedOperation<ProxyOperation> result = BlockingQueueOperationListener.SucceededOperation.create(proxyOperation);
-                    subsystemListener.operationPrepared(result);
-                    return new ExecutedHostRequest(result.getFinalResult(), transformationResult);
+                    HOST_CONTROLLER_LOGGER.tracef("Sending %s (untransformed) to %s", transformedOperation, name);
                 }
-            } catch (IOException e) {
-                // Handle protocol failures
-                final TransactionalProtocolClient.PreparedOperation<ProxyOperation> result = BlockingQueueOperationListener.FailedOperation.create(proxyOperation, e);
+                return new HostRequest() {
+                    @Override
+                    public ExecutedHostRequest send() {
+                        try {
+                            final AsyncFuture<OperationResponse> result = client.execute(subsystemListener, proxyOperation);
+                            return new ExecutedHostRequest(result, transformationResult);
+                        } catch (IOException e) {
+                            // Handle protocol failures
+                            return fail(e);
+                        }
+                    }
+
+                    @Override
+                    public ExecutedHostRequest fail(Exception cause) {
+                        final TransactionalProtocolClient.PreparedOperation<ProxyOperation> result = BlockingQueueOperationListener.FailedOperation.create(proxyOperation, cause);
+                        subsystemListener.operationPrepared(result);
+                        return new ExecutedHostRequest(result.getFinalResult(), transformationResult);
+                    }
+                };
+            } else {
+                // We assume here that if we have a null transformedOperation, it means the operation must be discarded and not be sent to the slave.
+                // The prepared step for this discarded operation will be a SucceededOperation. Later, when the DomainSlaveHandler handler is building up the
+                // final results, it will use transformationResult.getResultTransformer() as the final result for this discarded operation, which makes the
+                // transformed to decide what to do with this discarded operation.
+                HOST_CONTROLLER_LOGGER.tracef("Discard sending %s (transformed to null) for %s", operation, name);
+                final TransactionalProtocolClient.PreparedOperation<ProxyOperation> result = BlockingQueueOperationListener.SucceededOperation.create(proxyOperation);
                 subsystemListener.operationPrepared(result);
-                return new ExecutedHostRequest(result.getFinalResult(), transformationResult);
+                return new CompletedHostRequest(new ExecutedHostRequest(result.getFinalResult(), transformationResult));
             }
         } catch (OperationFailedException e) {
             // Handle transformation failures
             final ProxyOperation proxyOperation = new ProxyOperation(name, operation, messageHandler, operationAttachments);
             final TransactionalProtocolClient.PreparedOperation<ProxyOperation> result = BlockingQueueOperationListener.FailedOperation.create(proxyOperation, e);
             subsystemListener.operationPrepared(result);
-            return new ExecutedHostRequest(result.getFinalResult(), OperationResultTransformer.ORIGINAL_RESULT, OperationTransformer.DEFAULT_REJECTION_POLICY);
+            return new CompletedHostRequest(new ExecutedHostRequest(result.getFinalResult(), OperationResultTransformer.ORIGINAL_RESULT, OperationTransformer.DEFAULT_REJECTION_POLICY));
+        }
+    }
+
+    /**
+     * An operation prepared for a host by {@link #prepare(ProxyOperationListener)}. Sending it does not access the
+     * operation context, so it can be sent by a thread other than the one executing the operation.
+     */
+    interface HostRequest {
+
+        /**
+         * Sends the operation to the host.
+         *
+         * @return the executed request
+         */
+        ExecutedHostRequest send();
+
+        /**
+         * Fails the operation without sending it to the host, notifying the listener that the host failed to prepare.
+         *
+         * @param cause the cause of the failure
+         * @return the failed request
+         */
+        ExecutedHostRequest fail(Exception cause);
+    }
+
+    /**
+     * A request which needs not be sent, as its outcome was already determined while preparing it.
+     */
+    private static class CompletedHostRequest implements HostRequest {
+
+        private final ExecutedHostRequest executed;
+
+        private CompletedHostRequest(ExecutedHostRequest executed) {
+            this.executed = executed;
+        }
+
+        @Override
+        public ExecutedHostRequest send() {
+            return executed;
+        }
+
+        @Override
+        public ExecutedHostRequest fail(Exception cause) {
+            return executed;
         }
     }
 
@@ -322,9 +387,15 @@ class HostControllerUpdateTask {
 
     private static class DelegatingOperationAttachments implements OperationAttachments {
 
-        private final OperationContext context;
+        private final List<InputStream> inputStreams;
         private DelegatingOperationAttachments(final OperationContext context) {
-            this.context = context;
+            // Obtain the streams on the thread executing the operation, as the request may be sent by another thread
+            int count = context.getAttachmentStreamCount();
+            List<InputStream> streams = new ArrayList<InputStream>(count);
+            for (int i = 0; i < count; i++) {
+                streams.add(context.getAttachmentStream(i));
+            }
+            this.inputStreams = streams;
         }
 
         @Override
@@ -334,12 +405,7 @@ class HostControllerUpdateTask {
 
         @Override
         public List<InputStream> getInputStreams() {
-            int count = context.getAttachmentStreamCount();
-            List<InputStream> result = new ArrayList<InputStream>(count);
-            for (int i = 0; i < count; i++) {
-                result.add(context.getAttachmentStream(i));
-            }
-            return result;
+            return new ArrayList<InputStream>(inputStreams);
         }
 
         @Override
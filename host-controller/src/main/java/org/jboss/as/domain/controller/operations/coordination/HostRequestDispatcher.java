@@ -0,0 +1,165 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.domain.controller.operations.coordination;
+
+import static org.jboss.as.domain.controller.logging.DomainControllerLogger.HOST_CONTROLLER_LOGGER;
+
+import java.net.InetAddress;
+import java.security.PrivilegedAction;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.as.controller.AccessAuditContext;
+import org.jboss.as.controller.access.InVmAccess;
+import org.wildfly.security.auth.server.SecurityIdentity;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Sends the requests of a {@link DomainSlaveHandler} to the remote host controllers using a bounded number of
+ * threads, so that writing the requests for a large number of hosts does not add up on the thread executing the
+ * operation. The requests are {@linkplain HostControllerUpdateTask#prepare prepared} by the thread executing the
+ * operation, so only sending them happens on other threads, which never access the operation context. The calling
+ * thread takes part in sending the requests, so all requests are sent even if the executor cannot run any additional
+ * tasks.
+ */
+final class HostRequestDispatcher {
+
+    /** The system property configuring the maximum number of threads concurrently sending requests to hosts. */
+    static final String PARALLELISM_PROPERTY = "jboss.domain.host.request.parallelism";
+    static final int DEFAULT_PARALLELISM = 16;
+
+    private final Executor executor;
+    private final int parallelism;
+
+    HostRequestDispatcher(Executor executor) {
+        this(executor, getParallelism());
+    }
+
+    HostRequestDispatcher(Executor executor, int parallelism) {
+        this.executor = executor;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * Sends the given requests, returning once all requests were sent or the timeout elapsed. Requests which were not
+     * sent before the timeout elapsed are {@linkplain HostControllerUpdateTask.HostRequest#fail failed}, and requests
+     * whose sending completes afterwards are cancelled. The timeout does not interrupt a request being sent by the
+     * calling thread.
+     *
+     * @param requests the prepared requests, keyed by host name
+     * @param timeout the maximum time to wait for the requests to be sent
+     * @param unit the unit of {@code timeout}
+     * @return the executed requests, keyed by host name
+     */
+    Map<String, HostControllerUpdateTask.ExecutedHostRequest> dispatch(final Map<String, HostControllerUpdateTask.HostRequest> requests,
+                                                                      final long timeout, final TimeUnit unit) {
+        final Map<String, HostControllerUpdateTask.ExecutedHostRequest> results = new ConcurrentHashMap<>();
+        final Queue<Map.Entry<String, HostControllerUpdateTask.HostRequest>> queue = new ConcurrentLinkedQueue<>(requests.entrySet());
+        final CountDownLatch latch = new CountDownLatch(requests.size());
+        final AtomicReference<RuntimeException> failure = new AtomicReference<>();
+        final AtomicBoolean closed = new AtomicBoolean();
+        final Runnable sender = () -> {
+            Map.Entry<String, HostControllerUpdateTask.HostRequest> entry;
+            while (!closed.get() && (entry = queue.poll()) != null) {
+                try {
+                    final HostControllerUpdateTask.ExecutedHostRequest result = entry.getValue().send();
+                    if (results.putIfAbsent(entry.getKey(), result) != null) {
+                        // Sent after the timeout elapsed, and the request was already failed
+                        result.asyncCancel();
+                    }
+                } catch (RuntimeException e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    latch.countDown();
+                }
+            }
+        };
+
+        int helpers = executor == null ? 0 : Math.min(parallelism, requests.size()) - 1;
+        if (helpers > 0) {
+            // The protocol client associates each request with the identity of the calling thread
+            final AccessAuditContext accessAuditContext = SecurityActions.currentAccessAuditContext();
+            final boolean inVm = InVmAccess.isInVmCall();
+            final Runnable helper = () -> runAs(accessAuditContext, inVm, sender);
+            try {
+                for (int i = 0; i < helpers; i++) {
+                    executor.execute(helper);
+                }
+            } catch (RejectedExecutionException e) {
+                HOST_CONTROLLER_LOGGER.tracef(e, "Sending remaining host requests without additional threads");
+            }
+        }
+        final long deadline = System.nanoTime() + unit.toNanos(timeout);
+        sender.run();
+
+        boolean interrupted = false;
+        boolean sent = false;
+        try {
+            // Helpers may still be sending their last request
+            while (true) {
+                try {
+                    sent = latch.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (!sent) {
+            closed.set(true);
+            final TimeoutException cause = HOST_CONTROLLER_LOGGER.timedOutSendingHostRequests(unit.toMillis(timeout));
+            for (Map.Entry<String, HostControllerUpdateTask.HostRequest> entry : requests.entrySet()) {
+                results.computeIfAbsent(entry.getKey(), host -> entry.getValue().fail(cause));
+            }
+        }
+        if (failure.get() != null) {
+            // Don't leave the hosts that received a request waiting for the outcome
+            for (HostControllerUpdateTask.ExecutedHostRequest result : results.values()) {
+                result.asyncCancel();
+            }
+            throw failure.get();
+        }
+        return new HashMap<>(results);
+    }
+
+    private static void runAs(AccessAuditContext accessAuditContext, boolean inVm, Runnable runnable) {
+        final PrivilegedAction<Void> action = () -> {
+            runnable.run();
+            return null;
+        };
+        final PrivilegedAction<Void> inVmAction = inVm ? () -> InVmAccess.runInVm(action) : action;
+        if (accessAuditContext != null) {
+            final SecurityIdentity identity = accessAuditContext.getSecurityIdentity();
+            final InetAddress remoteAddress = accessAuditContext.getRemoteAddress();
+            AccessAuditContext.doAs(accessAuditContext.isInflowed(), identity, remoteAddress, inVmAction);
+        } else {
+            inVmAction.run();
+        }
+    }
+
+    private static int getParallelism() {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(PARALLELISM_PROPERTY, null);
+        try {
+            return value == null ? DEFAULT_PARALLELISM : Integer.parseInt(value);
+        } catch (NumberFormatException ignored) {
+            return DEFAULT_PARALLELISM;
+        }
+    }
+}
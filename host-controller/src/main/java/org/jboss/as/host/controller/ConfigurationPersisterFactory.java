@@ -18,6 +18,7 @@ import javax.xml.namespace.QName;
 
 import org.jboss.as.controller.PathAddress;
 import org.jboss.as.controller.extension.ExtensionRegistry;
+import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.parsing.ManagementXmlSchema;
 import org.jboss.as.controller.persistence.BackupXmlConfigurationPersister;
 import org.jboss.as.controller.persistence.ConfigurationFile;
@@ -36,6 +37,7 @@ import org.jboss.dmr.ModelNode;
 import org.jboss.modules.Module;
 import org.jboss.staxmapper.XMLElementReader;
 import org.jboss.staxmapper.XMLElementWriter;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * Factory methods to produce an {@link ExtensibleConfigurationPersister} for different Host Controller use cases.
@@ -91,6 +93,15 @@ public class ConfigurationPersisterFactory {
         }
 
         BackupXmlConfigurationPersister persister = new BackupXmlConfigurationPersister(file, domainXml.getQualifiedName(), domainXml, domainXml, suppressLoad);
+        String writeDelay = WildFlySecurityManager.getPropertyPrivileged(HostControllerEnvironment.JBOSS_DOMAIN_CONFIG_WRITE_DELAY, null);
+        if (writeDelay != null) {
+            try {
+                persister.setWriteDelay(Long.parseLong(writeDelay.trim()));
+            } catch (NumberFormatException e) {
+                // Written when a change is committed
+                ControllerLogger.ROOT_LOGGER.invalidSystemPropertyValueUsingDefault(writeDelay, HostControllerEnvironment.JBOSS_DOMAIN_CONFIG_WRITE_DELAY);
+            }
+        }
         for (ManagementXmlSchema additionalDomainSchema : domainXmlSchemas.getAdditional()) {
             persister.registerAdditionalRootElement(additionalDomainSchema.getQualifiedName(), additionalDomainSchema);
         }
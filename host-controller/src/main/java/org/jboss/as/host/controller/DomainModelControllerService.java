@@ -1295,6 +1295,16 @@ public class DomainModelControllerService extends AbstractControllerService impl
             return getServerInventory().startServer(serverName, domainModel, blocking, suspend);
         }
 
+        @Override
+        public void scheduleServerStarts(Map<String, String> servers, ModelNode domainModel) {
+            getServerInventory().scheduleServerStarts(servers, domainModel);
+        }
+
+        @Override
+        public ModelNode getServerStartupProgress() {
+            return getServerInventory().getServerStartupProgress();
+        }
+
         @Override
         public void reconnectServer(String serverName, ModelNode domainModel, boolean running, boolean stopping) {
             getServerInventory().reconnectServer(serverName, domainModel, running, stopping);
@@ -1604,6 +1614,15 @@ public class DomainModelControllerService extends AbstractControllerService impl
                 return ServerStatus.STOPPED;
             }
 
+            @Override
+            public void scheduleServerStarts(Map<String, String> servers, ModelNode domainModel) {
+            }
+
+            @Override
+            public ModelNode getServerStartupProgress() {
+                return new ModelNode();
+            }
+
             @Override
             public ServerStatus restartServer(String serverName, int gracefulTimeout, ModelNode domainModel) {
                 return ServerStatus.STOPPED;
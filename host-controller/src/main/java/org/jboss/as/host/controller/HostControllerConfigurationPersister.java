@@ -163,6 +163,24 @@ public class HostControllerConfigurationPersister implements ExtensibleConfigura
         };
     }
 
+    @Override
+    public void flush() {
+        hostPersister.flush();
+        if (domainPersister != null) {
+            domainPersister.flush();
+        }
+    }
+
+    @Override
+    public int getPendingWrites() {
+        return hostPersister.getPendingWrites() + (domainPersister != null ? domainPersister.getPendingWrites() : 0);
+    }
+
+    @Override
+    public long getPersistenceLag() {
+        return Math.max(hostPersister.getPersistenceLag(), domainPersister != null ? domainPersister.getPersistenceLag() : 0);
+    }
+
     @Override
     public void marshallAsXml(ModelNode model, OutputStream output) throws ConfigurationPersistenceException {
         throw new UnsupportedOperationException();
@@ -213,6 +213,13 @@ public class HostControllerEnvironment extends ProcessEnvironment {
      */
     public static final String JBOSS_HOST_MANAGEMENT_UUID = "jboss.host.management.uuid";
 
+    /**
+     * The system property used to defer writing the domain configuration file after a configuration change by up to
+     * the given number of milliseconds, so that the changes committed meanwhile are written at once. Defaults to
+     * {@code 0}, in which case the file is written when a change is committed.
+     */
+    public static final String JBOSS_DOMAIN_CONFIG_WRITE_DELAY = "jboss.domain.config.write.delay";
+
     private final Map<String, String> hostSystemProperties;
     private final InetAddress processControllerAddress;
     private final Integer processControllerPort;
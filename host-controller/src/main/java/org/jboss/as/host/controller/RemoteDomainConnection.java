@@ -46,6 +46,7 @@ import org.jboss.as.protocol.mgmt.ManagementPongRequestHandler;
 import org.jboss.as.protocol.mgmt.ManagementRequestContext;
 import org.jboss.as.remoting.management.ManagementRemotingServices;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
 import org.jboss.remoting3.Channel;
 import org.jboss.remoting3.Connection;
 import org.jboss.threads.AsyncFuture;
@@ -294,7 +295,12 @@ class RemoteDomainConnection extends FutureManagementChannel {
         if(! result.hasDefined(ModelDescriptionConstants.RESULT)) {
             return false;
         }
-        final List<ModelNode> bootOperations= result.get(ModelDescriptionConstants.RESULT).asList();
+        final ModelNode domainModel = result.get(ModelDescriptionConstants.RESULT);
+        if (domainModel.getType() == ModelType.OBJECT) {
+            // Includes the version of the domain model
+            return callback.applyVersionedDomainModel(domainModel);
+        }
+        final List<ModelNode> bootOperations= domainModel.asList();
         return callback.applyDomainModel(bootOperations);
     }
 
@@ -325,6 +331,15 @@ class RemoteDomainConnection extends FutureManagementChannel {
          */
         boolean applyDomainModel(List<ModelNode> result);
 
+        /**
+         * Apply the remote domain model, which may only describe the resources changed since the version of the
+         * domain model last applied, and record its version.
+         *
+         * @param result the read-domain-model operation result, including the version of the domain model
+         * @return {@code true} if the model was applied successfully, {@code false} otherwise
+         */
+        boolean applyVersionedDomainModel(ModelNode result);
+
         /**
          * Event that the registration was completed.
          *
@@ -66,6 +66,7 @@ import org.jboss.as.domain.controller.DomainController;
 import org.jboss.as.domain.controller.LocalHostControllerInfo;
 import org.jboss.as.domain.controller.SlaveRegistrationException;
 import org.jboss.as.domain.controller.operations.FetchMissingConfigurationHandler;
+import org.jboss.as.domain.controller.operations.ReadMasterDomainModelUtil;
 import org.jboss.as.domain.controller.operations.SyncDomainModelOperationHandler;
 import org.jboss.as.domain.controller.operations.SyncServerGroupOperationHandler;
 import org.jboss.as.domain.controller.operations.coordination.DomainControllerLockIdUtils;
@@ -177,6 +178,8 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
     private ManagementChannelHandler handler;
     private volatile ResponseAttachmentInputStreamSupport responseAttachmentSupport;
     private volatile RemoteDomainConnection connection;
+    /** The version of the domain model last applied, undefined if the complete domain model needs to be fetched */
+    private volatile ModelNode domainModelVersion = new ModelNode();
 
     private RemoteDomainConnectionService(final ModelController controller,
                                           final ExtensionRegistry extensionRegistry,
@@ -506,7 +509,9 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
                  */
                 @Override
                 public ModelNode createLocalHostInfo() {
-                    return HostInfo.createLocalHostHostInfo(localHostInfo, productConfig, ignoredDomainResourceRegistry, ReadRootResourceHandler.grabDomainResource(operationExecutor).getChildren(HOST).iterator().next());
+                    final ModelNode info = HostInfo.createLocalHostHostInfo(localHostInfo, productConfig, ignoredDomainResourceRegistry, ReadRootResourceHandler.grabDomainResource(operationExecutor).getChildren(HOST).iterator().next());
+                    info.get(ReadMasterDomainModelUtil.DOMAIN_MODEL_VERSION).set(domainModelVersion);
+                    return info;
                 }
 
                 @Override
@@ -521,6 +526,23 @@ public class RemoteDomainConnectionService implements MasterDomainControllerClie
                     return applyRemoteDomainModel(bootOperations, info);
                 }
 
+                @Override
+                public boolean applyVersionedDomainModel(final ModelNode result) {
+                    // Should applying the model fail, fetch the complete domain model next time
+                    domainModelVersion = new ModelNode();
+                    final List<ModelNode> bootOperations = ReadMasterDomainModelUtil.getDescribedDomainModel(result, operationExecutor);
+                    if (bootOperations == null) {
+                        HostControllerLogger.ROOT_LOGGER.debug("Local domain model is missing unchanged resources, the complete domain model is required");
+                        return false;
+                    }
+                    final HostInfo info = HostInfo.fromModelNode(createLocalHostInfo(), null);
+                    if (applyRemoteDomainModel(bootOperations, info)) {
+                        domainModelVersion = result.get(ReadMasterDomainModelUtil.DOMAIN_MODEL_VERSION);
+                        return true;
+                    }
+                    return false;
+                }
+
                 @Override
                 public void registrationComplete(ManagementChannelHandler handler) {
                     RemoteDomainConnectionService.this.domainConfigAvailable.set(true);
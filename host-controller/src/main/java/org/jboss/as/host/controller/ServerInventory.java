@@ -87,6 +87,22 @@ public interface ServerInventory {
      */
     ServerStatus startServer(String serverName, ModelNode domainModel, boolean blocking, boolean suspend);
 
+    /**
+     * Start the servers with the given names, limiting how many of them boot at the same time. Returning from this
+     * method does not mean the servers are starting; they may still wait for other servers to complete booting.
+     *
+     * @param servers the names of the servers, mapped to the name of their server group
+     * @param domainModel the configuration model for the domain
+     */
+    void scheduleServerStarts(Map<String, String> servers, ModelNode domainModel);
+
+    /**
+     * Gets the progress of the server starts most recently scheduled by {@link #scheduleServerStarts(Map, ModelNode)}.
+     *
+     * @return the number of servers in total, still to be launched, booting, started and failed
+     */
+    ModelNode getServerStartupProgress();
+
     /**
      * Restart the server with the given name. Note that returning from this method does not mean the server
      * is completely started; it usually will only be in the process of starting, having received all startup instructions.
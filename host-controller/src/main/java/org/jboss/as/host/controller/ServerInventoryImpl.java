@@ -24,6 +24,7 @@ import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 
@@ -73,6 +74,7 @@ public class ServerInventoryImpl implements ServerInventory {
     private final URI managementURI;
     private final DomainController domainController;
     private final ExtensionRegistry extensionRegistry;
+    private final ServerStartupScheduler startupScheduler;
 
     private volatile boolean shutdown;
     private volatile boolean connectionFinished;
@@ -84,12 +86,14 @@ public class ServerInventoryImpl implements ServerInventory {
     private final Object shutdownCondition = new Object();
 
     ServerInventoryImpl(final DomainController domainController, final HostControllerEnvironment environment, final URI managementURI,
-                        final ProcessControllerClient processControllerClient, final ExtensionRegistry extensionRegistry) {
+                        final ProcessControllerClient processControllerClient, final ExtensionRegistry extensionRegistry,
+                        final Executor executor) {
         this.domainController = domainController;
         this.environment = environment;
         this.managementURI = managementURI;
         this.processControllerClient = processControllerClient;
         this.extensionRegistry = extensionRegistry;
+        this.startupScheduler = new ServerStartupScheduler(executor);
     }
 
     @Override
@@ -189,6 +193,23 @@ public class ServerInventoryImpl implements ServerInventory {
         return server.getState();
     }
 
+    @Override
+    public void scheduleServerStarts(final Map<String, String> servers, final ModelNode domainModel) {
+        if(shutdown || connectionFinished) {
+            throw HostControllerLogger.ROOT_LOGGER.hostAlreadyShutdown();
+        }
+        startupScheduler.schedule(servers, serverName -> {
+            if (startServer(serverName, domainModel, false, false) == ServerStatus.FAILED) {
+                startupScheduler.serverFailed(serverName);
+            }
+        });
+    }
+
+    @Override
+    public ModelNode getServerStartupProgress() {
+        return startupScheduler.getProgress();
+    }
+
     private String createServerAuthToken(final String serverName) {
         // For now this is hard coded but at a later point Elytron may start to issue
         // a different token so if we plug in an alternative approach it can come through
@@ -528,6 +549,7 @@ public class ServerInventoryImpl implements ServerInventory {
     void shutdown(final boolean shutdownServers, final int gracefulTimeout, final boolean blockUntilStopped) {
         final boolean shutdown = this.shutdown;
         this.shutdown = true;
+        startupScheduler.cancel();
         if(! shutdown) {
             if(connectionFinished) {
                 // In case the connection to the ProcessController is closed we won't be able to shutdown the servers from here
@@ -596,6 +618,7 @@ public class ServerInventoryImpl implements ServerInventory {
         // always un-register in case the process exits
         domainController.unregisterRunningServer(server.getServerName());
         server.processFinished();
+        startupScheduler.serverFailed(serverName);
         synchronized (shutdownCondition) {
             shutdownCondition.notifyAll();
         }
@@ -619,6 +642,7 @@ public class ServerInventoryImpl implements ServerInventory {
             return;
         }
         server.serverStarted(null);
+        startupScheduler.serverStarted(serverName);
         synchronized (shutdownCondition) {
             shutdownCondition.notifyAll();
         }
@@ -633,6 +657,7 @@ public class ServerInventoryImpl implements ServerInventory {
             return;
         }
         server.serverStartFailed();
+        startupScheduler.serverFailed(serverName);
         synchronized (shutdownCondition) {
             shutdownCondition.notifyAll();
         }
@@ -94,7 +94,8 @@ class ServerInventoryService implements Service<ServerInventory> {
         try {
             final ProcessControllerConnectionService processControllerConnectionService = client.getValue();
             URI managementURI = new URI(protocol, null, NetworkUtils.formatAddress(getNonWildCardManagementAddress()), port, null, null, null);
-            serverInventory = new ServerInventoryImpl(domainController, environment, managementURI, processControllerConnectionService.getClient(), extensionRegistry);
+            serverInventory = new ServerInventoryImpl(domainController, environment, managementURI, processControllerConnectionService.getClient(), extensionRegistry,
+                    executorService.getValue());
             processControllerConnectionService.setServerInventory(serverInventory);
             futureInventory.setInventory(serverInventory);
             evidenceVerifierConsumer.getValue().accept(serverInventory::validateServerEvidence);
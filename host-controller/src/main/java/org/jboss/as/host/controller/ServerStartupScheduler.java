@@ -0,0 +1,284 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.host.controller;
+
+import static org.jboss.as.host.controller.logging.HostControllerLogger.ROOT_LOGGER;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.DoubleSupplier;
+
+import org.jboss.as.controller.logging.ControllerLogger;
+import org.jboss.dmr.ModelNode;
+import org.wildfly.security.manager.WildFlySecurityManager;
+
+/**
+ * Schedules the start of the auto-start servers of a host, limiting how many servers boot at the same time so that
+ * a host starting many servers is not overloaded.
+ * <p>
+ * A server is booting from the time it is launched until it reports that it started, or until its start failed.
+ * Further servers are launched as long as fewer servers than the configured concurrency are booting, and as long as
+ * the system load average per processor does not exceed the configured maximum. One server is always allowed to boot,
+ * so the servers are eventually started regardless of the load. Servers are launched in the order of the configured
+ * server group priority, and otherwise in the order they were scheduled.
+ */
+final class ServerStartupScheduler {
+
+    /** The maximum number of servers booting concurrently. Not limited if not positive, which is the default. */
+    static final String CONCURRENCY_PROPERTY = "org.jboss.as.host.start.servers.concurrency";
+    /** The maximum system load average per processor at which further servers are launched. Not limited if not positive, which is the default. */
+    static final String MAX_LOAD_PROPERTY = "org.jboss.as.host.start.servers.max.load";
+    /** Comma separated list of server groups whose servers are launched first, in the given order. */
+    static final String GROUP_PRIORITY_PROPERTY = "org.jboss.as.host.start.servers.group.priority";
+
+    static final String TOTAL = "total";
+    static final String PENDING = "pending";
+    static final String STARTING = "starting";
+    static final String STARTED = "started";
+    static final String FAILED = "failed";
+
+    /**
+     * Launches a server, returning once the server process is starting.
+     */
+    interface Launcher {
+        void launch(String serverName) throws Exception;
+    }
+
+    private final Executor executor;
+    private final int concurrency;
+    private final double maxLoad;
+    private final DoubleSupplier load;
+    private final List<String> groupPriority;
+
+    private final Deque<PendingServer> pending = new ArrayDeque<>();
+    private final Set<String> starting = new HashSet<>();
+    private int total;
+    private int started;
+    private int failed;
+    private boolean launching;
+
+    ServerStartupScheduler(Executor executor) {
+        this(executor, getIntProperty(CONCURRENCY_PROPERTY), getDoubleProperty(MAX_LOAD_PROPERTY), ServerStartupScheduler::getSystemLoad,
+                getListProperty(GROUP_PRIORITY_PROPERTY));
+    }
+
+    ServerStartupScheduler(Executor executor, int concurrency, double maxLoad, DoubleSupplier load, List<String> groupPriority) {
+        this.executor = executor;
+        this.concurrency = concurrency;
+        this.maxLoad = maxLoad;
+        this.load = load;
+        this.groupPriority = groupPriority;
+    }
+
+    /**
+     * Schedules the start of the given servers. Must not be called by a thread delivering server notifications.
+     *
+     * @param servers the names of the servers, mapped to the name of their server group, in the order they should be
+     *                launched unless the priority of their group differs
+     * @param launcher launches a server
+     */
+    void schedule(Map<String, String> servers, Launcher launcher) {
+        final List<PendingServer> scheduled = new ArrayList<>(servers.size());
+        for (Map.Entry<String, String> entry : servers.entrySet()) {
+            scheduled.add(new PendingServer(entry.getKey(), getPriority(entry.getValue()), launcher));
+        }
+        // A stable sort, which retains the order of servers of the same priority
+        scheduled.sort(Comparator.comparingInt(server -> server.priority));
+        synchronized (this) {
+            if (pending.isEmpty() && starting.isEmpty()) {
+                // Only report the progress of the current startup
+                total = 0;
+                started = 0;
+                failed = 0;
+            }
+            total += scheduled.size();
+            pending.addAll(scheduled);
+            if (launching) {
+                return;
+            }
+            launching = true;
+        }
+        // Launch the servers that may boot right away on the calling thread, so that without limits all servers are
+        // launched before returning
+        launch();
+    }
+
+    /**
+     * Notification that a server started.
+     *
+     * @param serverName the name of the server
+     */
+    void serverStarted(String serverName) {
+        synchronized (this) {
+            if (!starting.remove(serverName)) {
+                return;
+            }
+            started++;
+        }
+        launchPending();
+    }
+
+    /**
+     * Notification that a server failed to start, or stopped before it started.
+     *
+     * @param serverName the name of the server
+     */
+    void serverFailed(String serverName) {
+        synchronized (this) {
+            if (!starting.remove(serverName)) {
+                return;
+            }
+            failed++;
+        }
+        launchPending();
+    }
+
+    /**
+     * Discards the servers that were not launched yet.
+     */
+    synchronized void cancel() {
+        total -= pending.size();
+        pending.clear();
+    }
+
+    /**
+     * Gets the progress of starting the servers scheduled since the last time all servers were launched and booted.
+     *
+     * @return the number of servers in total, still to be launched, booting, started and failed
+     */
+    synchronized ModelNode getProgress() {
+        final ModelNode progress = new ModelNode();
+        progress.get(TOTAL).set(total);
+        progress.get(PENDING).set(pending.size());
+        progress.get(STARTING).set(starting.size());
+        progress.get(STARTED).set(started);
+        progress.get(FAILED).set(failed);
+        return progress;
+    }
+
+    private void launchPending() {
+        synchronized (this) {
+            if (launching || !canLaunch()) {
+                return;
+            }
+            launching = true;
+        }
+        try {
+            // Servers are launched by a separate thread, as launching a server awaits notifications that may be delivered
+            // by the thread notifying that another server started
+            executor.execute(this::launch);
+        } catch (RejectedExecutionException e) {
+            // The host controller is shutting down
+            ROOT_LOGGER.debugf(e, "Not launching the remaining servers");
+            synchronized (this) {
+                launching = false;
+                cancel();
+            }
+        }
+    }
+
+    private void launch() {
+        for (;;) {
+            final PendingServer server;
+            synchronized (this) {
+                if (!canLaunch()) {
+                    launching = false;
+                    return;
+                }
+                server = pending.poll();
+                starting.add(server.name);
+            }
+            try {
+                server.launcher.launch(server.name);
+            } catch (Exception e) {
+                ROOT_LOGGER.failedToStartServer(e, server.name);
+                serverFailed(server.name);
+            }
+        }
+    }
+
+    private boolean canLaunch() {
+        assert Thread.holdsLock(this);
+        if (pending.isEmpty()) {
+            return false;
+        }
+        if (starting.isEmpty()) {
+            return true;
+        }
+        if (concurrency > 0 && starting.size() >= concurrency) {
+            return false;
+        }
+        // Otherwise, another server is launched once a booting server started
+        return maxLoad <= 0 || load.getAsDouble() <= maxLoad;
+    }
+
+    private int getPriority(String group) {
+        final int index = group == null ? -1 : groupPriority.indexOf(group);
+        return index < 0 ? groupPriority.size() : index;
+    }
+
+    private static double getSystemLoad() {
+        final OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        final double load = os.getSystemLoadAverage();
+        // The load average is not available on all platforms
+        return load < 0 ? 0 : load / os.getAvailableProcessors();
+    }
+
+    private static int getIntProperty(String name) {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(name, null);
+        try {
+            return value == null ? 0 : Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            ControllerLogger.ROOT_LOGGER.invalidSystemPropertyValueUsingDefault(value, name);
+            return 0;
+        }
+    }
+
+    private static double getDoubleProperty(String name) {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(name, null);
+        try {
+            return value == null ? 0 : Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            ControllerLogger.ROOT_LOGGER.invalidSystemPropertyValueUsingDefault(value, name);
+            return 0;
+        }
+    }
+
+    private static List<String> getListProperty(String name) {
+        final String value = WildFlySecurityManager.getPropertyPrivileged(name, null);
+        final List<String> result = new ArrayList<>();
+        if (value != null) {
+            for (String element : value.split(",")) {
+                if (!element.isBlank()) {
+                    result.add(element.trim());
+                }
+            }
+        }
+        return result;
+    }
+
+    private static final class PendingServer {
+        private final String name;
+        private final int priority;
+        private final Launcher launcher;
+
+        PendingServer(String name, int priority, Launcher launcher) {
+            this.name = name;
+            this.priority = priority;
+            this.launcher = launcher;
+        }
+    }
+}
@@ -119,6 +119,7 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
     private final Set<String> domainIgnoredExtensions;
     private final boolean hostDeclaredIgnoreUnaffected;
     private final Stability stability;
+    private final ModelNode domainModelVersion;
     // GuardedBy this
     private ReadMasterDomainModelUtil.RequiredConfigurationHolder requiredConfigurationHolder;
 
@@ -135,6 +136,8 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
                 ? hostInfo.get(RemoteDomainConnectionService.DOMAIN_CONNECTION_ID).asLong() : null;
         // Legacy hosts may return null - if so, assume default stability per our ProductConfig
         this.stability = Optional.ofNullable(hostInfo.get(ModelDescriptionConstants.STABILITY).asStringOrNull()).map(Stability::valueOf).orElse(Stability.DEFAULT);
+        // Legacy hosts do not send the version of the domain model they know
+        domainModelVersion = hostInfo.has(ReadMasterDomainModelUtil.DOMAIN_MODEL_VERSION) ? hostInfo.get(ReadMasterDomainModelUtil.DOMAIN_MODEL_VERSION) : null;
 
         Set<String> domainIgnoredExtensions = null;
         Set<String> domainActiveServerGroups = null;
@@ -209,6 +212,24 @@ public class HostInfo implements Transformers.ResourceIgnoredTransformationRegis
         return productVersion;
     }
 
+    /**
+     * Gets whether the host supports receiving only the changes of the domain model since a previous version.
+     *
+     * @return {@code true} if the host supports it
+     */
+    public boolean isDomainModelVersionSupported() {
+        return domainModelVersion != null;
+    }
+
+    /**
+     * Gets the version of the domain model the host last received.
+     *
+     * @return the version, which is undefined if the host has no version of the domain model
+     */
+    public ModelNode getDomainModelVersion() {
+        return domainModelVersion != null ? domainModelVersion : new ModelNode();
+    }
+
     public Long getRemoteConnectionId() {
         return remoteConnectionId;
     }
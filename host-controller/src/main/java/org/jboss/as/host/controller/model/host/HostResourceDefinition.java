@@ -200,6 +200,17 @@ public class HostResourceDefinition extends SimpleResourceDefinition {
             .setResourceOnly()
             .build();
 
+    public static final ObjectTypeAttributeDefinition SERVER_STARTUP_PROGRESS = new ObjectTypeAttributeDefinition.Builder("server-startup-progress",
+                createStartupProgressField("total"),
+                createStartupProgressField("pending"),
+                createStartupProgressField("starting"),
+                createStartupProgressField("started"),
+                createStartupProgressField("failed"))
+            .setRequired(false)
+            .setStorageRuntime()
+            .setRuntimeServiceNotRequired()
+            .build();
+
     public static final ObjectTypeAttributeDefinition DC_LOCAL = new ObjectTypeAttributeDefinition.Builder(ModelDescriptionConstants.LOCAL)
             .build();
 
@@ -324,6 +335,14 @@ public class HostResourceDefinition extends SimpleResourceDefinition {
         hostRegistration.registerReadOnlyAttribute(HostResourceDefinition.HOST_STATE, new ProcessStateAttributeHandler(processState));
         hostRegistration.registerReadOnlyAttribute(ServerRootResourceDefinition.RUNNING_MODE, new RunningModeReadHandler(runningModeControl));
         hostRegistration.registerReadOnlyAttribute(ServerRootResourceDefinition.SUSPEND_STATE, new SuspendStateReadHandler(null));
+        hostRegistration.registerReadOnlyAttribute(SERVER_STARTUP_PROGRESS, (context, operation) -> context.getResult().set(serverInventory.getServerStartupProgress()));
+    }
+
+    private static SimpleAttributeDefinition createStartupProgressField(String name) {
+        return new SimpleAttributeDefinitionBuilder(name, ModelType.INT)
+                .setStorageRuntime()
+                .setRuntimeServiceNotRequired()
+                .build();
     }
 
 
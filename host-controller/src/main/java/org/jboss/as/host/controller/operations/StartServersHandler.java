@@ -6,10 +6,12 @@ package org.jboss.as.host.controller.operations;
 
 
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.AUTO_START;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.GROUP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.OP;
 import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.SERVER_CONFIG;
 import static org.jboss.as.host.controller.logging.HostControllerLogger.ROOT_LOGGER;
 
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.jboss.as.controller.AttributeDefinition;
@@ -106,6 +108,7 @@ public class StartServersHandler implements OperationStepHandler {
 
     private void cleanStartServers(final ModelNode servers, final ModelNode domainModel, OperationContext context) throws OperationFailedException {
         Map<String, ProcessInfo> processInfos = serverInventory.determineRunningProcesses();
+        Map<String, String> serversToStart = new LinkedHashMap<>();
         for(final Property serverProp : servers.asPropertyList()) {
             String serverName = serverProp.getName();
             if (ServerConfigResourceDefinition.AUTO_START.resolveModelAttribute(context, serverProp.getValue()).asBoolean(true)) {
@@ -113,11 +116,28 @@ public class StartServersHandler implements OperationStepHandler {
                 if ( info != null ){
                     serverInventory.reconnectServer(serverName, domainModel, info.isRunning(), info.isStopping());
                 } else {
-                    try {
-                        serverInventory.startServer(serverName, domainModel, START_BLOCKING, false);
-                    } catch (Exception e) {
-                        ROOT_LOGGER.failedToStartServer(e, serverName);
-                    }
+                    serversToStart.put(serverName, serverProp.getValue().get(GROUP).asStringOrNull());
+                }
+            }
+        }
+        startServers(serversToStart, domainModel);
+    }
+
+    private void startServers(final Map<String, String> servers, final ModelNode domainModel) {
+        if (START_BLOCKING) {
+            for (String serverName : servers.keySet()) {
+                try {
+                    serverInventory.startServer(serverName, domainModel, true, false);
+                } catch (Exception e) {
+                    ROOT_LOGGER.failedToStartServer(e, serverName);
+                }
+            }
+        } else if (!servers.isEmpty()) {
+            try {
+                serverInventory.scheduleServerStarts(servers, domainModel);
+            } catch (Exception e) {
+                for (String serverName : servers.keySet()) {
+                    ROOT_LOGGER.failedToStartServer(e, serverName);
                 }
             }
         }
@@ -125,18 +145,16 @@ public class StartServersHandler implements OperationStepHandler {
 
     private void restartedHcStartOrReconnectServers(final ModelNode servers, final ModelNode domainModel, final OperationContext context, final boolean enabledAutoStart) {
         Map<String, ProcessInfo> processInfos = serverInventory.determineRunningProcesses();
+        Map<String, String> serversToStart = new LinkedHashMap<>();
         for(final String serverName : servers.keys()) {
             ProcessInfo info = processInfos.get(serverInventory.getServerProcessName(serverName));
             boolean auto = servers.get(serverName, AUTO_START).asBoolean(true);
             if (info == null && auto && enabledAutoStart) {
-                try {
-                    serverInventory.startServer(serverName, domainModel, START_BLOCKING, false);
-                } catch (Exception e) {
-                    ROOT_LOGGER.failedToStartServer(e, serverName);
-                }
+                serversToStart.put(serverName, servers.get(serverName, GROUP).asStringOrNull());
             } else if (info != null){
                 serverInventory.reconnectServer(serverName, domainModel, info.isRunning(), info.isStopping());
             }
         }
+        startServers(serversToStart, domainModel);
     }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.controller.operations;
+
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.EXTENSION;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.HOST;
+import static org.jboss.as.controller.descriptions.ModelDescriptionConstants.PROFILE;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.as.controller.ModelController;
+import org.jboss.as.controller.PathAddress;
+import org.jboss.as.controller.PathElement;
+import org.jboss.as.controller.client.Operation;
+import org.jboss.as.controller.client.OperationAttachments;
+import org.jboss.as.controller.client.OperationMessageHandler;
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.controller.registry.Resource;
+import org.jboss.as.controller.transform.Transformers;
+import org.jboss.dmr.ModelNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link DomainModelChangeLog}.
+ */
+public class DomainModelChangeLogTestCase {
+
+    private static final PathElement EXTENSION_ELEMENT = PathElement.pathElement(EXTENSION, "test");
+    private static final PathElement PROFILE_ONE = PathElement.pathElement(PROFILE, "one");
+    private static final PathElement PROFILE_TWO = PathElement.pathElement(PROFILE, "two");
+    private static final PathElement PROFILE_THREE = PathElement.pathElement(PROFILE, "three");
+    private static final PathElement HOST_ELEMENT = PathElement.pathElement(HOST, "primary");
+
+    @Test
+    public void testModifiedSince() {
+        GenerationsController controller = new GenerationsController();
+        DomainModelChangeLog changeLog = new DomainModelChangeLog(controller);
+        Resource root = createRoot();
+
+        ModelNode version = changeLog.getVersion(root);
+        // Nothing modified
+        Assert.assertEquals(Set.of(), changeLog.getModifiedSince(version, changeLog.getVersion(root)));
+
+        modify(controller, root, PROFILE_ONE);
+        Assert.assertEquals(Set.of(PROFILE_ONE), changeLog.getModifiedSince(version, changeLog.getVersion(root)));
+
+        // Hosts are never described
+        modify(controller, root, HOST_ELEMENT);
+        Assert.assertEquals(Set.of(PROFILE_ONE), changeLog.getModifiedSince(version, changeLog.getVersion(root)));
+
+        // Added resources are described
+        root.registerChild(PROFILE_THREE, Resource.Factory.create());
+        Assert.assertEquals(Set.of(PROFILE_ONE, PROFILE_THREE), changeLog.getModifiedSince(version, changeLog.getVersion(root)));
+
+        // Everything modified requires the complete model
+        modify(controller, root, EXTENSION_ELEMENT);
+        modify(controller, root, PROFILE_TWO);
+        Assert.assertNull(changeLog.getModifiedSince(version, changeLog.getVersion(root)));
+
+        ModelNode current = changeLog.getVersion(root);
+        Assert.assertEquals(Set.of(), changeLog.getModifiedSince(current, changeLog.getVersion(root)));
+    }
+
+    @Test
+    public void testModifiedSinceRestart() {
+        Resource root = createRoot();
+        ModelNode version = new DomainModelChangeLog(new GenerationsController()).getVersion(root);
+
+        // A restarted domain controller tracks different generations, but the content of the model is unchanged
+        GenerationsController controller = new GenerationsController();
+        DomainModelChangeLog changeLog = new DomainModelChangeLog(controller);
+        modify(controller, root, PROFILE_TWO);
+        Assert.assertEquals(Set.of(PROFILE_TWO), changeLog.getModifiedSince(version, changeLog.getVersion(root)));
+    }
+
+    @Test
+    public void testUnknownVersion() {
+        DomainModelChangeLog changeLog = new DomainModelChangeLog(new GenerationsController());
+        Resource root = createRoot();
+        ModelNode current = changeLog.getVersion(root);
+
+        // A version of another release
+        ModelNode version = current.clone();
+        version.get(DomainModelChangeLog.RELEASE).set("other");
+        Assert.assertNull(changeLog.getModifiedSince(version, current));
+
+        // A version without digests
+        version = new ModelNode();
+        version.get(DomainModelChangeLog.RELEASE).set(current.get(DomainModelChangeLog.RELEASE));
+        Assert.assertNull(changeLog.getModifiedSince(version, current));
+
+        Assert.assertNull(changeLog.getModifiedSince(new ModelNode(), current));
+    }
+
+    @Test
+    public void testDescribeRootResources() {
+        Resource root = createRoot();
+        Transformers.ResourceIgnoredTransformationRegistry ignored = address -> address.getLastElement().equals(PROFILE_TWO);
+
+        ModelNode resources = ReadMasterDomainModelUtil.describeRootResources(root, ignored);
+        Assert.assertEquals(2, resources.asList().size());
+        Assert.assertTrue(resources.asList().contains(PathAddress.pathAddress(EXTENSION_ELEMENT).toModelNode()));
+        Assert.assertTrue(resources.asList().contains(PathAddress.pathAddress(PROFILE_ONE).toModelNode()));
+
+        Resource filtered = ReadMasterDomainModelUtil.filterRootResource(root, Set.of(PROFILE_ONE));
+        Assert.assertEquals(root.getModel(), filtered.getModel());
+        Assert.assertEquals(Set.of(PROFILE), filtered.getChildTypes());
+        Assert.assertTrue(filtered.hasChild(PROFILE_ONE));
+        Assert.assertFalse(filtered.hasChild(PROFILE_TWO));
+    }
+
+    private static void modify(GenerationsController controller, Resource root, PathElement element) {
+        root.requireChild(element).getModel().get("modified").set(true);
+        controller.modified(element);
+    }
+
+    private static Resource createRoot() {
+        Resource root = Resource.Factory.create();
+        root.getModel().get("name").set("domain");
+        root.registerChild(EXTENSION_ELEMENT, Resource.Factory.create());
+        root.registerChild(PROFILE_ONE, Resource.Factory.create());
+        root.registerChild(PROFILE_TWO, Resource.Factory.create());
+        root.registerChild(HOST_ELEMENT, Resource.Factory.create());
+        return root;
+    }
+
+    private static class GenerationsController implements ModelController {
+        private final Map<PathAddress, Long> generations = new HashMap<>();
+        private long generation = 100;
+
+        void modified(PathElement element) {
+            generation++;
+            generations.put(PathAddress.pathAddress(element), generation);
+        }
+
+        @Override
+        public long getModelGeneration(PathAddress address) {
+            return address.size() == 0 ? generation : generations.getOrDefault(address, 100L);
+        }
+
+        @Override
+        public ModelNode execute(ModelNode operation, OperationMessageHandler handler, OperationTransactionControl control, OperationAttachments attachments) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public OperationResponse execute(Operation operation, OperationMessageHandler handler, OperationTransactionControl control) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
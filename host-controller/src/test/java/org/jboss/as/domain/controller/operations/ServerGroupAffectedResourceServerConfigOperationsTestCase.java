@@ -541,6 +541,16 @@ public class ServerGroupAffectedResourceServerConfigOperationsTestCase extends A
             throw new UnsupportedOperationException("Not supported yet.");
         }
 
+        @Override
+        public void scheduleServerStarts(Map<String, String> servers, ModelNode domainModel) {
+            throw new UnsupportedOperationException("Not supported yet.");
+        }
+
+        @Override
+        public ModelNode getServerStartupProgress() {
+            throw new UnsupportedOperationException("Not supported yet.");
+        }
+
         @Override
         public ServerStatus restartServer(String serverName, int gracefulTimeout, ModelNode domainModel) {
             throw new UnsupportedOperationException("Not supported yet.");
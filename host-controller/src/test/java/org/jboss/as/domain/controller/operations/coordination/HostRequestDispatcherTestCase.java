@@ -0,0 +1,224 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.jboss.as.domain.controller.operations.coordination;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.as.controller.client.OperationResponse;
+import org.jboss.as.controller.transform.OperationResultTransformer;
+import org.jboss.as.controller.transform.OperationTransformer;
+import org.jboss.threads.AsyncFutureTask;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Tests of {@link HostRequestDispatcher}.
+ */
+public class HostRequestDispatcherTestCase {
+
+    private ExecutorService executor;
+
+    @Before
+    public void createExecutor() {
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @After
+    public void shutdownExecutor() throws InterruptedException {
+        executor.shutdownNow();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testConcurrentSend() {
+        final int parallelism = 4;
+        final AtomicInteger sending = new AtomicInteger();
+        final AtomicInteger maxSending = new AtomicInteger();
+        final CountDownLatch allSending = new CountDownLatch(parallelism);
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final Map<String, HostControllerUpdateTask.HostRequest> requests = new HashMap<>();
+        for (int i = 0; i < 3 * parallelism; i++) {
+            requests.put("host" + i, new TestHostRequest() {
+                @Override
+                public HostControllerUpdateTask.ExecutedHostRequest send() {
+                    threads.add(Thread.currentThread());
+                    maxSending.accumulateAndGet(sending.incrementAndGet(), Math::max);
+                    try {
+                        // The first requests are only sent once all threads are sending
+                        allSending.countDown();
+                        allSending.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        sending.decrementAndGet();
+                    }
+                    return super.send();
+                }
+            });
+        }
+
+        final Map<String, HostControllerUpdateTask.ExecutedHostRequest> results = new HostRequestDispatcher(executor, parallelism).dispatch(requests, 10, TimeUnit.SECONDS);
+
+        Assert.assertEquals(requests.keySet(), results.keySet());
+        for (Map.Entry<String, HostControllerUpdateTask.HostRequest> entry : requests.entrySet()) {
+            final TestHostRequest request = (TestHostRequest) entry.getValue();
+            Assert.assertSame(request.sent, results.get(entry.getKey()));
+            Assert.assertNull(request.failed);
+            Assert.assertFalse(request.future.cancelled);
+        }
+        Assert.assertEquals(parallelism, maxSending.get());
+        Assert.assertEquals(parallelism, threads.size());
+        Assert.assertTrue(threads.contains(Thread.currentThread()));
+    }
+
+    @Test
+    public void testSendWithoutExecutor() {
+        final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        final Map<String, HostControllerUpdateTask.HostRequest> requests = new HashMap<>();
+        for (int i = 0; i < 4; i++) {
+            requests.put("host" + i, new TestHostRequest() {
+                @Override
+                public HostControllerUpdateTask.ExecutedHostRequest send() {
+                    threads.add(Thread.currentThread());
+                    return super.send();
+                }
+            });
+        }
+
+        final Map<String, HostControllerUpdateTask.ExecutedHostRequest> results = new HostRequestDispatcher(null, 4).dispatch(requests, 10, TimeUnit.SECONDS);
+
+        Assert.assertEquals(requests.keySet(), results.keySet());
+        Assert.assertEquals(Set.of(Thread.currentThread()), threads);
+    }
+
+    @Test
+    public void testFailureCancelsSentRequests() {
+        final RuntimeException failure = new IllegalStateException();
+        final Map<String, HostControllerUpdateTask.HostRequest> requests = new HashMap<>();
+        for (int i = 0; i < 4; i++) {
+            requests.put("host" + i, new TestHostRequest());
+        }
+        requests.put("failing", new TestHostRequest() {
+            @Override
+            public HostControllerUpdateTask.ExecutedHostRequest send() {
+                throw failure;
+            }
+        });
+
+        try {
+            new HostRequestDispatcher(executor, 2).dispatch(requests, 10, TimeUnit.SECONDS);
+            Assert.fail("Failure not propagated");
+        } catch (IllegalStateException e) {
+            Assert.assertSame(failure, e);
+        }
+        for (Map.Entry<String, HostControllerUpdateTask.HostRequest> entry : requests.entrySet()) {
+            final TestHostRequest request = (TestHostRequest) entry.getValue();
+            if (!entry.getKey().equals("failing")) {
+                Assert.assertNotNull(entry.getKey(), request.sent);
+                Assert.assertTrue(entry.getKey(), request.future.cancelled);
+            }
+        }
+    }
+
+    @Test
+    public void testTimeoutFailsUnsentRequests() throws InterruptedException {
+        final Thread caller = Thread.currentThread();
+        final CountDownLatch helperSending = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Map<String, HostControllerUpdateTask.HostRequest> requests = new HashMap<>();
+        for (String host : new String[] {"host1", "host2"}) {
+            requests.put(host, new TestHostRequest() {
+                @Override
+                public HostControllerUpdateTask.ExecutedHostRequest send() {
+                    try {
+                        if (Thread.currentThread() == caller) {
+                            // Leave the other request to the helper
+                            helperSending.await(10, TimeUnit.SECONDS);
+                            return super.send();
+                        }
+                        helperSending.countDown();
+                        // Remain sending until the dispatcher gave up
+                        release.await(10, TimeUnit.SECONDS);
+                        return super.send();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return super.send();
+                    }
+                }
+            });
+        }
+
+        final Map<String, HostControllerUpdateTask.ExecutedHostRequest> results = new HostRequestDispatcher(executor, 2).dispatch(requests, 200, TimeUnit.MILLISECONDS);
+
+        Assert.assertEquals(requests.keySet(), results.keySet());
+        TestHostRequest late = null;
+        for (Map.Entry<String, HostControllerUpdateTask.HostRequest> entry : requests.entrySet()) {
+            final TestHostRequest request = (TestHostRequest) entry.getValue();
+            if (request.failed != null) {
+                Assert.assertNull("Only one request was not sent in time", late);
+                Assert.assertTrue(request.failed instanceof TimeoutException);
+                Assert.assertSame(request.failedRequest, results.get(entry.getKey()));
+                late = request;
+            } else {
+                Assert.assertSame(request.sent, results.get(entry.getKey()));
+                Assert.assertFalse(request.future.cancelled);
+            }
+        }
+        Assert.assertNotNull("No request timed out", late);
+
+        // The request sent after the timeout is cancelled
+        release.countDown();
+        executor.shutdown();
+        Assert.assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        Assert.assertNotNull(late.sent);
+        Assert.assertTrue(late.future.cancelled);
+    }
+
+    private static class TestHostRequest implements HostControllerUpdateTask.HostRequest {
+
+        final TestFuture future = new TestFuture();
+        volatile HostControllerUpdateTask.ExecutedHostRequest sent;
+        volatile Exception failed;
+        volatile HostControllerUpdateTask.ExecutedHostRequest failedRequest;
+
+        @Override
+        public HostControllerUpdateTask.ExecutedHostRequest send() {
+            sent = new HostControllerUpdateTask.ExecutedHostRequest(future, OperationResultTransformer.ORIGINAL_RESULT, OperationTransformer.DEFAULT_REJECTION_POLICY);
+            return sent;
+        }
+
+        @Override
+        public HostControllerUpdateTask.ExecutedHostRequest fail(Exception cause) {
+            failed = cause;
+            failedRequest = new HostControllerUpdateTask.ExecutedHostRequest(new TestFuture(), OperationResultTransformer.ORIGINAL_RESULT, OperationTransformer.DEFAULT_REJECTION_POLICY);
+            return failedRequest;
+        }
+    }
+
+    private static class TestFuture extends AsyncFutureTask<OperationResponse> {
+
+        volatile boolean cancelled;
+
+        TestFuture() {
+            super(null);
+        }
+
+        @Override
+        public void asyncCancel(boolean interruptionDesired) {
+            cancelled = true;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.host.controller;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+/**
+ * Unit tests of {@link ServerStartupScheduler}.
+ */
+public class ServerStartupSchedulerTestCase {
+
+    private final List<String> launched = Collections.synchronizedList(new ArrayList<>());
+
+    @Test
+    public void testUnlimited() {
+        ServerStartupScheduler scheduler = new ServerStartupScheduler(Runnable::run, 0, 0, () -> 0, List.of());
+        scheduler.schedule(servers("a", "b", "c"), launched::add);
+
+        assertEquals(List.of("a", "b", "c"), launched);
+        assertProgress(scheduler, 3, 0, 3, 0, 0);
+    }
+
+    @Test
+    public void testConcurrency() {
+        ServerStartupScheduler scheduler = new ServerStartupScheduler(Runnable::run, 2, 0, () -> 0, List.of());
+        scheduler.schedule(servers("a", "b", "c", "d"), launched::add);
+        assertEquals(List.of("a", "b"), launched);
+        assertProgress(scheduler, 4, 2, 2, 0, 0);
+
+        scheduler.serverStarted("b");
+        assertEquals(List.of("a", "b", "c"), launched);
+        // Servers not launched by the scheduler are ignored
+        scheduler.serverStarted("e");
+        scheduler.serverFailed("a");
+        assertEquals(List.of("a", "b", "c", "d"), launched);
+        assertProgress(scheduler, 4, 0, 2, 1, 1);
+
+        scheduler.serverStarted("c");
+        scheduler.serverStarted("d");
+        assertProgress(scheduler, 4, 0, 0, 3, 1);
+
+        // A new startup resets the progress
+        scheduler.schedule(servers("a"), launched::add);
+        assertProgress(scheduler, 1, 0, 1, 0, 0);
+    }
+
+    @Test
+    public void testLoad() {
+        AtomicReference<Double> load = new AtomicReference<>(2.0);
+        ServerStartupScheduler scheduler = new ServerStartupScheduler(Runnable::run, 0, 1.0, load::get, List.of());
+        scheduler.schedule(servers("a", "b", "c"), launched::add);
+        // One server always boots
+        assertEquals(List.of("a"), launched);
+
+        load.set(0.5);
+        scheduler.serverStarted("a");
+        assertEquals(List.of("a", "b", "c"), launched);
+    }
+
+    @Test
+    public void testGroupPriority() {
+        ServerStartupScheduler scheduler = new ServerStartupScheduler(Runnable::run, 1, 0, () -> 0, List.of("first", "second"));
+        Map<String, String> servers = new LinkedHashMap<>();
+        servers.put("a", "other");
+        servers.put("b", "second");
+        servers.put("c", "first");
+        servers.put("d", "second");
+        scheduler.schedule(servers, launched::add);
+        for (String server : List.of("c", "b", "d")) {
+            scheduler.serverStarted(server);
+        }
+        assertEquals(List.of("c", "b", "d", "a"), launched);
+    }
+
+    @Test
+    public void testLaunchFailure() {
+        ServerStartupScheduler scheduler = new ServerStartupScheduler(Runnable::run, 1, 0, () -> 0, List.of());
+        scheduler.schedule(servers("a", "b"), server -> {
+            launched.add(server);
+            if (server.equals("a")) {
+                throw new IllegalStateException();
+            }
+        });
+        assertEquals(List.of("a", "b"), launched);
+        assertProgress(scheduler, 2, 0, 1, 0, 1);
+
+        scheduler.cancel();
+        assertProgress(scheduler, 2, 0, 1, 0, 1);
+    }
+
+    @Test
+    public void testCancel() {
+        ServerStartupScheduler scheduler = new ServerStartupScheduler(Runnable::run, 1, 0, () -> 0, List.of());
+        scheduler.schedule(servers("a", "b", "c"), launched::add);
+        scheduler.cancel();
+        scheduler.serverStarted("a");
+        assertEquals(List.of("a"), launched);
+        assertProgress(scheduler, 1, 0, 0, 1, 0);
+    }
+
+    private static Map<String, String> servers(String... names) {
+        Map<String, String> servers = new LinkedHashMap<>();
+        for (String name : names) {
+            servers.put(name, "group");
+        }
+        return servers;
+    }
+
+    private static void assertProgress(ServerStartupScheduler scheduler, int total, int pending, int starting, int started, int failed) {
+        ModelNode progress = scheduler.getProgress();
+        assertEquals(total, progress.get(ServerStartupScheduler.TOTAL).asInt());
+        assertEquals(pending, progress.get(ServerStartupScheduler.PENDING).asInt());
+        assertEquals(starting, progress.get(ServerStartupScheduler.STARTING).asInt());
+        assertEquals(started, progress.get(ServerStartupScheduler.STARTED).asInt());
+        assertEquals(failed, progress.get(ServerStartupScheduler.FAILED).asInt());
+    }
+}
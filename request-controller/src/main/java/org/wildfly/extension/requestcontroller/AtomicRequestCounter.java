@@ -0,0 +1,40 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.requestcontroller;
+
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+
+/**
+ * A {@link RequestCounter} based on a single atomic integer, which enforces its limit exactly.
+ */
+final class AtomicRequestCounter implements RequestCounter {
+
+    private static final AtomicIntegerFieldUpdater<AtomicRequestCounter> countUpdater = AtomicIntegerFieldUpdater.newUpdater(AtomicRequestCounter.class, "count");
+
+    @SuppressWarnings("unused")
+    private volatile int count = 0;
+
+    @Override
+    public boolean tryIncrement(int limit) {
+        int current = countUpdater.get(this);
+        while (limit <= 0 || current < limit) {
+            if (countUpdater.compareAndSet(this, current, current + 1)) {
+                return true;
+            }
+            current = countUpdater.get(this);
+        }
+        return false;
+    }
+
+    @Override
+    public int decrementAndGet() {
+        return countUpdater.decrementAndGet(this);
+    }
+
+    @Override
+    public int get() {
+        return countUpdater.get(this);
+    }
+}
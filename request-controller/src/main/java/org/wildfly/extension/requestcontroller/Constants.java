@@ -12,4 +12,9 @@ interface Constants {
     String MAX_REQUESTS = "max-requests";
     String ACTIVE_REQUESTS = "active-requests";
     String TRACK_INDIVIDUAL_ENDPOINTS = "track-individual-endpoints";
+    String STRIPED_REQUEST_COUNTING = "striped-request-counting";
+    String FAIR_QUEUING = "fair-queuing";
+    String DEPLOYMENT_WEIGHTS = "deployment-weights";
+    String MAX_QUEUED_REQUESTS = "max-queued-requests";
+    String QUEUE_TIMEOUT = "queue-timeout";
 }
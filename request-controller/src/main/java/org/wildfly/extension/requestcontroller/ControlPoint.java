@@ -4,7 +4,6 @@
  */
 package org.wildfly.extension.requestcontroller;
 
-import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import org.jboss.as.server.logging.ServerLogger;
 
@@ -27,7 +26,6 @@ import java.util.concurrent.Executor;
  */
 public class ControlPoint {
 
-    private static final AtomicIntegerFieldUpdater<ControlPoint> activeRequestCountUpdater = AtomicIntegerFieldUpdater.newUpdater(ControlPoint.class, "activeRequestCount");
     private static final AtomicReferenceFieldUpdater<ControlPoint, CompletableFuture> pauseUpdater = AtomicReferenceFieldUpdater.newUpdater(ControlPoint.class, CompletableFuture.class, "pauseFuture");
 
     private final RequestController controller;
@@ -38,8 +36,12 @@ public class ControlPoint {
     /**
      * The number of active requests that are using this entry point
      */
-    @SuppressWarnings("unused")
-    private volatile int activeRequestCount = 0;
+    private final RequestCounter activeRequestCount;
+
+    /**
+     * The number of tasks queued via this entry point that have neither run nor timed out yet
+     */
+    private final RequestCounter queuedTaskCount = RequestCounter.create(false);
 
     /**
      * If this entry point is paused
@@ -55,11 +57,13 @@ public class ControlPoint {
      */
     private int referenceCount = 0;
 
-    ControlPoint(RequestController controller, String deployment, String entryPoint, boolean trackIndividualControlPoints) {
+    ControlPoint(RequestController controller, String deployment, String entryPoint, boolean trackIndividualControlPoints, boolean stripedRequestCounting) {
         this.controller = controller;
         this.deployment = deployment;
         this.entryPoint = entryPoint;
         this.trackIndividualControlPoints = trackIndividualControlPoints;
+        // Striping is pointless if requests are not tracked individually
+        this.activeRequestCount = RequestCounter.create(trackIndividualControlPoints && stripedRequestCounting, () -> this.paused);
     }
 
     public String getEntryPoint() {
@@ -82,7 +86,7 @@ public class ControlPoint {
         this.paused = true;
         CompletableFuture<Void> pause = new CompletableFuture<>();
         pauseUpdater.set(this, pause);
-        if (activeRequestCountUpdater.get(this) == 0) {
+        if (activeRequestCount.get() == 0) {
             if (pauseUpdater.compareAndSet(this, pause, null)) {
                 pause.complete(null);
             }
@@ -128,7 +132,7 @@ public class ControlPoint {
             return RunResult.REJECTED;
         }
         if(trackIndividualControlPoints) {
-            activeRequestCountUpdater.incrementAndGet(this);
+            activeRequestCount.tryIncrement(0);
         }
         RunResult runResult = controller.beginRequest(false);
         if (runResult == RunResult.REJECTED) {
@@ -150,7 +154,7 @@ public class ControlPoint {
      */
     public RunResult forceBeginRequest() {
         if(trackIndividualControlPoints) {
-            activeRequestCountUpdater.incrementAndGet(this);
+            activeRequestCount.tryIncrement(0);
         }
         return controller.beginRequest(true);
     }
@@ -160,7 +164,7 @@ public class ControlPoint {
      */
     void beginExistingRequest() {
         if(trackIndividualControlPoints) {
-            activeRequestCountUpdater.incrementAndGet(this);
+            activeRequestCount.tryIncrement(0);
         }
     }
 
@@ -176,7 +180,7 @@ public class ControlPoint {
 
     private void decreaseRequestCount() {
         if (trackIndividualControlPoints) {
-            int result = activeRequestCountUpdater.decrementAndGet(this);
+            int result = activeRequestCount.decrementAndGet();
             if (paused && result == 0) {
                 CompletableFuture<Void> pause = pauseUpdater.get(this);
                 if (pause != null) {
@@ -232,7 +236,28 @@ public class ControlPoint {
     }
 
     public int getActiveRequestCount() {
-        return activeRequestCountUpdater.get(this);
+        return activeRequestCount.get();
+    }
+
+    public int getQueuedTaskCount() {
+        return queuedTaskCount.get();
+    }
+
+    /**
+     * Called before a task is queued via this entry point.
+     *
+     * @param limit the maximum number of queued tasks, or a value of less than 1 if the number is not limited
+     * @return true if the task can be queued, false if the limit has been reached
+     */
+    boolean beginQueuedTask(int limit) {
+        return queuedTaskCount.tryIncrement(limit);
+    }
+
+    /**
+     * Called once a task queued via this entry point has either run or timed out.
+     */
+    void queuedTaskComplete() {
+        queuedTaskCount.decrementAndGet();
     }
 
     synchronized int increaseReferenceCount() {
@@ -0,0 +1,104 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.requestcontroller;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * A {@link TaskQueue} that queues tasks per {@link ControlPoint}, and serves the control points with queued tasks in
+ * weighted round robin order. Each time a control point is served it may run as many tasks as its weight before the
+ * next control point is served, so that a control point that queues many tasks cannot starve the others.
+ */
+final class FairTaskQueue implements TaskQueue {
+
+    private final ToIntFunction<ControlPoint> weights;
+    private final Map<ControlPoint, Flow> flows = new HashMap<>();
+    // The flows with queued tasks, the first of which is currently being served
+    private final Deque<Flow> activeFlows = new ArrayDeque<>();
+    private volatile int size = 0;
+
+    /**
+     * @param weights the weights of the control points, values of less than 1 are treated as 1
+     */
+    FairTaskQueue(ToIntFunction<ControlPoint> weights) {
+        this.weights = weights;
+    }
+
+    @Override
+    public synchronized void add(RequestController.QueuedTask task) {
+        Flow flow = flows.computeIfAbsent(task.getControlPoint(), Flow::new);
+        if (flow.tasks.isEmpty()) {
+            activeFlows.addLast(flow);
+        }
+        flow.tasks.addLast(task);
+        size++;
+    }
+
+    @Override
+    public synchronized RequestController.QueuedTask poll() {
+        Flow flow = activeFlows.peekFirst();
+        if (flow == null) {
+            return null;
+        }
+        if (flow.credits == 0) {
+            flow.credits = Math.max(1, weights.applyAsInt(flow.controlPoint));
+        }
+        RequestController.QueuedTask task = flow.tasks.pollFirst();
+        flow.credits--;
+        if (flow.tasks.isEmpty()) {
+            deactivate(flow);
+        } else if (flow.credits == 0) {
+            // Its turn is over, move on to the next control point
+            activeFlows.addLast(activeFlows.pollFirst());
+        }
+        size--;
+        return task;
+    }
+
+    @Override
+    public synchronized RequestController.QueuedTask pollForced() {
+        for (Flow flow : activeFlows) {
+            Iterator<RequestController.QueuedTask> tasks = flow.tasks.iterator();
+            while (tasks.hasNext()) {
+                RequestController.QueuedTask task = tasks.next();
+                if (task.isForceRun()) {
+                    tasks.remove();
+                    if (flow.tasks.isEmpty()) {
+                        deactivate(flow);
+                    }
+                    size--;
+                    return task;
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void deactivate(Flow flow) {
+        activeFlows.remove(flow);
+        // Control points come and go with deployments, so do not retain idle ones
+        flows.remove(flow.controlPoint);
+    }
+
+    private static final class Flow {
+        private final ControlPoint controlPoint;
+        private final Deque<RequestController.QueuedTask> tasks = new ArrayDeque<>();
+        private int credits = 0;
+
+        private Flow(ControlPoint controlPoint) {
+            this.controlPoint = controlPoint;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.requestcontroller;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.LinkedBlockingDeque;
+
+/**
+ * A {@link TaskQueue} that runs tasks in the order in which they were queued, regardless of their control point.
+ */
+final class FifoTaskQueue implements TaskQueue {
+
+    private final Deque<RequestController.QueuedTask> tasks = new LinkedBlockingDeque<>();
+
+    @Override
+    public void add(RequestController.QueuedTask task) {
+        tasks.add(task);
+    }
+
+    @Override
+    public RequestController.QueuedTask poll() {
+        return tasks.poll();
+    }
+
+    @Override
+    public RequestController.QueuedTask pollForced() {
+        RequestController.QueuedTask forcedTask = null;
+        RequestController.QueuedTask task;
+        List<RequestController.QueuedTask> storage = new ArrayList<>();
+        while (forcedTask == null && (task = tasks.poll()) != null) {
+            if (task.isForceRun()) {
+                forcedTask = task;
+            } else {
+                storage.add(task);
+            }
+        }
+        // this screws the order somewhat, but the container is suspending anyway, and the order
+        // was never guarenteed. if we push them back onto the front we will need to just go through them again
+        tasks.addAll(storage);
+        return forcedTask;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return tasks.isEmpty();
+    }
+}
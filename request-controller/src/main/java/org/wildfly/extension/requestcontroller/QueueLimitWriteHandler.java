@@ -0,0 +1,50 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.requestcontroller;
+
+import org.jboss.as.controller.AbstractWriteAttributeHandler;
+import org.jboss.as.controller.OperationContext;
+import org.jboss.as.controller.OperationFailedException;
+import org.jboss.dmr.ModelNode;
+import org.jboss.msc.service.ServiceController;
+
+/**
+ * Write handler for the max queued requests and queue timeout attributes
+ */
+class QueueLimitWriteHandler extends AbstractWriteAttributeHandler<Void> {
+
+    @Override
+    protected boolean applyUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName,
+                                           ModelNode resolvedValue, ModelNode currentValue, HandbackHolder<Void> handbackHolder) throws OperationFailedException {
+        apply(context, attributeName, resolvedValue);
+        return false;
+    }
+
+    @Override
+    protected void revertUpdateToRuntime(OperationContext context, ModelNode operation, String attributeName,
+                                         ModelNode valueToRestore, ModelNode valueToRevert, Void handback) throws OperationFailedException {
+        apply(context, attributeName, valueToRestore);
+    }
+
+    private static void apply(final OperationContext context, String attributeName, ModelNode resolvedValue) {
+        ServiceController<?> serviceController = context.getServiceRegistry(false).getService(RequestController.SERVICE_NAME);
+        if(serviceController == null) {
+            return;
+        }
+        RequestController requestController = (RequestController) serviceController.getService().getValue();
+        switch (attributeName) {
+            case Constants.MAX_QUEUED_REQUESTS:
+                requestController.setMaxQueuedRequests(resolvedValue.asInt(-1));
+                break;
+            case Constants.QUEUE_TIMEOUT:
+                requestController.setQueueTimeout(resolvedValue.asLong(0));
+                break;
+            default:
+                // Someone forgot something
+                throw new IllegalStateException();
+        }
+    }
+}
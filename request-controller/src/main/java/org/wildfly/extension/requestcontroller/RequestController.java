@@ -5,22 +5,20 @@
 package org.wildfly.extension.requestcontroller;
 
 import java.util.ArrayList;
-import java.util.Deque;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Timer;
 import java.util.TimerTask;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.BiConsumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 import java.util.stream.Collectors;
 
 import org.jboss.as.server.suspend.ServerResumeContext;
@@ -49,31 +47,50 @@ public class RequestController implements Service<RequestController>, Suspendabl
 
     static final ServiceName SERVICE_NAME = RequestControllerRootDefinition.REQUEST_CONTROLLER_CAPABILITY.getCapabilityServiceName();
 
-    private static final AtomicIntegerFieldUpdater<RequestController> activeRequestCountUpdater = AtomicIntegerFieldUpdater.newUpdater(RequestController.class, "activeRequestCount");
     private static final AtomicReferenceFieldUpdater<RequestController, CompletableFuture> suspendUpdater = AtomicReferenceFieldUpdater.newUpdater(RequestController.class, CompletableFuture.class, "suspend");
 
     private volatile int maxRequestCount = -1;
 
-    private volatile int activeRequestCount = 0;
+    private final RequestCounter activeRequestCount;
 
     private volatile boolean paused = false;
 
-    private final Map<ControlPointIdentifier, ControlPoint> entryPoints = new HashMap<>();
+    private final Map<ControlPointIdentifier, ControlPoint> entryPoints = new ConcurrentHashMap<>();
 
     @SuppressWarnings("unused")
     private volatile CompletableFuture<Void> suspend = null;
 
     private final boolean trackIndividualControlPoints;
+    private final boolean stripedRequestCounting;
     private final Supplier<SuspendableActivityRegistry> registry;
 
     public RequestController(boolean trackIndividualControlPoints, Supplier<SuspendableActivityRegistry> registry) {
+        this(trackIndividualControlPoints, false, registry);
+    }
+
+    /**
+     * Creates a request controller.
+     *
+     * @param trackIndividualControlPoints whether to track the active requests of each control point
+     * @param stripedRequestCounting whether to stripe active request counts across multiple cells, which avoids
+     *                               contention between concurrent requests at the cost of the maximum request count
+     *                               only being enforced approximately
+     * @param registry the registry of suspendable activities
+     */
+    public RequestController(boolean trackIndividualControlPoints, boolean stripedRequestCounting, Supplier<SuspendableActivityRegistry> registry) {
         this.trackIndividualControlPoints = trackIndividualControlPoints;
+        this.stripedRequestCounting = stripedRequestCounting;
+        this.activeRequestCount = RequestCounter.create(stripedRequestCounting, () -> this.paused);
         this.registry = registry;
     }
 
     private Timer timer;
 
-    private final Deque<QueuedTask> taskQueue = new LinkedBlockingDeque<>();
+    private volatile TaskQueue taskQueue = new FifoTaskQueue();
+
+    private volatile int maxQueuedRequests = -1;
+
+    private volatile long queueTimeout = 0;
 
     @Override
     public CompletionStage<Void> suspend(ServerSuspendContext context) {
@@ -81,7 +98,7 @@ public class RequestController implements Service<RequestController>, Suspendabl
         CompletableFuture<Void> result = new CompletableFuture<>();
         suspendUpdater.set(this, result);
 
-        if (activeRequestCountUpdater.get(this) == 0) {
+        if (activeRequestCount.get() == 0) {
             if (suspendUpdater.compareAndSet(this, result, null)) {
                 result.complete(null);
             }
@@ -97,7 +114,7 @@ public class RequestController implements Service<RequestController>, Suspendabl
             suspendUpdater.compareAndSet(this, suspend, null);
             suspend.cancel(false);
         }
-        while (!taskQueue.isEmpty() && (activeRequestCount < maxRequestCount || maxRequestCount < 0)) {
+        while (!taskQueue.isEmpty() && (activeRequestCount.get() < maxRequestCount || maxRequestCount < 0)) {
             runQueuedTask(false);
         }
         return SuspendableActivity.COMPLETED;
@@ -109,7 +126,7 @@ public class RequestController implements Service<RequestController>, Suspendabl
      * @param filter a control point filter
      * @return a stage that will complete when the deployments matching the specified predicate are paused.
      */
-    private synchronized CompletionStage<Void> pause(Predicate<ControlPoint> filter) {
+    private CompletionStage<Void> pause(Predicate<ControlPoint> filter) {
         List<ControlPoint> controlPoints = this.entryPoints.values().stream().filter(filter).collect(Collectors.toUnmodifiableList());
         if (controlPoints.isEmpty()) return SuspendableActivity.COMPLETED;
         AtomicInteger count = new AtomicInteger(controlPoints.size());
@@ -155,7 +172,7 @@ public class RequestController implements Service<RequestController>, Suspendabl
      * Resumes the control points matching the specified predicate.
      * @param filter a control point filter
      */
-    private synchronized void resume(Predicate<ControlPoint> filter) {
+    private void resume(Predicate<ControlPoint> filter) {
         this.entryPoints.values().stream().filter(filter).forEach(ControlPoint::resume);
     }
 
@@ -199,26 +216,16 @@ public class RequestController implements Service<RequestController>, Suspendabl
         this.resume(new EntryPointFilter(entryPoint));
     }
 
-    public synchronized RequestControllerState getState() {
+    public RequestControllerState getState() {
         final List<RequestControllerState.EntryPointState> eps = new ArrayList<>();
         for (ControlPoint controlPoint : entryPoints.values()) {
             eps.add(new RequestControllerState.EntryPointState(controlPoint.getDeployment(), controlPoint.getEntryPoint(), controlPoint.isPaused(), controlPoint.getActiveRequestCount()));
         }
-        return new RequestControllerState(paused, activeRequestCount, maxRequestCount, eps);
+        return new RequestControllerState(paused, activeRequestCount.get(), maxRequestCount, eps);
     }
 
     RunResult beginRequest(boolean force) {
-        int maxRequests = maxRequestCount;
-        int active = activeRequestCountUpdater.get(this);
-        boolean success = false;
-        while ((maxRequests <= 0 || active < maxRequests) && (!paused || force)) {
-            if (activeRequestCountUpdater.compareAndSet(this, active, active + 1)) {
-                success = true;
-                break;
-            }
-            active = activeRequestCountUpdater.get(this);
-        }
-        if (success) {
+        if ((!paused || force) && activeRequestCount.tryIncrement(maxRequestCount)) {
             //re-check the paused state
             //this is necessary because there is a race between checking paused and updating active requests
             //if this happens we just call requestComplete(), as the listener can only be invoked once it does not
@@ -239,7 +246,7 @@ public class RequestController implements Service<RequestController>, Suspendabl
 
     private void decrementRequestCount() {
 
-        int result = activeRequestCountUpdater.decrementAndGet(this);
+        int result = activeRequestCount.decrementAndGet();
         if (paused) {
             if (paused && result == 0) {
                 CompletableFuture<Void> suspend = suspendUpdater.get(this);
@@ -263,15 +270,15 @@ public class RequestController implements Service<RequestController>, Suspendabl
      * @param entryPointName The entry point name
      * @return The entry point, or null if the request controller is disabled
      */
-    public synchronized ControlPoint getControlPoint(final String deploymentName, final String entryPointName) {
+    public ControlPoint getControlPoint(final String deploymentName, final String entryPointName) {
         ControlPointIdentifier id = new ControlPointIdentifier(deploymentName, entryPointName);
-        ControlPoint ep = entryPoints.get(id);
-        if (ep == null) {
-            ep = new ControlPoint(this, deploymentName, entryPointName, trackIndividualControlPoints);
-            entryPoints.put(id, ep);
-        }
-        ep.increaseReferenceCount();
-        return ep;
+        return entryPoints.compute(id, (key, ep) -> {
+            if (ep == null) {
+                ep = new ControlPoint(this, deploymentName, entryPointName, trackIndividualControlPoints, stripedRequestCounting);
+            }
+            ep.increaseReferenceCount();
+            return ep;
+        });
     }
 
     /**
@@ -279,11 +286,10 @@ public class RequestController implements Service<RequestController>, Suspendabl
      *
      * @param controlPoint The entry point
      */
-    public synchronized void removeControlPoint(ControlPoint controlPoint) {
-        if (controlPoint.decreaseReferenceCount() == 0) {
-            ControlPointIdentifier id = new ControlPointIdentifier(controlPoint.getDeployment(), controlPoint.getEntryPoint());
-            entryPoints.remove(id);
-        }
+    public void removeControlPoint(ControlPoint controlPoint) {
+        ControlPointIdentifier id = new ControlPointIdentifier(controlPoint.getDeployment(), controlPoint.getEntryPoint());
+        // Reference counts are only modified while holding the lock of the map entry
+        entryPoints.computeIfPresent(id, (key, ep) -> (ep.decreaseReferenceCount() == 0) ? null : ep);
     }
 
     /**
@@ -303,13 +309,60 @@ public class RequestController implements Service<RequestController>, Suspendabl
      */
     public void setMaxRequestCount(int maxRequestCount) {
         this.maxRequestCount = maxRequestCount;
-        while (!taskQueue.isEmpty() && (activeRequestCount < maxRequestCount || maxRequestCount < 0)) {
+        while (!taskQueue.isEmpty() && (activeRequestCount.get() < maxRequestCount || maxRequestCount < 0)) {
             if(!runQueuedTask(false)) {
                 break;
             }
         }
     }
 
+    /**
+     * Queues tasks per control point and runs them in weighted round robin order, instead of in the order in which
+     * they were queued. This must be called before the request controller is started.
+     *
+     * @param weights the weights of the control points, i.e. the number of queued tasks a control point may run
+     *                before the next control point is served
+     */
+    void setFairQueuing(ToIntFunction<ControlPoint> weights) {
+        this.taskQueue = new FairTaskQueue(weights);
+    }
+
+    /**
+     * @return The maximum number of tasks that can be queued per control point
+     */
+    public int getMaxQueuedRequests() {
+        return maxQueuedRequests;
+    }
+
+    /**
+     * Sets the maximum number of tasks that can be queued per control point. Once a control point has reached this
+     * limit, any further tasks queued for it are timed out immediately. Tasks without a timeout task, which must
+     * eventually run, are not subject to this limit.
+     *
+     * @param maxQueuedRequests The max queued request count, or a value of less than 1 for no limit
+     */
+    public void setMaxQueuedRequests(int maxQueuedRequests) {
+        this.maxQueuedRequests = maxQueuedRequests;
+    }
+
+    /**
+     * @return The maximum time in milliseconds that a task can be queued
+     */
+    public long getQueueTimeout() {
+        return queueTimeout;
+    }
+
+    /**
+     * Sets the maximum time in milliseconds that a task can be queued, after which it is timed out. This caps the
+     * timeout requested by the queueing control point. Tasks without a timeout task, which must eventually run, are
+     * not subject to this timeout.
+     *
+     * @param queueTimeout The queue timeout, or a value of less than 1 for no timeout
+     */
+    public void setQueueTimeout(long queueTimeout) {
+        this.queueTimeout = queueTimeout;
+    }
+
     /**
      * @return <code>true</code> If the server is currently pause
      */
@@ -342,7 +395,7 @@ public class RequestController implements Service<RequestController>, Suspendabl
     }
 
     public int getActiveRequestCount() {
-        return activeRequestCount;
+        return activeRequestCount.get();
     }
 
     void queueTask(ControlPoint controlPoint, Runnable task, Executor taskExecutor, long timeout, Runnable timeoutTask, boolean rejectOnSuspend, boolean forceRun) {
@@ -352,12 +405,20 @@ public class RequestController implements Service<RequestController>, Suspendabl
                 return;
             }
         }
+        // Only tasks that can be timed out are subject to the queue limits
+        boolean limited = !forceRun && timeoutTask != null;
+        if (controlPoint != null && !controlPoint.beginQueuedTask(limited ? maxQueuedRequests : 0)) {
+            taskExecutor.execute(timeoutTask);
+            return;
+        }
+        long maxQueueTime = this.queueTimeout;
+        long effectiveTimeout = (limited && maxQueueTime > 0 && (timeout <= 0 || timeout > maxQueueTime)) ? maxQueueTime : timeout;
         QueuedTask queuedTask = new QueuedTask(taskExecutor, task, timeoutTask, controlPoint, forceRun);
         taskQueue.add(queuedTask);
         runQueuedTask(false);
         if(queuedTask.isQueued()) {
-            if(timeout > 0) {
-                timer.schedule(queuedTask, timeout);
+            if(effectiveTimeout > 0) {
+                timer.schedule(queuedTask, effectiveTimeout);
             }
         }
     }
@@ -378,7 +439,7 @@ public class RequestController implements Service<RequestController>, Suspendabl
             task = taskQueue.poll();
         } else {
             //the container is suspended, but we still need to run any force queued tasks
-            task = findForcedTask();
+            task = taskQueue.pollForced();
         }
         if (task != null) {
             if(!task.runRequest()) {
@@ -391,23 +452,6 @@ public class RequestController implements Service<RequestController>, Suspendabl
         }
     }
 
-    private QueuedTask findForcedTask() {
-        QueuedTask forcedTask = null;
-        QueuedTask task;
-        List<QueuedTask> storage = new ArrayList<>();
-        while (forcedTask == null && (task = taskQueue.poll()) != null) {
-            if (task.forceRun) {
-                forcedTask = task;
-            } else {
-                storage.add(task);
-            }
-        }
-        // this screws the order somewhat, but the container is suspending anyway, and the order
-        // was never guarenteed. if we push them back onto the front we will need to just go through them again
-        taskQueue.addAll(storage);
-        return forcedTask;
-    }
-
     private static final class ControlPointIdentifier {
         private final String deployment, name;
 
@@ -443,7 +487,7 @@ public class RequestController implements Service<RequestController>, Suspendabl
     }
 
 
-    private static final class QueuedTask extends TimerTask {
+    static final class QueuedTask extends TimerTask {
 
         private final Executor executor;
         private final Runnable task;
@@ -456,7 +500,7 @@ public class RequestController implements Service<RequestController>, Suspendabl
         //2 == cancelled
         private final AtomicInteger state = new AtomicInteger(0);
 
-        private QueuedTask(Executor executor, Runnable task, Runnable cancelTask, ControlPoint controlPoint, boolean forceRun) {
+        QueuedTask(Executor executor, Runnable task, Runnable cancelTask, ControlPoint controlPoint, boolean forceRun) {
             this.executor = executor;
             this.task = task;
             this.cancelTask = cancelTask;
@@ -467,6 +511,7 @@ public class RequestController implements Service<RequestController>, Suspendabl
         @Override
         public void run() {
             if(state.compareAndSet(0, 2)) {
+                queuedTaskComplete();
                 if(cancelTask != null) {
                     try {
                         executor.execute(cancelTask);
@@ -480,6 +525,7 @@ public class RequestController implements Service<RequestController>, Suspendabl
 
         public boolean runRequest() {
             if (state.compareAndSet(0, 1)) {
+                queuedTaskComplete();
                 cancel();
                 executor.execute(new ControlPointTask(task, controlPoint));
                 return true;
@@ -491,6 +537,20 @@ public class RequestController implements Service<RequestController>, Suspendabl
         boolean isQueued() {
             return state.get() == 0;
         }
+
+        private void queuedTaskComplete() {
+            if (controlPoint != null) {
+                controlPoint.queuedTaskComplete();
+            }
+        }
+
+        ControlPoint getControlPoint() {
+            return controlPoint;
+        }
+
+        boolean isForceRun() {
+            return forceRun;
+        }
     }
 
     private static class DeploymentFilter implements Predicate<ControlPoint> {
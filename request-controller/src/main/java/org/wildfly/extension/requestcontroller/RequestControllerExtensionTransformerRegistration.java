@@ -0,0 +1,42 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.requestcontroller;
+
+import org.jboss.as.controller.ModelVersion;
+import org.jboss.as.controller.transform.ExtensionTransformerRegistration;
+import org.jboss.as.controller.transform.SubsystemTransformerRegistration;
+import org.jboss.as.controller.transform.description.DiscardAttributeChecker;
+import org.jboss.as.controller.transform.description.RejectAttributeChecker;
+import org.jboss.as.controller.transform.description.ResourceTransformationDescriptionBuilder;
+import org.jboss.as.controller.transform.description.TransformationDescription;
+
+/**
+ * Registers the transformers of the request controller subsystem for hosts running earlier model versions.
+ */
+public class RequestControllerExtensionTransformerRegistration implements ExtensionTransformerRegistration {
+
+    static final ModelVersion VERSION_1_1_0 = ModelVersion.create(1, 1, 0);
+
+    @Override
+    public String getSubsystemName() {
+        return RequestControllerExtension.SUBSYSTEM_NAME;
+    }
+
+    @Override
+    public void registerTransformers(SubsystemTransformerRegistration subsystemRegistration) {
+        ResourceTransformationDescriptionBuilder builder = ResourceTransformationDescriptionBuilder.Factory.createSubsystemInstance();
+        // Striped counting and request queuing are not supported by 1.1, so these are only accepted if not configured
+        builder.getAttributeBuilder()
+                .setDiscard(DiscardAttributeChecker.DEFAULT_VALUE, RequestControllerRootDefinition.STRIPED_REQUEST_COUNTING,
+                        RequestControllerRootDefinition.FAIR_QUEUING, RequestControllerRootDefinition.DEPLOYMENT_WEIGHTS,
+                        RequestControllerRootDefinition.MAX_QUEUED_REQUESTS, RequestControllerRootDefinition.QUEUE_TIMEOUT)
+                .addRejectCheck(RejectAttributeChecker.DEFINED, RequestControllerRootDefinition.STRIPED_REQUEST_COUNTING,
+                        RequestControllerRootDefinition.FAIR_QUEUING, RequestControllerRootDefinition.DEPLOYMENT_WEIGHTS,
+                        RequestControllerRootDefinition.MAX_QUEUED_REQUESTS, RequestControllerRootDefinition.QUEUE_TIMEOUT)
+                .end();
+        TransformationDescription.Tools.register(builder.build(), subsystemRegistration, VERSION_1_1_0);
+    }
+}
@@ -16,8 +16,12 @@ import org.jboss.as.controller.ReloadRequiredRemoveStepHandler;
 import org.jboss.as.controller.ReloadRequiredWriteAttributeHandler;
 import org.jboss.as.controller.SimpleAttributeDefinition;
 import org.jboss.as.controller.SimpleAttributeDefinitionBuilder;
+import org.jboss.as.controller.SimpleMapAttributeDefinition;
 import org.jboss.as.controller.SimpleResourceDefinition;
 import org.jboss.as.controller.capability.RuntimeCapability;
+import org.jboss.as.controller.client.helpers.MeasurementUnit;
+import org.jboss.as.controller.operations.validation.IntRangeValidator;
+import org.jboss.as.controller.operations.validation.LongRangeValidator;
 import org.jboss.as.controller.registry.ManagementResourceRegistration;
 import org.jboss.dmr.ModelNode;
 import org.jboss.dmr.ModelType;
@@ -41,6 +45,36 @@ class RequestControllerRootDefinition extends PersistentResourceDefinition {
             .setRestartAllServices()
             .build();
 
+    public static final SimpleAttributeDefinition STRIPED_REQUEST_COUNTING = SimpleAttributeDefinitionBuilder.create(Constants.STRIPED_REQUEST_COUNTING, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleAttributeDefinition FAIR_QUEUING = SimpleAttributeDefinitionBuilder.create(Constants.FAIR_QUEUING, ModelType.BOOLEAN, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.FALSE)
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleMapAttributeDefinition DEPLOYMENT_WEIGHTS = new SimpleMapAttributeDefinition.Builder(Constants.DEPLOYMENT_WEIGHTS, ModelType.INT, true)
+            .setAllowExpression(true)
+            .setElementValidator(new IntRangeValidator(1, true, true))
+            .setRestartAllServices()
+            .build();
+
+    public static final SimpleAttributeDefinition MAX_QUEUED_REQUESTS = SimpleAttributeDefinitionBuilder.create(Constants.MAX_QUEUED_REQUESTS, ModelType.INT, true)
+            .setAllowExpression(true)
+            .setDefaultValue(new ModelNode(-1))
+            .build();
+
+    public static final SimpleAttributeDefinition QUEUE_TIMEOUT = SimpleAttributeDefinitionBuilder.create(Constants.QUEUE_TIMEOUT, ModelType.LONG, true)
+            .setAllowExpression(true)
+            .setDefaultValue(ModelNode.ZERO_LONG)
+            .setMeasurementUnit(MeasurementUnit.MILLISECONDS)
+            .setValidator(new LongRangeValidator(0, true))
+            .build();
+
     public static final SimpleAttributeDefinition ACTIVE_REQUESTS = SimpleAttributeDefinitionBuilder.create(Constants.ACTIVE_REQUESTS, ModelType.INT, true)
             .setStorageRuntime()
             .build();
@@ -67,9 +101,9 @@ class RequestControllerRootDefinition extends PersistentResourceDefinition {
 
     private static Collection<AttributeDefinition> getAttributeDefinitions(boolean registerRuntimeOnly) {
         if(registerRuntimeOnly) {
-            return Arrays.asList(new AttributeDefinition[]{MAX_REQUESTS, TRACK_INDIVIDUAL_ENDPOINTS, ACTIVE_REQUESTS});
+            return Arrays.asList(new AttributeDefinition[]{MAX_REQUESTS, TRACK_INDIVIDUAL_ENDPOINTS, STRIPED_REQUEST_COUNTING, FAIR_QUEUING, DEPLOYMENT_WEIGHTS, MAX_QUEUED_REQUESTS, QUEUE_TIMEOUT, ACTIVE_REQUESTS});
         } else {
-            return Arrays.asList(new AttributeDefinition[]{MAX_REQUESTS, TRACK_INDIVIDUAL_ENDPOINTS});
+            return Arrays.asList(new AttributeDefinition[]{MAX_REQUESTS, TRACK_INDIVIDUAL_ENDPOINTS, STRIPED_REQUEST_COUNTING, FAIR_QUEUING, DEPLOYMENT_WEIGHTS, MAX_QUEUED_REQUESTS, QUEUE_TIMEOUT});
         }
     }
 
@@ -83,6 +117,12 @@ class RequestControllerRootDefinition extends PersistentResourceDefinition {
         MaxRequestsWriteHandler handler = new MaxRequestsWriteHandler();
         resourceRegistration.registerReadWriteAttribute(MAX_REQUESTS, null, handler);
         resourceRegistration.registerReadWriteAttribute(TRACK_INDIVIDUAL_ENDPOINTS, null, ReloadRequiredWriteAttributeHandler.INSTANCE);
+        resourceRegistration.registerReadWriteAttribute(STRIPED_REQUEST_COUNTING, null, ReloadRequiredWriteAttributeHandler.INSTANCE);
+        resourceRegistration.registerReadWriteAttribute(FAIR_QUEUING, null, ReloadRequiredWriteAttributeHandler.INSTANCE);
+        resourceRegistration.registerReadWriteAttribute(DEPLOYMENT_WEIGHTS, null, ReloadRequiredWriteAttributeHandler.INSTANCE);
+        QueueLimitWriteHandler queueHandler = new QueueLimitWriteHandler();
+        resourceRegistration.registerReadWriteAttribute(MAX_QUEUED_REQUESTS, null, queueHandler);
+        resourceRegistration.registerReadWriteAttribute(QUEUE_TIMEOUT, null, queueHandler);
         if(registerRuntimeOnly) {
             resourceRegistration.registerMetric(ACTIVE_REQUESTS, new ActiveRequestsReadHandler());
         }
@@ -17,7 +17,10 @@ import org.jboss.as.server.DeploymentProcessorTarget;
 import org.jboss.as.server.deployment.Phase;
 import org.jboss.as.server.suspend.SuspendableActivityRegistry;
 import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.Property;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Supplier;
 
 
@@ -45,11 +48,27 @@ class RequestControllerSubsystemAdd extends AbstractBoottimeAddStepHandler {
 
         int maxRequests = RequestControllerRootDefinition.MAX_REQUESTS.resolveModelAttribute(context, resource.getModel()).asInt();
         boolean trackIndividual = RequestControllerRootDefinition.TRACK_INDIVIDUAL_ENDPOINTS.resolveModelAttribute(context, resource.getModel()).asBoolean();
+        boolean striped = RequestControllerRootDefinition.STRIPED_REQUEST_COUNTING.resolveModelAttribute(context, resource.getModel()).asBoolean();
+        boolean fairQueuing = RequestControllerRootDefinition.FAIR_QUEUING.resolveModelAttribute(context, resource.getModel()).asBoolean();
+        ModelNode weights = RequestControllerRootDefinition.DEPLOYMENT_WEIGHTS.resolveModelAttribute(context, resource.getModel());
+        int maxQueuedRequests = RequestControllerRootDefinition.MAX_QUEUED_REQUESTS.resolveModelAttribute(context, resource.getModel()).asInt();
+        long queueTimeout = RequestControllerRootDefinition.QUEUE_TIMEOUT.resolveModelAttribute(context, resource.getModel()).asLong();
 
         CapabilityServiceBuilder<?> svcBuilder = context.getCapabilityServiceTarget().addCapability(REQUEST_CONTROLLER_CAPABILITY);
         Supplier<SuspendableActivityRegistry> registry = svcBuilder.requires(SuspendableActivityRegistry.SERVICE_DESCRIPTOR);
-        RequestController requestController = new RequestController(trackIndividual, registry);
+        RequestController requestController = new RequestController(trackIndividual, striped, registry);
         requestController.setMaxRequestCount(maxRequests);
+        if (fairQueuing) {
+            Map<String, Integer> deploymentWeights = new HashMap<>();
+            if (weights.isDefined()) {
+                for (Property weight : weights.asPropertyList()) {
+                    deploymentWeights.put(weight.getName(), weight.getValue().asInt());
+                }
+            }
+            requestController.setFairQueuing(controlPoint -> deploymentWeights.getOrDefault(controlPoint.getDeployment(), 1));
+        }
+        requestController.setMaxQueuedRequests(maxQueuedRequests);
+        requestController.setQueueTimeout(queueTimeout);
         svcBuilder.setInstance(requestController)
                 .install();
 
@@ -0,0 +1,28 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.requestcontroller;
+
+import static org.jboss.as.controller.PersistentResourceXMLDescription.builder;
+
+import org.jboss.as.controller.PersistentResourceXMLDescription;
+import org.jboss.as.controller.PersistentResourceXMLParser;
+
+/**
+ * Parser for the 2.0 schema, which adds striped request counting and request queuing.
+ */
+class RequestControllerSubsystemParser_2_0 extends PersistentResourceXMLParser {
+
+    @Override
+    public PersistentResourceXMLDescription getParserDescription() {
+        return builder(RequestControllerRootDefinition.INSTANCE.getPathElement(), Namespace.CURRENT.getUriString())
+                .addAttributes(RequestControllerRootDefinition.MAX_REQUESTS, RequestControllerRootDefinition.TRACK_INDIVIDUAL_ENDPOINTS,
+                        RequestControllerRootDefinition.STRIPED_REQUEST_COUNTING, RequestControllerRootDefinition.FAIR_QUEUING,
+                        RequestControllerRootDefinition.MAX_QUEUED_REQUESTS, RequestControllerRootDefinition.QUEUE_TIMEOUT,
+                        RequestControllerRootDefinition.DEPLOYMENT_WEIGHTS)
+                .build();
+    }
+}
+
@@ -0,0 +1,62 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.requestcontroller;
+
+import java.util.function.BooleanSupplier;
+
+/**
+ * Counts the active requests of a {@link RequestController} or {@link ControlPoint}.
+ * <p/>
+ * Implementations must never report a zero count while requests are active, and, while the count is being drained, the
+ * last {@link #decrementAndGet()} must report a zero count, so that a suspend or pause completes exactly once all of its
+ * requests have completed. The count is drained from the moment the owner is suspended or paused, which the owner must
+ * record before it first checks {@link #get()} for a zero count.
+ */
+interface RequestCounter {
+
+    /**
+     * Increments the count, unless it has reached the given limit.
+     *
+     * @param limit the maximum count, or a value of less than 1 if the count is not limited
+     * @return true if the count was incremented, false otherwise
+     */
+    boolean tryIncrement(int limit);
+
+    /**
+     * Decrements the count.
+     *
+     * @return the count after decrementing it, or, if the count is not being drained, a negative value if the
+     *         implementation did not compute the count
+     */
+    int decrementAndGet();
+
+    /**
+     * @return the current count
+     */
+    int get();
+
+    /**
+     * Creates a counter whose count is always drained, so that {@link #decrementAndGet()} always computes the count.
+     *
+     * @param striped whether to stripe the count across multiple cells, which scales to many concurrent threads at the
+     *                cost of the limit of {@link #tryIncrement(int)} only being enforced approximately
+     * @return a new counter
+     */
+    static RequestCounter create(boolean striped) {
+        return create(striped, () -> true);
+    }
+
+    /**
+     * Creates a counter.
+     *
+     * @param striped whether to stripe the count across multiple cells, which scales to many concurrent threads at the
+     *                cost of the limit of {@link #tryIncrement(int)} only being enforced approximately
+     * @param draining indicates whether the count is being drained, i.e. whether its owner is suspended or paused
+     * @return a new counter
+     */
+    static RequestCounter create(boolean striped, BooleanSupplier draining) {
+        return striped ? new StripedRequestCounter(draining) : new AtomicRequestCounter();
+    }
+}
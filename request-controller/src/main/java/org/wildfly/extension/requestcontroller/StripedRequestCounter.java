@@ -0,0 +1,81 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.requestcontroller;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.BooleanSupplier;
+
+/**
+ * A {@link RequestCounter} that stripes its count across cells selected by the calling thread, in the manner of
+ * {@link java.util.concurrent.atomic.LongAdder}, so that concurrent requests do not contend on a single cache line.
+ * <p/>
+ * Each cell holds a monotonic count of increments and of decrements, as requests are commonly completed by a different
+ * thread than the one that began them. The count is computed by summing all decrements before summing all increments,
+ * so that every decrement seen by the sum is matched by its increment. Hence the count may be overestimated while
+ * requests are being admitted concurrently, but it is never underestimated.
+ * <p/>
+ * As summing all cells is costly, a decrement only sums them while the count is being drained, and an increment only
+ * sums them if the count is limited. A decrement updates its cell before checking whether the count is being drained,
+ * while a drain is recorded before it first checks for a zero count, so either that check or the last decrement
+ * observes the zero count. As the limit is checked against the count before incrementing a cell, concurrent admissions
+ * may exceed the limit by up to the number of admitting threads.
+ */
+final class StripedRequestCounter implements RequestCounter {
+
+    // Spreads the cells so that each occupies its own 64 byte cache line
+    private static final int PADDING = 8;
+    private static final int INCREMENTS = 0;
+    private static final int DECREMENTS = 1;
+    private static final int MAX_CELLS = 64;
+
+    private final AtomicLongArray cells;
+    private final int mask;
+    private final BooleanSupplier draining;
+
+    StripedRequestCounter(BooleanSupplier draining) {
+        this(Runtime.getRuntime().availableProcessors(), draining);
+    }
+
+    StripedRequestCounter(int concurrency, BooleanSupplier draining) {
+        this.draining = draining;
+        int cellCount = Integer.highestOneBit(Math.max(1, Math.min(concurrency, MAX_CELLS) * 2 - 1));
+        this.cells = new AtomicLongArray(cellCount * PADDING);
+        this.mask = cellCount - 1;
+    }
+
+    @Override
+    public boolean tryIncrement(int limit) {
+        if (limit > 0 && this.get() >= limit) {
+            return false;
+        }
+        this.cells.incrementAndGet(this.index() + INCREMENTS);
+        return true;
+    }
+
+    @Override
+    public int decrementAndGet() {
+        this.cells.incrementAndGet(this.index() + DECREMENTS);
+        return this.draining.getAsBoolean() ? this.get() : -1;
+    }
+
+    @Override
+    public int get() {
+        long decrements = 0;
+        for (int i = 0; i <= this.mask; ++i) {
+            decrements += this.cells.get(i * PADDING + DECREMENTS);
+        }
+        long increments = 0;
+        for (int i = 0; i <= this.mask; ++i) {
+            increments += this.cells.get(i * PADDING + INCREMENTS);
+        }
+        return (int) (increments - decrements);
+    }
+
+    private int index() {
+        long id = Thread.currentThread().getId();
+        // Fibonacci hashing, as thread ids are sequential
+        return ((int) ((id * 0x9E3779B97F4A7C15L) >>> 32) & this.mask) * PADDING;
+    }
+}
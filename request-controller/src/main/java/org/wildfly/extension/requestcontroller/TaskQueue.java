@@ -0,0 +1,37 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.requestcontroller;
+
+/**
+ * The queue of tasks of a {@link RequestController} that are waiting for a request permit.
+ */
+interface TaskQueue {
+
+    /**
+     * Adds a task to the queue.
+     *
+     * @param task the task
+     */
+    void add(RequestController.QueuedTask task);
+
+    /**
+     * Removes the next task to run from the queue.
+     *
+     * @return the next task, or null if the queue is empty
+     */
+    RequestController.QueuedTask poll();
+
+    /**
+     * Removes the next task that must run even though the container is suspended from the queue.
+     *
+     * @return the next forced task, or null if the queue contains no forced task
+     */
+    RequestController.QueuedTask pollForced();
+
+    /**
+     * @return true if the queue is empty, false otherwise
+     */
+    boolean isEmpty();
+}
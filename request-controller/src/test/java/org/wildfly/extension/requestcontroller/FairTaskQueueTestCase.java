@@ -0,0 +1,60 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.requestcontroller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for {@link FairTaskQueue}.
+ */
+public class FairTaskQueueTestCase {
+
+    private final RequestController controller = new RequestController(false, () -> null);
+    private final ControlPoint noisy = new ControlPoint(controller, "noisy.war", "web", false, false);
+    private final ControlPoint quiet = new ControlPoint(controller, "quiet.war", "web", false, false);
+
+    @Test
+    public void testWeightedRoundRobin() {
+        Map<String, Integer> weights = Map.of("noisy.war", 2);
+        TaskQueue queue = new FairTaskQueue(controlPoint -> weights.getOrDefault(controlPoint.getDeployment(), 1));
+        for (int i = 0; i < 6; ++i) {
+            queue.add(task(noisy, false));
+        }
+        queue.add(task(quiet, false));
+        queue.add(task(quiet, false));
+
+        List<ControlPoint> order = new ArrayList<>();
+        RequestController.QueuedTask task;
+        while ((task = queue.poll()) != null) {
+            order.add(task.getControlPoint());
+        }
+        Assert.assertEquals(List.of(noisy, noisy, quiet, noisy, noisy, quiet, noisy, noisy), order);
+        Assert.assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testPollForced() {
+        TaskQueue queue = new FairTaskQueue(controlPoint -> 1);
+        queue.add(task(noisy, false));
+        RequestController.QueuedTask forced = task(quiet, true);
+        queue.add(forced);
+
+        Assert.assertSame(forced, queue.pollForced());
+        Assert.assertNull(queue.pollForced());
+        Assert.assertFalse(queue.isEmpty());
+        Assert.assertSame(noisy, queue.poll().getControlPoint());
+        Assert.assertTrue(queue.isEmpty());
+        Assert.assertNull(queue.poll());
+    }
+
+    private static RequestController.QueuedTask task(ControlPoint controlPoint, boolean forceRun) {
+        return new RequestController.QueuedTask(Runnable::run, () -> { }, null, controlPoint, forceRun);
+    }
+}
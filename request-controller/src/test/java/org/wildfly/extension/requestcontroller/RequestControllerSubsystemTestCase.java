@@ -35,6 +35,12 @@ public class RequestControllerSubsystemTestCase extends AbstractSubsystemBaseTes
         return readResource("request-controller-1.0.xml");
     }
 
+    @Override
+    protected void compareXml(String configId, String original, String marshalled) throws Exception {
+        // The subsystem is marshalled using the current schema
+        super.compareXml(configId, original, marshalled, true);
+    }
+
     @Test
     public void testRuntime() throws Exception {
         KernelServicesBuilder builder = createKernelServicesBuilder(createAdditionalInitialization())
@@ -0,0 +1,45 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.wildfly.extension.requestcontroller;
+
+import java.io.IOException;
+
+import org.jboss.as.subsystem.test.KernelServices;
+import org.jboss.msc.service.ServiceController;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests the request controller subsystem configured using the 2.0 schema.
+ */
+public class RequestControllerSubsystem_2_0TestCase extends RequestControllerSubsystemTestCase {
+
+    @Override
+    protected String getSubsystemXml() throws IOException {
+        return readResource("request-controller-2.0.xml");
+    }
+
+    @Override
+    protected void compareXml(String configId, String original, String marshalled) throws Exception {
+        super.compareXml(configId, original, marshalled, false);
+    }
+
+    @Test
+    public void testQueueing() throws Exception {
+        KernelServices mainServices = createKernelServicesBuilder(createAdditionalInitialization())
+                .setSubsystemXml(getSubsystemXml())
+                .build();
+        if (!mainServices.isSuccessfulBoot()) {
+            Assert.fail(mainServices.getBootError().toString());
+        }
+        ServiceController<RequestController> workerServiceController = (ServiceController<RequestController>) mainServices.getContainer().getService(RequestController.SERVICE_NAME);
+        workerServiceController.setMode(ServiceController.Mode.ACTIVE);
+        workerServiceController.awaitValue();
+        RequestController controller = workerServiceController.getService().getValue();
+        Assert.assertEquals(50, controller.getMaxQueuedRequests());
+        Assert.assertEquals(30000, controller.getQueueTimeout());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.wildfly.extension.requestcontroller;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link RequestCounter} implementations.
+ */
+public class RequestCounterTestCase {
+
+    @Test
+    public void testAtomicLimit() {
+        testLimit(new AtomicRequestCounter());
+    }
+
+    @Test
+    public void testStripedLimit() {
+        testLimit(new StripedRequestCounter(() -> true));
+    }
+
+    @Test
+    public void testAtomicConcurrentDrain() throws Exception {
+        testConcurrentDrain(new AtomicRequestCounter());
+    }
+
+    @Test
+    public void testStripedConcurrentDrain() throws Exception {
+        testConcurrentDrain(new StripedRequestCounter(4, () -> true));
+    }
+
+    @Test
+    public void testStripedDrain() {
+        AtomicBoolean draining = new AtomicBoolean();
+        RequestCounter counter = new StripedRequestCounter(draining::get);
+        Assert.assertTrue(counter.tryIncrement(0));
+        Assert.assertTrue(counter.tryIncrement(0));
+        Assert.assertTrue(counter.tryIncrement(0));
+        // The count is only computed once it is being drained
+        Assert.assertTrue(counter.decrementAndGet() < 0);
+        draining.set(true);
+        Assert.assertEquals(2, counter.get());
+        Assert.assertEquals(1, counter.decrementAndGet());
+        Assert.assertEquals(0, counter.decrementAndGet());
+    }
+
+    private static void testLimit(RequestCounter counter) {
+        Assert.assertTrue(counter.tryIncrement(2));
+        Assert.assertTrue(counter.tryIncrement(2));
+        Assert.assertFalse(counter.tryIncrement(2));
+        Assert.assertEquals(2, counter.get());
+        Assert.assertTrue(counter.tryIncrement(0));
+        Assert.assertEquals(3, counter.get());
+        Assert.assertEquals(2, counter.decrementAndGet());
+        Assert.assertEquals(1, counter.decrementAndGet());
+        Assert.assertEquals(0, counter.decrementAndGet());
+    }
+
+    private static void testConcurrentDrain(RequestCounter counter) throws Exception {
+        int threads = 8;
+        int iterations = 10000;
+        AtomicInteger drained = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; ++i) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < iterations; ++j) {
+                        Assert.assertTrue(counter.tryIncrement(0));
+                        if (counter.decrementAndGet() == 0) {
+                            drained.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(1, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        Assert.assertEquals(0, counter.get());
+        // The last decrement must always observe the drained count
+        Assert.assertTrue(drained.get() > 0);
+    }
+}
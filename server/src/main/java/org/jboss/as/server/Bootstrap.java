@@ -16,20 +16,24 @@ import org.jboss.as.controller.access.management.DelegatingConfigurableAuthorize
 import org.jboss.as.controller.access.management.ManagementSecurityIdentitySupplier;
 import org.jboss.as.controller.audit.ManagedAuditLogger;
 import org.jboss.as.controller.extension.ExtensionRegistry;
+import org.jboss.as.controller.logging.ControllerLogger;
 import org.jboss.as.controller.parsing.ManagementXmlSchema;
 import org.jboss.as.controller.persistence.BackupXmlConfigurationPersister;
+import org.jboss.as.controller.persistence.BootOperationCache;
 import org.jboss.as.controller.persistence.ConfigurationFile;
 import org.jboss.as.controller.persistence.ExtensibleConfigurationPersister;
 import org.jboss.as.controller.persistence.XmlConfigurationPersister;
 import org.jboss.as.server.controller.git.GitConfigurationPersister;
 import org.jboss.as.server.parsing.StandaloneXmlSchemas;
 import org.jboss.as.version.Stability;
+import org.jboss.as.version.Version;
 import org.jboss.modules.Module;
 import org.jboss.modules.ModuleLoader;
 import org.jboss.msc.service.ServiceActivator;
 import org.jboss.msc.service.ServiceContainer;
 import org.jboss.threads.AsyncFuture;
 import org.wildfly.security.auth.server.SecurityIdentity;
+import org.wildfly.security.manager.WildFlySecurityManager;
 
 /**
  * The application server bootstrap interface.  Get a new instance via {@link Factory#newInstance()}.
@@ -207,8 +211,24 @@ public interface Bootstrap {
                             persister = new GitConfigurationPersister(serverEnvironment.getGitRepository(), configurationFile, rootElement, current, current,
                                     runningModeControl.isReloaded());
                         } else {
-                            persister = new BackupXmlConfigurationPersister(configurationFile, rootElement, current, current,
+                            BackupXmlConfigurationPersister backupPersister = new BackupXmlConfigurationPersister(configurationFile, rootElement, current, current,
                                     runningModeControl.isReloaded(), serverEnvironment.getLaunchType() == ServerEnvironment.LaunchType.EMBEDDED);
+                            persister = backupPersister;
+                            if (Boolean.parseBoolean(WildFlySecurityManager.getPropertyPrivileged(ServerEnvironment.JBOSS_SERVER_BOOT_OPERATION_CACHE, "false"))) {
+                                // The parsed operations depend on the parsers of the installation
+                                String key = String.join("|", Version.AS_VERSION, serverEnvironment.getProductConfig().getPrettyVersionString(),
+                                        stability.toString(), rootElement.toString());
+                                persister.setBootOperationCache(BootOperationCache.forConfigurationFile(configurationFile.getBootFile(), key));
+                            }
+                            String writeDelay = WildFlySecurityManager.getPropertyPrivileged(ServerEnvironment.JBOSS_SERVER_CONFIG_WRITE_DELAY, null);
+                            if (writeDelay != null) {
+                                try {
+                                    backupPersister.setWriteDelay(Long.parseLong(writeDelay.trim()));
+                                } catch (NumberFormatException e) {
+                                    // Written when a change is committed
+                                    ControllerLogger.ROOT_LOGGER.invalidSystemPropertyValueUsingDefault(writeDelay, ServerEnvironment.JBOSS_SERVER_CONFIG_WRITE_DELAY);
+                                }
+                            }
                         }
                         for (ManagementXmlSchema schema : standaloneXmlSchemas.getAdditional()) {
                             persister.registerAdditionalRootElement(schema.getQualifiedName(), schema);
@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentSkipListSet;
 
+import org.jboss.as.controller.BootProfiler;
 import org.jboss.as.controller.OperationContext;
 import org.jboss.as.controller.OperationFailedException;
 import org.jboss.as.controller.OperationStepHandler;
@@ -110,7 +111,7 @@ public class DeployerChainAddHandler implements OperationStepHandler {
                 }
                 finalDeployers.put(phase, new ArrayList<RegisteredDeploymentUnitProcessor>(processorList));
             }
-            DeployerChainsService.addService(context.getServiceTarget(), finalDeployers);
+            DeployerChainsService.addService(context.getServiceTarget(), finalDeployers, context.getAttachment(BootProfiler.ATTACHMENT_KEY));
 
             context.completeStep(new OperationContext.RollbackHandler() {
                 @Override
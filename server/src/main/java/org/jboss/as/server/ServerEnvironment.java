@@ -233,6 +233,20 @@ public class ServerEnvironment extends ProcessEnvironment implements Serializabl
      */
     public static final String JBOSS_SERVER_MANAGEMENT_UUID = "jboss.server.management.uuid";
 
+    /**
+     * The system property used to enable storing the operations parsed from the server configuration file next to it,
+     * so that following boots with an unchanged configuration file and installation do not parse the file again.
+     * Defaults to {@code false}.
+     */
+    public static final String JBOSS_SERVER_BOOT_OPERATION_CACHE = "jboss.server.boot.operation.cache";
+
+    /**
+     * The system property used to defer writing the server configuration file after a configuration change by up to
+     * the given number of milliseconds, so that the changes committed meanwhile are written at once. Defaults to
+     * {@code 0}, in which case the file is written when a change is committed.
+     */
+    public static final String JBOSS_SERVER_CONFIG_WRITE_DELAY = "jboss.server.config.write.delay";
+
     /**
      * The system property used to indicate whether the server was configured to persist changes to the configuration
      * files.
@@ -8,6 +8,8 @@ package org.jboss.as.server.deployment;
 import java.util.EnumMap;
 import java.util.List;
 
+import org.jboss.as.controller.BootProfiler;
+
 /**
  * The deployer chains service value object.
  *
@@ -15,12 +17,23 @@ import java.util.List;
  */
 final class DeployerChains {
     private final EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> phases;
+    private final BootProfiler bootProfiler;
 
-    DeployerChains(final EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> phases) {
+    DeployerChains(final EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> phases, final BootProfiler bootProfiler) {
         this.phases = phases;
+        this.bootProfiler = bootProfiler;
     }
 
     List<RegisteredDeploymentUnitProcessor> getChain(Phase phase) {
         return phases.get(phase);
     }
+
+    /**
+     * Gets the profiler recording the boot of the server.
+     *
+     * @return the profiler, or {@code null} if none is available
+     */
+    BootProfiler getBootProfiler() {
+        return bootProfiler;
+    }
 }
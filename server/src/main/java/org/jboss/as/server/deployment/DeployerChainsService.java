@@ -8,6 +8,7 @@ package org.jboss.as.server.deployment;
 import java.util.EnumMap;
 import java.util.List;
 
+import org.jboss.as.controller.BootProfiler;
 import org.jboss.msc.service.Service;
 import org.jboss.msc.service.ServiceTarget;
 import org.jboss.msc.service.StartContext;
@@ -23,7 +24,12 @@ public class DeployerChainsService implements Service<DeployerChains> {
     private final DeployerChains deployerChains;
 
     public static void addService(final ServiceTarget serviceTarget, final EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> phases) {
-        final DeployerChains deployerChains = new DeployerChains(phases);
+        addService(serviceTarget, phases, null);
+    }
+
+    public static void addService(final ServiceTarget serviceTarget, final EnumMap<Phase, List<RegisteredDeploymentUnitProcessor>> phases,
+                                  final BootProfiler bootProfiler) {
+        final DeployerChains deployerChains = new DeployerChains(phases, bootProfiler);
         serviceTarget.addService(Services.JBOSS_DEPLOYMENT_CHAINS, new DeployerChainsService(deployerChains))
             .install();
     }
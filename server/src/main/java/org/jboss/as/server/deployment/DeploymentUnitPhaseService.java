@@ -14,6 +14,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
 
+import org.jboss.as.controller.BootProfiler;
 import org.jboss.as.controller.RequirementServiceTarget;
 import org.jboss.as.server.deployment.module.ModuleSpecification;
 import org.jboss.as.server.logging.ServerLogger;
@@ -100,6 +101,7 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
         final DeployerChains chains = deployerChainsInjector.getValue();
         final DeploymentUnit deploymentUnit = this.deploymentUnit;
         final List<RegisteredDeploymentUnitProcessor> list = chains.getChain(phase);
+        final BootProfiler profiler = chains.getBootProfiler();
         final ListIterator<RegisteredDeploymentUnitProcessor> iterator = list.listIterator();
         final ServiceContainer container = context.getController().getServiceContainer();
         final RequirementServiceTarget serviceTarget = RequirementServiceTarget.forTarget(context.getChildTarget().subTarget(), deploymentUnit.getAttachment(Attachments.CAPABILITY_SERVICE_SUPPORT));
@@ -162,7 +164,17 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
             final RegisteredDeploymentUnitProcessor processor = iterator.next();
             try {
                 if (shouldRun(deploymentUnit, processor)) {
-                    processor.getProcessor().deploy(processorContext);
+                    final BootProfiler.Measurement profile = profiler == null ? null : profiler.beginDeploymentUnitProcessor();
+                    if (profile != null) {
+                        try {
+                            processor.getProcessor().deploy(processorContext);
+                        } finally {
+                            profiler.deploymentUnitProcessorExecuted(profile, processor.getProcessor().getClass().getName(), phase.name(),
+                                    deploymentUnit.getName());
+                        }
+                    } else {
+                        processor.getProcessor().deploy(processorContext);
+                    }
                 }
             } catch (Throwable e) {
                 while (iterator.hasPrevious()) {
@@ -223,6 +235,7 @@ final class DeploymentUnitPhaseService<T> implements Service<T> {
         final DeploymentUnit deploymentUnitContext = deploymentUnit;
         final DeployerChains chains = deployerChainsInjector.getValue();
         final List<RegisteredDeploymentUnitProcessor> list = chains.getChain(phase);
+        final BootProfiler profiler = chains.getBootProfiler();
         final ListIterator<RegisteredDeploymentUnitProcessor> iterator = list.listIterator(list.size());
         while (iterator.hasPrevious()) {
             final RegisteredDeploymentUnitProcessor prev = iterator.previous();
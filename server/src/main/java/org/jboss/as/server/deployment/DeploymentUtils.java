@@ -80,6 +80,22 @@ public final class DeploymentUtils {
         }
     }
 
+    /**
+     * Gets the content repository hash of the content of the top-level deployment of a deployment unit, if its
+     * content is a managed archive.
+     *
+     * @param unit the deployment unit
+     * @return the hash, or {@code null} if the content of the deployment is unmanaged or exploded
+     */
+    public static byte[] getManagedArchiveHash(DeploymentUnit unit) {
+        final Resource deployment = getTopDeploymentUnit(unit).getAttachment(DeploymentResourceSupport.DEPLOYMENT_RESOURCE);
+        if (deployment == null || !deployment.getModel().hasDefined(CONTENT)) {
+            return null;
+        }
+        final ModelNode contentItem = DeploymentHandlerUtil.getContentItem(deployment);
+        return contentItem.hasDefined(HASH) && DeploymentHandlerUtil.isArchive(contentItem) ? contentItem.get(HASH).asBytes() : null;
+    }
+
     public static List<byte[]> getDeploymentHash(Resource deployment) {
         return getDeploymentHash(deployment.getModel());
     }
@@ -5,12 +5,14 @@
 
 package org.jboss.as.server.deployment.annotation;
 
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
 import org.jboss.as.server.deployment.DeploymentPhaseContext;
 import org.jboss.as.server.deployment.DeploymentUnit;
 import org.jboss.as.server.deployment.DeploymentUnitProcessingException;
 import org.jboss.as.server.deployment.DeploymentUnitProcessor;
 import org.jboss.as.server.deployment.DeploymentUtils;
-import org.jboss.as.server.deployment.module.ResourceRoot;
 
 /**
  * Deployment unit processor responsible for creating and attaching an annotation index for a resource root
@@ -20,6 +22,27 @@ import org.jboss.as.server.deployment.module.ResourceRoot;
  */
 public class AnnotationIndexProcessor implements DeploymentUnitProcessor {
 
+    private final Supplier<? extends Executor> executor;
+    private final ResourceRootIndexCache cache;
+
+    /**
+     * Creates a processor that indexes resource roots serially, without caching indexes.
+     */
+    public AnnotationIndexProcessor() {
+        this(() -> null, null);
+    }
+
+    /**
+     * Creates a processor that indexes resource roots concurrently.
+     *
+     * @param executor supplies the executor used to index resource roots concurrently
+     * @param cache a persistent cache of annotation indexes, or {@code null} if indexes should not be cached
+     */
+    public AnnotationIndexProcessor(Supplier<? extends Executor> executor, ResourceRootIndexCache cache) {
+        this.executor = executor;
+        this.cache = cache;
+    }
+
     /**
      * Process this deployment for annotations.  This will use an annotation indexer to create an index of all annotations
      * found in this deployment and attach it to the deployment unit context.
@@ -30,9 +53,8 @@ public class AnnotationIndexProcessor implements DeploymentUnitProcessor {
      */
     public void deploy(DeploymentPhaseContext phaseContext) throws DeploymentUnitProcessingException {
         final DeploymentUnit deploymentUnit = phaseContext.getDeploymentUnit();
-        for (ResourceRoot resourceRoot : DeploymentUtils.allResourceRoots(deploymentUnit)) {
-            ResourceRootIndexer.indexResourceRoot(resourceRoot);
-        }
+        final ResourceRootIndexCache.DeploymentIndexes cachedIndexes = (this.cache != null) ? this.cache.forDeployment(deploymentUnit) : null;
+        ResourceRootIndexer.indexResourceRoots(DeploymentUtils.allResourceRoots(deploymentUnit), this.executor.get(), cachedIndexes);
     }
 
 }
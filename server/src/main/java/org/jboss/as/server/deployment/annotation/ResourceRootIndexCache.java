@@ -0,0 +1,256 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.server.deployment.annotation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+import org.jboss.as.controller.HashUtil;
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.DeploymentUnit;
+import org.jboss.as.server.deployment.DeploymentUtils;
+import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.as.server.deploymentoverlay.DeploymentOverlayIndex;
+import org.jboss.as.server.logging.ServerLogger;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.IndexReader;
+import org.jboss.jandex.IndexWriter;
+import org.jboss.jandex.Indexer;
+import org.jboss.vfs.VirtualFile;
+
+/**
+ * Persistent cache of the annotation indexes of the resource roots of managed deployments.
+ * <p>
+ * Indexes are keyed by the content repository hash of the deployment, the path of the resource root within the
+ * deployment, the paths excluded from the index and the index format version of Jandex, so that redeploying or
+ * restarting with unchanged content reads the serialized index instead of scanning the bytecode of every class again.
+ * The resource roots of unmanaged or exploded deployments, whose content can change in place, and of deployments
+ * with overlays are never cached.
+ * <p>
+ * The cache retains the most recently written indexes up to a maximum number of entries.
+ */
+public class ResourceRootIndexCache {
+
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int DEFAULT_MAX_ENTRIES = 1000;
+    /** The index format version written by the current Jandex, which is part of every key. */
+    private static final int INDEX_VERSION = getIndexVersion();
+
+    private final Path directory;
+    private final int maxEntries;
+    // The number of cached indexes, or -1 if not counted yet
+    private int entries = -1;
+
+    /**
+     * Creates a cache that stores its indexes in the given directory.
+     *
+     * @param directory the directory in which to store indexes. Will be created on demand.
+     */
+    public ResourceRootIndexCache(final File directory) {
+        this(directory.toPath(), DEFAULT_MAX_ENTRIES);
+    }
+
+    ResourceRootIndexCache(final Path directory, final int maxEntries) {
+        this.directory = directory;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Gets the cached indexes of the resource roots of the given deployment unit.
+     *
+     * @param deploymentUnit the deployment unit
+     * @return the cached indexes, or {@code null} if the indexes of the deployment unit cannot be cached
+     */
+    DeploymentIndexes forDeployment(final DeploymentUnit deploymentUnit) {
+        final DeploymentUnit top = DeploymentUtils.getTopDeploymentUnit(deploymentUnit);
+        final ResourceRoot deploymentRoot = top.getAttachment(Attachments.DEPLOYMENT_ROOT);
+        final byte[] contentHash = DeploymentUtils.getManagedArchiveHash(top);
+        if (deploymentRoot == null || contentHash == null) {
+            return null;
+        }
+        final DeploymentOverlayIndex overlays = top.getAttachment(Attachments.DEPLOYMENT_OVERLAY_INDEX);
+        if (overlays != null && (!overlays.getOverlays(top.getName()).isEmpty() || !overlays.getOverlays(deploymentUnit.getName()).isEmpty())) {
+            // Overlays change the content without changing its hash
+            return null;
+        }
+        return new DeploymentIndexes(contentHash, deploymentRoot.getRoot());
+    }
+
+    /**
+     * Gets the cached indexes of the resource roots of the deployment with the given content.
+     *
+     * @param contentHash the content repository hash of the deployment
+     * @param deploymentRoot the root of the deployment
+     * @return the cached indexes
+     */
+    DeploymentIndexes forContent(final byte[] contentHash, final VirtualFile deploymentRoot) {
+        return new DeploymentIndexes(contentHash, deploymentRoot);
+    }
+
+    /**
+     * Reads the index with the given key.
+     *
+     * @param key a cache key
+     * @return the cached index, or {@code null} if no valid index is cached for this key
+     */
+    Index read(final String key) {
+        final Path file = this.directory.resolve(key + INDEX_SUFFIX);
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        try (InputStream input = Files.newInputStream(file)) {
+            return new IndexReader(input).read();
+        } catch (IOException | RuntimeException e) {
+            ServerLogger.DEPLOYMENT_LOGGER.debugf(e, "Cannot read cached index %s", file);
+            return null;
+        }
+    }
+
+    /**
+     * Stores the given index under the given key. Failures are not fatal, as the index can always be recomputed.
+     *
+     * @param key a cache key
+     * @param index the index to store
+     */
+    void write(final String key, final Index index) {
+        final Path file = this.directory.resolve(key + INDEX_SUFFIX);
+        try {
+            Files.createDirectories(this.directory);
+            // Write to a temporary file first, so that concurrent readers never see a partially written index
+            final Path temp = Files.createTempFile(this.directory, key, ".tmp");
+            try {
+                try (OutputStream output = Files.newOutputStream(temp)) {
+                    new IndexWriter(output).write(index);
+                }
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            this.added();
+        } catch (IOException | RuntimeException e) {
+            ServerLogger.DEPLOYMENT_LOGGER.debugf(e, "Cannot write cached index %s", file);
+        }
+    }
+
+    /**
+     * Counts an added index, and removes the least recently written indexes once there are more than the maximum
+     * number of entries. The cache directory is only listed once, and whenever indexes are removed.
+     */
+    private synchronized void added() throws IOException {
+        if (this.entries >= 0 && ++this.entries <= this.maxEntries) {
+            return;
+        }
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(this.directory, "*" + INDEX_SUFFIX)) {
+            for (Path file : stream) {
+                files.add(file);
+            }
+        }
+        if (files.size() > this.maxEntries) {
+            files.sort(Comparator.comparingLong(ResourceRootIndexCache::lastModified));
+            for (Path file : files.subList(0, files.size() - this.maxEntries)) {
+                Files.deleteIfExists(file);
+            }
+        }
+        this.entries = Math.min(files.size(), this.maxEntries);
+    }
+
+    private static long lastModified(final Path file) {
+        try {
+            return Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return 0L;
+        }
+    }
+
+    private static int getIndexVersion() {
+        try {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            new IndexWriter(output).write(new Indexer().complete());
+            final IndexReader reader = new IndexReader(new ByteArrayInputStream(output.toByteArray()));
+            reader.read();
+            return reader.getIndexVersion();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * The cached indexes of the resource roots of a single deployment.
+     */
+    final class DeploymentIndexes {
+        private final byte[] contentHash;
+        private final VirtualFile deploymentRoot;
+
+        private DeploymentIndexes(final byte[] contentHash, final VirtualFile deploymentRoot) {
+            this.contentHash = contentHash;
+            this.deploymentRoot = deploymentRoot;
+        }
+
+        /**
+         * Computes the cache key of the given resource root.
+         *
+         * @param resourceRoot the resource root
+         * @param indexIgnorePaths the paths excluded from the index, or {@code null} if no paths are excluded
+         * @return the key, or {@code null} if the resource root is not part of the deployment content
+         */
+        String getKey(final ResourceRoot resourceRoot, final Collection<String> indexIgnorePaths) {
+            final VirtualFile root = resourceRoot.getRoot();
+            final String path;
+            if (root.equals(this.deploymentRoot)) {
+                path = "";
+            } else if (root.getPathName().startsWith(this.deploymentRoot.getPathName() + '/')) {
+                path = root.getPathNameRelativeTo(this.deploymentRoot);
+            } else {
+                return null;
+            }
+            try {
+                final MessageDigest digest = MessageDigest.getInstance("SHA-1");
+                digest.update(this.contentHash);
+                update(digest, path);
+                update(digest, Integer.toString(INDEX_VERSION));
+                if (indexIgnorePaths != null) {
+                    // The same content yields a different index if paths are excluded
+                    for (String ignorePath : new TreeSet<>(indexIgnorePaths)) {
+                        update(digest, ignorePath);
+                    }
+                }
+                return HashUtil.bytesToHexString(digest.digest());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        Index read(final String key) {
+            return ResourceRootIndexCache.this.read(key);
+        }
+
+        void write(final String key, final Index index) {
+            ResourceRootIndexCache.this.write(key, index);
+        }
+
+        private void update(final MessageDigest digest, final String value) {
+            digest.update((byte) 0);
+            digest.update(value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
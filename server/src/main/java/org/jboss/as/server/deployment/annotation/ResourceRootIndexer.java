@@ -6,9 +6,16 @@
 package org.jboss.as.server.deployment.annotation;
 
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
 import org.jboss.as.server.logging.ServerLogger;
 import org.jboss.as.server.deployment.Attachments;
@@ -33,6 +40,84 @@ public class ResourceRootIndexer {
      * Creates and attaches the annotation index to a resource root, if it has not already been attached
      */
     public static void indexResourceRoot(final ResourceRoot resourceRoot) throws DeploymentUnitProcessingException {
+        indexResourceRoot(resourceRoot, null);
+    }
+
+    /**
+     * Creates and attaches the annotation index to each of the given resource roots, if it has not already been attached.
+     * Resource roots are indexed concurrently using the given executor.
+     *
+     * @param resourceRoots the resource roots to index
+     * @param executor the executor used to index resource roots concurrently, or {@code null} to index them serially
+     * @param cache the cached indexes of the resource roots, or {@code null} if indexes should not be cached
+     * @throws DeploymentUnitProcessingException if indexing of any resource root failed
+     */
+    static void indexResourceRoots(final Collection<ResourceRoot> resourceRoots, final Executor executor, final ResourceRootIndexCache.DeploymentIndexes cache) throws DeploymentUnitProcessingException {
+        final List<ResourceRoot> roots = new ArrayList<>(resourceRoots.size());
+        for (ResourceRoot resourceRoot : resourceRoots) {
+            if (resourceRoot.getAttachment(Attachments.ANNOTATION_INDEX) == null) {
+                roots.add(resourceRoot);
+            }
+        }
+        if (executor == null || roots.size() < 2) {
+            for (ResourceRoot resourceRoot : roots) {
+                indexResourceRoot(resourceRoot, cache);
+            }
+            return;
+        }
+        final List<Future<Void>> futures = new ArrayList<>(roots.size() - 1);
+        for (ResourceRoot resourceRoot : roots.subList(1, roots.size())) {
+            final FutureTask<Void> task = new FutureTask<>(() -> {
+                indexResourceRoot(resourceRoot, cache);
+                return null;
+            });
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                task.run();
+            }
+            futures.add(task);
+        }
+        // Use the calling thread to index the first resource root
+        DeploymentUnitProcessingException failure = null;
+        try {
+            indexResourceRoot(roots.get(0), cache);
+        } catch (DeploymentUnitProcessingException e) {
+            failure = e;
+        }
+        // Wait for all tasks, so that no indexing continues once this method completes
+        boolean interrupted = false;
+        for (Future<Void> future : futures) {
+            while (true) {
+                try {
+                    future.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = (e.getCause() instanceof DeploymentUnitProcessingException) ? (DeploymentUnitProcessingException) e.getCause() : ServerLogger.ROOT_LOGGER.deploymentIndexingFailed(e.getCause());
+                    }
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * Creates and attaches the annotation index to a resource root, if it has not already been attached.
+     *
+     * @param resourceRoot the resource root to index
+     * @param cache the cached indexes of the resource roots, or {@code null} if indexes should not be cached
+     * @throws DeploymentUnitProcessingException if indexing failed
+     */
+    static void indexResourceRoot(final ResourceRoot resourceRoot, final ResourceRootIndexCache.DeploymentIndexes cache) throws DeploymentUnitProcessingException {
         if (resourceRoot.getAttachment(Attachments.ANNOTATION_INDEX) != null) {
             return;
         }
@@ -63,6 +148,16 @@ public class ResourceRootIndexer {
             indexIgnorePaths = null;
         }
 
+        final String cacheKey = (cache != null) ? cache.getKey(resourceRoot, indexIgnorePaths) : null;
+        if (cacheKey != null) {
+            final Index index = cache.read(cacheKey);
+            if (index != null) {
+                resourceRoot.putAttachment(Attachments.ANNOTATION_INDEX, index);
+                ServerLogger.DEPLOYMENT_LOGGER.tracef("Read cached index %s for archive %s", cacheKey, resourceRoot.getRoot());
+                return;
+            }
+        }
+
         final VirtualFile virtualFile = resourceRoot.getRoot();
         final Indexer indexer = new Indexer();
         try {
@@ -87,6 +182,9 @@ public class ResourceRootIndexer {
                 }
             }
             final Index index = indexer.complete();
+            if (cacheKey != null) {
+                cache.write(cacheKey, index);
+            }
             resourceRoot.putAttachment(Attachments.ANNOTATION_INDEX, index);
             ServerLogger.DEPLOYMENT_LOGGER.tracef("Generated index for archive %s", virtualFile);
         } catch (Throwable t) {
@@ -0,0 +1,153 @@
+/*
+ * Copyright The WildFly Authors
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package org.jboss.as.server.deployment.annotation;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import org.jboss.as.controller.HashUtil;
+import org.jboss.as.server.deployment.Attachments;
+import org.jboss.as.server.deployment.module.MountHandle;
+import org.jboss.as.server.deployment.module.ResourceRoot;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.vfs.TempFileProvider;
+import org.jboss.vfs.VFS;
+import org.jboss.vfs.VFSUtils;
+import org.jboss.vfs.VirtualFile;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Unit tests of {@link ResourceRootIndexer} and {@link ResourceRootIndexCache}.
+ */
+public class ResourceRootIndexerTestCase {
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final List<Closeable> mounts = new ArrayList<>();
+    private ScheduledExecutorService scheduledExecutor;
+    private TempFileProvider provider;
+
+    @Before
+    public void setUp() throws IOException {
+        this.scheduledExecutor = Executors.newScheduledThreadPool(1);
+        this.provider = TempFileProvider.create("test", this.scheduledExecutor, true);
+    }
+
+    @After
+    public void tearDown() {
+        this.mounts.forEach(VFSUtils::safeClose);
+        VFSUtils.safeClose(this.provider);
+        this.scheduledExecutor.shutdownNow();
+    }
+
+    @Test
+    public void testCachedIndex() throws Exception {
+        Path cacheDirectory = this.folder.getRoot().toPath().resolve("cache");
+        ResourceRootIndexCache cache = new ResourceRootIndexCache(cacheDirectory, 10);
+        Path jar = this.createJar("test.jar", ResourceRootIndexerTestCase.class);
+        byte[] hash = HashUtil.hexStringToByteArray("0123456789abcdef0123456789abcdef01234567");
+
+        ResourceRoot root = this.mount(jar);
+        ResourceRootIndexer.indexResourceRoot(root, cache.forContent(hash, root.getRoot()));
+        Index index = root.getAttachment(Attachments.ANNOTATION_INDEX);
+        assertNotNull(index.getClassByName(DotName.createSimple(ResourceRootIndexerTestCase.class)));
+        assertEquals(1, Files.list(cacheDirectory).count());
+
+        // A different mount of the same content reads the cached index
+        ResourceRoot remounted = this.mount(jar);
+        ResourceRootIndexCache.DeploymentIndexes cachedIndexes = cache.forContent(hash, remounted.getRoot());
+        String key = cachedIndexes.getKey(remounted, null);
+        assertNotNull(cache.read(key));
+        ResourceRootIndexer.indexResourceRoot(remounted, cachedIndexes);
+        assertEquals(index.getKnownClasses().size(), remounted.getAttachment(Attachments.ANNOTATION_INDEX).getKnownClasses().size());
+
+        // Excluded paths yield a different key
+        assertNull(cache.read(cachedIndexes.getKey(remounted, List.of("org/jboss/as"))));
+        // As do different content
+        assertNull(cache.read(cache.forContent(new byte[20], remounted.getRoot()).getKey(remounted, null)));
+        // Resource roots outside of the deployment are not cached
+        assertNull(cache.forContent(hash, root.getRoot()).getKey(remounted, null));
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        Path cacheDirectory = this.folder.getRoot().toPath().resolve("cache");
+        ResourceRootIndexCache cache = new ResourceRootIndexCache(cacheDirectory, 1);
+        ResourceRoot first = this.mount(this.createJar("first.jar", ResourceRootIndexerTestCase.class));
+        ResourceRoot second = this.mount(this.createJar("second.jar", ResourceRootIndexer.class));
+        ResourceRootIndexCache.DeploymentIndexes firstIndexes = cache.forContent(new byte[] { 1 }, first.getRoot());
+        ResourceRootIndexCache.DeploymentIndexes secondIndexes = cache.forContent(new byte[] { 2 }, second.getRoot());
+
+        ResourceRootIndexer.indexResourceRoot(first, firstIndexes);
+        Files.setLastModifiedTime(Files.list(cacheDirectory).findFirst().orElseThrow(), FileTime.fromMillis(0));
+        ResourceRootIndexer.indexResourceRoot(second, secondIndexes);
+
+        assertEquals(1, Files.list(cacheDirectory).count());
+        assertNull(cache.read(firstIndexes.getKey(first, null)));
+        assertNotNull(cache.read(secondIndexes.getKey(second, null)));
+    }
+
+    @Test
+    public void testConcurrentIndexing() throws Exception {
+        List<Class<?>> classes = List.of(ResourceRootIndexerTestCase.class, ResourceRootIndexer.class, ResourceRootIndexCache.class, AnnotationIndexProcessor.class);
+        List<ResourceRoot> roots = new ArrayList<>();
+        for (Class<?> targetClass : classes) {
+            roots.add(this.mount(this.createJar(targetClass.getSimpleName() + ".jar", targetClass)));
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ResourceRootIndexer.indexResourceRoots(roots, executor, null);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        for (int i = 0; i < classes.size(); ++i) {
+            Index index = roots.get(i).getAttachment(Attachments.ANNOTATION_INDEX);
+            assertNotNull(index.getClassByName(DotName.createSimple(classes.get(i))));
+        }
+    }
+
+    private Path createJar(String name, Class<?> targetClass) throws IOException {
+        Path jar = this.folder.getRoot().toPath().resolve(name);
+        String entry = targetClass.getName().replace('.', '/') + ".class";
+        try (JarOutputStream output = new JarOutputStream(Files.newOutputStream(jar));
+             InputStream input = targetClass.getClassLoader().getResourceAsStream(entry)) {
+            output.putNextEntry(new JarEntry(entry));
+            input.transferTo(output);
+            output.closeEntry();
+        }
+        return jar;
+    }
+
+    private ResourceRoot mount(Path jar) throws IOException {
+        VirtualFile mountPoint = VFS.getChild("test-" + this.mounts.size()).getChild(jar.getFileName().toString());
+        Closeable handle = VFS.mountZip(jar.toFile(), mountPoint, this.provider);
+        this.mounts.add(handle);
+        return new ResourceRoot(mountPoint, MountHandle.create(handle));
+    }
+}